@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,14 @@
 package io.servicetalk.benchmark.concurrent;
 
 import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.context.api.ContextMap;
 import io.servicetalk.context.api.ContextMap.Key;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -39,6 +41,11 @@ import java.util.function.Consumer;
 import static io.servicetalk.context.api.ContextMap.Key.newKey;
 import static java.util.Collections.unmodifiableSet;
 
+/**
+ * Compares the {@link ContextMap} implementations backing {@link AsyncContext}, selected via the
+ * {@code io.servicetalk.concurrent.api.asyncContextMap} system property. The {@code *Entries} benchmarks measure put,
+ * get and copy (as done for every offload) costs for contexts of different sizes.
+ */
 @Fork(2)
 @State(Scope.Benchmark)
 @Warmup(iterations = 10, time = 2)
@@ -53,6 +60,15 @@ public class AsyncContextMapBenchmark {
     private static final Key<String> K7 = newKey("k7", String.class);
     private static final Key<String> K8 = newKey("k8", String.class);
 
+    @Param({"copyOnWrite", "persistent"})
+    public String contextMap;
+
+    @Setup(Level.Trial)
+    public void setupContextMap() {
+        // The property is read when AsyncContext is first used, JMH runs each set of parameters in a new fork.
+        System.setProperty("io.servicetalk.concurrent.api.asyncContextMap", contextMap);
+    }
+
     @Setup(Level.Invocation)
     public final void setup() {
         AsyncContext.clear();
@@ -108,6 +124,65 @@ public class AsyncContextMapBenchmark {
         AsyncContext.removeAllEntries(FourList.INSTANCE);
     }
 
+    @Benchmark
+    public void putEntries(Entries entries) {
+        for (int i = 0; i < entries.keys.length; ++i) {
+            AsyncContext.put(entries.keys[i], entries.values[i]);
+        }
+    }
+
+    @Benchmark
+    public int getEntries(Entries entries) {
+        final ContextMap map = entries.populated;
+        int found = 0;
+        for (Key<String> key : entries.keys) {
+            if (map.get(key) != null) {
+                ++found;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public ContextMap copyEntries(Entries entries) {
+        return entries.populated.copy();
+    }
+
+    @Benchmark
+    public ContextMap copyAndPutEntries(Entries entries) {
+        final ContextMap copy = entries.populated.copy();
+        copy.put(K1, "v1");
+        return copy;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Entries {
+        @Param({"4", "16", "64"})
+        public int size;
+
+        Key<String>[] keys;
+        String[] values;
+        ContextMap populated;
+
+        @Setup(Level.Trial)
+        @SuppressWarnings("unchecked")
+        public void setup(AsyncContextMapBenchmark benchmark) {
+            // Depends on the benchmark state, so that the ContextMap implementation is selected before it is used.
+            keys = new Key[size];
+            values = new String[size];
+            for (int i = 0; i < size; ++i) {
+                keys[i] = newKey("entry" + i, String.class);
+                values[i] = "value" + i;
+            }
+            AsyncContext.clear();
+            for (int i = 0; i < size; ++i) {
+                AsyncContext.put(keys[i], values[i]);
+            }
+            populated = AsyncContext.context().copy();
+            AsyncContext.clear();
+        }
+    }
+
     private static final class FourList extends AbstractList<Key<?>> {
         static final List<Key<?>> INSTANCE = new FourList();
 
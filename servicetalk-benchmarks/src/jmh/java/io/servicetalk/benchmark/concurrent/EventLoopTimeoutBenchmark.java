@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.benchmark.concurrent;
+
+import io.servicetalk.transport.netty.internal.EventLoopAwareNettyIoExecutor;
+import io.servicetalk.transport.netty.internal.NettyIoExecutors;
+
+import io.netty.util.concurrent.EventExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Emulates request timeouts started on I/O threads (e.g. requests issued from a service which isn't offloaded): each
+ * operation starts a burst of {@code requestsPerEventLoop} timeouts on every event loop, which are scheduled on the
+ * {@link EventLoopAwareNettyIoExecutor} of the event loop group and cancelled before they expire.
+ * <p>
+ * {@code groupScheduler} schedules on any event loop of the group (a thread hop for scheduling and cancelling), while
+ * {@code eventLoopLocalScheduler} enables the {@code io.servicetalk.transport.netty.eventLoopLocalTimers} system
+ * property to keep the timeouts on the event loop which starts them.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventLoopTimeoutBenchmark {
+
+    private static final Runnable NOOP = () -> { };
+
+    @Param({"4"})
+    public int ioThreads;
+
+    @Param({"1000"})
+    public int requestsPerEventLoop;
+
+    private EventLoopAwareNettyIoExecutor ioExecutor;
+    private final List<EventExecutor> eventLoops = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ioExecutor = NettyIoExecutors.createIoExecutor(ioThreads);
+        ioExecutor.eventLoopGroup().forEach(eventLoops::add);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        ioExecutor.closeAsync().toFuture().get();
+    }
+
+    @Benchmark
+    @Fork(1)
+    public void groupScheduler() throws InterruptedException {
+        startTimeouts();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dio.servicetalk.transport.netty.eventLoopLocalTimers=true")
+    public void eventLoopLocalScheduler() throws InterruptedException {
+        startTimeouts();
+    }
+
+    private void startTimeouts() throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(eventLoops.size());
+        for (EventExecutor eventLoop : eventLoops) {
+            eventLoop.execute(() -> {
+                for (int i = 0; i < requestsPerEventLoop; ++i) {
+                    ioExecutor.schedule(NOOP, 30, SECONDS).cancel();
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+    }
+}
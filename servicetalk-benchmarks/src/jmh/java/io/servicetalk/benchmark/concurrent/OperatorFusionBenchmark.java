@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.benchmark.concurrent;
+
+import io.servicetalk.concurrent.Cancellable;
+import io.servicetalk.concurrent.PublisherSource;
+import io.servicetalk.concurrent.SingleSource;
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.concurrent.api.Single;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.concurrent.api.SourceAdapters.toSource;
+
+/**
+ * Subscribes to chains of {@code operators} synchronous operators, which are fused into a single operator:
+ * {@link Publisher#map(Function)}, {@link Publisher#filter(Predicate)} and {@link Publisher#beforeOnNext(Consumer)}
+ * for a {@link Publisher} and {@link Single#map(Function)} on a {@link Single#succeeded(Object)}. Run with
+ * {@code -prof gc} to compare the allocation per subscribe.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OperatorFusionBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    @Param({"1", "4", "16"})
+    public int operators;
+
+    @Param({"16"})
+    public int items;
+
+    private Publisher<Integer> publisher;
+    private Single<Integer> single;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Integer[] values = new Integer[items];
+        for (int i = 0; i < items; ++i) {
+            values[i] = i;
+        }
+        Publisher<Integer> publisher = Publisher.from(values);
+        Single<Integer> single = Single.succeeded(1);
+        for (int i = 0; i < operators; ++i) {
+            switch (i % 3) {
+                case 0:
+                    publisher = publisher.map(v -> v + 1);
+                    break;
+                case 1:
+                    publisher = publisher.filter(v -> v >= 0);
+                    break;
+                default:
+                    publisher = publisher.beforeOnNext(v -> { });
+                    break;
+            }
+            single = single.map(v -> v + 1);
+        }
+        this.publisher = publisher;
+        this.single = single;
+    }
+
+    @Benchmark
+    public void publisher(Blackhole blackhole) {
+        toSource(publisher).subscribe(new BlackholeSubscriber(blackhole));
+    }
+
+    @Benchmark
+    public void single(Blackhole blackhole) {
+        toSource(single).subscribe(new BlackholeSubscriber(blackhole));
+    }
+
+    private static final class BlackholeSubscriber implements PublisherSource.Subscriber<Integer>,
+                                                              SingleSource.Subscriber<Integer> {
+        private final Blackhole blackhole;
+
+        BlackholeSubscriber(final Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onSubscribe(final PublisherSource.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onSubscribe(final Cancellable cancellable) {
+        }
+
+        @Override
+        public void onNext(@Nullable final Integer item) {
+            blackhole.consume(item);
+        }
+
+        @Override
+        public void onSuccess(@Nullable final Integer result) {
+            blackhole.consume(result);
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            blackhole.consume(t);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
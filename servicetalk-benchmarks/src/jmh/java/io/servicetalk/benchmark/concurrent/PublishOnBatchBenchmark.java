@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.benchmark.concurrent;
+
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.concurrent.api.Executor;
+import io.servicetalk.concurrent.api.Executors;
+import io.servicetalk.concurrent.api.Publisher;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.concurrent.Executors.newCachedThreadPool;
+
+/**
+ * Offloads the items of a {@link Publisher} with {@link Publisher#publishOn(io.servicetalk.concurrent.Executor)}, while
+ * the items are produced on another thread, like the payload of a streaming request produced by an event loop.
+ * <p>
+ * Reports the number of tasks submitted to the offloading {@link Executor} next to the number of delivered items, both
+ * normalized by JMH to a rate, so their ratio is the number of submitted tasks per item. {@code maxBatchSizeUnbounded}
+ * delivers all queued items in one task, {@code maxBatchSize64} sets the
+ * {@code io.servicetalk.concurrent.api.offloadMaxBatchSize} system property to submit the task again after 64 signals.
+ * Run with {@code -prof gc} to compare the allocation per item.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class PublishOnBatchBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    private static final LongAdder SUBMITTED_TASKS = new LongAdder();
+
+    @Param({"1000"})
+    public int items;
+
+    private ExecutorService offloadThreads;
+    private Executor offloadExecutor;
+    private Executor producerExecutor;
+    private Publisher<Integer> publisher;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        offloadThreads = newCachedThreadPool();
+        offloadExecutor = Executors.from(task -> {
+            SUBMITTED_TASKS.increment();
+            offloadThreads.execute(task);
+        });
+        producerExecutor = Executors.newCachedThreadExecutor();
+        publisher = Publisher.range(0, items)
+                .publishOn(producerExecutor)
+                .publishOn(offloadExecutor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        producerExecutor.closeAsync().toFuture().get();
+        offloadExecutor.closeAsync().toFuture().get();
+        offloadThreads.shutdown();
+    }
+
+    @Benchmark
+    @Fork(1)
+    public void maxBatchSizeUnbounded(final OffloadCounters counters) throws Exception {
+        offloadItems(counters);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dio.servicetalk.concurrent.api.offloadMaxBatchSize=64")
+    public void maxBatchSize64(final OffloadCounters counters) throws Exception {
+        offloadItems(counters);
+    }
+
+    private void offloadItems(final OffloadCounters counters) throws Exception {
+        final long tasksBefore = SUBMITTED_TASKS.sum();
+        publisher.ignoreElements().toFuture().get();
+        counters.tasks += SUBMITTED_TASKS.sum() - tasksBefore;
+        counters.items += items;
+    }
+
+    /**
+     * Reports the number of tasks submitted to the offloading {@link Executor} and the number of offloaded items,
+     * normalized by JMH to rates.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class OffloadCounters {
+        public long tasks;
+        public long items;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tasks = 0;
+            items = 0;
+        }
+    }
+}
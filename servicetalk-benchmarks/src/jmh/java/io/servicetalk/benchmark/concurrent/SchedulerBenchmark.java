@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.benchmark.concurrent;
+
+import io.servicetalk.concurrent.api.Executor;
+import io.servicetalk.concurrent.api.Executors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Emulates request timeouts which are scheduled from many threads and cancelled before they expire: each operation
+ * schedules a task with {@link Executor#schedule(Runnable, long, TimeUnit)} and cancels it. Compares the global
+ * single threaded scheduler of {@link Executors#from(java.util.concurrent.ExecutorService)} with the sharded timing
+ * wheel of {@link Executors#withTimingWheelScheduler(java.util.concurrent.Executor)}.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Threads(16)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchedulerBenchmark {
+
+    private static final Runnable NOOP = () -> { };
+
+    @Param({"global", "timingWheel"})
+    public String schedulerType;
+
+    private Executor executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final java.util.concurrent.ExecutorService jdkExecutor = java.util.concurrent.Executors.newCachedThreadPool();
+        executor = "timingWheel".equals(schedulerType) ? Executors.withTimingWheelScheduler(jdkExecutor) :
+                Executors.from(jdkExecutor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        executor.closeAsync().toFuture().get();
+    }
+
+    @Benchmark
+    public void scheduleAndCancel() {
+        executor.schedule(NOOP, 30, SECONDS).cancel();
+    }
+}
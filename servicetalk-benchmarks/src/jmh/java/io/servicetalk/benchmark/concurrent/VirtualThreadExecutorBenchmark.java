@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.benchmark.concurrent;
+
+import io.servicetalk.concurrent.api.Executor;
+import io.servicetalk.concurrent.api.Executors;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emulates bursts of concurrent blocking request handlers (e.g. {@code BlockingHttpService}) offloaded to an
+ * {@link Executor}: each operation submits {@code concurrency} tasks which block for {@code blockMillis} and waits for
+ * all of them to complete. Compares {@link Executors#newCachedThreadExecutor()} with
+ * {@link Executors#newVirtualThreadExecutor()} (which falls back to platform threads before JDK 21).
+ * <p>
+ * The {@code startedPlatformThreads} counter reports the platform threads started during each iteration, which is
+ * what drives the memory footprint (thread stacks) of the cached executor. Run with {@code -prof gc} to compare heap
+ * allocation. The cached executor with {@code concurrency=50000} may hit the OS limit on the number of threads.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xss256k")
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadExecutorBenchmark {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    @Param({"1000", "10000", "50000"})
+    public int concurrency;
+
+    @Param({"cached", "virtual"})
+    public String executorType;
+
+    @Param({"10"})
+    public long blockMillis;
+
+    private Executor executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = "virtual".equals(executorType) ? Executors.newVirtualThreadExecutor() :
+                Executors.newCachedThreadExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        executor.closeAsync().toFuture().get();
+    }
+
+    @Benchmark
+    public void burst(ThreadCounters counters) throws InterruptedException {
+        final long startedBefore = THREAD_MX_BEAN.getTotalStartedThreadCount();
+        final CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; ++i) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(blockMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        counters.startedPlatformThreads += THREAD_MX_BEAN.getTotalStartedThreadCount() - startedBefore;
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class ThreadCounters {
+        public long startedPlatformThreads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            startedPlatformThreads = 0;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.data.protobuf;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.BufferAllocator;
+import io.servicetalk.buffer.api.CompositeBuffer;
+import io.servicetalk.serializer.api.SerializerDeserializer;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_DIRECT_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_HEAP_ALLOCATOR;
+import static io.servicetalk.data.protobuf.ProtobufSerializerFactory.PROTOBUF;
+import static io.servicetalk.data.protobuf.ProtobufSerializerFactory.PROTOBUF_ALIASING;
+import static java.lang.Math.min;
+
+/**
+ * Deserializes a message with a single {@code bytes} field which arrived in 16KB frames, and is aggregated in a
+ * {@link CompositeBuffer}.
+ * <ul>
+ *     <li>{@code flattened}: copies the frames into a single {@link Buffer} before parsing, as an aggregating
+ *     deframer would.</li>
+ *     <li>{@code composite}: parses the frames directly.</li>
+ *     <li>{@code compositeAliasing}: parses the frames directly, and the {@code bytes} field references the frames
+ *     where the input allows it.</li>
+ * </ul>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class ProtobufCompositeDeserializationBenchmark {
+
+    private static final int FRAME_SIZE = 16 * 1024;
+
+    @Param({"1024", "65536", "1048576"})
+    public int messageSize;
+
+    @Param({"true", "false"})
+    public boolean direct;
+
+    private final SerializerDeserializer<BytesValue> serializer =
+            PROTOBUF.serializerDeserializer(BytesValue.parser());
+    private final SerializerDeserializer<BytesValue> aliasingSerializer =
+            PROTOBUF_ALIASING.serializerDeserializer(BytesValue.parser());
+    private BufferAllocator allocator;
+    private CompositeBuffer frames;
+
+    @Setup
+    public void setup() {
+        allocator = direct ? PREFER_DIRECT_ALLOCATOR : PREFER_HEAP_ALLOCATOR;
+        final byte[] value = new byte[messageSize];
+        new Random(0).nextBytes(value);
+        final Buffer serialized = serializer.serialize(
+                BytesValue.newBuilder().setValue(ByteString.copyFrom(value)).build(), allocator);
+        frames = allocator.newCompositeBuffer(Integer.MAX_VALUE);
+        while (serialized.readableBytes() > 0) {
+            frames.addBuffer(serialized.readBytes(min(FRAME_SIZE, serialized.readableBytes())));
+        }
+    }
+
+    @Benchmark
+    public BytesValue flattened() {
+        final Buffer input = frames.duplicate();
+        final Buffer flattened = allocator.newBuffer(input.readableBytes());
+        flattened.writeBytes(input);
+        return serializer.deserialize(flattened, allocator);
+    }
+
+    @Benchmark
+    public BytesValue composite() {
+        return serializer.deserialize(frames.duplicate(), allocator);
+    }
+
+    @Benchmark
+    public BytesValue compositeAliasing() {
+        return aliasingSerializer.deserialize(frames.duplicate(), allocator);
+    }
+}
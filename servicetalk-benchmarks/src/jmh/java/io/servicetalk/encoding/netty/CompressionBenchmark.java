@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.encoding.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.serializer.api.SerializerDeserializer;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/*
+ * Compares compression and decompression throughput of the available codecs on a JSON payload, resembling a typical
+ * REST response (an array of objects with repeated field names, enum-like and random values).
+ * The compress benchmark reports the uncompressed and compressed bytes as auxiliary counters, normalized by JMH to
+ * rates, so their ratio is the compression ratio of the codec for the payload size.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class CompressionBenchmark {
+    private static final String[] STATUSES = {"ACTIVE", "PENDING", "SUSPENDED", "DELETED"};
+
+    public enum Codec {
+        GZIP {
+            @Override
+            SerializerDeserializer<Buffer> serializer() {
+                return NettyCompression.gzipDefault();
+            }
+        },
+        DEFLATE {
+            @Override
+            SerializerDeserializer<Buffer> serializer() {
+                return NettyCompression.deflateDefault();
+            }
+        },
+        BROTLI {
+            @Override
+            SerializerDeserializer<Buffer> serializer() {
+                return NettyCompression.brotliDefault();
+            }
+        },
+        ZSTD {
+            @Override
+            SerializerDeserializer<Buffer> serializer() {
+                return NettyCompression.zstdDefault();
+            }
+        };
+
+        abstract SerializerDeserializer<Buffer> serializer();
+    }
+
+    @Param({"GZIP", "DEFLATE", "BROTLI", "ZSTD"})
+    public Codec codec;
+
+    @Param({"1024", "65536", "1048576"})
+    public int size;
+
+    private SerializerDeserializer<Buffer> serializer;
+    private Buffer payload;
+    private Buffer compressed;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        serializer = codec.serializer();
+        payload = DEFAULT_ALLOCATOR.wrap(jsonPayload(size));
+        compressed = serializer.serialize(payload.duplicate(), DEFAULT_ALLOCATOR);
+    }
+
+    @Benchmark
+    public Buffer compress(final CompressionCounters counters) {
+        final Buffer result = serializer.serialize(payload.duplicate(), DEFAULT_ALLOCATOR);
+        counters.uncompressedBytes += size;
+        counters.compressedBytes += result.readableBytes();
+        return result;
+    }
+
+    @Benchmark
+    public Buffer decompress() {
+        return serializer.deserialize(compressed.duplicate(), DEFAULT_ALLOCATOR);
+    }
+
+    /**
+     * Reports the uncompressed and compressed bytes, normalized by JMH to bytes per second.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class CompressionCounters {
+        public long uncompressedBytes;
+        public long compressedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            uncompressedBytes = 0;
+            compressedBytes = 0;
+        }
+    }
+
+    private static byte[] jsonPayload(final int size) {
+        final Random random = new Random(42);
+        final StringBuilder sb = new StringBuilder(size + 256).append('[');
+        for (int id = 0; sb.length() < size; ++id) {
+            if (id > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(id)
+                    .append(",\"name\":\"user-").append(Long.toHexString(random.nextLong()))
+                    .append("\",\"status\":\"").append(STATUSES[random.nextInt(STATUSES.length)])
+                    .append("\",\"score\":").append(random.nextInt(100_000))
+                    .append(",\"tags\":[\"alpha\",\"beta\"],\"active\":").append(random.nextBoolean())
+                    .append('}');
+        }
+        sb.setLength(size - 1);
+        return sb.append(']').toString().getBytes(UTF_8);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.grpc.api;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.BufferAllocator;
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.encoding.api.BufferEncoder;
+import io.servicetalk.serializer.api.SerializerDeserializer;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.concurrent.api.Publisher.fromIterable;
+import static io.servicetalk.data.protobuf.ProtobufSerializerFactory.PROTOBUF;
+import static io.servicetalk.encoding.netty.NettyBufferEncoders.gzipDefault;
+import static io.servicetalk.grpc.api.GrpcStreamingSerializer.FLAG_COMPRESSED;
+import static io.servicetalk.grpc.api.GrpcStreamingSerializer.FLAG_UNCOMPRESSED;
+import static io.servicetalk.grpc.api.GrpcStreamingSerializer.METADATA_SIZE;
+
+/**
+ * Serializes a server-streaming response of small messages, as high-rate telemetry streams send them.
+ * <ul>
+ *     <li>{@code perMessageBuffer}: allocates a buffer for each message, and another one for the uncompressed
+ *     message when compressing.</li>
+ *     <li>{@code sharedBuffer}: {@link GrpcStreamingSerializer}, which writes the messages into buffers shared by
+ *     consecutive messages.</li>
+ * </ul>
+ * Run with {@code -prof gc} for the allocations per message.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class GrpcStreamingSerializerBenchmark {
+
+    @Param({"32", "256"})
+    public int messageSize;
+
+    @Param({"1000"})
+    public int messages;
+
+    @Param({"false", "true"})
+    public boolean compressed;
+
+    private final SerializerDeserializer<BytesValue> serializer = PROTOBUF.serializerDeserializer(BytesValue.parser());
+    private final BufferAllocator allocator = DEFAULT_ALLOCATOR;
+    @Nullable
+    private BufferEncoder compressor;
+    private GrpcStreamingSerializer<BytesValue> streamingSerializer;
+    private Publisher<BytesValue> stream;
+
+    @Setup
+    public void setup() {
+        final byte[] value = new byte[messageSize];
+        final Random random = new Random(0);
+        final List<BytesValue> values = new ArrayList<>(messages);
+        for (int i = 0; i < messages; i++) {
+            random.nextBytes(value);
+            values.add(BytesValue.newBuilder().setValue(ByteString.copyFrom(value)).build());
+        }
+        stream = fromIterable(values);
+        if (compressed) {
+            compressor = gzipDefault();
+            streamingSerializer = new GrpcStreamingSerializer<>(BytesValue::getSerializedSize, serializer, compressor);
+        } else {
+            compressor = null;
+            streamingSerializer = new GrpcStreamingSerializer<>(BytesValue::getSerializedSize, serializer);
+        }
+    }
+
+    @Benchmark
+    public void perMessageBuffer(final Blackhole bh) {
+        stream.map(this::serializePerMessage).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void sharedBuffer(final Blackhole bh) {
+        streamingSerializer.serialize(stream, allocator).forEach(bh::consume);
+    }
+
+    private Buffer serializePerMessage(final BytesValue t) {
+        final int sizeEstimate = t.getSerializedSize();
+        final Buffer buffer = allocator.newBuffer(METADATA_SIZE + sizeEstimate);
+        buffer.writerIndex(METADATA_SIZE);
+        if (compressor == null) {
+            serializer.serialize(t, allocator, buffer);
+            buffer.setByte(0, FLAG_UNCOMPRESSED);
+        } else {
+            final Buffer serializedBuffer = allocator.newBuffer(sizeEstimate);
+            serializer.serialize(t, allocator, serializedBuffer);
+            compressor.encoder().serialize(serializedBuffer, allocator, buffer);
+            buffer.setByte(0, FLAG_COMPRESSED);
+        }
+        buffer.setInt(1, buffer.writerIndex() - METADATA_SIZE);
+        return buffer;
+    }
+}
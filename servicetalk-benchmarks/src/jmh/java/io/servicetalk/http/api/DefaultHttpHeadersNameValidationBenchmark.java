@@ -30,6 +30,17 @@ import org.openjdk.jmh.infra.Blackhole;
 
 import java.util.Arrays;
 
+import static io.servicetalk.buffer.api.CharSequences.newAsciiString;
+import static io.servicetalk.http.api.HttpHeaderNames.ACCEPT;
+import static io.servicetalk.http.api.HttpHeaderNames.AUTHORIZATION;
+import static io.servicetalk.http.api.HttpHeaderNames.CONTENT_LENGTH;
+import static io.servicetalk.http.api.HttpHeaderNames.CONTENT_TYPE;
+import static io.servicetalk.http.api.HttpHeaderNames.HOST;
+import static io.servicetalk.http.api.HttpHeaderNames.TRANSFER_ENCODING;
+import static io.servicetalk.http.api.HttpHeaderNames.USER_AGENT;
+import static io.servicetalk.http.api.HttpHeaderNames.canonicalName;
+import static io.servicetalk.http.api.HttpHeaderNames.intern;
+
 /*
  * This benchmark measures performance of header name validation in DefaultHttpHeaders:
  *
@@ -50,6 +61,11 @@ import java.util.Arrays;
  * DefaultHttpHeadersNameValidationBenchmark.addHeader        8       true  thrpt    5   135011.887 ±   1832.187  ops/s
  * DefaultHttpHeadersNameValidationBenchmark.addHeader       16      false  thrpt    5  2523554.519 ±   8780.660  ops/s
  * DefaultHttpHeadersNameValidationBenchmark.addHeader       16       true  thrpt    5    68474.840 ±   1154.751  ops/s
+ *
+ * lookupInFilterChain emulates 10 filters each looking up a few well-known and one user-defined header name on a
+ * request decoded from the wire. It does not depend on (count) and (invalid), run it with
+ * "-p count=4 -p invalid=false". (canonical) controls if the decoded names are resolved to canonical instances via
+ * HttpHeaderNames#canonicalName, like HttpObjectDecoder does, or are distinct instances, like before that change.
  */
 @Fork(1)
 @State(Scope.Benchmark)
@@ -58,6 +74,11 @@ import java.util.Arrays;
 @BenchmarkMode(Mode.Throughput)
 public class DefaultHttpHeadersNameValidationBenchmark {
 
+    private static final int FILTERS = 10;
+    private static final CharSequence X_REQUEST_ID = intern("x-request-id");
+    private static final CharSequence[] DECODED_NAMES = {HOST, USER_AGENT, ACCEPT, AUTHORIZATION, CONTENT_TYPE,
+            CONTENT_LENGTH, X_REQUEST_ID};
+
     @Param({"4", "8", "16"})
     private int count;
     @Param({"false", "true"})
@@ -83,4 +104,37 @@ public class DefaultHttpHeadersNameValidationBenchmark {
         }
         return headers;
     }
+
+    @Benchmark
+    public int lookupInFilterChain(LookupState state) {
+        final HttpHeaders headers = state.headers;
+        int found = 0;
+        for (int filter = 0; filter < FILTERS; ++filter) {
+            found += headers.get(CONTENT_TYPE) != null ? 1 : 0;
+            found += headers.contains(CONTENT_LENGTH) ? 1 : 0;
+            found += headers.contains(TRANSFER_ENCODING) ? 1 : 0;
+            found += headers.get(HOST) != null ? 1 : 0;
+            found += headers.get(AUTHORIZATION) != null ? 1 : 0;
+            found += headers.get(USER_AGENT) != null ? 1 : 0;
+            found += headers.get(X_REQUEST_ID) != null ? 1 : 0;
+        }
+        return found;
+    }
+
+    @State(Scope.Benchmark)
+    public static class LookupState {
+        @Param({"true", "false"})
+        private boolean canonical;
+        private HttpHeaders headers;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            headers = DefaultHttpHeadersFactory.INSTANCE.newHeaders();
+            for (CharSequence name : DECODED_NAMES) {
+                // Every decoded name is a new instance, emulate it by copying the constant.
+                final CharSequence decoded = newAsciiString(name.toString());
+                headers.add(canonical ? canonicalName(decoded) : decoded, newAsciiString("value"));
+            }
+        }
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.http.api.HttpServerBuilder;
+import io.servicetalk.transport.api.ServerContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Measures accepted connections per second for a server where every request arrives on a new connection, with and
+ * without {@link HttpServerBuilder#listenerSharding(boolean) listener sharding}.
+ * <p>
+ * Each operation opens a plain socket, writes a single HTTP/1.1 request with {@code Connection: close}, and reads the
+ * response until the server closes the connection. Plain sockets keep the client side overhead low, so that the
+ * accept path of the server dominates. Listener sharding requires the native epoll or io_uring transport, on other
+ * platforms both variants bind a single listen socket.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Threads(8)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConnectionChurnBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    private static final byte[] REQUEST =
+            "GET / HTTP/1.1\r\nhost: localhost\r\nconnection: close\r\n\r\n".getBytes(US_ASCII);
+
+    @Param({"false", "true"})
+    public boolean listenerSharding;
+
+    @Nullable
+    private ServerContext serverContext;
+    @Nullable
+    private InetSocketAddress serverAddress;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        serverContext = HttpServers.forAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .listenerSharding(listenerSharding)
+                .listenBlockingAndAwait((ctx, request, responseFactory) -> responseFactory.ok());
+        serverAddress = (InetSocketAddress) serverContext.listenAddress();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (serverContext != null) {
+            serverContext.close();
+        }
+    }
+
+    @Benchmark
+    public int newConnectionPerRequest() throws IOException {
+        assert serverAddress != null;
+        try (Socket socket = new Socket(serverAddress.getAddress(), serverAddress.getPort())) {
+            socket.setTcpNoDelay(true);
+            final OutputStream out = socket.getOutputStream();
+            out.write(REQUEST);
+            out.flush();
+            final InputStream in = socket.getInputStream();
+            final byte[] buffer = new byte[256];
+            int total = 0;
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                total += read;
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.http.api.StreamingHttpClient;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.transport.api.ServerContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.http.api.HttpHeaderNames.CONTENT_LENGTH;
+import static java.lang.Math.min;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Compares serving a file with {@link StreamingHttpResponse#fileBody} against reading it into {@link Buffer}s
+ * published via {@link StreamingHttpResponse#payloadBody(Publisher)}, over plaintext HTTP/1.1.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FileBodyBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    private static final int READ_CHUNK_SIZE = 64 * 1024;
+
+    @Param({"1048576", "67108864"})
+    public int fileSize;
+
+    @Param({"fileBody", "publisher"})
+    public String body;
+
+    @Nullable
+    private Path file;
+    @Nullable
+    private FileChannel fileChannel;
+    @Nullable
+    private ServerContext serverContext;
+    @Nullable
+    private StreamingHttpClient client;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final byte[] content = new byte[fileSize];
+        ThreadLocalRandom.current().nextBytes(content);
+        file = Files.write(Files.createTempFile("servicetalk-file-body", ".bin"), content);
+        final FileChannel channel = FileChannel.open(file, READ);
+        fileChannel = channel;
+        final boolean useFileBody = "fileBody".equals(body);
+        serverContext = HttpServers.forAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .listenStreamingAndAwait((ctx, request, responseFactory) -> {
+                    final StreamingHttpResponse response = responseFactory.ok();
+                    return succeeded(useFileBody ? response.fileBody(channel, 0, fileSize) :
+                            response.setHeader(CONTENT_LENGTH, Integer.toString(fileSize))
+                                    .payloadBody(readChunks(channel, fileSize)));
+                });
+        client = HttpClients.forResolvedAddress((InetSocketAddress) serverContext.listenAddress())
+                .buildStreaming();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (client != null) {
+            client.close();
+        }
+        if (serverContext != null) {
+            serverContext.close();
+        }
+        if (fileChannel != null) {
+            fileChannel.close();
+        }
+        if (file != null) {
+            Files.delete(file);
+        }
+    }
+
+    @Benchmark
+    public long download() throws Exception {
+        assert client != null;
+        return client.request(client.get("/"))
+                .flatMapPublisher(StreamingHttpResponse::payloadBody)
+                .collect(() -> 0L, (total, buffer) -> total + buffer.readableBytes())
+                .toFuture().get();
+    }
+
+    private static Publisher<Buffer> readChunks(final FileChannel channel, final int size) {
+        return Publisher.range(0, size, READ_CHUNK_SIZE).map(position -> {
+            final ByteBuffer chunk = ByteBuffer.allocate(min(READ_CHUNK_SIZE, size - position));
+            try {
+                while (chunk.hasRemaining()) {
+                    if (channel.read(chunk, position + chunk.position()) < 0) {
+                        throw new IOException("Unexpected end of file at " + (position + chunk.position()));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            chunk.flip();
+            return DEFAULT_ALLOCATOR.wrap(chunk);
+        });
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.http.api.StreamingHttpClient;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.transport.api.ConnectionInfo;
+import io.servicetalk.transport.api.ConnectionObserver;
+import io.servicetalk.transport.api.ServerContext;
+import io.servicetalk.transport.api.TransportConfigBuilder;
+import io.servicetalk.transport.api.TransportObserver;
+import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopDataObserver;
+import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopMultiplexedObserver;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.http.netty.HttpProtocolConfigs.h2;
+import static io.servicetalk.http.netty.HttpProtocolConfigs.h2Default;
+import static java.time.Duration.ofMillis;
+
+/**
+ * Streams many small messages in an HTTP/2 response, the transport pattern of server-streaming gRPC, with and without
+ * coalescing consecutive messages into a DATA frame ({@link H2ProtocolConfigBuilder#maxCoalescedDataFrameSize(int)}).
+ * <p>
+ * Reports messages per second and bytes the server wrote to the socket per second, the difference in bytes being the
+ * saved frame headers.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class H2DataFrameCoalescingBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    private static final LongAdder SERVER_BYTES_WRITTEN = new LongAdder();
+
+    /**
+     * {@code 0} writes each message as its own DATA frame.
+     */
+    @Param({"0", "16384"})
+    public int maxCoalescedDataFrameSize;
+
+    @Param({"1000"})
+    public int messages;
+
+    @Param({"50"})
+    public int messageSize;
+
+    @Nullable
+    private ServerContext serverContext;
+    @Nullable
+    private StreamingHttpClient client;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final Buffer message = DEFAULT_ALLOCATOR.newBuffer(messageSize);
+        message.writerIndex(messageSize);
+        serverContext = HttpServers.forAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .protocols(h2().maxCoalescedDataFrameSize(maxCoalescedDataFrameSize).build())
+                // Coalescing needs flushes to be delayed, so both variants use the adaptive flush strategy.
+                .transportConfig(new TransportConfigBuilder().maxFlushDelay(ofMillis(1)).build())
+                .transportObserver(new BytesCountingTransportObserver())
+                .listenStreamingAndAwait((ctx, request, responseFactory) -> succeeded(responseFactory.ok()
+                        .payloadBody(Publisher.range(0, messages).map(__ -> message.duplicate()))));
+        client = HttpClients.forResolvedAddress((InetSocketAddress) serverContext.listenAddress())
+                .protocols(h2Default())
+                .buildStreaming();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (client != null) {
+            client.close();
+        }
+        if (serverContext != null) {
+            serverContext.close();
+        }
+    }
+
+    @Benchmark
+    public void serverStreaming(final StreamCounters counters) throws Exception {
+        assert client != null;
+        final long bytesBefore = SERVER_BYTES_WRITTEN.sum();
+        client.request(client.get("/"))
+                .flatMapPublisher(StreamingHttpResponse::payloadBody)
+                .ignoreElements()
+                .toFuture().get();
+        counters.messages += messages;
+        counters.bytesOnWire += SERVER_BYTES_WRITTEN.sum() - bytesBefore;
+    }
+
+    /**
+     * Reports messages and bytes written by the server, normalized by JMH to messages and bytes per second.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class StreamCounters {
+        public long messages;
+        public long bytesOnWire;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            messages = 0;
+            bytesOnWire = 0;
+        }
+    }
+
+    private static final class BytesCountingTransportObserver implements TransportObserver {
+        @Override
+        public ConnectionObserver onNewConnection(@Nullable final Object localAddress, final Object remoteAddress) {
+            return new ConnectionObserver() {
+                @Override
+                public void onDataRead(final int size) {
+                }
+
+                @Override
+                public void onDataWrite(final int size) {
+                    SERVER_BYTES_WRITTEN.add(size);
+                }
+
+                @Override
+                public void onFlush() {
+                }
+
+                @Override
+                public DataObserver connectionEstablished(final ConnectionInfo info) {
+                    return NoopDataObserver.INSTANCE;
+                }
+
+                @Override
+                public MultiplexedObserver multiplexedConnectionEstablished(final ConnectionInfo info) {
+                    return NoopMultiplexedObserver.INSTANCE;
+                }
+
+                @Override
+                public void connectionClosed(final Throwable error) {
+                }
+
+                @Override
+                public void connectionClosed() {
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.concurrent.api.Executor;
+import io.servicetalk.concurrent.api.Executors;
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.http.api.HttpExecutionStrategies;
+import io.servicetalk.http.api.StreamingHttpClient;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.transport.api.ServerContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.http.api.HttpExecutionStrategies.offloadAll;
+import static io.servicetalk.http.api.HttpExecutionStrategies.offloadNone;
+
+/**
+ * Compares the {@link Executor} used for offloading by a server with {@link HttpExecutionStrategies#offloadAll()}: the
+ * default {@link Executors#newCachedThreadExecutor()}, which hands off all tasks through a single queue, and
+ * {@link Executors#newWorkStealingExecutor(int, int)}, which queues the tasks offloaded from an I/O thread for the same
+ * worker thread.
+ * <p>
+ * Each operation sends a streaming request of {@code items} chunks on one of the client connections, which the server
+ * echoes back in a streaming response. The client doesn't offload, so that the server offloading dominates. Run with
+ * {@code -bm thrpt} for throughput and with {@code -bm sample} for latency percentiles (e.g. p99).
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Threads(16)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+public class OffloadExecutorBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    @Param({"cached", "workStealing"})
+    public String executorType;
+
+    @Param({"16"})
+    public int items;
+
+    @Param({"256"})
+    public int itemSize;
+
+    @Nullable
+    private Executor executor;
+    @Nullable
+    private ServerContext serverContext;
+    @Nullable
+    private StreamingHttpClient client;
+    @Nullable
+    private Buffer item;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        switch (executorType) {
+            case "cached":
+                executor = Executors.newCachedThreadExecutor();
+                break;
+            case "workStealing":
+                executor = Executors.newWorkStealingExecutor(Runtime.getRuntime().availableProcessors(), 1 << 16);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown executorType: " + executorType);
+        }
+        item = DEFAULT_ALLOCATOR.newBuffer(itemSize);
+        item.writerIndex(itemSize);
+        serverContext = HttpServers.forAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .executor(executor)
+                .executionStrategy(offloadAll())
+                .listenStreamingAndAwait((ctx, request, responseFactory) -> succeeded(responseFactory.ok()
+                        .payloadBody(request.payloadBody())));
+        client = HttpClients.forResolvedAddress((InetSocketAddress) serverContext.listenAddress())
+                .executionStrategy(offloadNone())
+                .buildStreaming();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (client != null) {
+            client.close();
+        }
+        if (serverContext != null) {
+            serverContext.close();
+        }
+        if (executor != null) {
+            executor.closeAsync().toFuture().get();
+        }
+    }
+
+    @Benchmark
+    public void streamingEcho() throws Exception {
+        assert client != null && item != null;
+        final Buffer item = this.item;
+        client.request(client.post("/")
+                        .payloadBody(Publisher.range(0, items).map(__ -> item.duplicate())))
+                .flatMapPublisher(StreamingHttpResponse::payloadBody)
+                .ignoreElements()
+                .toFuture().get();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.BufferAllocator;
+import io.servicetalk.buffer.netty.BufferAllocators;
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.http.api.StreamingHttpClient;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.transport.api.ServerContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_DIRECT_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_DIRECT_POOLED_ALLOCATOR;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+
+/**
+ * Proxies a streaming response body through a ServiceTalk server which copies every chunk it receives from the
+ * backend into memory of the configured {@link BufferAllocator}, the way a proxy that rewrites bodies does.
+ * <p>
+ * Compares {@link BufferAllocators#PREFER_DIRECT_ALLOCATOR}, whose memory is reclaimed by the garbage collector, with
+ * {@link BufferAllocators#PREFER_DIRECT_POOLED_ALLOCATOR}, whose leases are returned to the pool by the transport once
+ * written. Run with {@code -prof gc} for the allocation rate and the time spent in GC pauses.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class ProxyBufferAllocatorBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    @Param({"unpooled", "pooled"})
+    public String allocator;
+
+    @Param({"16"})
+    public int chunks;
+
+    @Param({"1024", "16384"})
+    public int chunkSize;
+
+    @Nullable
+    private ServerContext backend;
+    @Nullable
+    private StreamingHttpClient backendClient;
+    @Nullable
+    private ServerContext proxy;
+    @Nullable
+    private StreamingHttpClient client;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final BufferAllocator proxyAllocator = "pooled".equals(allocator) ?
+                PREFER_DIRECT_POOLED_ALLOCATOR : PREFER_DIRECT_ALLOCATOR;
+        final Buffer chunk = DEFAULT_ALLOCATOR.newBuffer(chunkSize);
+        chunk.writerIndex(chunkSize);
+        backend = HttpServers.forAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .listenStreamingAndAwait((ctx, request, responseFactory) -> succeeded(responseFactory.ok()
+                        .payloadBody(Publisher.range(0, chunks).map(__ -> chunk.duplicate()))));
+        final StreamingHttpClient backendClient = HttpClients.forResolvedAddress(
+                (InetSocketAddress) backend.listenAddress()).buildStreaming();
+        this.backendClient = backendClient;
+        proxy = HttpServers.forAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .listenStreamingAndAwait((ctx, request, responseFactory) ->
+                        backendClient.request(backendClient.get("/")).map(response -> responseFactory.ok()
+                                .payloadBody(response.payloadBody().map(received -> proxyAllocator
+                                        .newBuffer(received.readableBytes()).writeBytes(received)))));
+        client = HttpClients.forResolvedAddress((InetSocketAddress) proxy.listenAddress()).buildStreaming();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (client != null) {
+            client.close();
+        }
+        if (proxy != null) {
+            proxy.close();
+        }
+        if (backendClient != null) {
+            backendClient.close();
+        }
+        if (backend != null) {
+            backend.close();
+        }
+    }
+
+    @Benchmark
+    public void proxy() throws Exception {
+        assert client != null;
+        client.request(client.get("/"))
+                .flatMapPublisher(StreamingHttpResponse::payloadBody)
+                .ignoreElements()
+                .toFuture().get();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.http.api.StreamingHttpClient;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.transport.api.ConnectionInfo;
+import io.servicetalk.transport.api.ConnectionObserver;
+import io.servicetalk.transport.api.ServerContext;
+import io.servicetalk.transport.api.TransportConfigBuilder;
+import io.servicetalk.transport.api.TransportObserver;
+import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopDataObserver;
+import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopMultiplexedObserver;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.http.netty.HttpProtocolConfigs.h2Default;
+import static java.time.Duration.ofMillis;
+
+/**
+ * Compares the adaptive flush strategy ({@link TransportConfigBuilder#maxFlushDelay}) with flushing every item on a
+ * server-streaming HTTP/2 response, the transport pattern of server-streaming gRPC.
+ * <p>
+ * Run with {@code -bm thrpt} for throughput and flushes (write system calls) per response, and with {@code -bm sample}
+ * for latency percentiles.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+public class StreamingFlushBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    private static final LongAdder SERVER_FLUSHES = new LongAdder();
+
+    /**
+     * {@code 0} flushes on each item, a positive value enables the adaptive flush strategy.
+     */
+    @Param({"0", "1"})
+    public int maxFlushDelayMs;
+
+    @Param({"100"})
+    public int items;
+
+    @Param({"64", "1024"})
+    public int itemSize;
+
+    @Nullable
+    private ServerContext serverContext;
+    @Nullable
+    private StreamingHttpClient client;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final Buffer item = DEFAULT_ALLOCATOR.newBuffer(itemSize);
+        item.writerIndex(itemSize);
+        serverContext = HttpServers.forAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .protocols(h2Default())
+                .transportConfig(new TransportConfigBuilder().maxFlushDelay(ofMillis(maxFlushDelayMs)).build())
+                .transportObserver(new FlushCountingTransportObserver())
+                .listenStreamingAndAwait((ctx, request, responseFactory) -> succeeded(responseFactory.ok()
+                        .payloadBody(Publisher.range(0, items).map(__ -> item.duplicate()))));
+        client = HttpClients.forResolvedAddress((InetSocketAddress) serverContext.listenAddress())
+                .protocols(h2Default())
+                .buildStreaming();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (client != null) {
+            client.close();
+        }
+        if (serverContext != null) {
+            serverContext.close();
+        }
+    }
+
+    @Benchmark
+    public void serverStreaming(final FlushCounters counters) throws Exception {
+        assert client != null;
+        final long flushesBefore = SERVER_FLUSHES.sum();
+        client.request(client.get("/"))
+                .flatMapPublisher(StreamingHttpResponse::payloadBody)
+                .ignoreElements()
+                .toFuture().get();
+        counters.flushes += SERVER_FLUSHES.sum() - flushesBefore;
+    }
+
+    /**
+     * Reports the number of flushes performed by the server, normalized by JMH to flushes per second.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class FlushCounters {
+        public long flushes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            flushes = 0;
+        }
+    }
+
+    private static final class FlushCountingTransportObserver implements TransportObserver {
+        @Override
+        public ConnectionObserver onNewConnection(@Nullable final Object localAddress, final Object remoteAddress) {
+            return new ConnectionObserver() {
+                @Override
+                public void onDataRead(final int size) {
+                }
+
+                @Override
+                public void onDataWrite(final int size) {
+                }
+
+                @Override
+                public void onFlush() {
+                    SERVER_FLUSHES.increment();
+                }
+
+                @Override
+                public DataObserver connectionEstablished(final ConnectionInfo info) {
+                    return NoopDataObserver.INSTANCE;
+                }
+
+                @Override
+                public MultiplexedObserver multiplexedConnectionEstablished(final ConnectionInfo info) {
+                    return NoopMultiplexedObserver.INSTANCE;
+                }
+
+                @Override
+                public void connectionClosed(final Throwable error) {
+                }
+
+                @Override
+                public void connectionClosed() {
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.router.predicate;
+
+import io.servicetalk.http.api.DefaultHttpHeadersFactory;
+import io.servicetalk.http.api.DefaultStreamingHttpRequestResponseFactory;
+import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpRequestResponseFactory;
+import io.servicetalk.http.api.StreamingHttpService;
+import io.servicetalk.transport.api.ConnectionContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.concurrent.api.Single.failed;
+import static io.servicetalk.http.api.HttpProtocolVersion.HTTP_1_1;
+import static io.servicetalk.http.api.HttpRequestMethod.GET;
+import static io.servicetalk.http.router.predicate.Predicates.method;
+import static io.servicetalk.http.router.predicate.Predicates.pathEquals;
+import static io.servicetalk.http.router.predicate.Predicates.pathStartsWith;
+
+/*
+ * Compares route selection of InOrderRouter (what HttpPredicateRouterBuilder used to build) with RadixTreeRouter for
+ * a gateway-like route table where every service has an exact "/serviceN/health" route and a GET-only
+ * "/serviceN/v1/" prefix route, so {@code routes} registered routes belong to {@code routes / 2} services. The request
+ * path hits the last registered route, the worst case for in-order evaluation.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class HttpPredicateRouterBenchmark {
+    // The predicates used by this benchmark don't look at the connection context.
+    @Nullable
+    private static final ConnectionContext NO_CONTEXT = null;
+
+    @Param({"10", "100", "1000"})
+    public int routes;
+
+    private InOrderRouter inOrderRouter;
+    private RadixTreeRouter radixTreeRouter;
+    private StreamingHttpRequest lastRouteRequest;
+    private StreamingHttpRequest noRouteRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final StreamingHttpService service = (ctx, request, responseFactory) ->
+                failed(new UnsupportedOperationException());
+        final int services = routes / 2;
+        final List<Route> routeList = new ArrayList<>(services * 2);
+        for (int i = 0; i < services; ++i) {
+            final String health = "/service" + i + "/health";
+            routeList.add(new Route(pathEquals(health), service, null, new String[] {health}, null, null));
+            final String prefix = "/service" + i + "/v1/";
+            routeList.add(new Route(pathStartsWith(prefix).and(method(GET)), service, null, null, prefix,
+                    method(GET)));
+        }
+        inOrderRouter = new InOrderRouter(DefaultFallbackServiceStreaming.instance(), routeList);
+        radixTreeRouter = new RadixTreeRouter(DefaultFallbackServiceStreaming.instance(), routeList);
+
+        final StreamingHttpRequestResponseFactory factory = new DefaultStreamingHttpRequestResponseFactory(
+                DEFAULT_ALLOCATOR, DefaultHttpHeadersFactory.INSTANCE, HTTP_1_1);
+        lastRouteRequest = factory.get("/service" + (services - 1) + "/v1/items/42?expand=true");
+        noRouteRequest = factory.get("/unknown/v1/items/42");
+        // Parse and cache the path once, as the server would for the first predicate that looks at it.
+        lastRouteRequest.path();
+        noRouteRequest.path();
+    }
+
+    @Benchmark
+    @Nullable
+    public Route inOrderLastRoute() {
+        return inOrderRouter.selectRoute(NO_CONTEXT, lastRouteRequest);
+    }
+
+    @Benchmark
+    @Nullable
+    public Route radixTreeLastRoute() {
+        return radixTreeRouter.selectRoute(NO_CONTEXT, lastRouteRequest);
+    }
+
+    @Benchmark
+    @Nullable
+    public Route inOrderNoRoute() {
+        return inOrderRouter.selectRoute(NO_CONTEXT, noRouteRequest);
+    }
+
+    @Benchmark
+    @Nullable
+    public Route radixTreeNoRoute() {
+        return radixTreeRouter.selectRoute(NO_CONTEXT, noRouteRequest);
+    }
+}
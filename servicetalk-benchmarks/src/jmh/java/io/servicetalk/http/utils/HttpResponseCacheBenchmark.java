@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.utils;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.http.api.HttpClient;
+import io.servicetalk.http.api.HttpResponse;
+import io.servicetalk.http.netty.HttpClients;
+import io.servicetalk.http.netty.HttpServers;
+import io.servicetalk.transport.api.ServerContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.http.api.HttpHeaderNames.CACHE_CONTROL;
+
+/**
+ * Latency of a request for reference data which the server allows to cache.
+ * <ul>
+ *     <li>{@code cacheHit}: the response is returned by {@link HttpResponseCacheRequesterFilter} without sending the
+ *     request.</li>
+ *     <li>{@code noCache}: the request is sent to a server on the loopback interface.</li>
+ * </ul>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HttpResponseCacheBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    @Param({"1024", "65536"})
+    public int payloadSize;
+
+    @Nullable
+    private ServerContext serverContext;
+    @Nullable
+    private HttpClient cachingClient;
+    @Nullable
+    private HttpClient client;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final Buffer payload = DEFAULT_ALLOCATOR.newBuffer(payloadSize);
+        payload.writerIndex(payloadSize);
+        serverContext = HttpServers.forAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .listenAndAwait((ctx, request, responseFactory) -> succeeded(responseFactory.ok()
+                        .setHeader(CACHE_CONTROL, "max-age=3600")
+                        .payloadBody(payload.duplicate())));
+        final InetSocketAddress address = (InetSocketAddress) serverContext.listenAddress();
+        cachingClient = HttpClients.forResolvedAddress(address)
+                .appendClientFilter(new HttpResponseCacheRequesterFilter.Builder().build())
+                .build();
+        client = HttpClients.forResolvedAddress(address).build();
+        // Store the response.
+        cachingClient.request(cachingClient.get("/")).toFuture().get();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (cachingClient != null) {
+            cachingClient.close();
+        }
+        if (client != null) {
+            client.close();
+        }
+        if (serverContext != null) {
+            serverContext.close();
+        }
+    }
+
+    @Benchmark
+    public HttpResponse cacheHit() throws Exception {
+        assert cachingClient != null;
+        return cachingClient.request(cachingClient.get("/")).toFuture().get();
+    }
+
+    @Benchmark
+    public HttpResponse noCache() throws Exception {
+        assert client != null;
+        return client.request(client.get("/")).toFuture().get();
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.loadbalancer;
+
+import io.servicetalk.client.api.LoadBalancedConnection;
+import io.servicetalk.concurrent.api.Completable;
+import io.servicetalk.transport.api.IoExecutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.concurrent.api.Completable.completed;
+import static io.servicetalk.loadbalancer.ConnectionSelectorPolicies.eventLoopAffine;
+import static io.servicetalk.loadbalancer.ConnectionSelectorPolicies.linearSearch;
+
+/**
+ * Measures throughput of selecting (and releasing) a connection of a single host by concurrent callers, comparing the
+ * shared connection pool with the event-loop-affine sharded pool.
+ * <p>
+ * Every caller thread emulates an event loop which owns an equal share of the connections, like connections created
+ * on the event loop of the request that needed them.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class ConnectionSelectorBenchmark {
+
+    private static final Predicate<BenchmarkConnection> SELECTOR = BenchmarkConnection::tryAcquire;
+    private static final int MAX_CALLERS = 64;
+
+    @Param({"linear", "eventLoopAffine"})
+    public String policy;
+
+    @Param({"64"})
+    public int connections;
+
+    /**
+     * Maximum concurrent requests per connection, {@code 1} emulates HTTP/1.x.
+     */
+    @Param({"1", "100"})
+    public int maxConcurrency;
+
+    private final AtomicInteger nextEventLoop = new AtomicInteger();
+    private final List<CallerEventLoop> eventLoops = new ArrayList<>();
+    private List<BenchmarkConnection> connectionList;
+    private ConnectionSelector<BenchmarkConnection> selector;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < MAX_CALLERS; i++) {
+            eventLoops.add(new CallerEventLoop());
+        }
+        connectionList = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            connectionList.add(new BenchmarkConnection(maxConcurrency, eventLoops.get(i % MAX_CALLERS)));
+        }
+        final ConnectionSelectorPolicy<BenchmarkConnection> linear = linearSearch();
+        selector = ("linear".equals(policy) ? linear : eventLoopAffine(linear, BenchmarkConnection::eventLoop))
+                .buildConnectionSelector("benchmark");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean callers1(final Caller caller) {
+        return selectAndRelease();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean callers8(final Caller caller) {
+        return selectAndRelease();
+    }
+
+    @Benchmark
+    @Threads(MAX_CALLERS)
+    public boolean callers64(final Caller caller) {
+        return selectAndRelease();
+    }
+
+    private boolean selectAndRelease() {
+        final BenchmarkConnection connection = selector.select(connectionList, SELECTOR);
+        if (connection == null) {
+            return false;
+        }
+        connection.requestFinished();
+        return true;
+    }
+
+    /**
+     * Binds the benchmark thread to its own {@link CallerEventLoop}.
+     */
+    @State(Scope.Thread)
+    public static class Caller {
+        @Setup(Level.Trial)
+        public void setup(final ConnectionSelectorBenchmark benchmark) {
+            benchmark.eventLoops.get(benchmark.nextEventLoop.getAndIncrement() % MAX_CALLERS).thread =
+                    Thread.currentThread();
+        }
+    }
+
+    /**
+     * An {@link IoExecutor} whose event loop is a benchmark thread, only used to partition the connections.
+     */
+    private static final class CallerEventLoop implements IoExecutor {
+        @Nullable
+        volatile Thread thread;
+
+        @Override
+        public boolean isCurrentThreadEventLoop() {
+            return Thread.currentThread() == thread;
+        }
+
+        @Override
+        public boolean isUnixDomainSocketSupported() {
+            return false;
+        }
+
+        @Override
+        public boolean isFileDescriptorSocketAddressSupported() {
+            return false;
+        }
+
+        @Override
+        public boolean isIoThreadSupported() {
+            return false;
+        }
+
+        @Override
+        public Completable onClose() {
+            return completed();
+        }
+
+        @Override
+        public Completable closeAsync() {
+            return completed();
+        }
+    }
+
+    private static final class BenchmarkConnection implements LoadBalancedConnection {
+        private static final AtomicIntegerFieldUpdater<BenchmarkConnection> pendingUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(BenchmarkConnection.class, "pending");
+
+        private final int maxConcurrency;
+        private final CallerEventLoop eventLoop;
+        private volatile int pending;
+
+        BenchmarkConnection(final int maxConcurrency, final CallerEventLoop eventLoop) {
+            this.maxConcurrency = maxConcurrency;
+            this.eventLoop = eventLoop;
+        }
+
+        IoExecutor eventLoop() {
+            return eventLoop;
+        }
+
+        boolean tryAcquire() {
+            for (;;) {
+                final int current = pending;
+                if (current >= maxConcurrency) {
+                    return false;
+                }
+                if (pendingUpdater.compareAndSet(this, current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public void requestFinished() {
+            pendingUpdater.decrementAndGet(this);
+        }
+
+        @Override
+        public int score() {
+            return 0;
+        }
+
+        @Override
+        public Completable onClose() {
+            return completed();
+        }
+
+        @Override
+        public Completable closeAsync() {
+            return completed();
+        }
+
+        @Override
+        public Completable closeAsyncGracefully() {
+            return completed();
+        }
+    }
+}
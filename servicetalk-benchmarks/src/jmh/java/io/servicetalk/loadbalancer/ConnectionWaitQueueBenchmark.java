@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.loadbalancer;
+
+import io.servicetalk.client.api.ConnectionFactory;
+import io.servicetalk.client.api.ConnectionLimitReachedException;
+import io.servicetalk.client.api.LoadBalancedConnection;
+import io.servicetalk.concurrent.api.Completable;
+import io.servicetalk.concurrent.api.Executor;
+import io.servicetalk.concurrent.api.Executors;
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.context.api.ContextMap;
+import io.servicetalk.transport.api.TransportObserver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.concurrent.api.Completable.completed;
+import static io.servicetalk.concurrent.api.Single.failed;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static java.time.Duration.ofMillis;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Measures the latency distribution of selecting a connection of a single host when more callers than the host's
+ * request capacity arrive at once, and the host can't open more connections. Every caller retries a failed selection
+ * until it succeeds, holds the connection for the service time, and releases it.
+ * <ul>
+ *     <li>{@code failFast}: selections fail immediately at capacity and are retried without backoff.</li>
+ *     <li>{@code failFastBackoff}: selections fail immediately at capacity and are retried after a 1ms backoff.</li>
+ *     <li>{@code waitQueue}: selections wait in the host's wait queue, and are retried only after a timeout.</li>
+ * </ul>
+ * Use {@code -prof gc} or an external profiler to compare the CPU spent on retries, and the sample percentiles to
+ * compare the tail latency.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(MICROSECONDS)
+public class ConnectionWaitQueueBenchmark {
+
+    private static final Predicate<BenchmarkConnection> SELECTOR = BenchmarkConnection::tryAcquire;
+
+    @Param({"failFast", "failFastBackoff", "waitQueue"})
+    public String mode;
+
+    /**
+     * Maximum concurrent requests of the single connection of the host.
+     */
+    @Param({"4"})
+    public int maxConcurrency;
+
+    /**
+     * Amount of CPU work (in {@link Blackhole#consumeCPU(long)} tokens) a request holds the connection for.
+     */
+    @Param({"10000"})
+    public int serviceTokens;
+
+    private Executor executor;
+    private DefaultHost<String, BenchmarkConnection> host;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Executors.newCachedThreadExecutor();
+        final ConnectionWaitConfig connectionWaitConfig = "waitQueue".equals(mode) ?
+                new ConnectionWaitConfig(executor, 1024, ofMillis(100)) : null;
+        host = new DefaultHost<>("benchmark", "address", ConnectionSelectorPolicies.<BenchmarkConnection>linearSearch()
+                .buildConnectionSelector("benchmark"), new SingleConnectionFactory(maxConcurrency),
+                NoopLoadBalancerObserver.NoopHostObserver.INSTANCE, null, connectionWaitConfig, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        host.closeAsync().toFuture().get();
+        executor.closeAsync().toFuture().get();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public int callers16() throws Exception {
+        return selectAndRequest();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public int callers64() throws Exception {
+        return selectAndRequest();
+    }
+
+    private int selectAndRequest() throws Exception {
+        int attempts = 1;
+        BenchmarkConnection connection;
+        while ((connection = select()) == null) {
+            ++attempts;
+            if ("failFastBackoff".equals(mode)) {
+                LockSupport.parkNanos(MILLISECONDS.toNanos(1));
+            }
+        }
+        Blackhole.consumeCPU(serviceTokens);
+        connection.requestFinished();
+        return attempts;
+    }
+
+    @Nullable
+    private BenchmarkConnection select() throws Exception {
+        // Same as the host selectors: try the existing connections first, then try to open a new connection.
+        final BenchmarkConnection connection = host.pickConnection(SELECTOR, null);
+        if (connection != null) {
+            return connection;
+        }
+        try {
+            return host.newConnection(SELECTOR, false, null).toFuture().get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ConnectionLimitReachedException) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private static final class SingleConnectionFactory implements ConnectionFactory<String, BenchmarkConnection> {
+
+        private final AtomicBoolean connected = new AtomicBoolean();
+        private final BenchmarkConnection connection;
+
+        SingleConnectionFactory(final int maxConcurrency) {
+            connection = new BenchmarkConnection(maxConcurrency);
+        }
+
+        @Override
+        public Single<BenchmarkConnection> newConnection(final String address, @Nullable final ContextMap context,
+                                                         @Nullable final TransportObserver observer) {
+            return connected.compareAndSet(false, true) ? succeeded(connection) :
+                    failed(new ConnectionLimitReachedException("Only a single connection is allowed"));
+        }
+
+        @Override
+        public Completable onClose() {
+            return completed();
+        }
+
+        @Override
+        public Completable closeAsync() {
+            return completed();
+        }
+    }
+
+    private static final class BenchmarkConnection implements LoadBalancedConnection {
+        private static final AtomicIntegerFieldUpdater<BenchmarkConnection> pendingUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(BenchmarkConnection.class, "pending");
+
+        private final int maxConcurrency;
+        private volatile int pending;
+
+        BenchmarkConnection(final int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        boolean tryAcquire() {
+            for (;;) {
+                final int current = pending;
+                if (current >= maxConcurrency) {
+                    return false;
+                }
+                if (pendingUpdater.compareAndSet(this, current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public void requestFinished() {
+            pendingUpdater.decrementAndGet(this);
+        }
+
+        @Override
+        public int score() {
+            return 0;
+        }
+
+        @Override
+        public Completable onClose() {
+            return completed();
+        }
+
+        @Override
+        public Completable closeAsync() {
+            return completed();
+        }
+
+        @Override
+        public Completable closeAsyncGracefully() {
+            return completed();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018-2019 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018-2019, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package io.servicetalk.buffer.netty;
 
 import io.servicetalk.buffer.api.Buffer;
 import io.servicetalk.buffer.api.BufferAllocator;
+import io.servicetalk.buffer.api.CompositeBuffer;
 
 /**
  * Available {@link BufferAllocator}s.
@@ -39,6 +40,24 @@ public final class BufferAllocators {
      */
     public static final BufferAllocator PREFER_HEAP_ALLOCATOR = BufferUtils.PREFER_HEAP_ALLOCATOR;
 
+    /**
+     * {@link BufferAllocator} whose {@link Buffer}s are backed by pooled Netty buffers and prefers direct memory
+     * allocation when otherwise not specified.
+     * <p>
+     * Every {@link Buffer} allocated by this {@link BufferAllocator} is a lease of pooled memory that must be released
+     * exactly once. The transport releases a {@link Buffer} once it has been written, otherwise it has to be released
+     * via {@link BufferUtils#release(Buffer)}. Therefore, a {@link Buffer} (or any {@link Buffer} derived from it) must
+     * be written at most once and must not be accessed after it has been written; copy it to write the same content
+     * more than once. This avoids allocating new memory for each body, for example in proxies
+     * which forward bodies without inspecting them, but leases which are neither written nor released leak pooled
+     * memory. Netty's leak detection reports such leases.
+     * <p>
+     * This {@link BufferAllocator} is not meant to be configured as the allocator of an execution context, because
+     * not all consumers of the execution context release the {@link Buffer}s they allocate. Wrapped memory is not
+     * pooled, and {@link CompositeBuffer}s take ownership of the leases added to them.
+     */
+    public static final BufferAllocator PREFER_DIRECT_POOLED_ALLOCATOR = BufferUtils.PREFER_DIRECT_POOLED_ALLOCATOR;
+
     private BufferAllocators() {
         // no instances
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018-2020 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018-2020, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,6 +36,7 @@ public final class BufferUtils {
 
     static final BufferAllocator PREFER_HEAP_ALLOCATOR = new ServiceTalkBufferAllocator(false);
     static final BufferAllocator PREFER_DIRECT_ALLOCATOR = new ServiceTalkBufferAllocator(true);
+    static final BufferAllocator PREFER_DIRECT_POOLED_ALLOCATOR = new PooledBufferAllocator(true);
 
     private BufferUtils() {
         // no instances
@@ -98,6 +99,33 @@ public final class BufferUtils {
         return null;
     }
 
+    /**
+     * Returns the lease of a {@link Buffer} allocated by {@link BufferAllocators#PREFER_DIRECT_POOLED_ALLOCATOR} to
+     * the pool. Has no effect on other {@link Buffer}s.
+     * <p>
+     * Buffers derived from a lease via {@link Buffer#slice()}, {@link Buffer#duplicate()} or
+     * {@link Buffer#readSlice(int)} share the lease, which must only be released once for all of them.
+     *
+     * @param buffer the {@link Buffer} to release.
+     * @return {@code true} if {@code buffer} was a lease and its memory has been returned to the pool.
+     */
+    public static boolean release(Buffer buffer) {
+        final ByteBuf buf = toByteBufNoThrow(buffer);
+        return buf != null && PooledBufferAllocator.isLease(buf) && buf.release();
+    }
+
+    /**
+     * Returns {@code true} if {@code buffer} is a lease of pooled memory which must be released.
+     *
+     * @param buffer the {@link Buffer} to check.
+     * @return {@code true} if {@code buffer} is a lease of pooled memory which must be released.
+     * @see #release(Buffer)
+     */
+    public static boolean isLease(Buffer buffer) {
+        final ByteBuf buf = toByteBufNoThrow(buffer);
+        return buf != null && PooledBufferAllocator.isLease(buf);
+    }
+
     /**
      * Returns the {@link ByteBufAllocator} taking the {@link BufferAllocator} into account.
      *
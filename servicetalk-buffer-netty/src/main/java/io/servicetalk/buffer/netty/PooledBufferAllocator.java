@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.BufferAllocator;
+import io.servicetalk.buffer.api.CompositeBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import static io.servicetalk.buffer.api.EmptyBuffer.EMPTY_BUFFER;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A {@link BufferAllocator} whose {@link Buffer}s are leases of pooled Netty memory, which have to be released exactly
+ * once, see {@link BufferUtils#release(Buffer)}.
+ * <p>
+ * Writing a lease to the transport releases it, so a lease must be written at most once and must not be accessed
+ * after it has been written. This includes {@link Buffer}s derived from the lease, which share it. Content that is
+ * written more than once has to be copied for each write, for example via {@link Buffer#copy()}.
+ * <p>
+ * Unlike {@link ServiceTalkBufferAllocator} this is intentionally not a {@link io.netty.buffer.ByteBufAllocator}, so
+ * that the transport never uses it for memory which is passed to the user without the user knowing about it. Wrapped
+ * memory is not pooled, and is delegated to an unpooled {@link BufferAllocator}.
+ */
+final class PooledBufferAllocator implements BufferAllocator {
+    private final PooledByteBufAllocator allocator;
+    private final BufferAllocator unpooled;
+    private final boolean preferDirect;
+
+    PooledBufferAllocator(boolean preferDirect) {
+        this.preferDirect = preferDirect;
+        allocator = new LeaseByteBufAllocator(preferDirect);
+        unpooled = preferDirect ? BufferUtils.PREFER_DIRECT_ALLOCATOR : BufferUtils.PREFER_HEAP_ALLOCATOR;
+    }
+
+    static boolean isLease(ByteBuf buffer) {
+        // Derived buffers (slices, duplicates, leak aware wrappers) report the allocator of the buffer they share
+        // the reference count with.
+        return buffer.alloc() instanceof LeaseByteBufAllocator;
+    }
+
+    @Override
+    public Buffer newBuffer(final int initialCapacity) {
+        return new NettyBuffer<>(allocator.buffer(initialCapacity));
+    }
+
+    @Override
+    public Buffer newBuffer(final int initialCapacity, final int maxCapacity) {
+        return new NettyBuffer<>(allocator.buffer(initialCapacity, maxCapacity));
+    }
+
+    @Override
+    public Buffer newBuffer(final int initialCapacity, final boolean direct) {
+        return new NettyBuffer<>(newByteBuf(initialCapacity, direct));
+    }
+
+    @Override
+    public CompositeBuffer newCompositeBuffer() {
+        return new NettyCompositeBuffer(allocator.compositeBuffer());
+    }
+
+    @Override
+    public CompositeBuffer newCompositeBuffer(final int maxComponents) {
+        return new NettyCompositeBuffer(allocator.compositeBuffer(maxComponents));
+    }
+
+    @Override
+    public Buffer fromSequence(final CharSequence data, final Charset charset) {
+        return fromSequence(data, charset, preferDirect);
+    }
+
+    @Override
+    public Buffer fromSequence(final CharSequence data, final Charset charset, final boolean direct) {
+        if (charset == US_ASCII) {
+            return fromAscii(data, direct);
+        }
+        if (charset == UTF_8) {
+            return fromUtf8(data, direct);
+        }
+        if (data.length() == 0) {
+            return EMPTY_BUFFER;
+        }
+        final byte[] bytes = data.toString().getBytes(charset);
+        return new NettyBuffer<>(newByteBuf(bytes.length, direct).writeBytes(bytes));
+    }
+
+    @Override
+    public Buffer fromUtf8(final CharSequence data) {
+        return fromUtf8(data, preferDirect);
+    }
+
+    @Override
+    public Buffer fromUtf8(final CharSequence data, final boolean direct) {
+        if (data.length() == 0) {
+            return EMPTY_BUFFER;
+        }
+        final int maxBytes = ByteBufUtil.utf8MaxBytes(data);
+        final ByteBuf buffer = newByteBuf(maxBytes, direct);
+        ByteBufUtil.reserveAndWriteUtf8(buffer, data, maxBytes);
+        return new NettyBuffer<>(buffer);
+    }
+
+    @Override
+    public Buffer fromAscii(final CharSequence data) {
+        return fromAscii(data, preferDirect);
+    }
+
+    @Override
+    public Buffer fromAscii(final CharSequence data, final boolean direct) {
+        if (data.length() == 0) {
+            return EMPTY_BUFFER;
+        }
+        final ByteBuf buffer = newByteBuf(data.length(), direct);
+        ByteBufUtil.writeAscii(buffer, data);
+        return new NettyBuffer<>(buffer);
+    }
+
+    @Override
+    public Buffer wrap(final byte[] bytes) {
+        return unpooled.wrap(bytes);
+    }
+
+    @Override
+    public Buffer wrap(final byte[] bytes, final int offset, final int len) {
+        return unpooled.wrap(bytes, offset, len);
+    }
+
+    @Override
+    public Buffer wrap(final ByteBuffer buffer) {
+        return unpooled.wrap(buffer);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{preferDirect=" + preferDirect + '}';
+    }
+
+    private ByteBuf newByteBuf(final int initialCapacity, final boolean direct) {
+        return direct ? allocator.directBuffer(initialCapacity) : allocator.heapBuffer(initialCapacity);
+    }
+
+    /**
+     * Marks the memory allocated by a {@link PooledBufferAllocator}, to distinguish leases from buffers whose
+     * reference count is owned by someone else.
+     */
+    private static final class LeaseByteBufAllocator extends PooledByteBufAllocator {
+        LeaseByteBufAllocator(final boolean preferDirect) {
+            super(preferDirect);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.CompositeBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.ResourceLeakDetector;
+import io.netty.util.ResourceLeakDetector.Level;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.api.EmptyBuffer.EMPTY_BUFFER;
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_DIRECT_POOLED_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferUtils.isLease;
+import static io.servicetalk.buffer.netty.BufferUtils.release;
+import static io.servicetalk.buffer.netty.BufferUtils.toByteBuf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class PooledBufferAllocatorTest {
+
+    private static final List<String> leaks = new CopyOnWriteArrayList<>();
+    @Nullable
+    private static Level previousLevel;
+
+    @BeforeAll
+    static void enableLeakDetection() {
+        // Reports every lease which is garbage collected without being released. The ByteBuf leak detector is created
+        // once, so its reports are recorded with a listener rather than a ResourceLeakDetectorFactory.
+        previousLevel = ResourceLeakDetector.getLevel();
+        ResourceLeakDetector.setLevel(Level.PARANOID);
+        ByteBufUtil.setLeakListener((resourceType, records) -> leaks.add(resourceType + ": " + records));
+    }
+
+    @AfterAll
+    static void restoreLeakDetection() {
+        ByteBufUtil.setLeakListener(null);
+        if (previousLevel != null) {
+            ResourceLeakDetector.setLevel(previousLevel);
+        }
+    }
+
+    @AfterEach
+    void noLeaks() throws InterruptedException {
+        collectLeaks();
+        assertThat(leaks, is(empty()));
+    }
+
+    @Test
+    void leakedLeaseIsReported() throws InterruptedException {
+        // Verifies that the leak detection of this test catches leases which are not released.
+        PREFER_DIRECT_POOLED_ALLOCATOR.fromAscii("leak");
+        for (int i = 0; i < 100 && leaks.isEmpty(); ++i) {
+            collectLeaks();
+        }
+        assertThat(leaks.isEmpty(), is(false));
+        leaks.clear();
+    }
+
+    @Test
+    void allocatedBuffersAreLeases() {
+        assertLease(PREFER_DIRECT_POOLED_ALLOCATOR.newBuffer(), true);
+        assertLease(PREFER_DIRECT_POOLED_ALLOCATOR.newBuffer(false), false);
+        assertLease(PREFER_DIRECT_POOLED_ALLOCATOR.newBuffer(16, 32), true);
+        assertLease(PREFER_DIRECT_POOLED_ALLOCATOR.fromAscii("test"), true);
+        assertLease(PREFER_DIRECT_POOLED_ALLOCATOR.fromAscii("test", false), false);
+        assertLease(PREFER_DIRECT_POOLED_ALLOCATOR.fromUtf8("t\u00e9st"), true);
+        assertLease(PREFER_DIRECT_POOLED_ALLOCATOR.fromUtf8("t\u00e9st", false), false);
+        assertLease(PREFER_DIRECT_POOLED_ALLOCATOR.fromSequence("t\u00e9st", StandardCharsets.UTF_16), true);
+        assertLease(PREFER_DIRECT_POOLED_ALLOCATOR.fromSequence("t\u00e9st", StandardCharsets.UTF_16, false), false);
+    }
+
+    @Test
+    void encodesContent() {
+        Buffer buffer = PREFER_DIRECT_POOLED_ALLOCATOR.fromUtf8("t\u00e9st");
+        assertThat(buffer.toString(StandardCharsets.UTF_8), equalTo("t\u00e9st"));
+        assertThat(release(buffer), is(true));
+
+        buffer = PREFER_DIRECT_POOLED_ALLOCATOR.fromSequence("t\u00e9st", StandardCharsets.UTF_16);
+        assertThat(buffer.toString(StandardCharsets.UTF_16), equalTo("t\u00e9st"));
+        assertThat(release(buffer), is(true));
+    }
+
+    @Test
+    void derivedBuffersShareTheLease() {
+        Buffer buffer = PREFER_DIRECT_POOLED_ALLOCATOR.fromAscii("test");
+        Buffer slice = buffer.readSlice(2);
+        assertThat(isLease(slice), is(true));
+        assertThat(isLease(buffer.duplicate()), is(true));
+        assertThat(release(slice), is(true));
+        assertThat(toByteBuf(buffer).refCnt(), is(0));
+    }
+
+    @Test
+    void compositeBufferReleasesComponents() {
+        Buffer component1 = PREFER_DIRECT_POOLED_ALLOCATOR.fromAscii("test1");
+        Buffer component2 = PREFER_DIRECT_POOLED_ALLOCATOR.fromAscii("test2");
+        CompositeBuffer composite = PREFER_DIRECT_POOLED_ALLOCATOR.newCompositeBuffer()
+                .addBuffer(component1)
+                .addBuffer(component2)
+                .addBuffer(DEFAULT_ALLOCATOR.fromAscii("test3"));
+        assertThat(isLease(composite), is(true));
+        assertThat(composite.toString(StandardCharsets.US_ASCII), equalTo("test1test2test3"));
+        assertThat(release(composite), is(true));
+        assertThat(toByteBuf(component1).refCnt(), is(0));
+        assertThat(toByteBuf(component2).refCnt(), is(0));
+    }
+
+    @Test
+    void unpooledBuffersAreNotLeases() {
+        assertNotLease(PREFER_DIRECT_POOLED_ALLOCATOR.wrap(new byte[] {1, 2, 3}));
+        assertNotLease(PREFER_DIRECT_POOLED_ALLOCATOR.fromAscii(""));
+        assertNotLease(DEFAULT_ALLOCATOR.fromAscii("test"));
+        assertNotLease(EMPTY_BUFFER);
+    }
+
+    private static void collectLeaks() throws InterruptedException {
+        System.gc();
+        Thread.sleep(10);
+        // Leaks of collected buffers are reported when the next buffer is tracked.
+        release(PREFER_DIRECT_POOLED_ALLOCATOR.fromAscii("track"));
+    }
+
+    private static void assertLease(Buffer buffer, boolean direct) {
+        assertThat(buffer.isDirect(), is(direct));
+        assertThat(isLease(buffer), is(true));
+        ByteBuf byteBuf = toByteBuf(buffer);
+        assertThat(byteBuf.refCnt(), is(1));
+        assertThat(release(buffer), is(true));
+        assertThat(byteBuf.refCnt(), is(0));
+    }
+
+    private static void assertNotLease(Buffer buffer) {
+        assertThat(isLease(buffer), is(false));
+        assertThat(release(buffer), is(false));
+    }
+}
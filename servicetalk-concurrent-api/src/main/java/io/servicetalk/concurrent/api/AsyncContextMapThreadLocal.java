@@ -1,5 +1,5 @@
 /*
- * Copyright © 2019, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2019, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,7 +24,7 @@ final class AsyncContextMapThreadLocal {
     static final ThreadLocal<ContextMap> CONTEXT_THREAD_LOCAL = withInitial(AsyncContextMapThreadLocal::newContextMap);
 
     private static ContextMap newContextMap() {
-        return new CopyOnWriteContextMap();
+        return DefaultAsyncContextProvider.INSTANCE.newContextMap();
     }
 
     ContextMap get() {
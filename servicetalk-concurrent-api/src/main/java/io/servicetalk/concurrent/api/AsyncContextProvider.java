@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018-2019, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018-2019, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -44,6 +44,13 @@ interface AsyncContextProvider {
      */
     ContextMap context();
 
+    /**
+     * Create a new empty {@link ContextMap} which is used when no context has been established for a thread yet.
+     *
+     * @return a new empty {@link ContextMap}.
+     */
+    ContextMap newContextMap();
+
     /**
      * Wrap the {@link Cancellable} to ensure it is able to track {@link AsyncContext} correctly.
      *
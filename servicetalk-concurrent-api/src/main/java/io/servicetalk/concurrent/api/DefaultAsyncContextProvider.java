@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018-2019, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018-2019, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,6 +32,13 @@ import java.util.function.Function;
 import javax.annotation.Nonnull;
 
 final class DefaultAsyncContextProvider implements AsyncContextProvider {
+    /**
+     * Selects the {@link ContextMap} implementation: {@code "copyOnWrite"} (default) is optimized for a small number of
+     * entries, {@code "persistent"} scales better for contexts with many entries.
+     */
+    private static final boolean PERSISTENT_CONTEXT_MAP = "persistent".equalsIgnoreCase(
+            System.getProperty("io.servicetalk.concurrent.api.asyncContextMap", "copyOnWrite"));
+
     static final AsyncContextProvider INSTANCE = new DefaultAsyncContextProvider();
 
     private static final AsyncContextMapThreadLocal CONTEXT_LOCAL = new AsyncContextMapThreadLocal();
@@ -46,6 +53,11 @@ final class DefaultAsyncContextProvider implements AsyncContextProvider {
         return CONTEXT_LOCAL.get();
     }
 
+    @Override
+    public ContextMap newContextMap() {
+        return PERSISTENT_CONTEXT_MAP ? new PersistentContextMap() : new CopyOnWriteContextMap();
+    }
+
     @Override
     public CompletableSource.Subscriber wrapCancellable(final CompletableSource.Subscriber subscriber,
                                                         final ContextMap context) {
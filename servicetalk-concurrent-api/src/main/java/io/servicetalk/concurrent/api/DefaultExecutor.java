@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -47,6 +47,7 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  */
 final class DefaultExecutor extends AbstractExecutor implements Consumer<Runnable> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultExecutor.class);
     private static final long DEFAULT_KEEP_ALIVE_TIME_SECONDS = 60;
     /**
      * We do not execute user code (potentially blocking/long running) on the scheduler thread and hence using a single
@@ -93,6 +94,11 @@ final class DefaultExecutor extends AbstractExecutor implements Consumer<Runnabl
         this(jdkExecutor, newScheduler(scheduler, interruptOnCancel), interruptOnCancel);
     }
 
+    DefaultExecutor(java.util.concurrent.Executor jdkExecutor, TimingWheel timingWheel) {
+        // Since we run blocking task, we should try interrupt when cancelled.
+        this(jdkExecutor, new TimingWheelScheduler(jdkExecutor, timingWheel), true);
+    }
+
     private DefaultExecutor(@Nullable java.util.concurrent.Executor jdkExecutor, @Nullable InternalScheduler scheduler,
                             boolean interruptOnCancel) {
         if (jdkExecutor == null) {
@@ -237,8 +243,6 @@ final class DefaultExecutor extends AbstractExecutor implements Consumer<Runnabl
 
     private static final class SingleThreadedScheduler implements InternalScheduler {
 
-        private static final Logger LOGGER = LoggerFactory.getLogger(SingleThreadedScheduler.class);
-
         private final java.util.concurrent.Executor offloadExecutor;
 
         SingleThreadedScheduler(final java.util.concurrent.Executor offloadExecutor) {
@@ -263,24 +267,7 @@ final class DefaultExecutor extends AbstractExecutor implements Consumer<Runnabl
             // When using the global scheduler, offload timer ticks to the user specified Executor since user code
             // executed on the timer tick can block.
             ScheduledFuture<?> future = GLOBAL_SINGLE_THREADED_SCHEDULED_EXECUTOR.schedule(
-                    () -> {
-                        try {
-                            offloadExecutor.execute(task);
-                        } catch (RejectedExecutionException e) {
-                            LOGGER.error("Executor {} rejected a scheduled task: {}. Fallback to executing the task " +
-                                            "on the current scheduler thread: {}",
-                                    offloadExecutor, task, Thread.currentThread().getName(), e);
-                            try {
-                                task.run();
-                            } catch (Throwable taskFailure) {
-                                LOGGER.error("Scheduled task {} threw an exception on the scheduler thread.",
-                                        task, taskFailure);
-                            }
-                        } catch (Throwable t) {
-                            LOGGER.error("Unexpected exception while offloading scheduled task: {} to executor: {}.",
-                                    task, offloadExecutor, t);
-                        }
-                    }, delay, unit);
+                    () -> offload(offloadExecutor, task), delay, unit);
             // Schedulers are only used to generate a tick and should not execute any user code (unless the
             // offloadExecutor throws). This means they will never run any blocking code and hence it does not matter
             // whether we use the interruptOnCancel as sent by the user upon creation in the scheduler. User code
@@ -289,4 +276,53 @@ final class DefaultExecutor extends AbstractExecutor implements Consumer<Runnabl
             return () -> future.cancel(true);
         }
     }
+
+    private static final class TimingWheelScheduler implements InternalScheduler {
+
+        private final java.util.concurrent.Executor offloadExecutor;
+        private final TimingWheel timingWheel;
+
+        TimingWheelScheduler(final java.util.concurrent.Executor offloadExecutor, final TimingWheel timingWheel) {
+            this.offloadExecutor = offloadExecutor;
+            this.timingWheel = timingWheel;
+        }
+
+        @Override
+        public String toString() {
+            return "TimingWheelScheduler{offload=Executor@" +
+                    Integer.toHexString(System.identityHashCode(offloadExecutor)) +
+                    ", timingWheel=" + timingWheel + '}';
+        }
+
+        @Override
+        public void close() {
+            // The timing wheel is shared and hence there is no clear lifetime, so, we ignore shutdown. It uses daemon
+            // threads, the threads will be shutdown on JVM shutdown.
+        }
+
+        @Override
+        public Cancellable schedule(final Runnable task, final long delay, final TimeUnit unit) {
+            // Tasks expire on the timing wheel threads, which must not run user code. Offload to the user specified
+            // Executor, same as SingleThreadedScheduler.
+            return timingWheel.schedule(() -> offload(offloadExecutor, task), delay, unit);
+        }
+    }
+
+    private static void offload(final java.util.concurrent.Executor offloadExecutor, final Runnable task) {
+        try {
+            offloadExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            LOGGER.error("Executor {} rejected a scheduled task: {}. Fallback to executing the task " +
+                            "on the current scheduler thread: {}",
+                    offloadExecutor, task, Thread.currentThread().getName(), e);
+            try {
+                task.run();
+            } catch (Throwable taskFailure) {
+                LOGGER.error("Scheduled task {} threw an exception on the scheduler thread.", task, taskFailure);
+            }
+        } catch (Throwable t) {
+            LOGGER.error("Unexpected exception while offloading scheduled task: {} to executor: {}.",
+                    task, offloadExecutor, t);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import java.util.concurrent.TimeUnit;
 
 import static io.servicetalk.concurrent.api.GlobalExecutor.GLOBAL_EXECUTOR;
 import static io.servicetalk.concurrent.api.ImmediateExecutor.IMMEDIATE_EXECUTOR;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Utility methods to create various {@link Executor}s.
@@ -111,6 +112,79 @@ public final class Executors {
                 new DefaultExecutor(1, Integer.MAX_VALUE, new SynchronousQueue<>(), threadFactory));
     }
 
+    /**
+     * Creates a new {@link Executor} that has a fixed number of worker threads as specified by the {@code workers},
+     * each with its own task queue.
+     * <p>
+     * Tasks submitted from the same thread are queued for the same worker, so that the signals offloaded from an I/O
+     * thread are usually executed by the same worker thread instead of contending on a single queue shared by all
+     * threads. Idle workers steal tasks queued for busy workers. At most {@code maxQueuedTasks} tasks are queued,
+     * {@link Executor#execute(Runnable)} throws a {@link java.util.concurrent.RejectedExecutionException} when this
+     * bound is reached. A cancelled task interrupts its thread.
+     * <p>
+     * Since the number of threads is fixed, this {@link Executor} is intended for offloading non-blocking (or briefly
+     * blocking) tasks, e.g. asynchronous streaming handlers. Long running tasks delay the other queued tasks once all
+     * workers are busy.
+     *
+     * @param workers Number of worker threads used by the newly created {@link Executor}.
+     * @param maxQueuedTasks Maximum number of tasks which are queued and not yet executing.
+     * @return A new {@link Executor}.
+     */
+    public static Executor newWorkStealingExecutor(int workers, int maxQueuedTasks) {
+        return newWorkStealingExecutor(workers, maxQueuedTasks, new DefaultThreadFactory());
+    }
+
+    /**
+     * Creates a new {@link Executor} that has a fixed number of worker threads as specified by the {@code workers},
+     * each with its own task queue.
+     *
+     * @param workers Number of worker threads used by the newly created {@link Executor}.
+     * @param maxQueuedTasks Maximum number of tasks which are queued and not yet executing.
+     * @param threadFactory {@link ThreadFactory} to use.
+     * @return A new {@link Executor}.
+     * @see #newWorkStealingExecutor(int, int)
+     */
+    public static Executor newWorkStealingExecutor(int workers, int maxQueuedTasks, ThreadFactory threadFactory) {
+        return EXECUTOR_PLUGINS.wrapExecutor(
+                new DefaultExecutor(new WorkStealingExecutor(workers, maxQueuedTasks, threadFactory)));
+    }
+
+    /**
+     * Creates a new {@link Executor} that starts a new virtual thread for each task, if virtual threads are supported
+     * by the running JVM (JDK 21+). Otherwise, it behaves like {@link #newCachedThreadExecutor()}.
+     * <p>
+     * Virtual threads are cheap to create and to block, which makes this {@link Executor} suitable for offloading many
+     * concurrent blocking handlers (e.g. {@code BlockingHttpService}). Tasks submitted to it are not queued and a
+     * cancelled task interrupts its thread. {@link AsyncContext} is propagated to
+     * the tasks like for any other {@link Executor} created by this class.
+     * <p>
+     * The {@link Executor} only decides where offloaded tasks run, what is offloaded is still decided by the execution
+     * strategy. Servers built with the default execution strategy already offload only the paths required by the
+     * programming model of each service or route, so configuring this {@link Executor} on the server builder (e.g.
+     * {@code HttpServerBuilder#executor(Executor)}) runs the blocking handlers on virtual threads while asynchronous
+     * services keep running on the event loop.
+     *
+     * @return A new {@link Executor}.
+     */
+    public static Executor newVirtualThreadExecutor() {
+        return newVirtualThreadExecutor(VirtualThreads.VIRTUAL_THREAD_NAME_PREFIX);
+    }
+
+    /**
+     * Creates a new {@link Executor} that starts a new virtual thread for each task, if virtual threads are supported
+     * by the running JVM (JDK 21+). Otherwise, it behaves like {@link #newCachedThreadExecutor(ThreadFactory)} with a
+     * {@link DefaultThreadFactory} using the same name prefix.
+     *
+     * @param threadNamePrefix prefix of the names of the created threads, followed by a sequence number.
+     * @return A new {@link Executor}.
+     * @see #newVirtualThreadExecutor()
+     */
+    public static Executor newVirtualThreadExecutor(String threadNamePrefix) {
+        requireNonNull(threadNamePrefix);
+        return VirtualThreads.isAvailable() ? from(VirtualThreads.newThreadPerTaskExecutor(threadNamePrefix)) :
+                newCachedThreadExecutor(new DefaultThreadFactory(threadNamePrefix));
+    }
+
     /**
      * Creates a new {@link Executor} from the provided {@code jdkExecutor}. <p>
      * Delayed task execution will be delegated to a global scheduler, unless passed
@@ -132,6 +206,29 @@ public final class Executors {
         return EXECUTOR_PLUGINS.wrapExecutor(new DefaultExecutor(jdkExecutor));
     }
 
+    /**
+     * Creates a new {@link Executor} from the provided {@code jdkExecutor} which uses a global hierarchical timing
+     * wheel to schedule delayed tasks.<p>
+     * Scheduling and cancelling a delayed task take constant time and don't contend on a single lock, which makes it a
+     * good fit for timeouts which are scheduled from many threads and are usually cancelled before they expire. Delayed
+     * tasks expire with a precision of one millisecond.<p>
+     * Task execution will not honor cancellations unless passed {@link java.util.concurrent.Executor}
+     * is an instance of {@link ExecutorService}.
+     * <p><strong>Long running tasks</strong></p>
+     * {@link java.util.concurrent.Executor} implementations are expected to run long running (blocking) tasks which may
+     * depend on other tasks submitted to the same {@link java.util.concurrent.Executor} instance.
+     * In order to avoid deadlocks, it is generally a good idea to not allow task queuing in the
+     * {@link java.util.concurrent.Executor}.
+     *
+     * @param jdkExecutor {@link java.util.concurrent.Executor} to use for executing tasks.
+     * The lifetime of this object is transferred to the return value. In other words {@link Executor#closeAsync()} will
+     * call {@link ExecutorService#shutdown()} (if possible).
+     * @return {@link Executor} that wraps the passed {@code jdkExecutor}.
+     */
+    public static Executor withTimingWheelScheduler(java.util.concurrent.Executor jdkExecutor) {
+        return EXECUTOR_PLUGINS.wrapExecutor(new DefaultExecutor(jdkExecutor, TimingWheel.GLOBAL));
+    }
+
     /**
      * Creates a new {@link Executor} from the provided {@link ExecutorService}. <p>
      * Delayed task execution will be delegated to a global scheduler, unless passed {@link ExecutorService}
@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.concurrent.internal.ConcurrentSubscription;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.concurrent.internal.SubscriberUtils.checkDuplicateSubscription;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * As returned from {@link Publisher#map(Function)}, {@link Publisher#filter(Predicate)} and
+ * {@link Publisher#beforeOnNext(Consumer)}.
+ * <p>
+ * These operators are synchronous and stateless, so consecutive operators are fused when the chain is assembled: the
+ * returned {@link Publisher} subscribes to the source of the chain with a single {@link Subscriber} which applies all
+ * stages in order, instead of a {@link Subscriber} per operator.
+ *
+ * @param <T> Type of items emitted by the source {@link Publisher}.
+ * @param <R> Type of items emitted by this {@link Publisher}.
+ */
+final class FusedOnNextPublisher<T, R> extends AbstractSynchronousPublisherOperator<T, R> {
+    /**
+     * Returned by a {@link Stage} to drop the item.
+     */
+    private static final Object FILTERED = new Object();
+
+    private final Publisher<T> source;
+    private final Stage[] stages;
+    private final boolean filters;
+
+    private FusedOnNextPublisher(final Publisher<T> source, final Stage[] stages, final boolean filters) {
+        super(source);
+        this.source = source;
+        this.stages = stages;
+        this.filters = filters;
+    }
+
+    static <T, R> Publisher<R> map(final Publisher<T> source, final Function<? super T, ? extends R> mapper) {
+        return fuse(source, new MapStage(mapper), false);
+    }
+
+    static <T> Publisher<T> filter(final Publisher<T> source, final Predicate<? super T> predicate) {
+        return fuse(source, new FilterStage(predicate), true);
+    }
+
+    static <T> Publisher<T> beforeOnNext(final Publisher<T> source, final Consumer<? super T> onNext) {
+        return fuse(source, new BeforeOnNextStage(onNext), false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> Publisher<R> fuse(final Publisher<T> source, final Stage stage, final boolean filter) {
+        if (source instanceof FusedOnNextPublisher) {
+            final FusedOnNextPublisher<Object, T> fused = (FusedOnNextPublisher<Object, T>) source;
+            final Stage[] stages = Arrays.copyOf(fused.stages, fused.stages.length + 1);
+            stages[fused.stages.length] = stage;
+            return new FusedOnNextPublisher<>(fused.source, stages, fused.filters || filter);
+        }
+        return new FusedOnNextPublisher<>(source, new Stage[] {stage}, filter);
+    }
+
+    @Override
+    public Subscriber<? super T> apply(final Subscriber<? super R> subscriber) {
+        return filters ? new FilteringSubscriber<>(subscriber, stages) : new FusedSubscriber<>(subscriber, stages);
+    }
+
+    private static class FusedSubscriber<T, R> implements Subscriber<T> {
+        final Subscriber<? super R> subscriber;
+        private final Stage[] stages;
+
+        FusedSubscriber(final Subscriber<? super R> subscriber, final Stage[] stages) {
+            this.subscriber = requireNonNull(subscriber);
+            this.stages = stages;
+        }
+
+        @Override
+        public void onSubscribe(final Subscription s) {
+            subscriber.onSubscribe(s);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public final void onNext(@Nullable final T t) {
+            // If a stage throws we just propagate it to the caller which is responsible to terminate its subscriber
+            // and cancel the subscription.
+            Object item = t;
+            for (Stage stage : stages) {
+                item = stage.apply(item);
+                if (item == FILTERED) {
+                    filtered();
+                    return;
+                }
+            }
+            subscriber.onNext((R) item);
+        }
+
+        void filtered() {
+            // Only filter stages drop items, and chains with filter stages use FilteringSubscriber.
+            throw new IllegalStateException("No filter stage in " + Arrays.toString(stages));
+        }
+
+        @Override
+        public final void onError(final Throwable t) {
+            subscriber.onError(t);
+        }
+
+        @Override
+        public final void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+
+    private static final class FilteringSubscriber<T, R> extends FusedSubscriber<T, R> {
+        @Nullable
+        private Subscription subscription;
+
+        FilteringSubscriber(final Subscriber<? super R> subscriber, final Stage[] stages) {
+            super(subscriber, stages);
+        }
+
+        @Override
+        public void onSubscribe(final Subscription s) {
+            if (checkDuplicateSubscription(subscription, s)) {
+                subscription = ConcurrentSubscription.wrap(s);
+                subscriber.onSubscribe(subscription);
+            }
+        }
+
+        @Override
+        void filtered() {
+            assert subscription != null;
+            subscription.request(1); // Since we filtered one item.
+        }
+    }
+
+    private abstract static class Stage {
+        @Nullable
+        abstract Object apply(@Nullable Object item);
+    }
+
+    private static final class MapStage extends Stage {
+        private final Function<Object, Object> mapper;
+
+        @SuppressWarnings("unchecked")
+        MapStage(final Function<?, ?> mapper) {
+            this.mapper = (Function<Object, Object>) requireNonNull(mapper);
+        }
+
+        @Nullable
+        @Override
+        Object apply(@Nullable final Object item) {
+            return mapper.apply(item);
+        }
+
+        @Override
+        public String toString() {
+            return "map(" + mapper + ')';
+        }
+    }
+
+    private static final class FilterStage extends Stage {
+        private final Predicate<Object> predicate;
+
+        @SuppressWarnings("unchecked")
+        FilterStage(final Predicate<?> predicate) {
+            this.predicate = (Predicate<Object>) requireNonNull(predicate);
+        }
+
+        @Nullable
+        @Override
+        Object apply(@Nullable final Object item) {
+            return predicate.test(item) ? item : FILTERED;
+        }
+
+        @Override
+        public String toString() {
+            return "filter(" + predicate + ')';
+        }
+    }
+
+    private static final class BeforeOnNextStage extends Stage {
+        private final Consumer<Object> onNext;
+
+        @SuppressWarnings("unchecked")
+        BeforeOnNextStage(final Consumer<?> onNext) {
+            this.onNext = (Consumer<Object>) requireNonNull(onNext);
+        }
+
+        @Nullable
+        @Override
+        Object apply(@Nullable final Object item) {
+            onNext.accept(item);
+            return item;
+        }
+
+        @Override
+        public String toString() {
+            return "beforeOnNext(" + onNext + ')';
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2019, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2019, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,6 +46,11 @@ final class NoopAsyncContextProvider implements AsyncContextProvider {
         return NoopContextMap.INSTANCE;
     }
 
+    @Override
+    public ContextMap newContextMap() {
+        return NoopContextMap.INSTANCE;
+    }
+
     @Override
     public CompletableSource.Subscriber wrapCancellable(final CompletableSource.Subscriber subscriber,
                                                         final ContextMap context) {
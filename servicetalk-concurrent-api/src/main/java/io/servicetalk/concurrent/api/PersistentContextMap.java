@@ -0,0 +1,583 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.concurrent.internal.ContextMapUtils;
+import io.servicetalk.context.api.ContextMap;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.concurrent.internal.ContextMapUtils.ensureType;
+import static java.lang.Integer.bitCount;
+import static java.lang.System.arraycopy;
+
+/**
+ * A {@link ContextMap} backed by a persistent (immutable) hash array mapped trie.
+ * <p>
+ * Modifications copy only the path from the root to the modified entry and share the rest of the trie, so a
+ * {@link #put(Key, Object)} allocates {@code O(log32(n))} small nodes instead of copying all entries like
+ * {@link CopyOnWriteContextMap} does. {@link #copy()} shares the current root and is {@code O(1)} regardless of the
+ * number of entries. This favors contexts with a large number of entries, for smaller contexts
+ * {@link CopyOnWriteContextMap} is usually faster.
+ */
+final class PersistentContextMap implements ContextMap {
+    private static final AtomicReferenceFieldUpdater<PersistentContextMap, Node> rootUpdater =
+            AtomicReferenceFieldUpdater.newUpdater(PersistentContextMap.class, Node.class, "root");
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final Object NOT_FOUND = new Object();
+
+    private volatile Node root;
+
+    PersistentContextMap() {
+        this(BitmapNode.EMPTY);
+    }
+
+    private PersistentContextMap(final Node root) {
+        this.root = root;
+    }
+
+    @Override
+    public int size() {
+        return root.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root.size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Key<?> key) {
+        return root.find(0, key.hashCode(), key) != NOT_FOUND;
+    }
+
+    @Override
+    public boolean containsValue(@Nullable final Object value) {
+        return root.forEach((k, v) -> !Objects.equals(value, v)) != null;
+    }
+
+    @Override
+    public <T> boolean contains(final Key<T> key, @Nullable final T value) {
+        final Object current = root.find(0, key.hashCode(), key);
+        return current != NOT_FOUND && Objects.equals(value, current);
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Key<T> key) {
+        final Object current = root.find(0, key.hashCode(), key);
+        return current == NOT_FOUND ? null : (T) current;
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getOrDefault(final Key<T> key, final T defaultValue) {
+        final Object current = root.find(0, key.hashCode(), key);
+        return current == NOT_FOUND ? defaultValue : (T) current;
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T put(final Key<T> key, @Nullable final T value) {
+        final int hash = key.hashCode();
+        for (;;) {
+            final Node root = this.root;
+            final Object prev = root.find(0, hash, key);
+            if (rootUpdater.compareAndSet(this, root, root.put(0, hash, key, value))) {
+                return prev == NOT_FOUND ? null : (T) prev;
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T putIfAbsent(final Key<T> key, @Nullable final T value) {
+        final int hash = key.hashCode();
+        for (;;) {
+            final Node root = this.root;
+            final Object prev = root.find(0, hash, key);
+            if (prev != NOT_FOUND && prev != null) {
+                return (T) prev;
+            }
+            if (rootUpdater.compareAndSet(this, root, root.put(0, hash, key, value))) {
+                return null;
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T computeIfAbsent(final Key<T> key, final Function<Key<T>, T> computeFunction) {
+        final int hash = key.hashCode();
+        for (;;) {
+            final Node root = this.root;
+            final Object prev = root.find(0, hash, key);
+            if (prev != NOT_FOUND && prev != null) {
+                return (T) prev;
+            }
+            final T value = computeFunction.apply(key);
+            if (rootUpdater.compareAndSet(this, root, root.put(0, hash, key, value))) {
+                return value;
+            }
+        }
+    }
+
+    @Override
+    public void putAll(final ContextMap map) {
+        if (map.isEmpty()) {
+            return;
+        }
+        for (;;) {
+            final Node root = this.root;
+            final PutAllBuilder builder = new PutAllBuilder(root);
+            map.forEach(builder);
+            if (rootUpdater.compareAndSet(this, root, builder.root)) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void putAll(final Map<Key<?>, Object> map) {
+        if (map.isEmpty()) {
+            return;
+        }
+        for (;;) {
+            final Node root = this.root;
+            final PutAllBuilder builder = new PutAllBuilder(root);
+            map.forEach(builder);
+            if (rootUpdater.compareAndSet(this, root, builder.root)) {
+                break;
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T remove(final Key<T> key) {
+        final int hash = key.hashCode();
+        for (;;) {
+            final Node root = this.root;
+            final Object prev = root.find(0, hash, key);
+            if (prev == NOT_FOUND) {
+                return null;
+            }
+            if (rootUpdater.compareAndSet(this, root, root.remove(0, hash, key))) {
+                return (T) prev;
+            }
+        }
+    }
+
+    @Override
+    public boolean removeAll(final Iterable<Key<?>> keys) {
+        for (;;) {
+            final Node root = this.root;
+            Node newRoot = root;
+            for (Key<?> key : keys) {
+                final int hash = key.hashCode();
+                if (newRoot.find(0, hash, key) != NOT_FOUND) {
+                    newRoot = newRoot.remove(0, hash, key);
+                }
+            }
+            if (newRoot == root) {
+                return false;
+            }
+            if (rootUpdater.compareAndSet(this, root, newRoot)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        root = BitmapNode.EMPTY;
+    }
+
+    @Nullable
+    @Override
+    public Key<?> forEach(final BiPredicate<Key<?>, Object> consumer) {
+        return root.forEach(consumer);
+    }
+
+    @Override
+    public ContextMap copy() {
+        return new PersistentContextMap(root);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContextMap)) {
+            return false;
+        }
+        if (o instanceof PersistentContextMap && root == ((PersistentContextMap) o).root) {
+            return true;
+        }
+        return ContextMapUtils.equals(this, (ContextMap) o);
+    }
+
+    @Override
+    public int hashCode() {
+        return root.entriesHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return ContextMapUtils.toString(this);
+    }
+
+    private static int bitpos(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Object[] cloneAndSet(final Object[] array, final int i, @Nullable final Object value) {
+        final Object[] clone = array.clone();
+        clone[i] = value;
+        return clone;
+    }
+
+    private static Node newNode(final int shift, final Key<?> key1, @Nullable final Object value1, final int hash1,
+                                final Key<?> key2, @Nullable final Object value2, final int hash2) {
+        if (hash1 == hash2) {
+            return new CollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+        }
+        final int bit1 = bitpos(hash1, shift);
+        final int bit2 = bitpos(hash2, shift);
+        if (bit1 == bit2) {
+            return new BitmapNode(2, bit1,
+                    new Object[] {null, newNode(shift + BITS, key1, value1, hash1, key2, value2, hash2)});
+        }
+        // Entries are ordered by their bit position, compare positions because the top bit makes the mask negative.
+        return ((hash1 >>> shift) & MASK) < ((hash2 >>> shift) & MASK) ?
+                new BitmapNode(2, bit1 | bit2, new Object[] {key1, value1, key2, value2}) :
+                new BitmapNode(2, bit1 | bit2, new Object[] {key2, value2, key1, value1});
+    }
+
+    /**
+     * An immutable node of the trie. Each node knows the number of entries in its subtree, so that {@link #size()}
+     * doesn't require a traversal.
+     */
+    private abstract static class Node {
+        final int size;
+
+        Node(final int size) {
+            this.size = size;
+        }
+
+        /**
+         * Find the value associated with the {@code key}.
+         *
+         * @return the value associated with the {@code key} or {@link #NOT_FOUND}.
+         */
+        @Nullable
+        abstract Object find(int shift, int hash, Key<?> key);
+
+        /**
+         * Put or replace an entry.
+         *
+         * @return a new {@link Node} which contains the entry.
+         */
+        abstract Node put(int shift, int hash, Key<?> key, @Nullable Object value);
+
+        /**
+         * Remove an entry which is known to be present in this {@link Node}.
+         *
+         * @return a new {@link Node} without the entry.
+         */
+        abstract Node remove(int shift, int hash, Key<?> key);
+
+        /**
+         * The key of the only entry, only valid if {@link #size} is {@code 1}.
+         */
+        abstract Key<?> singleKey();
+
+        /**
+         * The value of the only entry, only valid if {@link #size} is {@code 1}.
+         */
+        @Nullable
+        abstract Object singleValue();
+
+        @Nullable
+        abstract Key<?> forEach(BiPredicate<Key<?>, Object> consumer);
+
+        /**
+         * Same as {@link Map#hashCode()}, the sum of hash codes of all entries.
+         */
+        abstract int entriesHashCode();
+    }
+
+    /**
+     * A node which uses a 32 bit bitmap to compact up to 32 slots. Each slot is a pair of array elements, either
+     * {@code [key, value]} or {@code [null, Node]} for a sub-trie.
+     */
+    private static final class BitmapNode extends Node {
+        static final Node EMPTY = new BitmapNode(0, 0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] array;
+
+        BitmapNode(final int size, final int bitmap, final Object[] array) {
+            super(size);
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int index(final int bit) {
+            return bitCount(bitmap & (bit - 1)) << 1;
+        }
+
+        @Nullable
+        @Override
+        Object find(final int shift, final int hash, final Key<?> key) {
+            final int bit = bitpos(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            final int i = index(bit);
+            final Object k = array[i];
+            if (k == null) {
+                return ((Node) array[i + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? array[i + 1] : NOT_FOUND;
+        }
+
+        @Override
+        Node put(final int shift, final int hash, final Key<?> key, @Nullable final Object value) {
+            final int bit = bitpos(hash, shift);
+            final int i = index(bit);
+            if ((bitmap & bit) == 0) {
+                final Object[] newArray = new Object[array.length + 2];
+                arraycopy(array, 0, newArray, 0, i);
+                newArray[i] = key;
+                newArray[i + 1] = value;
+                arraycopy(array, i, newArray, i + 2, array.length - i);
+                return new BitmapNode(size + 1, bitmap | bit, newArray);
+            }
+            final Object k = array[i];
+            final Object v = array[i + 1];
+            if (k == null) {
+                final Node child = (Node) v;
+                final Node newChild = child.put(shift + BITS, hash, key, value);
+                return new BitmapNode(size + newChild.size - child.size, bitmap, cloneAndSet(array, i + 1, newChild));
+            }
+            if (key.equals(k)) {
+                return v == value ? this : new BitmapNode(size, bitmap, cloneAndSet(array, i + 1, value));
+            }
+            final Object[] newArray = array.clone();
+            newArray[i] = null;
+            newArray[i + 1] = newNode(shift + BITS, (Key<?>) k, v, k.hashCode(), key, value, hash);
+            return new BitmapNode(size + 1, bitmap, newArray);
+        }
+
+        @Override
+        Node remove(final int shift, final int hash, final Key<?> key) {
+            final int bit = bitpos(hash, shift);
+            assert (bitmap & bit) != 0;
+            final int i = index(bit);
+            if (array[i] == null) {
+                final Node newChild = ((Node) array[i + 1]).remove(shift + BITS, hash, key);
+                final Object[] newArray = array.clone();
+                if (newChild.size == 1) {
+                    // Pull the last entry up, so that sub-tries always hold at least two entries.
+                    newArray[i] = newChild.singleKey();
+                    newArray[i + 1] = newChild.singleValue();
+                } else {
+                    newArray[i + 1] = newChild;
+                }
+                return new BitmapNode(size - 1, bitmap, newArray);
+            }
+            assert key.equals(array[i]);
+            if (size == 1) {
+                return EMPTY;
+            }
+            final Object[] newArray = new Object[array.length - 2];
+            arraycopy(array, 0, newArray, 0, i);
+            arraycopy(array, i + 2, newArray, i, array.length - i - 2);
+            return new BitmapNode(size - 1, bitmap ^ bit, newArray);
+        }
+
+        @Override
+        Key<?> singleKey() {
+            assert size == 1 && array.length == 2;
+            return (Key<?>) array[0];
+        }
+
+        @Nullable
+        @Override
+        Object singleValue() {
+            assert size == 1 && array.length == 2;
+            return array[1];
+        }
+
+        @Nullable
+        @Override
+        Key<?> forEach(final BiPredicate<Key<?>, Object> consumer) {
+            for (int i = 0; i < array.length; i += 2) {
+                final Object k = array[i];
+                if (k == null) {
+                    final Key<?> stopped = ((Node) array[i + 1]).forEach(consumer);
+                    if (stopped != null) {
+                        return stopped;
+                    }
+                } else if (!consumer.test((Key<?>) k, array[i + 1])) {
+                    return (Key<?>) k;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        int entriesHashCode() {
+            int hashCode = 0;
+            for (int i = 0; i < array.length; i += 2) {
+                final Object k = array[i];
+                hashCode += k == null ? ((Node) array[i + 1]).entriesHashCode() :
+                        k.hashCode() ^ Objects.hashCode(array[i + 1]);
+            }
+            return hashCode;
+        }
+    }
+
+    /**
+     * A node for keys which have the same {@link Key#hashCode()}, entries are stored as {@code [key, value]} pairs.
+     */
+    private static final class CollisionNode extends Node {
+        private final int hash;
+        private final Object[] pairs;
+
+        CollisionNode(final int hash, final Object[] pairs) {
+            super(pairs.length >>> 1);
+            this.hash = hash;
+            this.pairs = pairs;
+        }
+
+        private int findIndex(final Key<?> key) {
+            for (int i = 0; i < pairs.length; i += 2) {
+                if (key.equals(pairs[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Nullable
+        @Override
+        Object find(final int shift, final int hash, final Key<?> key) {
+            if (hash != this.hash) {
+                return NOT_FOUND;
+            }
+            final int i = findIndex(key);
+            return i < 0 ? NOT_FOUND : pairs[i + 1];
+        }
+
+        @Override
+        Node put(final int shift, final int hash, final Key<?> key, @Nullable final Object value) {
+            if (hash != this.hash) {
+                // Nest this node in a BitmapNode at the current level, which can then distinguish both hashes.
+                return new BitmapNode(size, bitpos(this.hash, shift), new Object[] {null, this})
+                        .put(shift, hash, key, value);
+            }
+            final int i = findIndex(key);
+            if (i >= 0) {
+                return pairs[i + 1] == value ? this : new CollisionNode(hash, cloneAndSet(pairs, i + 1, value));
+            }
+            final Object[] newPairs = new Object[pairs.length + 2];
+            arraycopy(pairs, 0, newPairs, 0, pairs.length);
+            newPairs[pairs.length] = key;
+            newPairs[pairs.length + 1] = value;
+            return new CollisionNode(hash, newPairs);
+        }
+
+        @Override
+        Node remove(final int shift, final int hash, final Key<?> key) {
+            final int i = findIndex(key);
+            assert i >= 0;
+            final Object[] newPairs = new Object[pairs.length - 2];
+            arraycopy(pairs, 0, newPairs, 0, i);
+            arraycopy(pairs, i + 2, newPairs, i, pairs.length - i - 2);
+            return new CollisionNode(hash, newPairs);
+        }
+
+        @Override
+        Key<?> singleKey() {
+            assert size == 1;
+            return (Key<?>) pairs[0];
+        }
+
+        @Nullable
+        @Override
+        Object singleValue() {
+            assert size == 1;
+            return pairs[1];
+        }
+
+        @Nullable
+        @Override
+        Key<?> forEach(final BiPredicate<Key<?>, Object> consumer) {
+            for (int i = 0; i < pairs.length; i += 2) {
+                final Key<?> key = (Key<?>) pairs[i];
+                if (!consumer.test(key, pairs[i + 1])) {
+                    return key;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        int entriesHashCode() {
+            int hashCode = 0;
+            for (int i = 0; i < pairs.length; i += 2) {
+                hashCode += pairs[i].hashCode() ^ Objects.hashCode(pairs[i + 1]);
+            }
+            return hashCode;
+        }
+    }
+
+    private static final class PutAllBuilder implements BiConsumer<Key<?>, Object>, BiPredicate<Key<?>, Object> {
+        Node root;
+
+        PutAllBuilder(final Node root) {
+            this.root = root;
+        }
+
+        @Override
+        public void accept(final Key<?> key, @Nullable final Object value) {
+            ensureType(key, value);
+            test(key, value);
+        }
+
+        @Override
+        public boolean test(final Key<?> key, @Nullable final Object value) {
+            root = root.put(0, key.hashCode(), key, value);
+            return true;
+        }
+    }
+}
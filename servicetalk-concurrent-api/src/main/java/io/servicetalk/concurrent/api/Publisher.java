@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018-2022 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018-2022, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -123,7 +123,7 @@ public abstract class Publisher<T> {
      * @see <a href="https://reactivex.io/documentation/operators/map.html">ReactiveX map operator.</a>
      */
     public final <R> Publisher<R> map(Function<? super T, ? extends R> mapper) {
-        return new MapPublisher<>(this, mapper);
+        return FusedOnNextPublisher.map(this, mapper);
     }
 
     /**
@@ -166,7 +166,7 @@ public abstract class Publisher<T> {
      * @see <a href="https://reactivex.io/documentation/operators/filter.html">ReactiveX filter operator.</a>
      */
     public final Publisher<T> filter(Predicate<? super T> predicate) {
-        return filter(() -> predicate);
+        return FusedOnNextPublisher.filter(this, predicate);
     }
 
     /**
@@ -3399,7 +3399,7 @@ Kotlin flatMapLatest</a>
      * @see <a href="https://reactivex.io/documentation/operators/do.html">ReactiveX do operator.</a>
      */
     public final Publisher<T> beforeOnNext(Consumer<? super T> onNext) {
-        return beforeSubscriber(doOnNextSupplier(onNext));
+        return FusedOnNextPublisher.beforeOnNext(this, onNext);
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018-2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018-2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -98,6 +98,13 @@ public abstract class Single<T> {
      * @return A new {@link Single} that will now have the result of type {@link R}.
      */
     public final <R> Single<R> map(Function<? super T, ? extends R> mapper) {
+        // The result of a succeeded Single is known at assembly, map it without wrapping the Subscriber.
+        if (this instanceof SucceededSingle) {
+            return ((SucceededSingle<T>) this).mapValue(mapper);
+        }
+        if (this instanceof SucceededMapSingle) {
+            return ((SucceededMapSingle<?, T>) this).mapValue(mapper);
+        }
         return new MapSingle<>(this, mapper);
     }
 
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.concurrent.Cancellable.IGNORE_CANCEL;
+import static io.servicetalk.concurrent.internal.SubscriberUtils.handleExceptionFromOnSubscribe;
+import static io.servicetalk.concurrent.internal.SubscriberUtils.safeOnError;
+import static io.servicetalk.concurrent.internal.SubscriberUtils.safeOnSuccess;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * As returned from {@link Single#map(Function)} on a {@link Single#succeeded(Object)}.
+ * <p>
+ * The result is known when the chain is assembled, so consecutive mappers are composed and applied when subscribed,
+ * instead of wrapping the {@link Subscriber} for each operator.
+ *
+ * @param <T> Type of the result of the {@link Single#succeeded(Object)}.
+ * @param <R> Type of the result of this {@link Single}.
+ */
+final class SucceededMapSingle<T, R> extends AbstractSynchronousSingle<R> {
+    @Nullable
+    private final T value;
+    private final Function<? super T, ? extends R> mapper;
+
+    SucceededMapSingle(@Nullable final T value, final Function<? super T, ? extends R> mapper) {
+        this.value = value;
+        this.mapper = requireNonNull(mapper);
+    }
+
+    <V> Single<V> mapValue(final Function<? super R, ? extends V> next) {
+        requireNonNull(next);
+        return new SucceededMapSingle<T, V>(value, t -> next.apply(mapper.apply(t)));
+    }
+
+    @Override
+    void doSubscribe(final Subscriber<? super R> subscriber) {
+        try {
+            subscriber.onSubscribe(IGNORE_CANCEL);
+        } catch (Throwable t) {
+            handleExceptionFromOnSubscribe(subscriber, t);
+            return;
+        }
+        final R mappedResult;
+        try {
+            mappedResult = mapper.apply(value);
+        } catch (Throwable cause) {
+            safeOnError(subscriber, cause);
+            return;
+        }
+        safeOnSuccess(subscriber, mappedResult);
+    }
+}
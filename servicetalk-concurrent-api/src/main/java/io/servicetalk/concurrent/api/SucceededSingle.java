@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package io.servicetalk.concurrent.api;
 
+import java.util.function.Function;
 import javax.annotation.Nullable;
 
 import static io.servicetalk.concurrent.internal.SubscriberUtils.deliverSuccessFromSource;
@@ -27,6 +28,10 @@ final class SucceededSingle<T> extends AbstractSynchronousSingle<T> {
         this.value = value;
     }
 
+    <R> Single<R> mapValue(final Function<? super T, ? extends R> mapper) {
+        return new SucceededMapSingle<>(value, mapper);
+    }
+
     @Override
     void doSubscribe(final Subscriber<? super T> subscriber) {
         deliverSuccessFromSource(subscriber, value);
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018-2019, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018-2019, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -87,10 +87,18 @@ abstract class TaskBasedAsyncPublisherOperator<T> extends AbstractNoHandleSubscr
 
     /**
      * Offloads the {@link io.servicetalk.concurrent.PublisherSource.Subscriber} methods.
+     * <p>
+     * Signals are queued and a single task, which is this object, delivers all the queued signals. The task is only
+     * submitted to the {@link io.servicetalk.concurrent.Executor} if it isn't already enqueued or executing, so a
+     * burst of signals costs a single submission. The {@code io.servicetalk.concurrent.api.offloadMaxBatchSize}
+     * system property limits the number of signals which are delivered by one execution of the task, the task is
+     * submitted again to deliver the remaining signals. This lets other tasks use the thread in between batches of a
+     * long stream. By default, all queued signals are delivered by one execution.
      *
      * @param <T> type of items
      */
-    static final class OffloadedSubscriber<T> implements Subscriber<T> {
+    static final class OffloadedSubscriber<T> implements Subscriber<T>, Runnable {
+        private static final int DEFAULT_MAX_BATCH_SIZE = maxBatchSize();
         private static final int STATE_IDLE = 0;
         private static final int STATE_ENQUEUED = 1;
         private static final int STATE_EXECUTING = 2;
@@ -106,6 +114,7 @@ abstract class TaskBasedAsyncPublisherOperator<T> extends AbstractNoHandleSubscr
         private final BooleanSupplier shouldOffload;
         private final io.servicetalk.concurrent.Executor executor;
         private final Queue<Object> signals;
+        private final int maxBatchSize;
         // Set in onSubscribe before we enqueue the task which provides memory visibility inside the task.
         // Since any further action happens after onSubscribe, we always guarantee visibility of this field inside
         // run()
@@ -123,11 +132,43 @@ abstract class TaskBasedAsyncPublisherOperator<T> extends AbstractNoHandleSubscr
                             final BooleanSupplier shouldOffload,
                             final io.servicetalk.concurrent.Executor executor,
                             final int publisherSignalQueueInitialCapacity) {
+            this(target, shouldOffload, executor, publisherSignalQueueInitialCapacity, DEFAULT_MAX_BATCH_SIZE);
+        }
+
+        OffloadedSubscriber(final Subscriber<? super T> target,
+                            final BooleanSupplier shouldOffload,
+                            final io.servicetalk.concurrent.Executor executor,
+                            final int publisherSignalQueueInitialCapacity,
+                            final int maxBatchSize) {
+            // Queue is bounded by request-n
+            this(target, shouldOffload, executor, newUnboundedSpscQueue(publisherSignalQueueInitialCapacity),
+                    maxBatchSize);
+        }
+
+        OffloadedSubscriber(final Subscriber<? super T> target,
+                            final BooleanSupplier shouldOffload,
+                            final io.servicetalk.concurrent.Executor executor,
+                            final Queue<Object> signals,
+                            final int maxBatchSize) {
+            if (maxBatchSize <= 0) {
+                throw new IllegalArgumentException("maxBatchSize: " + maxBatchSize + " (expected >0)");
+            }
             this.target = target;
             this.shouldOffload = shouldOffload;
             this.executor = executor;
-            // Queue is bounded by request-n
-            signals = newUnboundedSpscQueue(publisherSignalQueueInitialCapacity);
+            this.maxBatchSize = maxBatchSize;
+            this.signals = signals;
+        }
+
+        private static int maxBatchSize() {
+            final int maxBatchSize = Integer.getInteger("io.servicetalk.concurrent.api.offloadMaxBatchSize",
+                    Integer.MAX_VALUE);
+            if (maxBatchSize <= 0) {
+                LOGGER.warn("Ignoring invalid io.servicetalk.concurrent.api.offloadMaxBatchSize: {} (expected >0).",
+                        maxBatchSize);
+                return Integer.MAX_VALUE;
+            }
+            return maxBatchSize;
         }
 
         private boolean shouldOffload() {
@@ -167,8 +208,10 @@ abstract class TaskBasedAsyncPublisherOperator<T> extends AbstractNoHandleSubscr
             offerSignal(TerminalNotification.complete());
         }
 
-        void deliverSignals() {
+        @Override
+        public void run() {
             state = STATE_EXECUTING;
+            int delivered = 0;
             for (;;) {
                 Object signal;
                 while ((signal = signals.poll()) != null) {
@@ -204,6 +247,15 @@ abstract class TaskBasedAsyncPublisherOperator<T> extends AbstractNoHandleSubscr
                             return; // We can't interact with the queue any more because we terminated, so bail.
                         }
                     }
+                    // The queue may be empty when the limit is reached and refilled before the next poll, so the
+                    // limit applies to all the signals which follow it.
+                    if (++delivered >= maxBatchSize && !signals.isEmpty()) {
+                        // Signals which are not offloaded are delivered on the calling thread, which can't be yielded.
+                        if (hasOffloaded && resubmit()) {
+                            return; // The resubmitted task delivers the remaining signals.
+                        }
+                        delivered = 0;
+                    }
                 }
                 for (;;) {
                     final int cState = state;
@@ -222,6 +274,20 @@ abstract class TaskBasedAsyncPublisherOperator<T> extends AbstractNoHandleSubscr
             }
         }
 
+        private boolean resubmit() {
+            // Producers don't submit the task while it is enqueued, and only the executing task changes the state to
+            // STATE_TERMINATING, so the state can be overwritten here.
+            state = STATE_ENQUEUED;
+            try {
+                executor.execute(this);
+                return true;
+            } catch (Throwable t) {
+                // The Executor is inadequately provisioned, keep delivering the signals on this thread.
+                state = STATE_EXECUTING;
+                return false;
+            }
+        }
+
         private void clearSignalsFromExecutorThread() {
             do {
                 state = STATE_TERMINATING;
@@ -265,9 +331,9 @@ abstract class TaskBasedAsyncPublisherOperator<T> extends AbstractNoHandleSubscr
 
             try {
                 if (shouldOffload()) {
-                    executor.execute(this::deliverSignals);
+                    executor.execute(this);
                 } else {
-                    deliverSignals();
+                    run();
                 }
             } catch (Throwable t) {
                 state = STATE_TERMINATED;
@@ -336,7 +402,7 @@ abstract class TaskBasedAsyncPublisherOperator<T> extends AbstractNoHandleSubscr
     /**
      * Offloads {@link io.servicetalk.concurrent.PublisherSource.Subscription} methods to provided executor
      */
-    private static final class OffloadedSubscription implements Subscription {
+    private static final class OffloadedSubscription implements Subscription, Runnable {
         private static final int STATE_IDLE = 0;
         private static final int STATE_ENQUEUED = 1;
         private static final int STATE_EXECUTING = 2;
@@ -398,9 +464,9 @@ abstract class TaskBasedAsyncPublisherOperator<T> extends AbstractNoHandleSubscr
             if (oldState == STATE_IDLE) {
                 try {
                     if (shouldOffload()) {
-                        executor.execute(this::executeTask);
+                        executor.execute(this);
                     } else {
-                        executeTask();
+                        run();
                     }
                 } catch (Throwable t) {
                     // Ideally, we should send an error to the related Subscriber but that would mean we make sure
@@ -427,7 +493,8 @@ abstract class TaskBasedAsyncPublisherOperator<T> extends AbstractNoHandleSubscr
             }
         }
 
-        private void executeTask() {
+        @Override
+        public void run() {
             state = STATE_EXECUTING;
             for (;;) {
                 long r = requestedUpdater.getAndSet(this, 0);
@@ -0,0 +1,369 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.concurrent.Cancellable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.Nullable;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Thread.NORM_PRIORITY;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A hierarchical timing wheel which schedules and cancels tasks in constant time.
+ * <p>
+ * Time is divided in ticks. The first level of the wheel has a bucket per tick for the next {@code 256} ticks, each
+ * upper level has {@code 64} buckets which each span all the buckets of the level below. Tasks are added to the
+ * bucket of the lowest level which covers their deadline, and move down one level ("cascade") when the wheel reaches
+ * their bucket, until they expire in a bucket of the first level. Buckets are doubly linked lists, so cancelled tasks
+ * are removed without searching.
+ * <p>
+ * The wheel is sharded: each shard has its own wheel and worker thread, and the thread which schedules a task selects
+ * the shard. Scheduling and cancelling only enqueue the task to a lock-free queue of the shard, the wheel itself is
+ * only accessed by the worker thread. Tasks are executed on the worker thread and therefore must not block.
+ * <p>
+ * Tasks never expire before their deadline and expire at most one tick after it (plus scheduling latency of the
+ * worker thread).
+ */
+final class TimingWheel implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheel.class);
+
+    private static final int FIRST_LEVEL_BITS = 8;
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVELS = 4;
+    private static final int FIRST_LEVEL_BUCKETS = 1 << FIRST_LEVEL_BITS;
+    private static final int LEVEL_BUCKETS = 1 << LEVEL_BITS;
+    /**
+     * Number of ticks covered by the whole wheel, tasks with later deadlines are placed in the last level and cascade
+     * back into it until their deadline is covered.
+     */
+    private static final long MAX_TICKS = 1L << (FIRST_LEVEL_BITS + (LEVELS - 1) * LEVEL_BITS);
+    /**
+     * Bounds the number of new tasks a worker adds to its wheel per tick, so that expirations are not delayed by a
+     * burst of scheduled tasks.
+     */
+    private static final int MAX_PENDING_PER_TICK = 100_000;
+
+    static final TimingWheel GLOBAL = new TimingWheel(new DefaultThreadFactory("servicetalk-timing-wheel", true,
+            NORM_PRIORITY), min(4, Runtime.getRuntime().availableProcessors()), MILLISECONDS.toNanos(1));
+
+    private final Shard[] shards;
+    private final long tickNanos;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param threadFactory {@link ThreadFactory} for the worker threads of the shards.
+     * @param shards number of shards, rounded up to a power of two.
+     * @param tickNanos duration of a tick in nanoseconds.
+     */
+    TimingWheel(final ThreadFactory threadFactory, final int shards, final long tickNanos) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("shards: " + shards + " (expected > 0)");
+        }
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("tickNanos: " + tickNanos + " (expected > 0)");
+        }
+        this.tickNanos = tickNanos;
+        int shardCount = 1;
+        while (shardCount < shards) {
+            shardCount <<= 1;
+        }
+        this.shards = new Shard[shardCount];
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < this.shards.length; ++i) {
+            this.shards[i] = new Shard(threadFactory, startNanos);
+        }
+    }
+
+    /**
+     * Schedules a {@code task} to be executed on a worker thread of this wheel after the {@code delay}.
+     *
+     * @param task the task to execute, must not block.
+     * @param delay the delay after which the task is executed.
+     * @param unit the unit of the {@code delay}.
+     * @return {@link Cancellable} which prevents the execution of the task if it didn't start yet.
+     */
+    Cancellable schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        // Threads stick to a shard, which keeps the order of their tasks with the same deadline.
+        final int hash = System.identityHashCode(Thread.currentThread());
+        final Shard shard = shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+        return shard.schedule(task, System.nanoTime() + max(0, unit.toNanos(delay)));
+    }
+
+    @Override
+    public void close() {
+        for (Shard shard : shards) {
+            shard.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return TimingWheel.class.getSimpleName() + "{shards=" + shards.length + ", tickNanos=" + tickNanos + '}';
+    }
+
+    private final class Shard implements Runnable {
+        private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+        private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+        private final Bucket[][] levels = new Bucket[LEVELS][];
+        private final Thread worker;
+        private final long startNanos;
+        // Only accessed by the worker thread.
+        private long currentTick;
+        private int size;
+        private volatile boolean idle;
+        private volatile boolean closed;
+
+        Shard(final ThreadFactory threadFactory, final long startNanos) {
+            this.startNanos = startNanos;
+            for (int level = 0; level < LEVELS; ++level) {
+                final Bucket[] buckets = new Bucket[level == 0 ? FIRST_LEVEL_BUCKETS : LEVEL_BUCKETS];
+                for (int i = 0; i < buckets.length; ++i) {
+                    buckets[i] = new Bucket();
+                }
+                levels[level] = buckets;
+            }
+            worker = threadFactory.newThread(this);
+            worker.start();
+        }
+
+        Cancellable schedule(final Runnable task, final long deadlineNanos) {
+            final Timeout timeout = new Timeout(this, task, deadlineNanos);
+            pending.add(timeout);
+            if (idle) {
+                LockSupport.unpark(worker);
+            }
+            return timeout;
+        }
+
+        void cancelled(final Timeout timeout) {
+            // Only the worker thread removes the timeout from its bucket, which makes it eligible for GC before its
+            // deadline.
+            cancelled.add(timeout);
+        }
+
+        void close() {
+            closed = true;
+            LockSupport.unpark(worker);
+        }
+
+        @Override
+        public void run() {
+            while (!closed) {
+                removeCancelled();
+                addPending();
+                if (size == 0) {
+                    idle = true;
+                    if (pending.isEmpty() && !closed) {
+                        LockSupport.park(this);
+                    }
+                    idle = false;
+                    // Nothing to expire while idle, skip the elapsed ticks.
+                    currentTick = max(currentTick, elapsedTicks(System.nanoTime()));
+                    continue;
+                }
+                final long nextTickNanos = startNanos + (currentTick + 1) * tickNanos;
+                final long now = System.nanoTime();
+                if (nextTickNanos - now > 0) {
+                    LockSupport.parkNanos(this, nextTickNanos - now);
+                    continue;
+                }
+                final long elapsedTicks = elapsedTicks(now);
+                while (currentTick < elapsedTicks && !closed) {
+                    tick(++currentTick);
+                }
+            }
+        }
+
+        private long elapsedTicks(final long nowNanos) {
+            return (nowNanos - startNanos) / tickNanos;
+        }
+
+        private void removeCancelled() {
+            Timeout timeout;
+            while ((timeout = cancelled.poll()) != null) {
+                final Bucket bucket = timeout.bucket;
+                if (bucket != null) {
+                    bucket.remove(timeout);
+                    --size;
+                }
+            }
+        }
+
+        private void addPending() {
+            Timeout timeout;
+            for (int i = 0; i < MAX_PENDING_PER_TICK && (timeout = pending.poll()) != null; ++i) {
+                if (timeout.state == Timeout.STATE_INIT) {
+                    final long deadlineNanos = timeout.deadlineNanos - startNanos;
+                    // Round up, tasks never expire before their deadline.
+                    timeout.deadlineTick = deadlineNanos <= 0 ? 0 : (deadlineNanos + tickNanos - 1) / tickNanos;
+                    // The current tick has already been processed, expired tasks expire with the next one.
+                    place(timeout, currentTick + 1);
+                }
+            }
+        }
+
+        private void place(final Timeout timeout, final long earliestTick) {
+            final long deadlineTick = max(timeout.deadlineTick, earliestTick);
+            final long ticks = deadlineTick - currentTick;
+            if (ticks < FIRST_LEVEL_BUCKETS) {
+                levels[0][(int) (deadlineTick & (FIRST_LEVEL_BUCKETS - 1))].add(timeout);
+            } else {
+                final long tick = ticks < MAX_TICKS ? deadlineTick : currentTick + MAX_TICKS - 1;
+                int level = 1;
+                while (level < LEVELS - 1 && ticks >= 1L << (FIRST_LEVEL_BITS + level * LEVEL_BITS)) {
+                    ++level;
+                }
+                levels[level][bucketIndex(tick, level)].add(timeout);
+            }
+            ++size;
+        }
+
+        private void tick(final long tick) {
+            // Cascade from the top, so that tasks moving down more than one level are cascaded again.
+            for (int level = LEVELS - 1; level > 0; --level) {
+                if ((tick & ((1L << shift(level)) - 1)) == 0) {
+                    final Bucket bucket = levels[level][bucketIndex(tick, level)];
+                    Timeout timeout;
+                    while ((timeout = bucket.poll()) != null) {
+                        --size;
+                        // The first level bucket of this tick is processed below.
+                        place(timeout, tick);
+                    }
+                }
+            }
+            final Bucket bucket = levels[0][(int) (tick & (FIRST_LEVEL_BUCKETS - 1))];
+            Timeout timeout;
+            while ((timeout = bucket.poll()) != null) {
+                --size;
+                timeout.expire();
+            }
+        }
+    }
+
+    private static int shift(final int level) {
+        return FIRST_LEVEL_BITS + (level - 1) * LEVEL_BITS;
+    }
+
+    private static int bucketIndex(final long tick, final int level) {
+        return (int) ((tick >>> shift(level)) & (LEVEL_BUCKETS - 1));
+    }
+
+    private static final class Bucket {
+        @Nullable
+        private Timeout head;
+        @Nullable
+        private Timeout tail;
+
+        void add(final Timeout timeout) {
+            timeout.bucket = this;
+            if (tail == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        @Nullable
+        Timeout poll() {
+            final Timeout timeout = head;
+            if (timeout != null) {
+                remove(timeout);
+            }
+            return timeout;
+        }
+
+        void remove(final Timeout timeout) {
+            final Timeout prev = timeout.prev;
+            final Timeout next = timeout.next;
+            if (prev == null) {
+                head = next;
+            } else {
+                prev.next = next;
+            }
+            if (next == null) {
+                tail = prev;
+            } else {
+                next.prev = prev;
+            }
+            timeout.prev = timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    private static final class Timeout implements Cancellable {
+        private static final AtomicIntegerFieldUpdater<Timeout> stateUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+        static final int STATE_INIT = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final Shard shard;
+        private final Runnable task;
+        final long deadlineNanos;
+        volatile int state;
+        // Only accessed by the worker thread.
+        long deadlineTick;
+        @Nullable
+        Bucket bucket;
+        @Nullable
+        Timeout prev;
+        @Nullable
+        Timeout next;
+
+        Timeout(final Shard shard, final Runnable task, final long deadlineNanos) {
+            this.shard = shard;
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public void cancel() {
+            if (stateUpdater.compareAndSet(this, STATE_INIT, STATE_CANCELLED)) {
+                shard.cancelled(this);
+            }
+        }
+
+        void expire() {
+            if (stateUpdater.compareAndSet(this, STATE_INIT, STATE_EXPIRED)) {
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    LOGGER.error("Scheduled task {} threw an exception on the timing wheel thread.", task, t);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return Timeout.class.getSimpleName() + "{task=" + task + ", state=" + state + '}';
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import javax.annotation.Nullable;
+
+/**
+ * Access to virtual threads (JDK 21+) without requiring the module to be compiled against JDK 21.
+ */
+final class VirtualThreads {
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreads.class);
+
+    static final String VIRTUAL_THREAD_NAME_PREFIX = "servicetalk-virtual-executor";
+
+    /**
+     * {@code Thread.ofVirtual()}.
+     */
+    @Nullable
+    private static final MethodHandle OF_VIRTUAL;
+    /**
+     * {@code Thread.Builder.OfVirtual#name(String, long)}.
+     */
+    @Nullable
+    private static final MethodHandle NAME;
+    /**
+     * {@code Thread.Builder#factory()}.
+     */
+    @Nullable
+    private static final MethodHandle FACTORY;
+    /**
+     * {@code Executors.newThreadPerTaskExecutor(ThreadFactory)}.
+     */
+    @Nullable
+    private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle factory = null;
+        MethodHandle newThreadPerTaskExecutor = null;
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+            name = lookup.findVirtual(ofVirtualClass, "name",
+                    MethodType.methodType(ofVirtualClass, String.class, long.class));
+            factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+            newThreadPerTaskExecutor = lookup.findStatic(java.util.concurrent.Executors.class,
+                    "newThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+            // Verify virtual threads can be created, they may be unavailable even if the API is present.
+            newThreadFactory(ofVirtual, name, factory, VIRTUAL_THREAD_NAME_PREFIX).newThread(() -> { });
+            LOGGER.debug("Virtual threads: available");
+        } catch (Throwable cause) {
+            LOGGER.debug("Virtual threads: unavailable", cause);
+            ofVirtual = null;
+            name = null;
+            factory = null;
+            newThreadPerTaskExecutor = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+        // No instances
+    }
+
+    /**
+     * Returns {@code true} if virtual threads are supported by the running JVM.
+     *
+     * @return {@code true} if virtual threads are supported by the running JVM.
+     */
+    static boolean isAvailable() {
+        return NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates a new {@link ExecutorService} which starts a new virtual thread for each task.
+     *
+     * @param namePrefix prefix of the names of the created threads, followed by a sequence number.
+     * @return a new {@link ExecutorService} which starts a new virtual thread for each task.
+     * @throws UnsupportedOperationException if virtual threads are not {@link #isAvailable() available}.
+     */
+    static ExecutorService newThreadPerTaskExecutor(final String namePrefix) {
+        if (NEW_THREAD_PER_TASK_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by the running JVM");
+        }
+        assert OF_VIRTUAL != null && NAME != null && FACTORY != null;
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(
+                    newThreadFactory(OF_VIRTUAL, NAME, FACTORY, namePrefix + '-'));
+        } catch (Throwable cause) {
+            throw new IllegalStateException("Failed to create a virtual thread executor", cause);
+        }
+    }
+
+    private static ThreadFactory newThreadFactory(final MethodHandle ofVirtual, final MethodHandle name,
+                                                  final MethodHandle factory, final String namePrefix)
+            throws Throwable {
+        return (ThreadFactory) factory.invoke(name.invoke(ofVirtual.invoke(), namePrefix, 0L));
+    }
+}
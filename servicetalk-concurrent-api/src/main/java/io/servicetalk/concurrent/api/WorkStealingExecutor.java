@@ -0,0 +1,241 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A fixed size {@link java.util.concurrent.ExecutorService} with a task deque per worker thread.
+ * <p>
+ * Tasks are queued on the deque of the worker which is associated with the submitting thread, so that the tasks
+ * offloaded by an I/O thread are usually executed by the same worker, instead of contending on a single queue shared by
+ * all threads. Idle workers steal tasks from the deques of the other workers, in submission order. The total number of
+ * queued tasks is bounded, {@link #execute(Runnable)} throws {@link RejectedExecutionException} when the bound is
+ * reached.
+ */
+final class WorkStealingExecutor extends AbstractExecutorService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkStealingExecutor.class);
+    private static final int RUNNING = 0;
+    private static final int SHUTDOWN = 1;
+    private static final int STOP = 2;
+
+    private final Worker[] workers;
+    private final int maxQueuedTasks;
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final CountDownLatch terminated;
+    private volatile int state;
+
+    WorkStealingExecutor(final int workers, final int maxQueuedTasks, final ThreadFactory threadFactory) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers: " + workers + " (expected >0)");
+        }
+        if (maxQueuedTasks <= 0) {
+            throw new IllegalArgumentException("maxQueuedTasks: " + maxQueuedTasks + " (expected >0)");
+        }
+        requireNonNull(threadFactory);
+        this.maxQueuedTasks = maxQueuedTasks;
+        this.workers = new Worker[workers];
+        terminated = new CountDownLatch(workers);
+        for (int i = 0; i < workers; ++i) {
+            this.workers[i] = new Worker(i, threadFactory);
+        }
+        for (Worker worker : this.workers) {
+            worker.thread.start();
+        }
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        requireNonNull(task);
+        if (state != RUNNING) {
+            throw new RejectedExecutionException("Executor " + this + " is shut down, rejected task: " + task);
+        }
+        if (queuedTasks.incrementAndGet() > maxQueuedTasks) {
+            queuedTasks.decrementAndGet();
+            throw new RejectedExecutionException("Too many queued tasks (max " + maxQueuedTasks + ") in executor " +
+                    this + ", rejected task: " + task);
+        }
+        final Worker worker = affinityWorker();
+        worker.tasks.offer(task);
+        if (state != RUNNING && worker.tasks.removeLastOccurrence(task)) {
+            // Workers may have already terminated, don't strand the task.
+            queuedTasks.decrementAndGet();
+            throw new RejectedExecutionException("Executor " + this + " is shut down, rejected task: " + task);
+        }
+        signal(worker);
+    }
+
+    private Worker affinityWorker() {
+        // Threads stick to a worker, which keeps the tasks offloaded by an event loop on the same worker thread.
+        final int hash = System.identityHashCode(Thread.currentThread());
+        return workers[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % workers.length];
+    }
+
+    private void signal(final Worker worker) {
+        if (worker.parked) {
+            LockSupport.unpark(worker.thread);
+        } else if (idleWorkers.get() > 0) {
+            // The worker is busy, wake up an idle worker to steal the task.
+            for (int i = 1; i < workers.length; ++i) {
+                final Worker thief = workers[(worker.index + i) % workers.length];
+                if (thief.parked) {
+                    LockSupport.unpark(thief.thread);
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (state == RUNNING) {
+            state = SHUTDOWN;
+            for (Worker worker : workers) {
+                LockSupport.unpark(worker.thread);
+            }
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        state = STOP;
+        final List<Runnable> pending = new ArrayList<>();
+        for (Worker worker : workers) {
+            Runnable task;
+            while ((task = worker.tasks.pollFirst()) != null) {
+                queuedTasks.decrementAndGet();
+                pending.add(task);
+            }
+        }
+        for (Worker worker : workers) {
+            worker.thread.interrupt();
+        }
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return state != RUNNING;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return WorkStealingExecutor.class.getSimpleName() + "{workers=" + workers.length +
+                ", queuedTasks=" + queuedTasks.get() + ", maxQueuedTasks=" + maxQueuedTasks + '}';
+    }
+
+    private final class Worker implements Runnable {
+        final int index;
+        final Thread thread;
+        final ConcurrentLinkedDeque<Runnable> tasks = new ConcurrentLinkedDeque<>();
+        volatile boolean parked;
+
+        Worker(final int index, final ThreadFactory threadFactory) {
+            this.index = index;
+            thread = threadFactory.newThread(this);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (state != STOP) {
+                    Runnable task = poll();
+                    if (task == null) {
+                        if (state != RUNNING) {
+                            break;
+                        }
+                        task = await();
+                        if (task == null) {
+                            continue;
+                        }
+                    }
+                    queuedTasks.decrementAndGet();
+                    try {
+                        task.run();
+                    } catch (Throwable cause) {
+                        LOGGER.warn("Task {} threw an exception on {}.", task, thread.getName(), cause);
+                    }
+                    // Clear the interrupt of a cancelled task, unless the executor is stopping.
+                    if (Thread.interrupted() && state == STOP) {
+                        break;
+                    }
+                }
+            } finally {
+                terminated.countDown();
+            }
+        }
+
+        @Nullable
+        private Runnable poll() {
+            final Runnable task = tasks.pollFirst();
+            if (task != null) {
+                return task;
+            }
+            for (int i = 1; i < workers.length; ++i) {
+                final Runnable stolen = workers[(index + i) % workers.length].tasks.pollFirst();
+                if (stolen != null) {
+                    return stolen;
+                }
+            }
+            return null;
+        }
+
+        @Nullable
+        private Runnable await() {
+            parked = true;
+            idleWorkers.incrementAndGet();
+            try {
+                // Check again after advertising the parked state, tasks queued before it are not signalled.
+                final Runnable task = poll();
+                if (task == null && state == RUNNING) {
+                    LockSupport.park(this);
+                    Thread.interrupted();
+                }
+                return task;
+            } finally {
+                idleWorkers.decrementAndGet();
+                parked = false;
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import io.servicetalk.concurrent.Cancellable;
 import io.servicetalk.concurrent.CompletableSource;
 import io.servicetalk.concurrent.internal.DeliberateException;
 import io.servicetalk.concurrent.internal.TerminalNotification;
+import io.servicetalk.context.api.ContextMap;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -46,10 +47,13 @@ import javax.annotation.Nullable;
 import static io.servicetalk.concurrent.api.BlockingTestUtils.awaitIndefinitelyNonNull;
 import static io.servicetalk.concurrent.api.Executors.from;
 import static io.servicetalk.concurrent.api.Executors.newFixedSizeExecutor;
+import static io.servicetalk.concurrent.api.Executors.newWorkStealingExecutor;
+import static io.servicetalk.concurrent.api.Executors.withTimingWheelScheduler;
 import static io.servicetalk.concurrent.api.SourceAdapters.toSource;
 import static io.servicetalk.concurrent.internal.DeliberateException.DELIBERATE_EXCEPTION;
 import static io.servicetalk.concurrent.internal.TerminalNotification.complete;
 import static io.servicetalk.concurrent.internal.TerminalNotification.error;
+import static io.servicetalk.context.api.ContextMap.Key.newKey;
 import static io.servicetalk.utils.internal.ThrowableUtils.throwException;
 import static java.time.Duration.ofNanos;
 import static java.util.concurrent.Executors.newScheduledThreadPool;
@@ -59,6 +63,7 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
@@ -66,6 +71,7 @@ import static org.junit.jupiter.api.Assumptions.assumeTrue;
 final class DefaultExecutorTest {
 
     private static final int UNBOUNDED = -1;
+    private static final ContextMap.Key<String> CONTEXT_KEY = newKey("key", String.class);
     private Executor executor;
 
     private enum ExecutorParam {
@@ -101,6 +107,22 @@ final class DefaultExecutorTest {
                 return UNBOUNDED;
             }
         },
+        VIRTUAL {
+            @Override
+            boolean supportsCancellation() {
+                return true;
+            }
+
+            @Override
+            Executor get() {
+                return io.servicetalk.concurrent.api.Executors.newVirtualThreadExecutor();
+            }
+
+            @Override
+            int size() {
+                return UNBOUNDED;
+            }
+        },
         SIMPLE {
             @Override
             boolean supportsCancellation() {
@@ -135,6 +157,38 @@ final class DefaultExecutorTest {
                 return UNBOUNDED;
             }
         },
+        TIMING_WHEEL {
+            @Override
+            boolean supportsCancellation() {
+                return true;
+            }
+
+            @Override
+            Executor get() {
+                return withTimingWheelScheduler(Executors.newCachedThreadPool());
+            }
+
+            @Override
+            int size() {
+                return UNBOUNDED;
+            }
+        },
+        WORK_STEALING {
+            @Override
+            boolean supportsCancellation() {
+                return true;
+            }
+
+            @Override
+            Executor get() {
+                return newWorkStealingExecutor(2, 1024);
+            }
+
+            @Override
+            int size() {
+                return 2;
+            }
+        },
         DIFFERENT_EXECUTORS {
             @Override
             boolean supportsCancellation() {
@@ -243,6 +297,25 @@ final class DefaultExecutorTest {
         success.awaitDone();
     }
 
+    @Test
+    void virtualThreadExecutorUsesVirtualThreadsIfAvailable() throws Exception {
+        executor = io.servicetalk.concurrent.api.Executors.newVirtualThreadExecutor("test-virtual");
+        Thread thread = executor.submit((Callable<Thread>) Thread::currentThread).toFuture().get();
+        assertThat(thread.getName(), startsWith("test-virtual-"));
+        assertThat(thread.getClass().getName().equals("java.lang.VirtualThread"), is(VirtualThreads.isAvailable()));
+    }
+
+    @Test
+    void virtualThreadExecutorPreservesAsyncContext() throws Exception {
+        executor = io.servicetalk.concurrent.api.Executors.newVirtualThreadExecutor();
+        AsyncContext.put(CONTEXT_KEY, "value");
+        try {
+            assertThat(executor.submit(() -> AsyncContext.get(CONTEXT_KEY)).toFuture().get(), is("value"));
+        } finally {
+            AsyncContext.remove(CONTEXT_KEY);
+        }
+    }
+
     @Test
     void rejectSchedule() {
         executor = from(new RejectAllScheduler());
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.concurrent.test.internal.TestPublisherSubscriber;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.servicetalk.concurrent.api.SourceAdapters.toSource;
+import static io.servicetalk.concurrent.internal.DeliberateException.DELIBERATE_EXCEPTION;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+class FusedOnNextPublisherTest {
+
+    private final TestPublisher<Integer> source = new TestPublisher.Builder<Integer>()
+            .disableAutoOnSubscribe().build();
+    private final TestPublisherSubscriber<String> subscriber = new TestPublisherSubscriber<>();
+    private final TestSubscription subscription = new TestSubscription();
+
+    @Test
+    void consecutiveOperatorsAreFused() {
+        List<Integer> observed = new ArrayList<>();
+        Publisher<String> fused = source.map(v -> v * 2)
+                .filter(v -> v % 4 == 0)
+                .beforeOnNext(observed::add)
+                .map(String::valueOf);
+        assertThat(fused, instanceOf(FusedOnNextPublisher.class));
+
+        toSource(fused).subscribe(subscriber);
+        source.onSubscribe(subscription);
+        subscriber.awaitSubscription().request(2);
+        assertThat(subscription.requested(), is(2L));
+        source.onNext(1, 2);
+        assertThat(subscriber.takeOnNext(), is("4"));
+        assertThat(observed, contains(4));
+        source.onComplete();
+        subscriber.awaitOnComplete();
+    }
+
+    @Test
+    void filteredItemsAreRequestedAgain() {
+        toSource(source.filter(v -> v > 1).map(String::valueOf)).subscribe(subscriber);
+        source.onSubscribe(subscription);
+        subscriber.awaitSubscription().request(1);
+        source.onNext(1);
+        assertThat(subscription.requested(), is(2L));
+        source.onNext(2);
+        assertThat(subscriber.takeOnNext(), is("2"));
+    }
+
+    @Test
+    void fusedPublishersCanBeReused() {
+        Publisher<Integer> mapped = Publisher.from(1, 2, 3).map(v -> v + 1);
+        Publisher<Integer> filtered = mapped.filter(v -> v > 2);
+        Publisher<Integer> negated = mapped.map(v -> -v);
+        TestPublisherSubscriber<Integer> filteredSubscriber = new TestPublisherSubscriber<>();
+        TestPublisherSubscriber<Integer> negatedSubscriber = new TestPublisherSubscriber<>();
+
+        toSource(filtered).subscribe(filteredSubscriber);
+        filteredSubscriber.awaitSubscription().request(Long.MAX_VALUE);
+        assertThat(filteredSubscriber.takeOnNext(2), contains(3, 4));
+        filteredSubscriber.awaitOnComplete();
+
+        toSource(negated).subscribe(negatedSubscriber);
+        negatedSubscriber.awaitSubscription().request(Long.MAX_VALUE);
+        assertThat(negatedSubscriber.takeOnNext(3), contains(-2, -3, -4));
+        negatedSubscriber.awaitOnComplete();
+    }
+
+    @Test
+    void stageExceptionPropagatesToSource() {
+        toSource(source.map(v -> {
+            if (v == 2) {
+                throw DELIBERATE_EXCEPTION;
+            }
+            return v;
+        }).map(String::valueOf)).subscribe(subscriber);
+        source.onSubscribe(subscription);
+        subscriber.awaitSubscription().request(2);
+        source.onNext(1);
+        assertThat(subscriber.takeOnNext(), is("1"));
+        // TestPublisher terminates its Subscriber when onNext throws.
+        source.onNext(2);
+        assertThat(subscriber.awaitOnError(), is(DELIBERATE_EXCEPTION));
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.context.api.ContextMap;
+import io.servicetalk.context.api.ContextMap.Key;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static io.servicetalk.context.api.ContextMap.Key.newKey;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PersistentContextMapTest {
+
+    private static List<Key<Integer>> newKeys(final int count) {
+        final List<Key<Integer>> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            keys.add(newKey("k" + i, Integer.class));
+        }
+        return keys;
+    }
+
+    /**
+     * Keys use the identity hash code, generate keys until two of them have the same one.
+     */
+    private static List<Key<Integer>> collidingKeys() {
+        final Map<Integer, Key<Integer>> keysByHash = new HashMap<>();
+        for (;;) {
+            final Key<Integer> key = newKey("colliding", Integer.class);
+            final Key<Integer> collision = keysByHash.putIfAbsent(key.hashCode(), key);
+            if (collision != null) {
+                return Arrays.asList(collision, key);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{displayName} [{index}] entries={0}")
+    @ValueSource(ints = {1, 4, 16, 64, 1000})
+    void putGetRemove(final int entries) {
+        final List<Key<Integer>> keys = newKeys(entries);
+        final ContextMap map = new PersistentContextMap();
+        for (int i = 0; i < entries; ++i) {
+            assertThat(map.put(keys.get(i), i), is(nullValue()));
+            assertThat(map.size(), is(i + 1));
+        }
+        for (int i = 0; i < entries; ++i) {
+            assertThat(map.get(keys.get(i)), is(i));
+            assertThat(map.put(keys.get(i), -i), is(i));
+        }
+        assertThat(map.size(), is(entries));
+        for (int i = 0; i < entries; ++i) {
+            assertThat(map.remove(keys.get(i)), is(-i));
+            assertThat(map.containsKey(keys.get(i)), is(false));
+            assertThat(map.size(), is(entries - i - 1));
+        }
+        assertThat(map.isEmpty(), is(true));
+    }
+
+    @Test
+    void matchesHashMapForRandomOperations() {
+        final List<Key<Integer>> keys = newKeys(256);
+        final Random random = new Random(42);
+        final Map<Key<?>, Object> expected = new HashMap<>();
+        final ContextMap map = new PersistentContextMap();
+        for (int i = 0; i < 10_000; ++i) {
+            final Key<Integer> key = keys.get(random.nextInt(keys.size()));
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key), is(expected.remove(key)));
+            } else {
+                assertThat(map.put(key, i), is(expected.put(key, i)));
+            }
+            assertThat(map.size(), is(expected.size()));
+        }
+        for (Key<Integer> key : keys) {
+            assertThat(map.containsKey(key), is(expected.containsKey(key)));
+            assertThat(map.get(key), is(expected.get(key)));
+        }
+        final Map<Key<?>, Object> iterated = new HashMap<>();
+        assertThat(map.forEach((k, v) -> iterated.put(k, v) == null), is(nullValue()));
+        assertThat(iterated, is(expected));
+        assertThat(map.hashCode(), is(expected.hashCode()));
+    }
+
+    @Test
+    void collidingKeysPutGetRemove() {
+        final List<Key<Integer>> keys = collidingKeys();
+        final Key<Integer> first = keys.get(0);
+        final Key<Integer> second = keys.get(1);
+        final ContextMap map = new PersistentContextMap();
+        assertThat(map.put(first, 1), is(nullValue()));
+        assertThat(map.put(second, 2), is(nullValue()));
+        assertThat(map.size(), is(2));
+        assertThat(map.get(first), is(1));
+        assertThat(map.get(second), is(2));
+        assertThat(map.put(first, -1), is(1));
+        assertThat(map.get(first), is(-1));
+        assertThat(map.get(second), is(2));
+        assertThat(map.size(), is(2));
+
+        final Map<Key<?>, Object> expected = new HashMap<>();
+        expected.put(first, -1);
+        expected.put(second, 2);
+        assertThat(map.hashCode(), is(expected.hashCode()));
+
+        // Removing one of the colliding keys collapses the collision back to a single entry.
+        assertThat(map.remove(first), is(-1));
+        assertThat(map.containsKey(first), is(false));
+        assertThat(map.get(second), is(2));
+        assertThat(map.size(), is(1));
+        final Map<Key<?>, Object> iterated = new HashMap<>();
+        assertThat(map.forEach((k, v) -> iterated.put(k, v) == null), is(nullValue()));
+        assertThat(iterated, is(singletonMap(second, 2)));
+        assertThat(map.remove(second), is(2));
+        assertThat(map.isEmpty(), is(true));
+    }
+
+    @Test
+    void collidingKeysWithOtherKeysInSameBranch() {
+        final List<Key<Integer>> keys = collidingKeys();
+        final Key<Integer> first = keys.get(0);
+        final Key<Integer> second = keys.get(1);
+        final int hash = first.hashCode();
+        // A key which shares the lowest bits with the colliding keys, so it ends up next to their collision node.
+        Key<Integer> other;
+        do {
+            other = newKey("other", Integer.class);
+        } while ((other.hashCode() & 0x1f) != (hash & 0x1f) || other.hashCode() == hash);
+
+        final ContextMap map = new PersistentContextMap();
+        map.put(first, 1);
+        map.put(second, 2);
+        map.put(other, 3);
+        assertThat(map.size(), is(3));
+        assertThat(map.get(first), is(1));
+        assertThat(map.get(second), is(2));
+        assertThat(map.get(other), is(3));
+
+        assertThat(map.remove(second), is(2));
+        assertThat(map.size(), is(2));
+        assertThat(map.containsKey(second), is(false));
+        assertThat(map.get(first), is(1));
+        assertThat(map.get(other), is(3));
+        assertThat(map.put(second, -2), is(nullValue()));
+        assertThat(map.get(second), is(-2));
+
+        assertThat(map.remove(other), is(3));
+        assertThat(map.remove(first), is(1));
+        assertThat(map.size(), is(1));
+        assertThat(map.get(second), is(-2));
+        final ContextMap expected = new CopyOnWriteContextMap();
+        expected.put(second, -2);
+        assertThat(map, is(expected));
+    }
+
+    @Test
+    void copyIsIsolated() {
+        final List<Key<Integer>> keys = newKeys(64);
+        final ContextMap map = new PersistentContextMap();
+        for (int i = 0; i < keys.size(); ++i) {
+            map.put(keys.get(i), i);
+        }
+        final ContextMap copy = map.copy();
+        assertThat(copy, is(map));
+        copy.put(keys.get(0), -1);
+        map.remove(keys.get(1));
+        assertThat(map.get(keys.get(0)), is(0));
+        assertThat(copy.get(keys.get(1)), is(1));
+        assertThat(copy, is(not(map)));
+        copy.clear();
+        assertThat(copy.isEmpty(), is(true));
+        assertThat(map.size(), is(keys.size() - 1));
+    }
+
+    @Test
+    void nullValues() {
+        final Key<String> key = newKey("key", String.class);
+        final ContextMap map = new PersistentContextMap();
+        assertThat(map.put(key, null), is(nullValue()));
+        assertThat(map.containsKey(key), is(true));
+        assertThat(map.contains(key, null), is(true));
+        assertThat(map.containsValue(null), is(true));
+        assertThat(map.getOrDefault(key, "default"), is(nullValue()));
+        assertThat(map.putIfAbsent(key, "value"), is(nullValue()));
+        assertThat(map.get(key), is("value"));
+        assertThat(map.computeIfAbsent(key, k -> "other"), is("value"));
+    }
+
+    @Test
+    void putAllAndRemoveAll() {
+        final List<Key<Integer>> keys = newKeys(16);
+        final Map<Key<?>, Object> entries = new HashMap<>();
+        for (int i = 0; i < keys.size(); ++i) {
+            entries.put(keys.get(i), i);
+        }
+        final ContextMap map = new PersistentContextMap();
+        map.putAll(entries);
+        assertThat(map.size(), is(keys.size()));
+
+        final ContextMap other = new CopyOnWriteContextMap();
+        other.putAll(map);
+        assertThat(other, is(map));
+        assertThat(map, is(other));
+
+        assertThat(map.removeAll(new ArrayList<Key<?>>(keys.subList(0, 8))), is(true));
+        assertThat(map.size(), is(8));
+        assertThat(map.removeAll(new ArrayList<Key<?>>(keys.subList(0, 8))), is(false));
+
+        final Map<Key<?>, Object> invalid = new HashMap<>();
+        invalid.put(keys.get(0), "not an integer");
+        assertThrows(IllegalArgumentException.class, () -> map.putAll(invalid));
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.concurrent.Cancellable;
+import io.servicetalk.concurrent.PublisherSource.Subscriber;
+import io.servicetalk.concurrent.PublisherSource.Subscription;
+import io.servicetalk.concurrent.api.TaskBasedAsyncPublisherOperator.OffloadedSubscriber;
+import io.servicetalk.concurrent.test.internal.TestPublisherSubscriber;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import javax.annotation.Nullable;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TaskBasedAsyncPublisherOperatorTest {
+
+    private final TestExecutor executor = new TestExecutor();
+    private final TestPublisherSubscriber<Integer> subscriber = new TestPublisherSubscriber<>();
+    private final TestSubscription subscription = new TestSubscription();
+
+    @Test
+    void deliversQueuedSignalsInOneTask() {
+        OffloadedSubscriber<Integer> offloaded = newOffloadedSubscriber(executor, Integer.MAX_VALUE);
+        subscribe(offloaded, executor);
+        emit(offloaded, 10);
+        assertThat(executor.queuedTasksPending(), is(1));
+        executor.executeNextTask();
+        assertThat(executor.queuedTasksPending(), is(0));
+        assertThat(subscriber.takeOnNext(10), contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        subscriber.awaitOnComplete();
+    }
+
+    @Test
+    void resubmitsTaskAfterMaxBatchSize() {
+        OffloadedSubscriber<Integer> offloaded = newOffloadedSubscriber(executor, 4);
+        subscribe(offloaded, executor);
+        emit(offloaded, 10);
+        int executed = 0;
+        while (executor.queuedTasksPending() > 0) {
+            executor.executeNextTask();
+            ++executed;
+        }
+        // 4 items, 4 items, 2 items and onComplete.
+        assertThat(executed, is(3));
+        assertThat(subscriber.takeOnNext(10), contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        subscriber.awaitOnComplete();
+    }
+
+    @Test
+    void resubmitsTaskIfRefilledAfterMaxBatchSize() {
+        final AtomicReference<OffloadedSubscriber<Integer>> offloadedRef = new AtomicReference<>();
+        final AtomicBoolean refill = new AtomicBoolean();
+        // Simulates a producer which refills the queue right after it was found empty at the batch boundary.
+        final Queue<Object> signals = new ArrayDeque<Object>() {
+            @Override
+            public boolean isEmpty() {
+                final boolean empty = super.isEmpty();
+                if (empty && refill.compareAndSet(true, false)) {
+                    for (int i = 4; i < 10; i++) {
+                        offloadedRef.get().onNext(i);
+                    }
+                    offloadedRef.get().onComplete();
+                }
+                return empty;
+            }
+        };
+        OffloadedSubscriber<Integer> offloaded = new OffloadedSubscriber<>(subscriber, () -> true, executor,
+                signals, 4);
+        offloadedRef.set(offloaded);
+        subscribe(offloaded, executor);
+        for (int i = 0; i < 4; i++) {
+            offloaded.onNext(i);
+        }
+        refill.set(true);
+        executor.executeNextTask();
+        // The queue was empty after 4 items, the refilled items are still limited to the batch.
+        assertThat(executor.queuedTasksPending(), is(1));
+        assertThat(subscriber.takeOnNext(5), contains(0, 1, 2, 3, 4));
+        while (executor.queuedTasksPending() > 0) {
+            executor.executeNextTask();
+        }
+        assertThat(subscriber.takeOnNext(5), contains(5, 6, 7, 8, 9));
+        subscriber.awaitOnComplete();
+    }
+
+    @Test
+    void deliversOnCurrentThreadIfResubmitRejected() {
+        RejectingExecutor rejecting = new RejectingExecutor();
+        OffloadedSubscriber<Integer> offloaded = newOffloadedSubscriber(rejecting, 2);
+        subscribe(offloaded, rejecting);
+        emit(offloaded, 5);
+        rejecting.reject = true;
+        rejecting.executeNextTask();
+        assertThat(rejecting.queuedTasksPending(), is(0));
+        assertThat(subscriber.takeOnNext(5), contains(0, 1, 2, 3, 4));
+        subscriber.awaitOnComplete();
+    }
+
+    @Test
+    void doesNotResubmitIfNotOffloaded() {
+        final AtomicReference<OffloadedSubscriber<Integer>> offloadedRef = new AtomicReference<>();
+        // Signals emitted from within the target are queued and delivered by the run on the calling thread.
+        final OffloadedSubscriber<Integer> offloaded = newOffloadedSubscriber(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(final Subscription s) {
+                subscriber.onSubscribe(s);
+                subscriber.awaitSubscription().request(Long.MAX_VALUE);
+                emit(offloadedRef.get(), 10);
+            }
+
+            @Override
+            public void onNext(@Nullable final Integer integer) {
+                subscriber.onNext(integer);
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                subscriber.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        }, () -> false, executor, 4);
+        offloadedRef.set(offloaded);
+        offloaded.onSubscribe(subscription);
+        assertThat(executor.queuedTasksPending(), is(0));
+        assertThat(subscriber.takeOnNext(10), contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        subscriber.awaitOnComplete();
+    }
+
+    @Test
+    void invalidMaxBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> newOffloadedSubscriber(executor, 0));
+    }
+
+    private OffloadedSubscriber<Integer> newOffloadedSubscriber(TestExecutor testExecutor, int maxBatchSize) {
+        return newOffloadedSubscriber(subscriber, () -> true, testExecutor, maxBatchSize);
+    }
+
+    private static OffloadedSubscriber<Integer> newOffloadedSubscriber(Subscriber<Integer> target,
+                                                                       BooleanSupplier shouldOffload,
+                                                                       TestExecutor testExecutor, int maxBatchSize) {
+        return new OffloadedSubscriber<>(target, shouldOffload, testExecutor, 2, maxBatchSize);
+    }
+
+    private void subscribe(OffloadedSubscriber<Integer> offloaded, TestExecutor testExecutor) {
+        offloaded.onSubscribe(subscription);
+        testExecutor.executeNextTask();
+        subscriber.awaitSubscription().request(Long.MAX_VALUE);
+    }
+
+    private static void emit(OffloadedSubscriber<Integer> offloaded, int items) {
+        for (int i = 0; i < items; i++) {
+            offloaded.onNext(i);
+        }
+        offloaded.onComplete();
+    }
+
+    private static final class RejectingExecutor extends TestExecutor {
+        boolean reject;
+
+        @Override
+        public Cancellable execute(final Runnable task) {
+            if (reject) {
+                throw new RejectedExecutionException("deliberate");
+            }
+            return super.execute(task);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.concurrent.Cancellable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Thread.NORM_PRIORITY;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+class TimingWheelTest {
+
+    private final TimingWheel wheel = new TimingWheel(new DefaultThreadFactory("timing-wheel-test", true,
+            NORM_PRIORITY), 2, MILLISECONDS.toNanos(1));
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @ParameterizedTest(name = "{displayName} [{index}] delayMs={0}")
+    @ValueSource(longs = {-1, 0, 1, 10, 255, 256, 300, 600})
+    void executesAfterDelay(long delayMs) throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        long startNanos = System.nanoTime();
+        long[] elapsedNanos = new long[1];
+        wheel.schedule(() -> {
+            elapsedNanos[0] = System.nanoTime() - startNanos;
+            latch.countDown();
+        }, delayMs, MILLISECONDS);
+        assertThat(latch.await(10, SECONDS), is(true));
+        assertThat(elapsedNanos[0], greaterThanOrEqualTo(MILLISECONDS.toNanos(delayMs)));
+    }
+
+    @Test
+    void cancelPreventsExecution() throws Exception {
+        AtomicInteger executed = new AtomicInteger();
+        List<Cancellable> cancellables = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            cancellables.add(wheel.schedule(executed::incrementAndGet, 50 + i % 300, MILLISECONDS));
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        wheel.schedule(latch::countDown, 400, MILLISECONDS);
+        cancellables.forEach(Cancellable::cancel);
+        assertThat(latch.await(10, SECONDS), is(true));
+        assertThat(executed.get(), is(0));
+    }
+
+    @Test
+    void executesTasksScheduledConcurrently() throws Exception {
+        final int threads = 4;
+        final int tasksPerThread = 1000;
+        CountDownLatch latch = new CountDownLatch(threads * tasksPerThread);
+        Thread[] schedulers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            schedulers[i] = new Thread(() -> {
+                for (int j = 0; j < tasksPerThread; j++) {
+                    wheel.schedule(latch::countDown, j % 500, MILLISECONDS);
+                }
+            });
+            schedulers[i].start();
+        }
+        for (Thread scheduler : schedulers) {
+            scheduler.join();
+        }
+        assertThat(latch.await(10, SECONDS), is(true));
+    }
+
+    @Test
+    void executesLongDelayAfterShortDelay() throws Exception {
+        CountDownLatch shortLatch = new CountDownLatch(1);
+        CountDownLatch longLatch = new CountDownLatch(1);
+        long startNanos = System.nanoTime();
+        wheel.schedule(longLatch::countDown, 1, SECONDS);
+        wheel.schedule(shortLatch::countDown, 10, MILLISECONDS);
+        assertThat(shortLatch.await(10, SECONDS), is(true));
+        assertThat(longLatch.getCount(), is(1L));
+        assertThat(longLatch.await(10, SECONDS), is(true));
+        assertThat(System.nanoTime() - startNanos, greaterThanOrEqualTo(SECONDS.toNanos(1)));
+    }
+}
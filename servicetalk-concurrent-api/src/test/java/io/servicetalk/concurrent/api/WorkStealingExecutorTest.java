@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.lang.Thread.NORM_PRIORITY;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WorkStealingExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private WorkStealingExecutor executor = newExecutor(2, 1024);
+
+    @AfterEach
+    void tearDown() throws Exception {
+        release.countDown();
+        executor.shutdownNow();
+        assertThat(executor.awaitTermination(10, SECONDS), is(true));
+    }
+
+    @Test
+    void executesTasksSubmittedConcurrently() throws Exception {
+        final int threads = 4;
+        final int tasksPerThread = 10_000;
+        CountDownLatch latch = new CountDownLatch(threads * tasksPerThread);
+        Thread[] submitters = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            submitters[i] = new Thread(() -> {
+                for (int j = 0; j < tasksPerThread; j++) {
+                    executor.execute(latch::countDown);
+                }
+            });
+            submitters[i].start();
+        }
+        for (Thread submitter : submitters) {
+            submitter.join();
+        }
+        assertThat(latch.await(10, SECONDS), is(true));
+    }
+
+    @Test
+    void idleWorkerStealsFromBusyWorker() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        executor.execute(() -> {
+            blocked.countDown();
+            awaitRelease();
+        });
+        assertThat(blocked.await(10, SECONDS), is(true));
+        // Queued for the same worker, which is blocked.
+        CountDownLatch stolen = new CountDownLatch(1);
+        executor.execute(stolen::countDown);
+        assertThat(stolen.await(10, SECONDS), is(true));
+    }
+
+    @Test
+    void rejectsWhenMaxQueuedTasksReached() throws Exception {
+        executor.shutdown();
+        executor = newExecutor(1, 2);
+        CountDownLatch blocked = new CountDownLatch(1);
+        executor.execute(() -> {
+            blocked.countDown();
+            awaitRelease();
+        });
+        assertThat(blocked.await(10, SECONDS), is(true));
+        CountDownLatch executed = new CountDownLatch(2);
+        executor.execute(executed::countDown);
+        executor.execute(executed::countDown);
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        release.countDown();
+        assertThat(executed.await(10, SECONDS), is(true));
+    }
+
+    @Test
+    void shutdownExecutesQueuedTasksAndRejectsNewTasks() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        executor.execute(() -> {
+            blocked.countDown();
+            awaitRelease();
+        });
+        assertThat(blocked.await(10, SECONDS), is(true));
+        CountDownLatch executed = new CountDownLatch(1);
+        executor.execute(executed::countDown);
+        executor.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        release.countDown();
+        assertThat(executed.await(10, SECONDS), is(true));
+        assertThat(executor.awaitTermination(10, SECONDS), is(true));
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> newExecutor(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> newExecutor(1, 0));
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static WorkStealingExecutor newExecutor(int workers, int maxQueuedTasks) {
+        return new WorkStealingExecutor(workers, maxQueuedTasks,
+                new DefaultThreadFactory("work-stealing-test", true, NORM_PRIORITY));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,8 @@ import io.servicetalk.concurrent.test.internal.TestSingleSubscriber;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static io.servicetalk.concurrent.internal.DeliberateException.DELIBERATE_EXCEPTION;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -42,4 +44,27 @@ class MapSingleTest {
         SourceAdapters.<String>toSource(Single.succeeded("foo").map(v -> null)).subscribe(listener);
         assertThat(listener.awaitOnSuccess(), is(nullValue()));
     }
+
+    @Test
+    void composedMappersOnSucceeded() {
+        SourceAdapters.<String>toSource(Single.succeeded(1).map(v -> v + 1).map(v -> "v" + v)).subscribe(listener);
+        assertThat(listener.awaitOnSuccess(), is("v2"));
+    }
+
+    @Test
+    void exceptionInComposedMapperCallsOnError() {
+        SourceAdapters.<String>toSource(Single.succeeded("foo").<String>map(v -> {
+            throw DELIBERATE_EXCEPTION;
+        }).map(v -> v + "bar")).subscribe(listener);
+        assertThat(listener.awaitOnError(), is(DELIBERATE_EXCEPTION));
+    }
+
+    @Test
+    void mapperIsInvokedOnEachSubscribe() throws Exception {
+        AtomicInteger invocations = new AtomicInteger();
+        Single<Integer> single = Single.succeeded("foo").map(v -> invocations.incrementAndGet());
+        assertThat(invocations.get(), is(0));
+        assertThat(single.toFuture().get(), is(1));
+        assertThat(single.toFuture().get(), is(2));
+    }
 }
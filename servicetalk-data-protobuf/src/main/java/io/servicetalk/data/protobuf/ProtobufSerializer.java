@@ -1,5 +1,5 @@
 /*
- * Copyright © 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import io.servicetalk.buffer.api.BufferAllocator;
 import io.servicetalk.serializer.api.SerializationException;
 import io.servicetalk.serializer.api.SerializerDeserializer;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
@@ -31,6 +32,7 @@ import java.nio.ByteBuffer;
 
 import static com.google.protobuf.CodedOutputStream.newInstance;
 import static com.google.protobuf.UnsafeByteOperations.unsafeWrap;
+import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -39,13 +41,17 @@ import static java.util.Objects.requireNonNull;
  */
 final class ProtobufSerializer<T extends MessageLite> implements SerializerDeserializer<T> {
     private final Parser<T> parser;
+    private final boolean aliasing;
 
     /**
      * Create a new instance.
      * @param parser The {@link Parser} used to serialize and deserialize.
+     * @param aliasing {@code true} if deserialized {@code bytes} fields may reference the deserialized {@link Buffer}
+     * instead of a copy of it.
      */
-    ProtobufSerializer(Parser<T> parser) {
+    ProtobufSerializer(Parser<T> parser, boolean aliasing) {
         this.parser = requireNonNull(parser);
+        this.aliasing = aliasing;
     }
 
     @Override
@@ -76,21 +82,7 @@ final class ProtobufSerializer<T extends MessageLite> implements SerializerDeser
     @Override
     public T deserialize(final Buffer serializedData, final BufferAllocator allocator) {
         try {
-            final CodedInputStream in;
-            if (serializedData.nioBufferCount() == 1) {
-                in = CodedInputStream.newInstance(serializedData.toNioBuffer());
-            } else {
-                // Aggregated payload body may consist of multiple Buffers. In this case,
-                // CompositeBuffer.toNioBuffer(idx, length) may return a single ByteBuffer (when requested
-                // length < components[0].length) or create a new ByteBuffer and copy multiple components
-                // into it. Later, proto parser will copy data from this temporary ByteBuffer again.
-                // To avoid unnecessary copying, we use newCodedInputStream(buffers, lengthOfData).
-                final ByteBuffer[] buffers = serializedData.toNioBuffers();
-                in = buffers.length == 1 ?
-                        CodedInputStream.newInstance(buffers[0]) :
-                        newCodedInputStream(buffers, serializedData.readableBytes());
-            }
-
+            final CodedInputStream in = newCodedInputStream(serializedData);
             T result = parser.parseFrom(in);
             serializedData.skipBytes(in.getTotalBytesRead());
             return result;
@@ -99,20 +91,31 @@ final class ProtobufSerializer<T extends MessageLite> implements SerializerDeser
         }
     }
 
-    private static CodedInputStream newCodedInputStream(final ByteBuffer[] buffers, final int lengthOfData) {
-        // Because we allocated a new internal ByteBuffer that will never be mutated we may just wrap it and
-        // enable aliasing to avoid an extra copying inside parser for a deserialized message.
-        final CodedInputStream in = unsafeWrap(mergeByteBuffers(buffers, lengthOfData)).newCodedInput();
-        in.enableAliasing(true);
-        return in;
+    private CodedInputStream newCodedInputStream(final Buffer serializedData) {
+        if (serializedData.nioBufferCount() == 1) {
+            final ByteBuffer buffer = serializedData.toNioBuffer();
+            return aliasing ? aliasingCodedInputStream(unsafeWrap(buffer)) : CodedInputStream.newInstance(buffer);
+        }
+        // Aggregated payload body and gRPC messages may consist of multiple Buffers. In this case,
+        // CompositeBuffer.toNioBuffer(idx, length) may create a new ByteBuffer and copy multiple components into it.
+        // To avoid flattening the data, the parser reads the underlying NIO buffers one after another instead.
+        final ByteBuffer[] buffers = serializedData.toNioBuffers();
+        if (!aliasing) {
+            return buffers.length == 1 ? CodedInputStream.newInstance(buffers[0]) :
+                    CodedInputStream.newInstance(asList(buffers));
+        }
+        ByteString data = ByteString.EMPTY;
+        for (ByteBuffer buffer : buffers) {
+            data = data.concat(unsafeWrap(buffer));
+        }
+        return aliasingCodedInputStream(data);
     }
 
-    private static ByteBuffer mergeByteBuffers(final ByteBuffer[] buffers, final int lengthOfData) {
-        final ByteBuffer merged = ByteBuffer.allocate(lengthOfData);
-        for (ByteBuffer buf : buffers) {
-            merged.put(buf);
-        }
-        merged.flip();
-        return merged;
+    private static CodedInputStream aliasingCodedInputStream(final ByteString data) {
+        // Data wrapped by UnsafeByteOperations is considered immutable, which allows the parser to reference it from
+        // the deserialized message instead of copying it.
+        final CodedInputStream in = data.newCodedInput();
+        in.enableAliasing(true);
+        return in;
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,7 +37,16 @@ public final class ProtobufSerializerFactory {
      * Singleton instance which creates <a href="https://developers.google.com/protocol-buffers/">protocol buffer</a>
      * serializers.
      */
-    public static final ProtobufSerializerFactory PROTOBUF = new ProtobufSerializerFactory();
+    public static final ProtobufSerializerFactory PROTOBUF = new ProtobufSerializerFactory(false);
+    /**
+     * Singleton instance which creates <a href="https://developers.google.com/protocol-buffers/">protocol buffer</a>
+     * serializers that alias the deserialized data.
+     * <p>
+     * {@code bytes} fields of deserialized messages reference the received {@link io.servicetalk.buffer.api.Buffer}
+     * instead of a copy of it. This saves a copy for messages with large {@code bytes} fields, but the received data
+     * must not be modified after deserialization, and it is retained as long as any of these fields is reachable.
+     */
+    public static final ProtobufSerializerFactory PROTOBUF_ALIASING = new ProtobufSerializerFactory(true);
     private static final MethodType PARSER_METHOD_TYPE = MethodType.methodType(Parser.class);
     private static final String PARSER_METHOD_NAME = "parser";
     private final Map<Class<?>, Parser<?>> parserMap = new ConcurrentHashMap<>();
@@ -46,7 +55,10 @@ public final class ProtobufSerializerFactory {
     @SuppressWarnings("rawtypes")
     private final Map<Parser<?>, StreamingSerializerDeserializer> streamingSerializerMap = new ConcurrentHashMap<>();
 
-    private ProtobufSerializerFactory() {
+    private final boolean aliasing;
+
+    private ProtobufSerializerFactory(final boolean aliasing) {
+        this.aliasing = aliasing;
     }
 
     /**
@@ -57,7 +69,8 @@ public final class ProtobufSerializerFactory {
      */
     @SuppressWarnings("unchecked")
     public <T extends MessageLite> SerializerDeserializer<T> serializerDeserializer(Parser<T> parser) {
-        return serializerMap.computeIfAbsent(parser, parser2 -> new ProtobufSerializer<>((Parser<T>) parser2));
+        return serializerMap.computeIfAbsent(parser,
+                parser2 -> new ProtobufSerializer<>((Parser<T>) parser2, aliasing));
     }
 
     /**
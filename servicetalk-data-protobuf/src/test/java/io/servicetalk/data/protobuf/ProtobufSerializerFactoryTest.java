@@ -1,5 +1,5 @@
 /*
- * Copyright © 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package io.servicetalk.data.protobuf;
 
 import io.servicetalk.buffer.api.Buffer;
 import io.servicetalk.buffer.api.BufferAllocator;
+import io.servicetalk.buffer.api.CompositeBuffer;
 import io.servicetalk.data.protobuf.test.TestProtos.DummyMessage;
 import io.servicetalk.data.protobuf.test.TestProtos.MapMessage;
 import io.servicetalk.serializer.api.SerializerDeserializer;
@@ -27,6 +28,7 @@ import com.google.protobuf.Parser;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.OutputStream;
@@ -39,10 +41,14 @@ import java.util.stream.Stream;
 import static io.servicetalk.buffer.api.Buffer.asInputStream;
 import static io.servicetalk.buffer.api.Buffer.asOutputStream;
 import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_DIRECT_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_HEAP_ALLOCATOR;
 import static io.servicetalk.concurrent.api.Publisher.from;
 import static io.servicetalk.concurrent.api.Publisher.fromIterable;
 import static io.servicetalk.data.protobuf.ProtobufSerializerFactory.PROTOBUF;
+import static io.servicetalk.data.protobuf.ProtobufSerializerFactory.PROTOBUF_ALIASING;
 import static io.servicetalk.data.protobuf.test.TestProtos.DummyMessage.parser;
+import static java.lang.Math.min;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -86,6 +92,22 @@ class ProtobufSerializerFactoryTest {
         assertThat(serializer.deserialize(serializer.serialize(mapMessage, allocator), allocator), equalTo(mapMessage));
     }
 
+    @ParameterizedTest(name = "aliasing={0}, direct={1}")
+    @CsvSource({"false,false", "false,true", "true,false", "true,true"})
+    void deserializeCompositeBuffer(boolean aliasing, boolean direct) {
+        final BufferAllocator allocator = direct ? PREFER_DIRECT_ALLOCATOR : PREFER_HEAP_ALLOCATOR;
+        final SerializerDeserializer<DummyMessage> serializer =
+                (aliasing ? PROTOBUF_ALIASING : PROTOBUF).serializerDeserializer(DummyMessage.class);
+        final DummyMessage testMessage = newMsg(1 << 16);
+        final Buffer serialized = serializer.serialize(testMessage, allocator);
+        final CompositeBuffer composite = allocator.newCompositeBuffer();
+        while (serialized.readableBytes() > 0) {
+            composite.addBuffer(serialized.readBytes(min(1 << 12, serialized.readableBytes())));
+        }
+        assertThat(serializer.deserialize(composite, allocator), equalTo(testMessage));
+        assertThat(composite.readableBytes(), equalTo(0));
+    }
+
     private static void serializeDeserialize(final DummyMessage testMessage,
                                              final SerializerDeserializer<DummyMessage> serializer) {
         final byte[] testMessageBytes = testMessage.toByteArray();
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018, 2021-2024 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2021-2024, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -107,6 +107,8 @@ import static io.servicetalk.transport.netty.internal.BuilderUtils.socketChannel
 import static io.servicetalk.transport.netty.internal.EventLoopAwareNettyIoExecutors.toEventLoopAwareNettyIoExecutor;
 import static io.servicetalk.utils.internal.ThrowableUtils.addSuppressed;
 import static java.lang.Integer.toHexString;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.System.identityHashCode;
 import static java.nio.ByteBuffer.wrap;
 import static java.util.Collections.emptyList;
@@ -131,6 +133,9 @@ final class DefaultDnsClient implements DnsClient {
     private final MinTtlCache ttlCache;
     private final long maxTTLNanos;
     private final long ttlJitterNanos;
+    private final long staleRetryNanos;
+    private final double serveStalePrefetchRatio;
+    private final long serveStaleMaxStalenessNanos;
     private final long resolutionTimeoutMillis;
     private final ListenableAsyncCloseable asyncCloseable;
     @Nullable
@@ -147,6 +152,7 @@ final class DefaultDnsClient implements DnsClient {
     DefaultDnsClient(final String id, final IoExecutor ioExecutor, final int consolidateCacheSize,
                      final int minTTL, final int maxTTL, final int minCacheTTL, final int maxCacheTTL,
                      final int negativeTTLCacheSeconds, final long ttlJitterNanos,
+                     final double serveStalePrefetchRatio, final long serveStaleMaxStalenessNanos,
                      final int srvConcurrency,
                      final boolean completeOncePreferredResolved, final boolean srvFilterDuplicateEvents,
                      Duration srvHostNameRepeatInitialDelay, Duration srvHostNameRepeatJitter,
@@ -174,6 +180,9 @@ final class DefaultDnsClient implements DnsClient {
                 minTTL, nettyIoExecutor);
         this.maxTTLNanos = SECONDS.toNanos(maxTTL);
         this.ttlJitterNanos = ttlJitterNanos;
+        this.staleRetryNanos = SECONDS.toNanos(minTTL);
+        this.serveStalePrefetchRatio = serveStalePrefetchRatio;
+        this.serveStaleMaxStalenessNanos = serveStaleMaxStalenessNanos;
         this.addressTypes = dnsResolverAddressTypes;
         this.observer = observer;
         this.missingRecordStatus = missingRecordStatus;
@@ -524,6 +533,11 @@ final class DefaultDnsClient implements DnsClient {
                 protected Future<DnsAnswer<InetAddress>> doDnsQuery(final boolean scheduledQuery) {
                     if (scheduledQuery) {
                         ttlCache.prepareForResolution(name);
+                        if (serveStaleMaxStalenessNanos > 0) {
+                            // Scheduled queries refresh records before they expire, make sure the query is not
+                            // answered from the cache.
+                            ttlCache.clear(name);
+                        }
                     }
                     final EventLoop eventLoop = nettyIoExecutor.eventLoopGroup().next();
                     final Promise<DnsAnswer<InetAddress>> dnsAnswerPromise = eventLoop.newPromise();
@@ -694,6 +708,7 @@ final class DefaultDnsClient implements DnsClient {
             @Nullable
             private Cancellable cancellableForQuery;
             private long ttlNanos;
+            private long expirationTimeNanos;
 
             AbstractDnsSubscription(final Subscriber<? super List<ServiceDiscovererEvent<T>>> subscriber) {
                 this.subscriber = subscriber;
@@ -759,10 +774,11 @@ final class DefaultDnsClient implements DnsClient {
                     } else {
                         final long durationNs =
                                 nettyIoExecutor.currentTime(NANOSECONDS) - resolveDoneNoScheduleTime;
-                        if (durationNs > ttlNanos) {
+                        final long refreshNs = refreshNanos(ttlNanos);
+                        if (durationNs > refreshNs) {
                             doQuery0(false);
                         } else {
-                            scheduleQuery0(ttlNanos - durationNs, ttlNanos);
+                            scheduleQuery0(refreshNs - durationNs, ttlNanos);
                         }
                     }
                 }
@@ -856,7 +872,9 @@ final class DefaultDnsClient implements DnsClient {
                 final Throwable cause = addressFuture.cause();
                 if (cause != null) {
                     reportResolutionFailed(resolutionObserver, cause);
-                    cancelAndTerminate0(cause);
+                    if (!serveStale0(cause)) {
+                        cancelAndTerminate0(cause);
+                    }
                 } else {
                     // DNS lookup can return duplicate InetAddress
                     final DnsAnswer<T> dnsAnswer = addressFuture.getNow();
@@ -870,6 +888,7 @@ final class DefaultDnsClient implements DnsClient {
                         }
                         ttlNanos = maxTTLNanos;
                     }
+                    expirationTimeNanos = nettyIoExecutor.currentTime(NANOSECONDS) + ttlNanos;
                     final List<ServiceDiscovererEvent<T>> events = calculateDifference(activeAddresses, addresses,
                             comparator(), resolutionObserver == null ? null : (nAvailable, nMissing) ->
                                     reportResolutionResult(resolutionObserver, new DefaultResolutionResult(
@@ -880,7 +899,7 @@ final class DefaultDnsClient implements DnsClient {
                     if (events != null) {
                         activeAddresses = addresses;
                         if (--pendingRequests > 0) {
-                            scheduleQuery0(ttlNanos);
+                            scheduleQuery0(refreshNanos(ttlNanos), ttlNanos);
                         } else {
                             resolveDoneNoScheduleTime = nettyIoExecutor.currentTime(NANOSECONDS);
                             cancellableForQuery = null;
@@ -904,11 +923,60 @@ final class DefaultDnsClient implements DnsClient {
                                 DefaultDnsClient.this, AbstractDnsPublisher.this, activeAddresses.size(),
                                 NANOSECONDS.toSeconds(ttlNanos), activeAddresses);
 
-                        scheduleQuery0(ttlNanos);
+                        scheduleQuery0(refreshNanos(ttlNanos), ttlNanos);
                     }
                 }
             }
 
+            private long refreshNanos(final long ttlNanos) {
+                return serveStaleMaxStalenessNanos > 0 ? (long) (ttlNanos * serveStalePrefetchRatio) : ttlNanos;
+            }
+
+            /**
+             * Decides whether previously resolved records should continue to be used after a failed resolution.
+             *
+             * @param cause a cause for the failed resolution
+             * @return {@code true} if the next query is scheduled and the subscriber is not notified about the
+             * failure, {@code false} if the subscription has to be terminated
+             */
+            private boolean serveStale0(final Throwable cause) {
+                if (serveStaleMaxStalenessNanos <= 0 || activeAddresses.isEmpty() ||
+                        shouldRevokeState(cause, nxInvalidation)) {
+                    return false;
+                }
+                final long now = nettyIoExecutor.currentTime(NANOSECONDS);
+                final long staleDeadline = addWithOverflowProtection(expirationTimeNanos, serveStaleMaxStalenessNanos);
+                if (now >= staleDeadline) {
+                    LOGGER.debug("{} records for {} exceeded max staleness of {}ms.", DefaultDnsClient.this,
+                            AbstractDnsPublisher.this, NANOSECONDS.toMillis(serveStaleMaxStalenessNanos));
+                    return false;
+                }
+                final long stalenessNanos = max(0, now - expirationTimeNanos);
+                LOGGER.debug("{} failed to refresh records for {}, serving stale records (staleness={}ms): {}.",
+                        DefaultDnsClient.this, AbstractDnsPublisher.this, NANOSECONDS.toMillis(stalenessNanos),
+                        activeAddresses, cause);
+                reportServingStale(cause, stalenessNanos);
+                // If the prefetch failed, retry when records expire. Afterwards, retry with min TTL interval, but not
+                // later than max staleness allows.
+                final long retryNanos = now < expirationTimeNanos ? expirationTimeNanos - now :
+                        min(staleRetryNanos, staleDeadline - now);
+                cancellableForQuery = nettyIoExecutor.schedule(this::executeScheduledQuery0, retryNanos, NANOSECONDS);
+                return true;
+            }
+
+            private void reportServingStale(final Throwable cause, final long stalenessNanos) {
+                final DnsDiscoveryObserver discoveryObserver = AbstractDnsPublisher.this.discoveryObserver;
+                if (discoveryObserver == null) {
+                    return;
+                }
+                try {
+                    discoveryObserver.servingStale(cause, Duration.ofNanos(stalenessNanos));
+                } catch (Throwable unexpected) {
+                    LOGGER.warn("{} unexpected exception from {} while reporting stale records for: {}",
+                            DefaultDnsClient.this, discoveryObserver, name, unexpected);
+                }
+            }
+
             private void reportResolutionFailed(@Nullable final DnsResolutionObserver resolutionObserver,
                                                 final Throwable cause) {
                 if (resolutionObserver == null) {
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018, 2021-2024 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2021-2024, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -146,6 +146,8 @@ public final class DefaultDnsServiceDiscovererBuilder implements DnsServiceDisco
     private int maxTTLCacheSeconds = DEFAULT_MAX_TTL_CACHE_SECONDS;
     private int negativeTTLCacheSeconds = DEFAULT_NEGATIVE_TTL_CACHE_SECONDS;
     private Duration ttlJitter = ofSeconds(DEFAULT_TTL_POLL_JITTER_SECONDS);
+    private double serveStalePrefetchRatio = 1d;
+    private Duration serveStaleMaxStaleness = Duration.ZERO;
     private int srvConcurrency = 2048;
     private boolean completeOncePreferredResolved = true;
     private boolean srvFilterDuplicateEvents;
@@ -241,6 +243,16 @@ public final class DefaultDnsServiceDiscovererBuilder implements DnsServiceDisco
         return this;
     }
 
+    @Override
+    public DefaultDnsServiceDiscovererBuilder serveStale(final double prefetchRatio, final Duration maxStaleness) {
+        if (!(prefetchRatio > 0d && prefetchRatio <= 1d)) {
+            throw new IllegalArgumentException("prefetchRatio: " + prefetchRatio + " (expected: (0, 1])");
+        }
+        this.serveStaleMaxStaleness = ensurePositive(maxStaleness, "maxStaleness");
+        this.serveStalePrefetchRatio = prefetchRatio;
+        return this;
+    }
+
     @Override
     public DefaultDnsServiceDiscovererBuilder localAddress(@Nullable final SocketAddress localAddress) {
         this.localAddress = localAddress;
@@ -404,7 +416,7 @@ public final class DefaultDnsServiceDiscovererBuilder implements DnsServiceDisco
         final DnsClient rawClient = new DefaultDnsClient(id,
                 ioExecutor == null ? globalExecutionContext().ioExecutor() : ioExecutor, consolidateCacheSize,
                 minTTLSeconds, maxTTLSeconds, minTTLCacheSeconds, maxTTLCacheSeconds, negativeTTLCacheSeconds,
-                ttlJitter.toNanos(),
+                ttlJitter.toNanos(), serveStalePrefetchRatio, serveStaleMaxStaleness.toNanos(),
                 srvConcurrency, completeOncePreferredResolved, srvFilterDuplicateEvents,
                 srvHostNameRepeatInitialDelay, srvHostNameRepeatJitter, maxUdpPayloadSize, ndots, optResourceEnabled,
                 queryTimeout, resolutionTimeout, dnsResolverAddressTypes, localAddress, dnsServerAddressStreamProvider,
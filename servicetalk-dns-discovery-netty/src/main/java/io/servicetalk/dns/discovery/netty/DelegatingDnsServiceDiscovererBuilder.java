@@ -1,5 +1,5 @@
 /*
- * Copyright © 2023 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2023, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -85,6 +85,12 @@ public class DelegatingDnsServiceDiscovererBuilder implements DnsServiceDiscover
         return this;
     }
 
+    @Override
+    public DnsServiceDiscovererBuilder serveStale(final double prefetchRatio, final Duration maxStaleness) {
+        delegate = delegate.serveStale(prefetchRatio, maxStaleness);
+        return this;
+    }
+
     @Override
     public DnsServiceDiscovererBuilder localAddress(@Nullable final SocketAddress localAddress) {
         delegate = delegate.localAddress(localAddress);
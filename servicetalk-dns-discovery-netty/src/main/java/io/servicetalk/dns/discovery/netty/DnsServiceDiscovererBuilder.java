@@ -1,5 +1,5 @@
 /*
- * Copyright © 2023 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2023, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -137,6 +137,28 @@ public interface DnsServiceDiscovererBuilder {
      */
     DnsServiceDiscovererBuilder ttlJitter(Duration ttlJitter);
 
+    /**
+     * Enables serve-stale mode: previously resolved records continue to be used while they are refreshed in the
+     * background, and DNS resolution failures do not terminate the discovery until the records become too stale.
+     * <p>
+     * When enabled, the next DNS query is scheduled after {@code prefetchRatio} of the TTL has elapsed, so that the
+     * records are refreshed before they expire. If a refresh fails, the last known records are retained, the failure
+     * is reported via {@link DnsServiceDiscovererObserver.DnsDiscoveryObserver#servingStale(Throwable, Duration)},
+     * and the query is retried. Once records have been used for longer than {@code maxStaleness} after their TTL
+     * expired, the next failure is propagated as before. Failures that indicate the records are no longer valid
+     * (like {@code NXDOMAIN} when it invalidates state) are always propagated.
+     * <p>
+     * Serve-stale mode is disabled by default.
+     *
+     * @param prefetchRatio a ratio of the TTL in the range {@code (0, 1]} after which the records are refreshed
+     * @param maxStaleness a maximum duration for which the records can be used after their TTL expired
+     * @return {@code this}.
+     */
+    default DnsServiceDiscovererBuilder serveStale(double prefetchRatio, Duration maxStaleness) {
+        throw new UnsupportedOperationException(
+                "DnsServiceDiscovererBuilder#serveStale(double, Duration) is not supported by " + getClass());
+    }
+
     /**
      * Set the local {@link SocketAddress} to bind to.
      *
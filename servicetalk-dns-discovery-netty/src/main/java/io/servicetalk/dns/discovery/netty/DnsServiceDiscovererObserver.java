@@ -1,5 +1,5 @@
 /*
- * Copyright © 2020 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2020, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,8 @@ package io.servicetalk.dns.discovery.netty;
 import io.servicetalk.client.api.ServiceDiscoverer;
 import io.servicetalk.client.api.ServiceDiscovererEvent;
 
+import java.time.Duration;
+
 /**
  * An observer that provides visibility into <a href="https://tools.ietf.org/html/rfc1034">DNS</a>
  * {@link ServiceDiscoverer} built by {@link DnsServiceDiscovererBuilder}.
@@ -85,6 +87,19 @@ public interface DnsServiceDiscovererObserver {
          * @param cause {@link Throwable} as a cause for the failure
          */
         default void discoveryFailed(Throwable cause) { } // FIXME: 0.43 remove default
+
+        /**
+         * Notifies that a DNS resolution failed, but the current DNS discovery keeps using previously resolved records
+         * because {@link DnsServiceDiscovererBuilder#serveStale(double, Duration) serve-stale} mode is enabled.
+         * <p>
+         * This is not a terminal event. It's invoked after {@link DnsResolutionObserver#resolutionFailed(Throwable)}
+         * for the failed resolution, and the next resolution is scheduled.
+         *
+         * @param cause {@link Throwable} as a cause for the failed resolution
+         * @param staleness for how long previously resolved records have been used after their TTL expired, or
+         * {@link Duration#ZERO} if their TTL has not expired yet
+         */
+        default void servingStale(Throwable cause, Duration staleness) { }
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018-2020, 2023 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018-2020, 2023, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,8 @@ import io.servicetalk.concurrent.api.Publisher;
 import io.servicetalk.concurrent.api.Single;
 import io.servicetalk.concurrent.api.TestExecutor;
 import io.servicetalk.concurrent.test.internal.TestPublisherSubscriber;
+import io.servicetalk.dns.discovery.netty.DnsServiceDiscovererObserver.DnsDiscoveryObserver;
+import io.servicetalk.dns.discovery.netty.DnsServiceDiscovererObserver.DnsResolutionObserver;
 import io.servicetalk.transport.netty.internal.EventLoopAwareNettyIoExecutor;
 import io.servicetalk.utils.internal.DurationUtils;
 
@@ -56,6 +58,7 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -83,6 +86,7 @@ import static io.servicetalk.transport.netty.internal.NettyIoExecutors.createIoE
 import static java.net.InetAddress.getByName;
 import static java.time.Duration.ofMillis;
 import static java.time.Duration.ofNanos;
+import static java.time.Duration.ofSeconds;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.function.Function.identity;
@@ -97,8 +101,10 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class DefaultDnsClientTest {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDnsClientTest.class);
@@ -1279,6 +1285,103 @@ class DefaultDnsClientTest {
         }
     }
 
+    @Test
+    void serveStalePrefetchesBeforeExpiration() throws Exception {
+        setup(builder -> builder.serveStale(0.5, ofSeconds(3)));
+        final String domain = "servicetalk.io";
+        final int ttl = 4;
+        final String ip1 = nextIp();
+        final String ip2 = nextIp();
+        recordStore.addIPv4Address(domain, ttl, ip1);
+
+        TestPublisherSubscriber<ServiceDiscovererEvent<InetAddress>> subscriber = dnsQuery(domain);
+        Subscription subscription = subscriber.awaitSubscription();
+        subscription.request(3);
+        assertEvent(subscriber.takeOnNext(), ip1, AVAILABLE);
+
+        // Advance less than TTL, but more than prefetchRatio * TTL:
+        recordStore.removeIPv4Address(domain, ttl, ip1);
+        recordStore.addIPv4Address(domain, ttl, ip2);
+        advanceTime(1);
+        List<ServiceDiscovererEvent<InetAddress>> signals = subscriber.takeOnNext(2);
+        assertHasEvent(signals, ip2, AVAILABLE);
+        assertHasEvent(signals, ip1, EXPIRED);
+    }
+
+    @Test
+    void serveStaleUntilResolutionRecovers() throws Exception {
+        final BlockingQueue<Duration> staleness = new LinkedBlockingQueue<>();
+        setup(builder -> builder.queryTimeout(DEFAULT_TIMEOUT).serveStale(0.5, ofSeconds(3))
+                .observer(servingStaleObserver(staleness)));
+        final String domain = "servicetalk.io";
+        final String ip1 = nextIp();
+        final String ip2 = nextIp();
+        recordStore.addIPv4Address(domain, DEFAULT_TTL, ip1);
+
+        TestPublisherSubscriber<ServiceDiscovererEvent<InetAddress>> subscriber = dnsQuery(domain);
+        Subscription subscription = subscriber.awaitSubscription();
+        subscription.request(3);
+        assertEvent(subscriber.takeOnNext(), ip1, AVAILABLE);
+
+        try {
+            recordStore.addTimeout(domain, RecordType.A);
+            advanceTime();
+            // Records expired 1s ago, but previously resolved addresses remain in use:
+            assertThat(staleness.take(), is(ofSeconds(1)));
+            assertThat(subscriber.pollOnNext(10, MILLISECONDS), is(nullValue()));
+            assertThat(subscriber.pollTerminal(10, MILLISECONDS), is(nullValue()));
+        } finally {
+            recordStore.removeTimeout(domain, RecordType.A);
+        }
+
+        recordStore.removeIPv4Address(domain, DEFAULT_TTL, ip1);
+        recordStore.addIPv4Address(domain, DEFAULT_TTL, ip2);
+        advanceTime();
+        List<ServiceDiscovererEvent<InetAddress>> signals = subscriber.takeOnNext(2);
+        assertHasEvent(signals, ip2, AVAILABLE);
+        assertHasEvent(signals, ip1, EXPIRED);
+        assertThat(staleness, is(empty()));
+    }
+
+    @Test
+    void serveStaleUntilMaxStaleness() throws Exception {
+        final BlockingQueue<Duration> staleness = new LinkedBlockingQueue<>();
+        setup(builder -> builder.queryTimeout(DEFAULT_TIMEOUT).serveStale(0.5, ofSeconds(2))
+                .observer(servingStaleObserver(staleness)));
+        final String domain = "servicetalk.io";
+        final String ip = nextIp();
+        recordStore.addIPv4Address(domain, DEFAULT_TTL, ip);
+
+        TestPublisherSubscriber<ServiceDiscovererEvent<InetAddress>> subscriber = dnsQuery(domain);
+        Subscription subscription = subscriber.awaitSubscription();
+        subscription.request(3);
+        assertEvent(subscriber.takeOnNext(), ip, AVAILABLE);
+
+        try {
+            recordStore.addTimeout(domain, RecordType.A);
+            advanceTime();
+            assertThat(staleness.take(), is(ofSeconds(1)));
+            assertThat(subscriber.pollTerminal(10, MILLISECONDS), is(nullValue()));
+
+            // Next retry happens after max staleness is exceeded:
+            advanceTime();
+            assertThat(subscriber.awaitOnError(), instanceOf(UnknownHostException.class));
+            assertThat(staleness, is(empty()));
+        } finally {
+            recordStore.removeTimeout(domain, RecordType.A);
+        }
+    }
+
+    private static DnsServiceDiscovererObserver servingStaleObserver(final Queue<Duration> staleness) {
+        final DnsDiscoveryObserver discoveryObserver = mock(DnsDiscoveryObserver.class);
+        when(discoveryObserver.onNewResolution(anyString())).thenReturn(mock(DnsResolutionObserver.class));
+        doAnswer(invocation -> staleness.add(invocation.getArgument(1)))
+                .when(discoveryObserver).servingStale(any(), any());
+        final DnsServiceDiscovererObserver observer = mock(DnsServiceDiscovererObserver.class);
+        when(observer.onNewDiscovery(anyString(), anyString())).thenReturn(discoveryObserver);
+        return observer;
+    }
+
     private static <T> Subscriber<ServiceDiscovererEvent<T>> mockThrowSubscriber(
             CountDownLatch latchOnError, Queue<ServiceDiscovererEvent<T>> queue) {
         @SuppressWarnings("unchecked")
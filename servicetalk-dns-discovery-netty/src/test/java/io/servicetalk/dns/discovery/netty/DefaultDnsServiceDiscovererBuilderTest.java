@@ -1,5 +1,5 @@
 /*
- * Copyright © 2023 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2023, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -78,6 +78,18 @@ class DefaultDnsServiceDiscovererBuilderTest {
         assertDoesNotThrow(() -> builder.ttlJitter(Duration.ofNanos(1)));
     }
 
+    @Test
+    void serveStale() {
+        assertThrows(IllegalArgumentException.class, () -> builder.serveStale(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> builder.serveStale(-0.5, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> builder.serveStale(1.5, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> builder.serveStale(Double.NaN, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> builder.serveStale(0.5, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> builder.serveStale(0.5, null));
+        assertDoesNotThrow(() -> builder.serveStale(0.5, Duration.ofSeconds(1)));
+        assertDoesNotThrow(() -> builder.serveStale(1, Duration.ofSeconds(1)));
+    }
+
     @Test
     void maxUdpPayloadSize() {
         assertThrows(IllegalArgumentException.class, () -> builder.maxUdpPayloadSize(-1));
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.encoding.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.serializer.api.SerializerDeserializer;
+import io.servicetalk.serializer.api.StreamingSerializerDeserializer;
+
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.BrotliDecoder;
+import io.netty.handler.codec.compression.BrotliEncoder;
+
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+
+/**
+ * Builder for <a href="https://www.rfc-editor.org/rfc/rfc7932">Brotli</a> ({@code br}) based compression.
+ * <p>
+ * Brotli requires <a href="https://github.com/hyperxpro/Brotli4j">Brotli4j</a> and its native library for the
+ * current platform to be present on the classpath, see {@link NettyCompression#isBrotliAvailable()}.
+ */
+public final class BrotliCompressionBuilder {
+    static final int DEFAULT_COMPRESSION_LEVEL = 4;
+    static final int DEFAULT_WINDOW_SIZE = 22;
+    private static final int DEFAULT_INPUT_BUFFER_SIZE = 8 << 10; //8KiB
+
+    private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+    private int inputBufferSize = DEFAULT_INPUT_BUFFER_SIZE;
+
+    BrotliCompressionBuilder() {
+        // pkg private
+    }
+
+    /**
+     * Sets the compression level (quality) for this codec's encoder.
+     * @param compressionLevel 0 yields the fastest compression and 11 yields the best compression.
+     * @return {@code this}
+     */
+    public BrotliCompressionBuilder withCompressionLevel(final int compressionLevel) {
+        if (compressionLevel < 0 || compressionLevel > 11) {
+            throw new IllegalArgumentException("compressionLevel: " + compressionLevel + " (expected: 0-11)");
+        }
+
+        this.compressionLevel = compressionLevel;
+        return this;
+    }
+
+    /**
+     * Sets the base 2 logarithm of the sliding window size used by this codec's encoder.
+     * <p>
+     * Larger windows allow to find matches further back in the content at the cost of more memory, for the encoder
+     * as well as for the decoder of the peer.
+     * @param windowSize the base 2 logarithm of the window size, between 10 (1KiB) and 24 (16MiB).
+     * @return {@code this}
+     */
+    public BrotliCompressionBuilder windowSize(final int windowSize) {
+        if (windowSize < 10 || windowSize > 24) {
+            throw new IllegalArgumentException("windowSize: " + windowSize + " (expected: 10-24)");
+        }
+
+        this.windowSize = windowSize;
+        return this;
+    }
+
+    /**
+     * Sets the size of the buffer the decoder uses to hand over compressed data to the native library.
+     * @param inputBufferSize the size of the buffer the decoder uses to hand over compressed data to the native
+     * library.
+     * @return {@code this}
+     */
+    public BrotliCompressionBuilder inputBufferSize(final int inputBufferSize) {
+        this.inputBufferSize = ensurePositive(inputBufferSize, "inputBufferSize");
+        return this;
+    }
+
+    /**
+     * Build and return an instance of the {@link SerializerDeserializer} with the configuration of the builder.
+     * @return the {@link SerializerDeserializer} with the configuration of the builder
+     * @throws IllegalStateException if Brotli is not available on this platform.
+     */
+    public SerializerDeserializer<Buffer> build() {
+        ensureAvailable();
+        final int compressionLevel = this.compressionLevel;
+        final int windowSize = this.windowSize;
+        final int inputBufferSize = this.inputBufferSize;
+        return new NettyCompressionSerializer(() -> newEncoder(compressionLevel, windowSize),
+                () -> new BrotliDecoder(inputBufferSize));
+    }
+
+    /**
+     * Build and return an instance of the {@link StreamingSerializerDeserializer} with the configuration of the
+     * builder.
+     * @return the {@link StreamingSerializerDeserializer} with the configuration of the builder
+     * @throws IllegalStateException if Brotli is not available on this platform.
+     */
+    public StreamingSerializerDeserializer<Buffer> buildStreaming() {
+        ensureAvailable();
+        final int compressionLevel = this.compressionLevel;
+        final int windowSize = this.windowSize;
+        final int inputBufferSize = this.inputBufferSize;
+        return new NettyCompressionStreamingSerializer(() -> newEncoder(compressionLevel, windowSize),
+                () -> new BrotliDecoder(inputBufferSize));
+    }
+
+    static MessageToByteEncoder<ByteBuf> newEncoder(final int compressionLevel, final int windowSize) {
+        return new BrotliEncoder(new Encoder.Parameters().setQuality(compressionLevel).setWindow(windowSize));
+    }
+
+    static void ensureAvailable() {
+        if (!Brotli.isAvailable()) {
+            throw new IllegalStateException("Brotli is not available, make sure Brotli4j and its native library " +
+                    "for the current platform are on the classpath", Brotli.cause());
+        }
+    }
+}
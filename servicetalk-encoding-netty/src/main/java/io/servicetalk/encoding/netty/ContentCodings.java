@@ -17,6 +17,14 @@ package io.servicetalk.encoding.netty;
 
 import io.servicetalk.encoding.api.ContentCodec;
 
+import io.netty.handler.codec.compression.BrotliDecoder;
+import io.netty.handler.codec.compression.ZstdDecoder;
+import io.netty.handler.codec.compression.ZstdEncoder;
+
+import static io.servicetalk.buffer.api.CharSequences.newAsciiString;
+import static io.servicetalk.encoding.netty.BrotliCompressionBuilder.DEFAULT_COMPRESSION_LEVEL;
+import static io.servicetalk.encoding.netty.BrotliCompressionBuilder.DEFAULT_WINDOW_SIZE;
+
 /**
  * Common available encoding implementations.
  * @deprecated Use {@link NettyCompression} and {@link NettyBufferEncoders}.
@@ -66,4 +74,26 @@ public final class ContentCodings {
     public static ZipContentCodecBuilder deflate() {
         return new ZipContentCodecBuilder.DeflateContentCodecBuilder();
     }
+
+    /**
+     * Returns the default Brotli ({@code br}) based {@link ContentCodec}.
+     * @return default Brotli based {@link ContentCodec}
+     * @throws IllegalStateException if Brotli is not available on this platform.
+     */
+    public static ContentCodec brotliDefault() {
+        BrotliCompressionBuilder.ensureAvailable();
+        return new NettyChannelContentCodec(newAsciiString("br"),
+                () -> BrotliCompressionBuilder.newEncoder(DEFAULT_COMPRESSION_LEVEL, DEFAULT_WINDOW_SIZE),
+                BrotliDecoder::new);
+    }
+
+    /**
+     * Returns the default Zstandard ({@code zstd}) based {@link ContentCodec}.
+     * @return default Zstandard based {@link ContentCodec}
+     * @throws IllegalStateException if Zstandard is not available on this platform.
+     */
+    public static ContentCodec zstdDefault() {
+        ZstdCompressionBuilder.ensureAvailable();
+        return new NettyChannelContentCodec(newAsciiString("zstd"), ZstdEncoder::new, ZstdDecoder::new);
+    }
 }
@@ -21,8 +21,10 @@ import io.servicetalk.serializer.api.SerializerDeserializer;
 import io.servicetalk.serializer.api.StreamingSerializerDeserializer;
 
 import static io.servicetalk.buffer.api.CharSequences.newAsciiString;
+import static io.servicetalk.encoding.netty.NettyCompression.brotliDefaultStreaming;
 import static io.servicetalk.encoding.netty.NettyCompression.deflateDefaultStreaming;
 import static io.servicetalk.encoding.netty.NettyCompression.gzipDefaultStreaming;
+import static io.servicetalk.encoding.netty.NettyCompression.zstdDefaultStreaming;
 
 /**
  * Factory methods for common {@link BufferEncoderDecoder}s.
@@ -30,6 +32,8 @@ import static io.servicetalk.encoding.netty.NettyCompression.gzipDefaultStreamin
 public final class NettyBufferEncoders {
     private static final CharSequence GZIP = newAsciiString("gzip");
     private static final CharSequence DEFLATE = newAsciiString("deflate");
+    private static final CharSequence BROTLI = newAsciiString("br");
+    private static final CharSequence ZSTD = newAsciiString("zstd");
     private static final BufferEncoderDecoder DEFAULT_GZIP = bufferEncoder(NettyCompression.gzipDefault(),
             gzipDefaultStreaming(), GZIP);
     private static final BufferEncoderDecoder DEFAULT_DEFLATE =
@@ -54,6 +58,50 @@ public final class NettyBufferEncoders {
         return DEFAULT_DEFLATE;
     }
 
+    /**
+     * Get a default {@link BufferEncoderDecoder} for br (Brotli) encoding.
+     * @return a default {@link BufferEncoderDecoder} for br (Brotli) encoding.
+     * @throws IllegalStateException if Brotli is not available on this platform.
+     * @see NettyCompression#isBrotliAvailable()
+     */
+    public static BufferEncoderDecoder brotliDefault() {
+        BrotliCompressionBuilder.ensureAvailable();
+        return BrotliDefaults.DEFAULT_BROTLI;
+    }
+
+    /**
+     * Create a {@link BufferEncoderDecoder} for br (Brotli) encoding with the configuration of the passed
+     * {@link BrotliCompressionBuilder}.
+     * @param builder the {@link BrotliCompressionBuilder} to build the compressors from.
+     * @return a {@link BufferEncoderDecoder} for br (Brotli) encoding.
+     * @throws IllegalStateException if Brotli is not available on this platform.
+     */
+    public static BufferEncoderDecoder brotli(BrotliCompressionBuilder builder) {
+        return bufferEncoder(builder.build(), builder.buildStreaming(), BROTLI);
+    }
+
+    /**
+     * Get a default {@link BufferEncoderDecoder} for zstd (Zstandard) encoding.
+     * @return a default {@link BufferEncoderDecoder} for zstd (Zstandard) encoding.
+     * @throws IllegalStateException if Zstandard is not available on this platform.
+     * @see NettyCompression#isZstdAvailable()
+     */
+    public static BufferEncoderDecoder zstdDefault() {
+        ZstdCompressionBuilder.ensureAvailable();
+        return ZstdDefaults.DEFAULT_ZSTD;
+    }
+
+    /**
+     * Create a {@link BufferEncoderDecoder} for zstd (Zstandard) encoding with the configuration of the passed
+     * {@link ZstdCompressionBuilder}.
+     * @param builder the {@link ZstdCompressionBuilder} to build the compressors from.
+     * @return a {@link BufferEncoderDecoder} for zstd (Zstandard) encoding.
+     * @throws IllegalStateException if Zstandard is not available on this platform.
+     */
+    public static BufferEncoderDecoder zstd(ZstdCompressionBuilder builder) {
+        return bufferEncoder(builder.build(), builder.buildStreaming(), ZSTD);
+    }
+
     /**
      * Create a {@link BufferEncoderDecoder} given the underlying {@link SerializerDeserializer} and
      * {@link StreamingSerializerDeserializer} implementations.
@@ -68,4 +116,20 @@ public final class NettyBufferEncoders {
                                                      CharSequence encodingName) {
         return new DefaultBufferEncoderDecoder(compressor, streamingCompressor, encodingName);
     }
+
+    private static final class BrotliDefaults {
+        static final BufferEncoderDecoder DEFAULT_BROTLI =
+                bufferEncoder(NettyCompression.brotliDefault(), brotliDefaultStreaming(), BROTLI);
+
+        private BrotliDefaults() {
+        }
+    }
+
+    private static final class ZstdDefaults {
+        static final BufferEncoderDecoder DEFAULT_ZSTD =
+                bufferEncoder(NettyCompression.zstdDefault(), zstdDefaultStreaming(), ZSTD);
+
+        private ZstdDefaults() {
+        }
+    }
 }
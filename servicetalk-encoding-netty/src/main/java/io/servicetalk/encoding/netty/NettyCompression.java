@@ -19,6 +19,9 @@ import io.servicetalk.buffer.api.Buffer;
 import io.servicetalk.serializer.api.SerializerDeserializer;
 import io.servicetalk.serializer.api.StreamingSerializerDeserializer;
 
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.Zstd;
+
 /**
  * Common available compression implementations.
  */
@@ -78,4 +81,95 @@ public final class NettyCompression {
     public static ZipCompressionBuilder deflate() {
         return new DeflateCompressionBuilder();
     }
+
+    /**
+     * Returns {@code true} if Brotli compression is available on this platform.
+     * @return {@code true} if Brotli compression is available on this platform.
+     * @see #brotli()
+     */
+    public static boolean isBrotliAvailable() {
+        return Brotli.isAvailable();
+    }
+
+    /**
+     * Returns the default Brotli based {@link SerializerDeserializer}.
+     * @return default Brotli based {@link SerializerDeserializer}
+     * @throws IllegalStateException if Brotli is not available on this platform.
+     */
+    public static SerializerDeserializer<Buffer> brotliDefault() {
+        BrotliCompressionBuilder.ensureAvailable();
+        return BrotliDefaults.DEFAULT_BROTLI;
+    }
+
+    /**
+     * Returns the default Brotli based {@link StreamingSerializerDeserializer}.
+     * @return default Brotli based {@link StreamingSerializerDeserializer}
+     * @throws IllegalStateException if Brotli is not available on this platform.
+     */
+    public static StreamingSerializerDeserializer<Buffer> brotliDefaultStreaming() {
+        BrotliCompressionBuilder.ensureAvailable();
+        return BrotliDefaults.DEFAULT_STREAM_BROTLI;
+    }
+
+    /**
+     * Returns a Brotli based {@link BrotliCompressionBuilder}.
+     * @return a Brotli based {@link BrotliCompressionBuilder}.
+     */
+    public static BrotliCompressionBuilder brotli() {
+        return new BrotliCompressionBuilder();
+    }
+
+    /**
+     * Returns {@code true} if Zstandard compression is available on this platform.
+     * @return {@code true} if Zstandard compression is available on this platform.
+     * @see #zstd()
+     */
+    public static boolean isZstdAvailable() {
+        return Zstd.isAvailable();
+    }
+
+    /**
+     * Returns the default Zstandard based {@link SerializerDeserializer}.
+     * @return default Zstandard based {@link SerializerDeserializer}
+     * @throws IllegalStateException if Zstandard is not available on this platform.
+     */
+    public static SerializerDeserializer<Buffer> zstdDefault() {
+        ZstdCompressionBuilder.ensureAvailable();
+        return ZstdDefaults.DEFAULT_ZSTD;
+    }
+
+    /**
+     * Returns the default Zstandard based {@link StreamingSerializerDeserializer}.
+     * @return default Zstandard based {@link StreamingSerializerDeserializer}
+     * @throws IllegalStateException if Zstandard is not available on this platform.
+     */
+    public static StreamingSerializerDeserializer<Buffer> zstdDefaultStreaming() {
+        ZstdCompressionBuilder.ensureAvailable();
+        return ZstdDefaults.DEFAULT_STREAM_ZSTD;
+    }
+
+    /**
+     * Returns a Zstandard based {@link ZstdCompressionBuilder}.
+     * @return a Zstandard based {@link ZstdCompressionBuilder}.
+     */
+    public static ZstdCompressionBuilder zstd() {
+        return new ZstdCompressionBuilder();
+    }
+
+    // Brotli and Zstandard depend on optional libraries, initialize their defaults only when they are requested.
+    private static final class BrotliDefaults {
+        static final SerializerDeserializer<Buffer> DEFAULT_BROTLI = brotli().build();
+        static final StreamingSerializerDeserializer<Buffer> DEFAULT_STREAM_BROTLI = brotli().buildStreaming();
+
+        private BrotliDefaults() {
+        }
+    }
+
+    private static final class ZstdDefaults {
+        static final SerializerDeserializer<Buffer> DEFAULT_ZSTD = zstd().build();
+        static final StreamingSerializerDeserializer<Buffer> DEFAULT_STREAM_ZSTD = zstd().buildStreaming();
+
+        private ZstdDefaults() {
+        }
+    }
 }
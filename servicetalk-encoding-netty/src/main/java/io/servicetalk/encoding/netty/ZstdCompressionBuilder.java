@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.encoding.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.serializer.api.SerializerDeserializer;
+import io.servicetalk.serializer.api.StreamingSerializerDeserializer;
+
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdDecoder;
+import io.netty.handler.codec.compression.ZstdEncoder;
+
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+
+/**
+ * Builder for <a href="https://www.rfc-editor.org/rfc/rfc8878">Zstandard</a> ({@code zstd}) based compression.
+ * <p>
+ * Zstandard requires <a href="https://github.com/luben/zstd-jni">zstd-jni</a> to be present on the classpath, see
+ * {@link NettyCompression#isZstdAvailable()}.
+ */
+public final class ZstdCompressionBuilder {
+    private static final int DEFAULT_BLOCK_SIZE = 64 << 10; //64KiB
+    private static final int DEFAULT_MAX_ENCODE_SIZE = 32 << 20; //32MiB
+    private static final int DEFAULT_MAX_CHUNK_SIZE = 4 << 20; //4MiB
+
+    private int compressionLevel = 3;
+    private int blockSize = DEFAULT_BLOCK_SIZE;
+    private int maxEncodeSize = DEFAULT_MAX_ENCODE_SIZE;
+    private int maxChunkSize = DEFAULT_MAX_CHUNK_SIZE;
+
+    ZstdCompressionBuilder() {
+        // pkg private
+    }
+
+    /**
+     * Sets the compression level for this codec's encoder.
+     * @param compressionLevel 1 yields the fastest compression and 22 yields the best compression.
+     * @return {@code this}
+     */
+    public ZstdCompressionBuilder withCompressionLevel(final int compressionLevel) {
+        if (compressionLevel < 1 || compressionLevel > 22) {
+            throw new IllegalArgumentException("compressionLevel: " + compressionLevel + " (expected: 1-22)");
+        }
+
+        this.compressionLevel = compressionLevel;
+        return this;
+    }
+
+    /**
+     * Sets the size of the blocks the encoder accumulates before compressing them into a zstd frame.
+     * <p>
+     * Every block is compressed independently, so this is also the window within which the encoder can find matches.
+     * Larger blocks improve the compression ratio for large payloads at the cost of memory and latency for streaming
+     * content, which is compressed at the latest when the block is full or the stream is flushed.
+     * @param blockSize the size of the blocks the encoder accumulates before compressing them.
+     * @return {@code this}
+     */
+    public ZstdCompressionBuilder blockSize(final int blockSize) {
+        this.blockSize = ensurePositive(blockSize, "blockSize");
+        return this;
+    }
+
+    /**
+     * Sets the maximum size of the compressed output the encoder produces for a single block.
+     * @param maxEncodeSize the maximum size of the compressed output the encoder produces for a single block.
+     * @return {@code this}
+     */
+    public ZstdCompressionBuilder maxEncodeSize(final int maxEncodeSize) {
+        this.maxEncodeSize = ensurePositive(maxEncodeSize, "maxEncodeSize");
+        return this;
+    }
+
+    /**
+     * Set the max allowed chunk size to allocate during decoding.
+     * @param maxChunkSize the max allowed chunk size to allocate during decoding.
+     * @return {@code this}
+     */
+    public ZstdCompressionBuilder maxChunkSize(final int maxChunkSize) {
+        this.maxChunkSize = ensurePositive(maxChunkSize, "maxChunkSize");
+        return this;
+    }
+
+    /**
+     * Build and return an instance of the {@link SerializerDeserializer} with the configuration of the builder.
+     * @return the {@link SerializerDeserializer} with the configuration of the builder
+     * @throws IllegalStateException if Zstandard is not available on this platform.
+     */
+    public SerializerDeserializer<Buffer> build() {
+        ensureAvailable();
+        final int compressionLevel = this.compressionLevel;
+        final int blockSize = this.blockSize;
+        final int maxEncodeSize = this.maxEncodeSize;
+        final int maxChunkSize = this.maxChunkSize;
+        return new NettyCompressionSerializer(() -> new ZstdEncoder(compressionLevel, blockSize, maxEncodeSize),
+                () -> new ZstdDecoder(maxChunkSize));
+    }
+
+    /**
+     * Build and return an instance of the {@link StreamingSerializerDeserializer} with the configuration of the
+     * builder.
+     * @return the {@link StreamingSerializerDeserializer} with the configuration of the builder
+     * @throws IllegalStateException if Zstandard is not available on this platform.
+     */
+    public StreamingSerializerDeserializer<Buffer> buildStreaming() {
+        ensureAvailable();
+        final int compressionLevel = this.compressionLevel;
+        final int blockSize = this.blockSize;
+        final int maxEncodeSize = this.maxEncodeSize;
+        final int maxChunkSize = this.maxChunkSize;
+        return new NettyCompressionStreamingSerializer(
+                () -> new ZstdEncoder(compressionLevel, blockSize, maxEncodeSize),
+                () -> new ZstdDecoder(maxChunkSize));
+    }
+
+    static void ensureAvailable() {
+        if (!Zstd.isAvailable()) {
+            throw new IllegalStateException("Zstandard is not available, make sure zstd-jni is on the classpath",
+                    Zstd.cause());
+        }
+    }
+}
@@ -61,20 +61,26 @@ class NettyChannelContentCodecTest {
                 ContentCodings.deflateDefault());
     }
 
+    private static Stream<ContentCodec> allParams() {
+        return Stream.concat(params(), Stream.of(
+                ContentCodings.brotliDefault(),
+                ContentCodings.zstdDefault()));
+    }
+
     @ParameterizedTest
-    @MethodSource("params")
+    @MethodSource("allParams")
     void testEncode(final ContentCodec codec) {
         testEncode(codec, DEFAULT_ALLOCATOR);
     }
 
     @ParameterizedTest
-    @MethodSource("params")
+    @MethodSource("allParams")
     void testEncodeWithReadOnlyBuffer(final ContentCodec codec) {
         testEncode(codec, DEFAULT_RO_ALLOCATOR);
     }
 
     @ParameterizedTest
-    @MethodSource("params")
+    @MethodSource("allParams")
     void testEncodeWithOffsetAndZeroLength(final ContentCodec codec) {
         assertThrows(CodecEncodingException.class, () -> testEncode(codec, DEFAULT_ALLOCATOR, 0));
     }
@@ -155,7 +161,7 @@ class NettyChannelContentCodecTest {
     }
 
     @ParameterizedTest
-    @MethodSource("params")
+    @MethodSource("allParams")
     void testEncodePublisher(final ContentCodec codec) throws ExecutionException, InterruptedException {
         Buffer source = DEFAULT_ALLOCATOR.fromAscii(INPUT);
         Buffer encoded = codec.encode(Publisher.from(source), DEFAULT_ALLOCATOR)
@@ -30,10 +30,16 @@ import java.util.concurrent.ThreadLocalRandom;
 import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.DEFAULT_RO_ALLOCATOR;
 import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
 import static io.servicetalk.concurrent.api.Publisher.from;
+import static io.servicetalk.encoding.netty.NettyCompression.brotli;
+import static io.servicetalk.encoding.netty.NettyCompression.brotliDefault;
+import static io.servicetalk.encoding.netty.NettyCompression.brotliDefaultStreaming;
 import static io.servicetalk.encoding.netty.NettyCompression.deflateDefault;
 import static io.servicetalk.encoding.netty.NettyCompression.deflateDefaultStreaming;
 import static io.servicetalk.encoding.netty.NettyCompression.gzipDefault;
 import static io.servicetalk.encoding.netty.NettyCompression.gzipDefaultStreaming;
+import static io.servicetalk.encoding.netty.NettyCompression.zstd;
+import static io.servicetalk.encoding.netty.NettyCompression.zstdDefault;
+import static io.servicetalk.encoding.netty.NettyCompression.zstdDefaultStreaming;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -44,7 +50,13 @@ class NettyCompressionStreamingSerializerTest {
         GZIP(gzipDefaultStreaming(), DEFAULT_ALLOCATOR),
         DEFLATE(deflateDefaultStreaming(), DEFAULT_ALLOCATOR),
         GZIP_RO(gzipDefaultStreaming(), DEFAULT_RO_ALLOCATOR),
-        DEFLATE_RO(deflateDefaultStreaming(), DEFAULT_RO_ALLOCATOR);
+        DEFLATE_RO(deflateDefaultStreaming(), DEFAULT_RO_ALLOCATOR),
+        BROTLI(brotliDefaultStreaming(), DEFAULT_ALLOCATOR),
+        BROTLI_RO(brotliDefaultStreaming(), DEFAULT_RO_ALLOCATOR),
+        BROTLI_CONFIGURED(brotli().withCompressionLevel(11).windowSize(10).buildStreaming(), DEFAULT_ALLOCATOR),
+        ZSTD(zstdDefaultStreaming(), DEFAULT_ALLOCATOR),
+        ZSTD_RO(zstdDefaultStreaming(), DEFAULT_RO_ALLOCATOR),
+        ZSTD_CONFIGURED(zstd().withCompressionLevel(19).blockSize(512).buildStreaming(), DEFAULT_ALLOCATOR);
 
         final StreamingSerializerDeserializer<Buffer> serializer;
         final BufferAllocator allocator;
@@ -59,7 +71,13 @@ class NettyCompressionStreamingSerializerTest {
         GZIP(gzipDefault(), DEFAULT_ALLOCATOR),
         DEFLATE(deflateDefault(), DEFAULT_ALLOCATOR),
         GZIP_RO(gzipDefault(), DEFAULT_RO_ALLOCATOR),
-        DEFLATE_RO(deflateDefault(), DEFAULT_RO_ALLOCATOR);
+        DEFLATE_RO(deflateDefault(), DEFAULT_RO_ALLOCATOR),
+        BROTLI(brotliDefault(), DEFAULT_ALLOCATOR),
+        BROTLI_RO(brotliDefault(), DEFAULT_RO_ALLOCATOR),
+        BROTLI_CONFIGURED(brotli().withCompressionLevel(0).windowSize(24).build(), DEFAULT_ALLOCATOR),
+        ZSTD(zstdDefault(), DEFAULT_ALLOCATOR),
+        ZSTD_RO(zstdDefault(), DEFAULT_RO_ALLOCATOR),
+        ZSTD_CONFIGURED(zstd().withCompressionLevel(1).blockSize(256).build(), DEFAULT_ALLOCATOR);
 
         final SerializerDeserializer<Buffer> serializer;
         final BufferAllocator allocator;
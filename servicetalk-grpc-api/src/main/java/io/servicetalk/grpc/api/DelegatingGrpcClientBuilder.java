@@ -1,5 +1,5 @@
 /*
- * Copyright © 2022 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2022, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -67,6 +67,12 @@ public class DelegatingGrpcClientBuilder<U, R> implements GrpcClientBuilder<U, R
         return this;
     }
 
+    @Override
+    public GrpcClientBuilder<U, R> hedging(final GrpcHedgingConfig config) {
+        delegate = delegate.hedging(config);
+        return this;
+    }
+
     @Override
     public <Client extends GrpcClient<?>> Client build(final GrpcClientFactory<Client, ?> clientFactory) {
         return delegate.build(clientFactory);
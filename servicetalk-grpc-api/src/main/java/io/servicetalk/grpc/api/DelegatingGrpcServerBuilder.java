@@ -72,6 +72,12 @@ public class DelegatingGrpcServerBuilder implements GrpcServerBuilder {
         return this;
     }
 
+    @Override
+    public GrpcServerBuilder listenerSharding(final boolean enable) {
+        delegate = delegate.listenerSharding(enable);
+        return this;
+    }
+
     @Override
     public Single<GrpcServerContext> listen(final GrpcBindableService<?>... services) {
         return delegate.listen(services);
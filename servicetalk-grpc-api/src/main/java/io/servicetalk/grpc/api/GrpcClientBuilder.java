@@ -1,5 +1,5 @@
 /*
- * Copyright © 2019, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2019, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -94,6 +94,19 @@ public interface GrpcClientBuilder<U, R> {
         throw new UnsupportedOperationException("method not supported by " + getClass());
     }
 
+    /**
+     * Hedges <a href="https://www.grpc.io">gRPC</a> calls to reduce tail latency: if no response is received within
+     * a delay, a second call is sent and the first successful response wins. The hedging filter is applied inside
+     * the deadline filter, so the deadline applies to all attempts of a call.
+     *
+     * @param config the {@link GrpcHedgingConfig} which selects the methods to hedge and configures the delay.
+     * @return {@code this}.
+     * @see GrpcFilters#newGrpcHedgingClientFilterFactory(GrpcHedgingConfig)
+     */
+    default GrpcClientBuilder<U, R> hedging(GrpcHedgingConfig config) {
+        throw new UnsupportedOperationException("hedging is not supported by " + getClass());
+    }
+
     /**
      * Builds a <a href="https://www.grpc.io">gRPC</a> client.
      *
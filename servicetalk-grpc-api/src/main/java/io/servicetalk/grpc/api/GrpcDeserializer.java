@@ -1,5 +1,5 @@
 /*
- * Copyright © 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import io.servicetalk.serializer.api.SerializationException;
 import javax.annotation.Nullable;
 
 import static io.servicetalk.grpc.api.GrpcStreamingDeserializer.isCompressed;
+import static io.servicetalk.grpc.api.GrpcStreamingDeserializer.readMessage;
 import static io.servicetalk.grpc.api.GrpcStreamingSerializer.METADATA_SIZE;
 import static java.util.Objects.requireNonNull;
 
@@ -62,7 +63,7 @@ final class GrpcDeserializer<T> implements Deserializer<T> {
             throw new SerializationException("Message-Length invalid: " + expectedLength);
         }
 
-        Buffer result = buffer.readBytes(expectedLength);
+        Buffer result = readMessage(buffer, expectedLength, allocator);
         if (compressed) {
             result = decompressor.decoder().deserialize(result, allocator);
         }
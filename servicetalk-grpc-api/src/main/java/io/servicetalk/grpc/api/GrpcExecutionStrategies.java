@@ -1,5 +1,5 @@
 /*
- * Copyright © 2019 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2019, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,6 +53,12 @@ public final class GrpcExecutionStrategies {
      * that requires less offloading. The intention of this strategy is to provide a safe default if no strategy is
      * specified; it should not be returned by {@link HttpExecutionStrategyInfluencer#requiredOffloads()} which should
      * return the actual required offloads.
+     * <p>
+     * If the offloaded tasks don't block (e.g. asynchronous streaming services), an
+     * {@link io.servicetalk.concurrent.api.Executor} with a fixed number of threads and a queue per thread, e.g.
+     * {@link io.servicetalk.concurrent.api.Executors#newWorkStealingExecutor(int, int)}, configured via
+     * {@link GrpcServerBuilder#initializeHttp(GrpcServerBuilder.HttpInitializer)}, keeps the signals offloaded from an
+     * I/O thread on the same thread instead of contending on a single queue.
      *
      * @return Default {@link GrpcExecutionStrategy}.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2022 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2022, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -49,6 +49,18 @@ public final class GrpcFilters {
         return new TimeoutHttpRequesterFilter((request, timeSource) -> readTimeoutHeader(request), true);
     }
 
+    /**
+     * Create a {@link StreamingHttpClientFilterFactory} that hedges gRPC calls as configured by {@code config}.
+     * It should be appended after {@link #newGrpcDeadlineClientFilterFactory()} so that the deadline applies to all
+     * the attempts of a call.
+     *
+     * @param config the {@link GrpcHedgingConfig}.
+     * @return a {@link StreamingHttpClientFilterFactory} that hedges gRPC calls.
+     */
+    public static StreamingHttpClientFilterFactory newGrpcHedgingClientFilterFactory(final GrpcHedgingConfig config) {
+        return config.filterFactory();
+    }
+
     /**
      * Create a {@link StreamingHttpClientFilterFactory} that enforces the
      * <a href="https://github.com/grpc/grpc/blob/master/doc/PROTOCOL-HTTP2.md#requests">Timeout</a>
@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.grpc.api;
+
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.http.api.StreamingHttpClientFilterFactory;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.http.utils.HedgingHttpRequesterFilter;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import static io.servicetalk.concurrent.api.Single.failed;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.grpc.api.GrpcHeaderNames.GRPC_STATUS;
+import static io.servicetalk.grpc.api.GrpcUtils.grpcStatusException;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Configuration to hedge <a href="https://www.grpc.io">gRPC</a> calls to reduce tail latency, see
+ * {@link GrpcClientBuilder#hedging(GrpcHedgingConfig)}.
+ * <p>
+ * If no response is received within a delay, a second call is sent and the first successful response wins. A
+ * response with a non-OK {@code grpc-status}, in its headers or in its trailers, is a failed call: the other call is
+ * awaited and the failure is propagated only if no other call is pending. To read the status from the trailers, the
+ * response of a call which may be hedged is aggregated before it wins, so hedging is meant for unary methods.
+ */
+public final class GrpcHedgingConfig {
+
+    private final HedgingHttpRequesterFilter filter;
+
+    private GrpcHedgingConfig(final HedgingHttpRequesterFilter filter) {
+        this.filter = filter;
+    }
+
+    StreamingHttpClientFilterFactory filterFactory() {
+        return filter;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{filter=" + filter + '}';
+    }
+
+    private static Single<StreamingHttpResponse> validate(final StreamingHttpResponse response) {
+        final GrpcStatusException headersStatus = grpcStatusException(response.headers());
+        if (headersStatus != null) {
+            response.messageBody().ignoreElements().subscribe();
+            return failed(headersStatus);
+        }
+        if (response.headers().contains(GRPC_STATUS)) {
+            // Trailers-Only response with an OK status.
+            return succeeded(response);
+        }
+        return response.toResponse().flatMap(aggregated -> {
+            final GrpcStatusException trailersStatus = grpcStatusException(aggregated.trailers());
+            return trailersStatus == null ? succeeded(aggregated.toStreamingResponse()) : failed(trailersStatus);
+        });
+    }
+
+    /**
+     * A builder for {@link GrpcHedgingConfig}.
+     */
+    public static final class Builder {
+        private final HedgingHttpRequesterFilter.Builder builder = new HedgingHttpRequesterFilter.Builder()
+                .responseValidator(GrpcHedgingConfig::validate);
+
+        /**
+         * Creates a new instance.
+         * <p>
+         * All gRPC calls use the {@code POST} method, so the methods which may be hedged have to be selected
+         * explicitly. Only idempotent methods should be hedged.
+         *
+         * @param hedgeMethods {@link Predicate} which returns {@code true} for the paths
+         * ({@code /<package>.<service>/<method>}) of the methods which may be hedged.
+         */
+        public Builder(final Predicate<String> hedgeMethods) {
+            requireNonNull(hedgeMethods);
+            builder.hedgeWhen(metaData -> hedgeMethods.test(metaData.path()));
+        }
+
+        /**
+         * Sends a hedged call if no response is received within a fixed {@code delay}.
+         *
+         * @param delay the delay after which a hedged call is sent.
+         * @return {@code this}.
+         */
+        public Builder delay(final Duration delay) {
+            builder.delay(delay);
+            return this;
+        }
+
+        /**
+         * Sends a hedged call if no response is received within the {@code percentile} of recently observed response
+         * latencies. This is the default with the 95th percentile between 1 millisecond and 1 second.
+         *
+         * @param percentile the percentile of recently observed response latencies, between {@code 0} and
+         * {@code 100} (exclusive).
+         * @param minDelay the minimum delay after which a hedged call is sent.
+         * @param maxDelay the maximum delay after which a hedged call is sent, also used until enough latencies are
+         * observed.
+         * @return {@code this}.
+         */
+        public Builder delayPercentile(final double percentile, final Duration minDelay, final Duration maxDelay) {
+            builder.delayPercentile(percentile, minDelay, maxDelay);
+            return this;
+        }
+
+        /**
+         * Bounds the extra load caused by hedged calls. Each call which may be hedged deposits {@code hedgeRatio}
+         * tokens, up to {@code maxTokens}, and each hedged call consumes one token. The budget is tracked per client.
+         * Defaults to {@code 0.1} (at most 10% extra calls) with bursts of up to {@code 10} hedged calls.
+         *
+         * @param hedgeRatio the ratio of hedged calls to calls which may be hedged, between {@code 0} (exclusive)
+         * and {@code 1} (inclusive).
+         * @param maxTokens the maximum number of tokens that can be accumulated, which bounds bursts of hedged calls.
+         * @return {@code this}.
+         */
+        public Builder budget(final double hedgeRatio, final int maxTokens) {
+            builder.budget(hedgeRatio, maxTokens);
+            return this;
+        }
+
+        /**
+         * Creates a new {@link GrpcHedgingConfig}.
+         *
+         * @return a new {@link GrpcHedgingConfig}.
+         */
+        public GrpcHedgingConfig build() {
+            return new GrpcHedgingConfig(builder.build());
+        }
+    }
+}
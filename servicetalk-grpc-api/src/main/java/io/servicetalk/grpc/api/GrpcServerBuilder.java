@@ -104,6 +104,21 @@ public interface GrpcServerBuilder {
      */
     GrpcServerBuilder lifecycleObserver(GrpcLifecycleObserver lifecycleObserver);
 
+    /**
+     * Binds one listen socket per IO thread to the same address, with the kernel distributing accepted connections
+     * between them ({@code SO_REUSEPORT}).
+     * <p>
+     * Note, if {@link #initializeHttp(HttpInitializer)} is used to configure
+     * {@link HttpServerBuilder#listenerSharding(boolean)} – that will override the value specified using this method.
+     *
+     * @param enable {@code true} to bind one listen socket per IO thread if supported.
+     * @return {@code this}.
+     * @see HttpServerBuilder#listenerSharding(boolean)
+     */
+    default GrpcServerBuilder listenerSharding(boolean enable) {
+        throw new UnsupportedOperationException("listenerSharding is not supported by " + getClass());
+    }
+
     /**
      * Starts this server and returns the {@link GrpcServerContext} after the server has been successfully started.
      * <p>
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package io.servicetalk.grpc.api;
 
 import io.servicetalk.buffer.api.Buffer;
 import io.servicetalk.buffer.api.BufferAllocator;
+import io.servicetalk.buffer.api.CompositeBuffer;
 import io.servicetalk.concurrent.api.Publisher;
 import io.servicetalk.encoding.api.BufferDecoder;
 import io.servicetalk.serializer.api.Deserializer;
@@ -24,6 +25,7 @@ import io.servicetalk.serializer.api.SerializationException;
 import io.servicetalk.serializer.api.StreamingDeserializer;
 import io.servicetalk.serializer.utils.FramedDeserializerOperator;
 
+import java.nio.ByteBuffer;
 import java.util.function.BiFunction;
 import javax.annotation.Nullable;
 
@@ -83,7 +85,7 @@ final class GrpcStreamingDeserializer<T> implements StreamingDeserializer<T> {
             if (buffer.readableBytes() < expectedLength) {
                 return null;
             }
-            Buffer result = buffer.readBytes(expectedLength);
+            Buffer result = readMessage(buffer, expectedLength, allocator);
             expectedLength = -1;
             if (compressed) {
                 assert compressor != null;
@@ -93,6 +95,38 @@ final class GrpcStreamingDeserializer<T> implements StreamingDeserializer<T> {
         }
     }
 
+    /**
+     * Reads the next {@code length} bytes of {@code buffer} without copying them.
+     * <p>
+     * Messages are often split across multiple {@link Buffer}s of the underlying transport, which are aggregated in a
+     * {@link CompositeBuffer}. {@link Buffer#readBytes(int)} would copy the message into a new {@link Buffer}, and a
+     * slice would be affected by later discards of the aggregated {@link Buffer}. Instead, the message is composed from
+     * the NIO buffers that share the memory of each component.
+     * <p>
+     * Deframing doesn't copy, but parsing a message of multiple heap buffers may still do: protobuf only reads
+     * multiple direct NIO buffers in place and otherwise parses them through an {@link java.io.InputStream}, which
+     * copies the bytes into an internal array.
+     * @param buffer the {@link Buffer} to read from.
+     * @param length the length of the message.
+     * @param allocator the {@link BufferAllocator} used to wrap the NIO buffers.
+     * @return a {@link Buffer} with the next {@code length} bytes of {@code buffer}.
+     */
+    static Buffer readMessage(Buffer buffer, int length, BufferAllocator allocator) {
+        if (buffer.nioBufferCount() < 1) {
+            return buffer.readBytes(length);
+        }
+        final ByteBuffer[] nioBuffers = buffer.toNioBuffers(buffer.readerIndex(), length);
+        buffer.skipBytes(length);
+        if (nioBuffers.length == 1) {
+            return allocator.wrap(nioBuffers[0]);
+        }
+        final CompositeBuffer message = allocator.newCompositeBuffer(nioBuffers.length);
+        for (ByteBuffer nioBuffer : nioBuffers) {
+            message.addBuffer(allocator.wrap(nioBuffer));
+        }
+        return message;
+    }
+
     static boolean isCompressed(Buffer buffer) throws SerializationException {
         final byte compressionFlag = buffer.readByte();
         if (compressionFlag == FLAG_UNCOMPRESSED) {
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,12 +19,18 @@ import io.servicetalk.buffer.api.Buffer;
 import io.servicetalk.buffer.api.BufferAllocator;
 import io.servicetalk.concurrent.api.Publisher;
 import io.servicetalk.encoding.api.BufferEncoder;
+import io.servicetalk.serializer.api.SerializationException;
 import io.servicetalk.serializer.api.Serializer;
 import io.servicetalk.serializer.api.StreamingSerializer;
 
+import com.google.protobuf.CodedOutputStream.OutOfSpaceException;
+
 import java.util.function.ToIntFunction;
 import javax.annotation.Nullable;
 
+import static io.servicetalk.buffer.netty.BufferUtils.isLease;
+import static io.servicetalk.buffer.netty.BufferUtils.release;
+import static io.servicetalk.concurrent.api.Publisher.defer;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -36,6 +42,11 @@ final class GrpcStreamingSerializer<T> implements StreamingSerializer<T> {
     static final int METADATA_SIZE = 5; // 1 byte for compression flag and 4 bytes for length of data
     static final byte FLAG_UNCOMPRESSED = 0x0;
     static final byte FLAG_COMPRESSED = 0x1;
+    // Default SETTINGS_MAX_FRAME_SIZE of HTTP/2.
+    static final int SHARED_BUFFER_SIZE = 16384;
+    // Larger messages are serialized into dedicated buffers, which bounds the space wasted at the end of a shared
+    // buffer when the next message doesn't fit.
+    static final int MAX_SHARED_MESSAGE_SIZE = SHARED_BUFFER_SIZE / 8;
     private final ToIntFunction<T> serializedBytesEstimator;
     private final Serializer<T> serializer;
     @Nullable
@@ -63,35 +74,132 @@ final class GrpcStreamingSerializer<T> implements StreamingSerializer<T> {
 
     @Override
     public Publisher<Buffer> serialize(final Publisher<T> toSerialize, final BufferAllocator allocator) {
-        return compressor == null ?
-                toSerialize.map(t -> {
-                    final int sizeEstimate = serializedBytesEstimator.applyAsInt(t);
-                    Buffer buffer = allocator.newBuffer(METADATA_SIZE + sizeEstimate);
-                    final int writerIndexBefore = buffer.writerIndex();
-                    buffer.writerIndex(writerIndexBefore + METADATA_SIZE);
-                    serializer.serialize(t, allocator, buffer);
-                    buffer.setByte(writerIndexBefore, FLAG_UNCOMPRESSED);
-                    buffer.setInt(writerIndexBefore + 1, buffer.writerIndex() - writerIndexBefore - METADATA_SIZE);
-                    return buffer;
-                }) :
-                toSerialize.map(t -> {
-                    // First do the serialization.
-                    final int sizeEstimate = serializedBytesEstimator.applyAsInt(t);
-                    Buffer serializedBuffer = allocator.newBuffer(sizeEstimate);
+        return defer(() -> {
+            // The messages of a stream share memory, so the state is per subscription.
+            final MessageWriter writer = new MessageWriter(allocator);
+            return toSerialize.map(writer::serialize).shareContextOnSubscribe();
+        });
+    }
+
+    private static boolean isOutOfSpace(final RuntimeException e) {
+        // Serializers and compressors may wrap the failure to write past the end of a buffer which can't grow.
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IndexOutOfBoundsException || cause instanceof OutOfSpaceException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Serializes the messages of a single stream.
+     * <p>
+     * Small messages are written one after another into a buffer of the size of a default HTTP/2 frame and emitted as
+     * slices of it, so that high-rate streams of small messages don't allocate memory for each message. The length
+     * prefix is back-patched once the message is written, and compressed messages are compressed directly into the
+     * shared buffer. The shared buffer is only allocated for the second small message, so unary calls don't pay for
+     * it. Leases of pooled memory are never shared, because the transport releases each written buffer.
+     */
+    private final class MessageWriter {
+        private final BufferAllocator allocator;
+        @Nullable
+        private Buffer shared;
+        @Nullable
+        private Buffer uncompressed;
+        private boolean smallMessageWritten;
+        private boolean sharingDisabled;
+        private boolean leases;
+
+        MessageWriter(final BufferAllocator allocator) {
+            this.allocator = allocator;
+        }
+
+        Buffer serialize(final T t) {
+            final int sizeEstimate = serializedBytesEstimator.applyAsInt(t);
+            if (!sharingDisabled && !leases && METADATA_SIZE + sizeEstimate <= MAX_SHARED_MESSAGE_SIZE) {
+                if (smallMessageWritten) {
+                    final Buffer message = serializeShared(t, sizeEstimate);
+                    if (message != null) {
+                        return message;
+                    }
+                } else {
+                    smallMessageWritten = true;
+                }
+            }
+            final Buffer buffer = allocator.newBuffer(METADATA_SIZE + sizeEstimate);
+            // Slices of a lease share it, so they couldn't be released one by one once they are written.
+            leases |= isLease(buffer);
+            writeMessage(t, sizeEstimate, buffer);
+            return buffer;
+        }
+
+        @Nullable
+        private Buffer serializeShared(final T t, final int sizeEstimate) {
+            Buffer shared = this.shared;
+            if (shared == null || shared.capacity() - shared.writerIndex() < METADATA_SIZE + sizeEstimate) {
+                shared = this.shared = allocator.newBuffer(SHARED_BUFFER_SIZE);
+            }
+            final int writerIndex = shared.writerIndex();
+            // Write into a slice which can't grow. Growing the shared buffer would reallocate the memory of the
+            // previous messages, which may concurrently be written by the transport.
+            final Buffer message = shared.slice(writerIndex, shared.capacity() - writerIndex).writerIndex(0);
+            try {
+                writeMessage(t, sizeEstimate, message);
+                shared.writerIndex(writerIndex + message.writerIndex());
+                return shared.readSlice(message.writerIndex());
+            } catch (IndexOutOfBoundsException | SerializationException e) {
+                if (!isOutOfSpace(e)) {
+                    throw e;
+                }
+                // The estimate is too small, or compression expanded the message. Don't pay for a failed attempt
+                // on every message of this stream and serialize into dedicated buffers instead.
+                sharingDisabled = true;
+                return null;
+            }
+        }
+
+        private void writeMessage(final T t, final int sizeEstimate, final Buffer buffer) {
+            final int writerIndexBefore = buffer.writerIndex();
+            buffer.writerIndex(writerIndexBefore + METADATA_SIZE);
+            if (compressor == null) {
+                serializer.serialize(t, allocator, buffer);
+                buffer.setByte(writerIndexBefore, FLAG_UNCOMPRESSED);
+            } else {
+                // First do the serialization, then compress into the buffer that we return.
+                final Buffer serializedBuffer = uncompressedBuffer(sizeEstimate);
+                try {
                     serializer.serialize(t, allocator, serializedBuffer);
+                    compressor.encoder().serialize(serializedBuffer, allocator, buffer);
+                } finally {
+                    if (serializedBuffer != uncompressed) {
+                        // Not written by the transport, so a lease has to be released here.
+                        release(serializedBuffer);
+                    }
+                }
+                buffer.setByte(writerIndexBefore, FLAG_COMPRESSED);
+            }
+            // Fill in the length now that the final size is known.
+            buffer.setInt(writerIndexBefore + 1, buffer.writerIndex() - writerIndexBefore - METADATA_SIZE);
+        }
 
-                    // Next do the compression, pessimistically assume the size won't decrease when allocating.
-                    Buffer resultBuffer = allocator.newBuffer(METADATA_SIZE + sizeEstimate);
-
-                    // Compress into the same buffer that we return, so advance the writer index metadata
-                    // bytes and then we fill in the meta data after compression is done and the final size is known.
-                    final int writerIndexBefore = resultBuffer.writerIndex();
-                    resultBuffer.writerIndex(writerIndexBefore + METADATA_SIZE);
-                    compressor.encoder().serialize(serializedBuffer, allocator, resultBuffer);
-                    resultBuffer.setByte(writerIndexBefore, FLAG_COMPRESSED);
-                    resultBuffer.setInt(writerIndexBefore + 1,
-                            resultBuffer.writerIndex() - writerIndexBefore - METADATA_SIZE);
-                    return resultBuffer;
-                });
+        private Buffer uncompressedBuffer(final int sizeEstimate) {
+            if (sizeEstimate > SHARED_BUFFER_SIZE || leases) {
+                // Don't retain the memory of large messages, or a lease, for the lifetime of the stream.
+                return allocator.newBuffer(sizeEstimate);
+            }
+            // The compressor copies the serialized message, so the buffer can be reused for the next message. It
+            // grows with the messages instead of being allocated at its maximum size.
+            Buffer uncompressed = this.uncompressed;
+            if (uncompressed == null) {
+                uncompressed = allocator.newBuffer(sizeEstimate);
+                leases |= isLease(uncompressed);
+                if (!leases) {
+                    this.uncompressed = uncompressed;
+                }
+            } else {
+                uncompressed.clear().ensureWritable(sizeEstimate);
+            }
+            return uncompressed;
+        }
     }
 }
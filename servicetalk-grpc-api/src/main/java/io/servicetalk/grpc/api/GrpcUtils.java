@@ -1,5 +1,5 @@
 /*
- * Copyright © 2019-2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2019-2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -455,6 +455,18 @@ final class GrpcUtils {
         }
     }
 
+    /**
+     * Returns the {@link GrpcStatusException} for a non-OK {@code grpc-status} in {@code headers}.
+     *
+     * @param headers the headers or trailers of a response.
+     * @return the {@link GrpcStatusException}, or {@code null} if the status is absent or OK.
+     */
+    @Nullable
+    static GrpcStatusException grpcStatusException(final HttpHeaders headers) {
+        final GrpcStatusCode statusCode = extractGrpcStatusCodeFromHeaders(headers);
+        return statusCode == null ? null : convertToGrpcStatusException(statusCode, headers);
+    }
+
     @Nullable
     private static GrpcStatusCode extractGrpcStatusCodeFromHeaders(final HttpHeaders headers) {
         final CharSequence statusCode = headers.get(GRPC_STATUS);
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.grpc.api;
+
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.concurrent.api.TestExecutor;
+import io.servicetalk.concurrent.api.TestSingle;
+import io.servicetalk.http.api.DefaultHttpHeadersFactory;
+import io.servicetalk.http.api.DefaultStreamingHttpRequestResponseFactory;
+import io.servicetalk.http.api.HttpExecutionContext;
+import io.servicetalk.http.api.HttpResponse;
+import io.servicetalk.http.api.StreamingHttpClient;
+import io.servicetalk.http.api.StreamingHttpClientFilter;
+import io.servicetalk.http.api.StreamingHttpClientFilterFactory;
+import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpRequestResponseFactory;
+import io.servicetalk.http.api.StreamingHttpRequester;
+import io.servicetalk.http.api.StreamingHttpResponse;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.grpc.api.GrpcFilters.newGrpcHedgingClientFilterFactory;
+import static io.servicetalk.grpc.api.GrpcHeaderNames.GRPC_STATUS;
+import static io.servicetalk.grpc.api.GrpcStatusCode.UNAVAILABLE;
+import static io.servicetalk.http.api.FilterFactoryUtils.appendClientFilterFactory;
+import static io.servicetalk.http.api.HttpExecutionStrategies.offloadAll;
+import static io.servicetalk.http.api.HttpProtocolVersion.HTTP_2_0;
+import static io.servicetalk.http.api.TestStreamingHttpClient.from;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.time.Duration.ofMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GrpcHedgingConfigTest {
+
+    private static final String METHOD = "/test.Service/Get";
+    private static final StreamingHttpRequestResponseFactory reqRespFactory =
+            new DefaultStreamingHttpRequestResponseFactory(DEFAULT_ALLOCATOR, DefaultHttpHeadersFactory.INSTANCE,
+                    HTTP_2_0);
+
+    private final TestExecutor executor = new TestExecutor();
+    private final List<TestSingle<StreamingHttpResponse>> attempts = new CopyOnWriteArrayList<>();
+
+    private StreamingHttpClient newClient() {
+        HttpExecutionContext executionContext = mock(HttpExecutionContext.class);
+        when(executionContext.executionStrategy()).thenReturn(offloadAll());
+        when(executionContext.executor()).thenReturn(executor);
+        StreamingHttpClientFilterFactory backend = client -> new StreamingHttpClientFilter(client) {
+            @Override
+            protected Single<StreamingHttpResponse> request(final StreamingHttpRequester delegate,
+                                                            final StreamingHttpRequest request) {
+                TestSingle<StreamingHttpResponse> response = new TestSingle<>();
+                attempts.add(response);
+                return response;
+            }
+        };
+        GrpcHedgingConfig config = new GrpcHedgingConfig.Builder(METHOD::equals).delay(ofMillis(100)).build();
+        return from(reqRespFactory, executionContext,
+                appendClientFilterFactory(newGrpcHedgingClientFilterFactory(config), backend));
+    }
+
+    @Test
+    void trailersOnlyFailureDefersToOtherCall() throws Exception {
+        StreamingHttpClient client = newClient();
+        Future<HttpResponse> response = hedged(client);
+
+        StreamingHttpResponse failure = reqRespFactory.ok();
+        failure.headers().set(GRPC_STATUS, String.valueOf(UNAVAILABLE.value()));
+        attempts.get(0).onSuccess(failure);
+        assertThat(response.isDone(), is(false));
+
+        attempts.get(1).onSuccess(okResponse("hello"));
+        assertThat(response.get().payloadBody().toString(US_ASCII), is("hello"));
+    }
+
+    @Test
+    void trailersFailureDefersToOtherCall() throws Exception {
+        StreamingHttpClient client = newClient();
+        Future<HttpResponse> response = hedged(client);
+
+        attempts.get(0).onSuccess(response("failed", UNAVAILABLE));
+        assertThat(response.isDone(), is(false));
+
+        attempts.get(1).onSuccess(okResponse("hello"));
+        assertThat(response.get().payloadBody().toString(US_ASCII), is("hello"));
+    }
+
+    @Test
+    void failureIsPropagatedIfAllCallsFail() {
+        StreamingHttpClient client = newClient();
+        Future<HttpResponse> response = hedged(client);
+
+        attempts.get(1).onSuccess(response("failed", UNAVAILABLE));
+        attempts.get(0).onSuccess(response("failed", UNAVAILABLE));
+        ExecutionException e = assertThrows(ExecutionException.class, response::get);
+        assertThat(e.getCause(), instanceOf(GrpcStatusException.class));
+        assertThat(((GrpcStatusException) e.getCause()).status().code(), is(UNAVAILABLE));
+    }
+
+    @Test
+    void otherMethodsAreNotHedged() {
+        StreamingHttpClient client = newClient();
+        client.request(client.post("/test.Service/Update")).toFuture();
+        executor.advanceTimeBy(100, MILLISECONDS);
+        assertThat(attempts, hasSize(1));
+    }
+
+    private Future<HttpResponse> hedged(final StreamingHttpClient client) {
+        Future<HttpResponse> response = client.request(client.post(METHOD))
+                .flatMap(StreamingHttpResponse::toResponse).toFuture();
+        executor.advanceTimeBy(100, MILLISECONDS);
+        assertThat(attempts, hasSize(2));
+        return response;
+    }
+
+    private static StreamingHttpResponse okResponse(final String payload) {
+        return response(payload, GrpcStatusCode.OK);
+    }
+
+    private static StreamingHttpResponse response(final String payload, final GrpcStatusCode status) {
+        return reqRespFactory.ok().transformMessageBody(p -> Publisher.from(DEFAULT_ALLOCATOR.fromAscii(payload),
+                DefaultHttpHeadersFactory.INSTANCE.newTrailers().set(GRPC_STATUS, String.valueOf(status.value()))));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.grpc.api;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.CompositeBuffer;
+import io.servicetalk.serializer.api.Deserializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_HEAP_ALLOCATOR;
+import static io.servicetalk.concurrent.api.Publisher.from;
+import static io.servicetalk.grpc.api.GrpcStreamingSerializer.FLAG_UNCOMPRESSED;
+import static io.servicetalk.grpc.api.GrpcStreamingSerializer.METADATA_SIZE;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.Arrays.copyOfRange;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class GrpcStreamingDeserializerTest {
+
+    private final List<Buffer> messages = new ArrayList<>();
+    private final Deserializer<String> deserializer = (serializedData, allocator) -> {
+        messages.add(serializedData);
+        return serializedData.readBytes(serializedData.readableBytes()).toString(US_ASCII);
+    };
+
+    @Test
+    void messageSplitAcrossBuffers() throws Exception {
+        final byte[] framed = frame("hello", "world");
+        final Buffer first = part(framed, 0, 3);
+        final Buffer second = part(framed, 3, METADATA_SIZE + 3);
+        final Buffer third = part(framed, METADATA_SIZE + 3, framed.length);
+
+        assertThat(deserialize(first, second, third), contains("hello", "world"));
+        assertThat(messages, hasSize(2));
+        // The first message spans all inbound buffers and is composed of their memory instead of a copy.
+        assertThat(messages.get(0), instanceOf(CompositeBuffer.class));
+        assertThat(messages.get(0).nioBufferCount(), is(2));
+        // The second message is in the last inbound buffer only.
+        assertThat(messages.get(1).array(), sameInstance(third.array()));
+    }
+
+    @Test
+    void multipleMessagesInOneBuffer() throws Exception {
+        final Buffer framed = PREFER_HEAP_ALLOCATOR.wrap(frame("hello", "world", "!"));
+
+        assertThat(deserialize(framed), contains("hello", "world", "!"));
+        assertThat(messages, hasSize(3));
+        for (Buffer message : messages) {
+            assertThat(message, not(instanceOf(CompositeBuffer.class)));
+            assertThat(message.array(), sameInstance(framed.array()));
+        }
+    }
+
+    @Test
+    void messageSplitAcrossCompositeBuffers() throws Exception {
+        final byte[] framed = frame("hello world");
+        final Buffer first = part(framed, 0, METADATA_SIZE + 3);
+        final CompositeBuffer second = PREFER_HEAP_ALLOCATOR.newCompositeBuffer()
+                .addBuffer(part(framed, METADATA_SIZE + 3, METADATA_SIZE + 7))
+                .addBuffer(part(framed, METADATA_SIZE + 7, framed.length));
+
+        assertThat(deserialize(first, second), contains("hello world"));
+        assertThat(messages, hasSize(1));
+        assertThat(messages.get(0), instanceOf(CompositeBuffer.class));
+        assertThat(messages.get(0).nioBufferCount(), is(3));
+    }
+
+    @Test
+    void readMessageOfCompositeBuffer() {
+        final CompositeBuffer buffer = PREFER_HEAP_ALLOCATOR.newCompositeBuffer()
+                .addBuffer(PREFER_HEAP_ALLOCATOR.fromAscii("xxhel"))
+                .addBuffer(PREFER_HEAP_ALLOCATOR.fromAscii("lo wo"))
+                .addBuffer(PREFER_HEAP_ALLOCATOR.fromAscii("rldxx"));
+        buffer.skipBytes(2);
+
+        final Buffer message = GrpcStreamingDeserializer.readMessage(buffer, 11, PREFER_HEAP_ALLOCATOR);
+        assertThat(message.toString(US_ASCII), is("hello world"));
+        assertThat(message.nioBufferCount(), is(3));
+        assertThat(buffer.readableBytes(), is(2));
+    }
+
+    private Collection<String> deserialize(final Buffer... buffers) throws Exception {
+        return new GrpcStreamingDeserializer<>(deserializer).deserialize(from(buffers), PREFER_HEAP_ALLOCATOR)
+                .toFuture().get();
+    }
+
+    private static byte[] frame(final String... messages) {
+        final Buffer buffer = PREFER_HEAP_ALLOCATOR.newBuffer();
+        for (String message : messages) {
+            buffer.writeByte(FLAG_UNCOMPRESSED);
+            buffer.writeInt(message.length());
+            buffer.writeAscii(message);
+        }
+        final byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        return bytes;
+    }
+
+    private static Buffer part(final byte[] framed, final int from, final int to) {
+        // Each inbound buffer has its own memory, like the buffers read from the transport.
+        return PREFER_HEAP_ALLOCATOR.wrap(copyOfRange(framed, from, to));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.grpc.api;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.encoding.api.BufferEncoderDecoder;
+import io.servicetalk.serializer.api.SerializationException;
+import io.servicetalk.serializer.api.Serializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_DIRECT_POOLED_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_HEAP_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferUtils.release;
+import static io.servicetalk.concurrent.api.Publisher.fromIterable;
+import static io.servicetalk.encoding.netty.NettyBufferEncoders.gzipDefault;
+import static io.servicetalk.grpc.api.GrpcStreamingSerializer.MAX_SHARED_MESSAGE_SIZE;
+import static io.servicetalk.grpc.api.GrpcStreamingSerializer.METADATA_SIZE;
+import static io.servicetalk.grpc.api.GrpcStreamingSerializer.SHARED_BUFFER_SIZE;
+import static io.servicetalk.serializer.utils.StringSerializer.stringSerializer;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GrpcStreamingSerializerTest {
+
+    @Test
+    void smallMessagesShareMemory() throws Exception {
+        final int messagesPerSharedBuffer = SHARED_BUFFER_SIZE / (METADATA_SIZE + 10);
+        final List<String> messages = messages(2 * messagesPerSharedBuffer + 1, 10);
+        final List<Buffer> serialized = serialize(new GrpcStreamingSerializer<>(String::length,
+                stringSerializer(US_ASCII)), messages);
+        assertThat(serialized, hasSize(messages.size()));
+        // The first message is serialized into a dedicated buffer, only the following messages share memory.
+        assertThat(serialized.get(0).capacity(), equalTo(METADATA_SIZE + messages.get(0).length()));
+        for (int i = 2; i < serialized.size(); i++) {
+            final Buffer previous = serialized.get(i - 1);
+            final Buffer current = serialized.get(i);
+            assertThat(current.readableBytes(), equalTo(METADATA_SIZE + messages.get(i).length()));
+            if ((i - 1) % messagesPerSharedBuffer == 0) {
+                assertThat(current.array(), not(sameInstance(previous.array())));
+            } else {
+                assertThat(current.array(), sameInstance(previous.array()));
+            }
+        }
+        assertThat(deserialize(new GrpcStreamingDeserializer<>(stringSerializer(US_ASCII)), serialized),
+                contains(messages.toArray()));
+    }
+
+    @Test
+    void singleSmallMessageUsesDedicatedBuffer() throws Exception {
+        final List<String> messages = messages(1, 10);
+        final List<Buffer> serialized = serialize(new GrpcStreamingSerializer<>(String::length,
+                stringSerializer(US_ASCII)), messages);
+        assertThat(serialized, hasSize(1));
+        assertThat(serialized.get(0).capacity(), equalTo(METADATA_SIZE + 10));
+        assertThat(deserialize(new GrpcStreamingDeserializer<>(stringSerializer(US_ASCII)), serialized),
+                contains(messages.toArray()));
+    }
+
+    @Test
+    void leasesAreNotShared() throws Exception {
+        final List<String> messages = messages(10, 10);
+        final List<Buffer> serialized = new ArrayList<>(new GrpcStreamingSerializer<>(String::length,
+                stringSerializer(US_ASCII)).serialize(fromIterable(messages), PREFER_DIRECT_POOLED_ALLOCATOR)
+                .toFuture().get());
+        assertThat(serialized, hasSize(messages.size()));
+        for (int i = 0; i < serialized.size(); i++) {
+            final Buffer buffer = serialized.get(i);
+            assertThat(buffer.toString(METADATA_SIZE, buffer.readableBytes() - METADATA_SIZE, US_ASCII),
+                    equalTo(messages.get(i)));
+            // A slice of a shared lease would already be released by the previous iteration.
+            assertThat(release(buffer), is(true));
+        }
+    }
+
+    @Test
+    void largeMessagesUseDedicatedBuffers() throws Exception {
+        final List<String> messages = messages(3, MAX_SHARED_MESSAGE_SIZE);
+        final List<Buffer> serialized = serialize(new GrpcStreamingSerializer<>(String::length,
+                stringSerializer(US_ASCII)), messages);
+        assertThat(serialized.get(1).array(), not(sameInstance(serialized.get(0).array())));
+        assertThat(serialized.get(2).array(), not(sameInstance(serialized.get(1).array())));
+        assertThat(deserialize(new GrpcStreamingDeserializer<>(stringSerializer(US_ASCII)), serialized),
+                contains(messages.toArray()));
+    }
+
+    @Test
+    void underestimatedMessagesUseDedicatedBuffers() throws Exception {
+        final List<String> messages = new ArrayList<>(messages(2, 10));
+        messages.add(1, messages(1, SHARED_BUFFER_SIZE).get(0));
+        final List<Buffer> serialized = serialize(new GrpcStreamingSerializer<>(s -> 1,
+                stringSerializer(US_ASCII)), messages);
+        assertThat(serialized.get(1).array(), not(sameInstance(serialized.get(0).array())));
+        assertThat(serialized.get(2).array(), not(sameInstance(serialized.get(1).array())));
+        assertThat(deserialize(new GrpcStreamingDeserializer<>(stringSerializer(US_ASCII)), serialized),
+                contains(messages.toArray()));
+    }
+
+    @Test
+    void serializationFailureIsNotRetried() {
+        final SerializationException failure = new SerializationException("deliberate");
+        final AtomicInteger attempts = new AtomicInteger();
+        final Serializer<String> failingSerializer = (toSerialize, allocator, buffer) -> {
+            attempts.incrementAndGet();
+            throw failure;
+        };
+        final ExecutionException e = assertThrows(ExecutionException.class,
+                () -> serialize(new GrpcStreamingSerializer<>(String::length, failingSerializer), messages(1, 10)));
+        assertThat(e.getCause(), sameInstance(failure));
+        assertThat(attempts.get(), equalTo(1));
+    }
+
+    @Test
+    void compressedMessages() throws Exception {
+        final BufferEncoderDecoder gzip = gzipDefault();
+        final List<String> messages = messages(100, 100);
+        final List<Buffer> serialized = serialize(new GrpcStreamingSerializer<>(String::length,
+                stringSerializer(US_ASCII), gzip), messages);
+        assertThat(serialized.get(2).array(), sameInstance(serialized.get(1).array()));
+        assertThat(deserialize(new GrpcStreamingDeserializer<>(stringSerializer(US_ASCII), gzip), serialized),
+                contains(messages.toArray()));
+    }
+
+    private static List<Buffer> serialize(final GrpcStreamingSerializer<String> serializer,
+                                          final List<String> messages) throws Exception {
+        return new ArrayList<>(serializer.serialize(fromIterable(messages), PREFER_HEAP_ALLOCATOR)
+                .toFuture().get());
+    }
+
+    private static Collection<String> deserialize(final GrpcStreamingDeserializer<String> deserializer,
+                                                  final List<Buffer> serialized) throws Exception {
+        return deserializer.deserialize(fromIterable(serialized), PREFER_HEAP_ALLOCATOR).toFuture().get();
+    }
+
+    private static List<String> messages(final int count, final int length) {
+        final List<String> messages = new ArrayList<>(count);
+        final StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < count; i++) {
+            sb.setLength(0);
+            while (sb.length() < length) {
+                sb.append((char) ('a' + (i + sb.length()) % 26));
+            }
+            messages.add(sb.toString());
+        }
+        return messages;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2019, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2019, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import io.servicetalk.grpc.api.GrpcClient;
 import io.servicetalk.grpc.api.GrpcClientBuilder;
 import io.servicetalk.grpc.api.GrpcClientCallFactory;
 import io.servicetalk.grpc.api.GrpcClientFactory;
+import io.servicetalk.grpc.api.GrpcHedgingConfig;
 import io.servicetalk.grpc.api.GrpcStatusException;
 import io.servicetalk.http.api.FilterableReservedStreamingHttpConnection;
 import io.servicetalk.http.api.FilterableStreamingHttpClient;
@@ -41,6 +42,7 @@ import javax.annotation.Nullable;
 
 import static io.servicetalk.concurrent.api.Single.failed;
 import static io.servicetalk.grpc.api.GrpcFilters.newGrpcDeadlineClientFilterFactory;
+import static io.servicetalk.grpc.api.GrpcFilters.newGrpcHedgingClientFilterFactory;
 import static io.servicetalk.grpc.internal.DeadlineUtils.GRPC_MAX_TIMEOUT;
 import static io.servicetalk.http.netty.HttpProtocolConfigs.h2Default;
 import static io.servicetalk.utils.internal.DurationUtils.ensurePositive;
@@ -51,6 +53,8 @@ final class DefaultGrpcClientBuilder<U, R> implements GrpcClientBuilder<U, R> {
     @Nullable
     private Duration defaultTimeout;
     private boolean appendTimeoutFilter = true;
+    @Nullable
+    private GrpcHedgingConfig hedgingConfig;
     private HttpInitializer<U, R> httpInitializer = builder -> {
         // no-op
     };
@@ -82,6 +86,12 @@ final class DefaultGrpcClientBuilder<U, R> implements GrpcClientBuilder<U, R> {
         return this;
     }
 
+    @Override
+    public GrpcClientBuilder<U, R> hedging(final GrpcHedgingConfig config) {
+        this.hedgingConfig = requireNonNull(config);
+        return this;
+    }
+
     @Override
     public <Client extends GrpcClient<?>> Client build(GrpcClientFactory<Client, ?> clientFactory) {
         return clientFactory.newClientForCallFactory(newGrpcClientCallFactory());
@@ -118,6 +128,9 @@ final class DefaultGrpcClientBuilder<U, R> implements GrpcClientBuilder<U, R> {
         if (appendTimeoutFilter) {
             builder.appendClientFilter(newGrpcDeadlineClientFilterFactory());
         }
+        if (hedgingConfig != null) {
+            builder.appendClientFilter(newGrpcHedgingClientFilterFactory(hedgingConfig));
+        }
         // We append the GrpcRequestTracker filter before we let the `httpInitializer` see the builder because we
         // extract the RequestTracker on the way back, therefore filters in the front will be the last to do the
         // extraction, letting user override it if they like.
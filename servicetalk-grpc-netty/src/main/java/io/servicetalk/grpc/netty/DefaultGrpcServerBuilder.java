@@ -102,6 +102,12 @@ final class DefaultGrpcServerBuilder implements GrpcServerBuilder, ServerBinder
         return this;
     }
 
+    @Override
+    public GrpcServerBuilder listenerSharding(final boolean enable) {
+        directCallInitializer = directCallInitializer.append(builder -> builder.listenerSharding(enable));
+        return this;
+    }
+
     @Override
     public Single<GrpcServerContext> listen(GrpcBindableService<?>... services) {
         GrpcServiceFactory<?>[] factories = Arrays.stream(services)
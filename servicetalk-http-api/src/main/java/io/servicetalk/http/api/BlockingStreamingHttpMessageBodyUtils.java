@@ -25,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import javax.annotation.Nullable;
 
+import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.DEFAULT_RO_ALLOCATOR;
 import static java.lang.System.nanoTime;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
@@ -150,6 +151,8 @@ final class BlockingStreamingHttpMessageBodyUtils {
         private void setNext(@Nullable Object rawNext) {
             if (rawNext instanceof Buffer) {
                 next = (Buffer) rawNext;
+            } else if (rawNext instanceof HttpFileRegion) {
+                next = ((HttpFileRegion) rawNext).toBuffer(DEFAULT_RO_ALLOCATOR);
             } else if (rawNext instanceof HttpHeaders) {
                 trailers = (HttpHeaders) rawNext;
             } else if (rawNext != null) {
@@ -22,6 +22,7 @@ import io.servicetalk.concurrent.api.Single;
 import io.servicetalk.context.api.ContextMap;
 import io.servicetalk.encoding.api.ContentCodec;
 
+import java.nio.channels.FileChannel;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import javax.annotation.Nullable;
@@ -102,6 +103,12 @@ final class DefaultStreamingHttpResponse extends DefaultHttpResponseMetaData
         return this;
     }
 
+    @Override
+    public StreamingHttpResponse fileBody(final FileChannel fileChannel, final long position, final long count) {
+        payloadHolder.fileBody(fileChannel, position, count);
+        return this;
+    }
+
     @Deprecated
     @Override
     public <T> StreamingHttpResponse transformPayloadBody(Function<Publisher<Buffer>, Publisher<T>> transformer,
@@ -114,6 +114,12 @@ public class DelegatingHttpServerBuilder implements HttpServerBuilder {
         return this;
     }
 
+    @Override
+    public HttpServerBuilder listenerSharding(final boolean enable) {
+        delegate = delegate.listenerSharding(enable);
+        return this;
+    }
+
     @Override
     public HttpServerBuilder enableWireLogging(final String loggerName, final LogLevel logLevel,
                                                final BooleanSupplier logUserData) {
@@ -36,6 +36,7 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import javax.annotation.Nullable;
 
 import static io.servicetalk.buffer.api.EmptyBuffer.EMPTY_BUFFER;
+import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.DEFAULT_RO_ALLOCATOR;
 import static io.servicetalk.concurrent.api.Publisher.empty;
 import static io.servicetalk.concurrent.api.Single.succeeded;
 import static io.servicetalk.concurrent.api.SourceAdapters.toSource;
@@ -237,6 +238,10 @@ final class HttpDataSourceTransformations {
                     nextBuffer = (Buffer) next;
                     return true;
                 }
+                if (next instanceof HttpFileRegion) {
+                    nextBuffer = ((HttpFileRegion) next).toBuffer(DEFAULT_RO_ALLOCATOR);
+                    return true;
+                }
                 final UnsupportedHttpChunkException e = new UnsupportedHttpChunkException(next);
                 try {
                     iterator.close();
@@ -283,6 +288,8 @@ final class HttpDataSourceTransformations {
             public void onNext(final Object o) {
                 if (o instanceof Buffer) {
                     subscriber.onNext((Buffer) o);
+                } else if (o instanceof HttpFileRegion) {
+                    subscriber.onNext(((HttpFileRegion) o).toBuffer(DEFAULT_RO_ALLOCATOR));
                 } else if (!(o instanceof HttpHeaders)) {
                     throw new UnsupportedHttpChunkException(o);
                 }
@@ -314,7 +321,9 @@ final class HttpDataSourceTransformations {
             payloadInfo.setEmpty(true).setMayHaveTrailersAndGenericTypeBuffer(false);
             return succeeded(EMPTY_PAYLOAD_AND_TRAILERS);
         }
-        return payloadAndTrailers.collect(PayloadAndTrailers::new, (pair, nextItem) -> {
+        return payloadAndTrailers.collect(PayloadAndTrailers::new, (pair, item) -> {
+            final Object nextItem = item instanceof HttpFileRegion ?
+                    ((HttpFileRegion) item).toBuffer(allocator) : item;
             if (nextItem instanceof Buffer) {
                 try {
                     Buffer buffer = (Buffer) nextItem;
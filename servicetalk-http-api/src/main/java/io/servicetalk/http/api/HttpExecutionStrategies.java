@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -79,9 +79,16 @@ public final class HttpExecutionStrategies {
     /**
      * An {@link HttpExecutionStrategy} that requires full offloading of the request-response path and transport events.
      * Unlike {@link #defaultStrategy()}, this strategy merges normally with other execution strategy instances.
+     * <p>
+     * If the offloaded tasks don't block (e.g. asynchronous streaming services), an
+     * {@link io.servicetalk.concurrent.api.Executor} with a fixed number of threads and a queue per thread, e.g.
+     * {@link HttpServerBuilder#executor(io.servicetalk.concurrent.api.Executor)
+     * executor(Executors.newWorkStealingExecutor(workers, maxQueuedTasks))}, keeps the signals offloaded from an I/O
+     * thread on the same thread instead of contending on a single queue.
      *
      * @return {@link HttpExecutionStrategy} that requires no request-response path offloads.
      * @see #defaultStrategy()
+     * @see io.servicetalk.concurrent.api.Executors#newWorkStealingExecutor(int, int)
      */
     public static HttpExecutionStrategy offloadAll() {
         return DefaultHttpExecutionStrategy.OFFLOAD_ALL_STRATEGY;
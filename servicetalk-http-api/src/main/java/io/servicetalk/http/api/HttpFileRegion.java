@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.api;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.BufferAllocator;
+import io.servicetalk.concurrent.api.Publisher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static io.servicetalk.concurrent.api.Publisher.fromIterable;
+import static io.servicetalk.utils.internal.NumberUtils.ensureNonNegative;
+import static java.lang.Math.min;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A region of a {@link FileChannel} which is part of the
+ * <a href="https://tools.ietf.org/html/rfc7230#section-3.3">message-body</a> of a {@link StreamingHttpResponse}.
+ * <p>
+ * Transports which can transfer the region without copying it to user space (e.g. {@code sendfile} on plaintext
+ * HTTP/1.x connections) write it directly from the file, all other consumers of the message body see the region as a
+ * memory-mapped {@link Buffer} obtained from {@link #toBuffer(BufferAllocator)}.
+ * <p>
+ * Instances are created by {@link StreamingHttpResponse#fileBody(FileChannel, long, long)}. The {@link FileChannel} is
+ * not closed by the transport.
+ */
+public final class HttpFileRegion {
+
+    /**
+     * Maximum size of a single region, bounds the size of each memory-mapped {@link Buffer} if the region can not be
+     * transferred directly from the file.
+     */
+    static final long MAX_REGION_SIZE = 8 * 1024 * 1024;
+
+    private final FileChannel fileChannel;
+    private final long position;
+    private final long count;
+
+    private HttpFileRegion(final FileChannel fileChannel, final long position, final long count) {
+        this.fileChannel = fileChannel;
+        this.position = position;
+        this.count = count;
+    }
+
+    /**
+     * Returns the {@link FileChannel} which contains this region.
+     *
+     * @return the {@link FileChannel} which contains this region.
+     */
+    public FileChannel fileChannel() {
+        return fileChannel;
+    }
+
+    /**
+     * Returns the offset in the {@link #fileChannel()} where this region starts.
+     *
+     * @return the offset in the {@link #fileChannel()} where this region starts.
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Returns the number of bytes in this region.
+     *
+     * @return the number of bytes in this region.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Memory-maps this region into a read-only {@link Buffer}.
+     *
+     * @param allocator {@link BufferAllocator} used to wrap the mapped memory.
+     * @return a read-only {@link Buffer} with the content of this region.
+     * @throws UncheckedIOException if the region can not be mapped.
+     */
+    public Buffer toBuffer(final BufferAllocator allocator) {
+        try {
+            return allocator.wrap(fileChannel.map(READ_ONLY, position, count));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map " + this, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                "{fileChannel=" + fileChannel +
+                ", position=" + position +
+                ", count=" + count +
+                '}';
+    }
+
+    /**
+     * Splits {@code count} bytes of {@code fileChannel} starting at {@code position} into regions of at most
+     * {@link #MAX_REGION_SIZE} bytes.
+     *
+     * @param fileChannel the {@link FileChannel} to read.
+     * @param position the offset in {@code fileChannel} to start from.
+     * @param count the number of bytes to read.
+     * @return a {@link Publisher} of {@link HttpFileRegion}s covering the requested bytes.
+     */
+    static Publisher<HttpFileRegion> regions(final FileChannel fileChannel, final long position, final long count) {
+        requireNonNull(fileChannel);
+        ensureNonNegative(position, "position");
+        ensureNonNegative(count, "count");
+        return fromIterable(() -> new Iterator<HttpFileRegion>() {
+            private long nextPosition = position;
+            private final long end = position + count;
+
+            @Override
+            public boolean hasNext() {
+                return nextPosition < end;
+            }
+
+            @Override
+            public HttpFileRegion next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final long regionCount = min(MAX_REGION_SIZE, end - nextPosition);
+                final HttpFileRegion region = new HttpFileRegion(fileChannel, nextPosition, regionCount);
+                nextPosition += regionCount;
+                return region;
+            }
+        });
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,7 @@
  */
 package io.servicetalk.http.api;
 
-import static io.servicetalk.buffer.api.CharSequences.newAsciiString;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Common <a href="https://tools.ietf.org/html/rfc7231#section-5">request header names</a> and
@@ -27,37 +27,37 @@ public final class HttpHeaderNames {
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-5.3.2">RFC7231, section 5.3.2</a>
      */
-    public static final CharSequence ACCEPT = newAsciiString("accept");
+    public static final CharSequence ACCEPT = intern("accept");
     /**
      * {@code "accept-charset"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-5.3.3">RFC7231, section 5.3.3</a>
      */
-    public static final CharSequence ACCEPT_CHARSET = newAsciiString("accept-charset");
+    public static final CharSequence ACCEPT_CHARSET = intern("accept-charset");
     /**
      * {@code "accept-encoding"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-5.3.4">RFC7231, section 5.3.4</a>
      */
-    public static final CharSequence ACCEPT_ENCODING = newAsciiString("accept-encoding");
+    public static final CharSequence ACCEPT_ENCODING = intern("accept-encoding");
     /**
      * {@code "accept-language"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-5.3.5">RFC7231, section 5.3.5</a>
      */
-    public static final CharSequence ACCEPT_LANGUAGE = newAsciiString("accept-language");
+    public static final CharSequence ACCEPT_LANGUAGE = intern("accept-language");
     /**
      * {@code "accept-ranges"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7233#section-2.3">RFC7233, section 2.3</a>
      */
-    public static final CharSequence ACCEPT_RANGES = newAsciiString("accept-ranges");
+    public static final CharSequence ACCEPT_RANGES = intern("accept-ranges");
     /**
      * {@code "accept-patch"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc5789#section-3.1">RFC5789, section 3.1</a>
      */
-    public static final CharSequence ACCEPT_PATCH = newAsciiString("accept-patch");
+    public static final CharSequence ACCEPT_PATCH = intern("accept-patch");
     /**
      * {@code "access-control-allow-credentials"}
      *
@@ -65,167 +65,167 @@ public final class HttpHeaderNames {
      *     W3C Cross-Origin Resource Sharing, section 5.2</a>
      */
     public static final CharSequence ACCESS_CONTROL_ALLOW_CREDENTIALS =
-            newAsciiString("access-control-allow-credentials");
+            intern("access-control-allow-credentials");
     /**
      * {@code "access-control-allow-headers"}
      */
     public static final CharSequence ACCESS_CONTROL_ALLOW_HEADERS =
-            newAsciiString("access-control-allow-headers");
+            intern("access-control-allow-headers");
     /**
      * {@code "access-control-allow-methods"}
      */
     public static final CharSequence ACCESS_CONTROL_ALLOW_METHODS =
-            newAsciiString("access-control-allow-methods");
+            intern("access-control-allow-methods");
     /**
      * {@code "access-control-allow-origin"}
      */
     public static final CharSequence ACCESS_CONTROL_ALLOW_ORIGIN =
-            newAsciiString("access-control-allow-origin");
+            intern("access-control-allow-origin");
     /**
      * {@code "access-control-expose-headers"}
      */
     public static final CharSequence ACCESS_CONTROL_EXPOSE_HEADERS =
-            newAsciiString("access-control-expose-headers");
+            intern("access-control-expose-headers");
     /**
      * {@code "access-control-max-age"}
      */
-    public static final CharSequence ACCESS_CONTROL_MAX_AGE = newAsciiString("access-control-max-age");
+    public static final CharSequence ACCESS_CONTROL_MAX_AGE = intern("access-control-max-age");
     /**
      * {@code "access-control-request-headers"}
      */
     public static final CharSequence ACCESS_CONTROL_REQUEST_HEADERS =
-            newAsciiString("access-control-request-headers");
+            intern("access-control-request-headers");
     /**
      * {@code "access-control-request-method"}
      */
     public static final CharSequence ACCESS_CONTROL_REQUEST_METHOD =
-            newAsciiString("access-control-request-method");
+            intern("access-control-request-method");
     /**
      * {@code "age"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7234#section-5.1">RFC7234, section 5.1</a>
      */
-    public static final CharSequence AGE = newAsciiString("age");
+    public static final CharSequence AGE = intern("age");
     /**
      * {@code "allow"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-7.4.1">RFC7231, section 7.4.1</a>
      */
-    public static final CharSequence ALLOW = newAsciiString("allow");
+    public static final CharSequence ALLOW = intern("allow");
     /**
      * {@code "authorization"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7235#section-4.2">RFC7235, section 4.2</a>
      */
-    public static final CharSequence AUTHORIZATION = newAsciiString("authorization");
+    public static final CharSequence AUTHORIZATION = intern("authorization");
     /**
      * {@code "cache-control"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7234#section-5.2">RFC7234, section 5.2</a>
      */
-    public static final CharSequence CACHE_CONTROL = newAsciiString("cache-control");
+    public static final CharSequence CACHE_CONTROL = intern("cache-control");
     /**
      * {@code "connection"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7230#section-6.1">RFC7230, section 6.1</a>
      */
-    public static final CharSequence CONNECTION = newAsciiString("connection");
+    public static final CharSequence CONNECTION = intern("connection");
     /**
      * {@code "content-base"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc2110#section-4.2">RFC2110, section 4.2</a>
      */
-    public static final CharSequence CONTENT_BASE = newAsciiString("content-base");
+    public static final CharSequence CONTENT_BASE = intern("content-base");
     /**
      * {@code "content-encoding"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-3.1.2.2">RFC7231, section 3.1.2.2</a>
      */
-    public static final CharSequence CONTENT_ENCODING = newAsciiString("content-encoding");
+    public static final CharSequence CONTENT_ENCODING = intern("content-encoding");
     /**
      * {@code "content-language"}
      *
      *  @see <a href="https://tools.ietf.org/html/rfc7231#section-3.1.3.2">RFC7231, section 3.1.3.2</a>
      */
-    public static final CharSequence CONTENT_LANGUAGE = newAsciiString("content-language");
+    public static final CharSequence CONTENT_LANGUAGE = intern("content-language");
     /**
      * {@code "content-length"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7230#section-3.3.2">RFC7230, section 3.3.2</a>
      */
-    public static final CharSequence CONTENT_LENGTH = newAsciiString("content-length");
+    public static final CharSequence CONTENT_LENGTH = intern("content-length");
     /**
      * {@code "content-location"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-3.1.4.2">RFC7231, section 3.1.4.2</a>
      */
-    public static final CharSequence CONTENT_LOCATION = newAsciiString("content-location");
+    public static final CharSequence CONTENT_LOCATION = intern("content-location");
     /**
      * {@code "content-transfer-encoding"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc2045#section-6">RFC2045, section 6</a>
      */
-    public static final CharSequence CONTENT_TRANSFER_ENCODING = newAsciiString("content-transfer-encoding");
+    public static final CharSequence CONTENT_TRANSFER_ENCODING = intern("content-transfer-encoding");
     /**
      * {@code "content-disposition"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc6266">RFC6266</a>
      */
-    public static final CharSequence CONTENT_DISPOSITION = newAsciiString("content-disposition");
+    public static final CharSequence CONTENT_DISPOSITION = intern("content-disposition");
     /**
      * {@code "content-md5"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc2616#section-14.15">RFC2616, section 14.15</a>
      */
-    public static final CharSequence CONTENT_MD5 = newAsciiString("content-md5");
+    public static final CharSequence CONTENT_MD5 = intern("content-md5");
     /**
      * {@code "content-range"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7233#section-4.2">RFC7233, section 4.2</a>
      */
-    public static final CharSequence CONTENT_RANGE = newAsciiString("content-range");
+    public static final CharSequence CONTENT_RANGE = intern("content-range");
     /**
      * {@code "content-security-policy"}
      *
      * @see <a href="https://www.w3.org/TR/CSP3/#csp-header"> W3C Cross-Origin Resource Sharing, section 3.1</a>
      */
-    public static final CharSequence CONTENT_SECURITY_POLICY = newAsciiString("content-security-policy");
+    public static final CharSequence CONTENT_SECURITY_POLICY = intern("content-security-policy");
     /**
      * {@code "content-type"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-3.1.1.5">RFC7231, section 3.1.1.5</a>
      */
-    public static final CharSequence CONTENT_TYPE = newAsciiString("content-type");
+    public static final CharSequence CONTENT_TYPE = intern("content-type");
     /**
      * {@code "cookie"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc6265#section-4.2">RFC6265, section 4.2</a>
      */
-    public static final CharSequence COOKIE = newAsciiString("cookie");
+    public static final CharSequence COOKIE = intern("cookie");
     /**
      * {@code "date"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-7.1.1.2">RFC7231, section 7.1.1.2</a>
      */
-    public static final CharSequence DATE = newAsciiString("date");
+    public static final CharSequence DATE = intern("date");
     /**
      * {@code "etag"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7232#section-2.3">RFC7232, section 2.3</a>
      */
-    public static final CharSequence ETAG = newAsciiString("etag");
+    public static final CharSequence ETAG = intern("etag");
     /**
      * {@code "expect"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-5.1.1">RFC7231, section 5.1.1</a>
      */
-    public static final CharSequence EXPECT = newAsciiString("expect");
+    public static final CharSequence EXPECT = intern("expect");
     /**
      * {@code "expires"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7234#section-5.3">RFC7234, section 5.3</a>
      */
-    public static final CharSequence EXPIRES = newAsciiString("expires");
+    public static final CharSequence EXPIRES = intern("expires");
     /**
      * {@code "forwarded"} is a header field that contains a list of
      * parameter-identifier pairs that disclose information that is altered or lost when a proxy is involved in the path
@@ -236,239 +236,239 @@ public final class HttpHeaderNames {
      *
      * @see <a href="https://tools.ietf.org/html/rfc7239#section-4">RFC7231, section 4</a>
      */
-    public static final CharSequence FORWARDED = newAsciiString("forwarded");
+    public static final CharSequence FORWARDED = intern("forwarded");
     /**
      * {@code "from"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-5.5.1">RFC7231, section 5.5.1</a>
      */
-    public static final CharSequence FROM = newAsciiString("from");
+    public static final CharSequence FROM = intern("from");
     /**
      * {@code "host"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7230#section-5.4">RFC7230, section 5.4</a>
      */
-    public static final CharSequence HOST = newAsciiString("host");
+    public static final CharSequence HOST = intern("host");
     /**
      * {@code "if-match"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7232#section-3.1">RFC7232, section 3.1</a>
      */
-    public static final CharSequence IF_MATCH = newAsciiString("if-match");
+    public static final CharSequence IF_MATCH = intern("if-match");
     /**
      * {@code "if-modified-since"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7232#section-3.3">RFC7232, section 3.3</a>
      */
-    public static final CharSequence IF_MODIFIED_SINCE = newAsciiString("if-modified-since");
+    public static final CharSequence IF_MODIFIED_SINCE = intern("if-modified-since");
     /**
      * {@code "if-none-match"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7232#section-3.2">RFC7232, section 3.2</a>
      */
-    public static final CharSequence IF_NONE_MATCH = newAsciiString("if-none-match");
+    public static final CharSequence IF_NONE_MATCH = intern("if-none-match");
     /**
      * {@code "if-range"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7233#section-3.2">RFC7233, section 3.2</a>
      */
-    public static final CharSequence IF_RANGE = newAsciiString("if-range");
+    public static final CharSequence IF_RANGE = intern("if-range");
     /**
      * {@code "if-unmodified-since"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7232#section-3.4">RFC7232, section 3.4</a>
      */
-    public static final CharSequence IF_UNMODIFIED_SINCE = newAsciiString("if-unmodified-since");
+    public static final CharSequence IF_UNMODIFIED_SINCE = intern("if-unmodified-since");
     /**
      * {@code "last-modified"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7232#section-2.2">RFC7232, section 2.2</a>
      */
-    public static final CharSequence LAST_MODIFIED = newAsciiString("last-modified");
+    public static final CharSequence LAST_MODIFIED = intern("last-modified");
     /**
      * {@code "location"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-7.1.2">RFC7231, section 7.1.2</a>
      */
-    public static final CharSequence LOCATION = newAsciiString("location");
+    public static final CharSequence LOCATION = intern("location");
     /**
      * {@code "max-forwards"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-5.1.2">RFC7231, section 5.1.2</a>
      */
-    public static final CharSequence MAX_FORWARDS = newAsciiString("max-forwards");
+    public static final CharSequence MAX_FORWARDS = intern("max-forwards");
     /**
      * {@code "origin"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc6454#section-3.2">RFC6454, section 3.2</a>
      */
-    public static final CharSequence ORIGIN = newAsciiString("origin");
+    public static final CharSequence ORIGIN = intern("origin");
     /**
      * {@code "pragma"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7234#section-5.4">RFC7234, section 5.4</a>
      */
-    public static final CharSequence PRAGMA = newAsciiString("pragma");
+    public static final CharSequence PRAGMA = intern("pragma");
     /**
      * {@code "proxy-authenticate"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7235#section-4.3">RFC7235, section 4.3</a>
      */
-    public static final CharSequence PROXY_AUTHENTICATE = newAsciiString("proxy-authenticate");
+    public static final CharSequence PROXY_AUTHENTICATE = intern("proxy-authenticate");
     /**
      * {@code "proxy-authorization"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7235#section-4.4">RFC7235, section 4.4</a>
      */
-    public static final CharSequence PROXY_AUTHORIZATION = newAsciiString("proxy-authorization");
+    public static final CharSequence PROXY_AUTHORIZATION = intern("proxy-authorization");
     /**
      * {@code "range"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7233#section-3.1">RFC7233, section 3.1</a>
      */
-    public static final CharSequence RANGE = newAsciiString("range");
+    public static final CharSequence RANGE = intern("range");
     /**
      * {@code "referer"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-5.5.2">RFC7231, section 5.5.2</a>
      */
-    public static final CharSequence REFERER = newAsciiString("referer");
+    public static final CharSequence REFERER = intern("referer");
     /**
      * {@code "retry-after"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-7.1.3">RFC7231, section 7.1.3</a>
      */
-    public static final CharSequence RETRY_AFTER = newAsciiString("retry-after");
+    public static final CharSequence RETRY_AFTER = intern("retry-after");
     /**
      * {@code "sec-websocket-key1"}
      */
-    public static final CharSequence SEC_WEBSOCKET_KEY1 = newAsciiString("sec-websocket-key1");
+    public static final CharSequence SEC_WEBSOCKET_KEY1 = intern("sec-websocket-key1");
     /**
      * {@code "sec-websocket-key2"}
      */
-    public static final CharSequence SEC_WEBSOCKET_KEY2 = newAsciiString("sec-websocket-key2");
+    public static final CharSequence SEC_WEBSOCKET_KEY2 = intern("sec-websocket-key2");
     /**
      * {@code "sec-websocket-location"}
      */
-    public static final CharSequence SEC_WEBSOCKET_LOCATION = newAsciiString("sec-websocket-location");
+    public static final CharSequence SEC_WEBSOCKET_LOCATION = intern("sec-websocket-location");
     /**
      * {@code "sec-websocket-origin"}
      */
-    public static final CharSequence SEC_WEBSOCKET_ORIGIN = newAsciiString("sec-websocket-origin");
+    public static final CharSequence SEC_WEBSOCKET_ORIGIN = intern("sec-websocket-origin");
     /**
      * {@code "sec-websocket-protocol"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc6455#section-11.3.4">RFC6455, section 11.3.4</a>
      */
-    public static final CharSequence SEC_WEBSOCKET_PROTOCOL = newAsciiString("sec-websocket-protocol");
+    public static final CharSequence SEC_WEBSOCKET_PROTOCOL = intern("sec-websocket-protocol");
     /**
      * {@code "sec-websocket-version"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc6455#section-11.3.5">RFC6455, section 11.3.5</a>
      */
-    public static final CharSequence SEC_WEBSOCKET_VERSION = newAsciiString("sec-websocket-version");
+    public static final CharSequence SEC_WEBSOCKET_VERSION = intern("sec-websocket-version");
     /**
      * {@code "sec-websocket-key"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc6455#section-11.3.1">RFC6455, section 11.3.1</a>
      */
-    public static final CharSequence SEC_WEBSOCKET_KEY = newAsciiString("sec-websocket-key");
+    public static final CharSequence SEC_WEBSOCKET_KEY = intern("sec-websocket-key");
     /**
      * {@code "sec-websocket-accept"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc6455#section-11.3.3">RFC6455, section 11.3.3</a>
      */
-    public static final CharSequence SEC_WEBSOCKET_ACCEPT = newAsciiString("sec-websocket-accept");
+    public static final CharSequence SEC_WEBSOCKET_ACCEPT = intern("sec-websocket-accept");
     /**
      * {@code "sec-websocket-protocol"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc6455#section-11.3.2">RFC455, section 11.3.2</a>
      */
-    public static final CharSequence SEC_WEBSOCKET_EXTENSIONS = newAsciiString("sec-websocket-extensions");
+    public static final CharSequence SEC_WEBSOCKET_EXTENSIONS = intern("sec-websocket-extensions");
     /**
      * {@code "server"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-7.4.2">RFC7231, section 7.4.2</a>
      */
-    public static final CharSequence SERVER = newAsciiString("server");
+    public static final CharSequence SERVER = intern("server");
     /**
      * {@code "set-cookie"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc6265#section-4.1">RFC6265, section 4.1</a>
      */
-    public static final CharSequence SET_COOKIE = newAsciiString("set-cookie");
+    public static final CharSequence SET_COOKIE = intern("set-cookie");
     /**
      * {@code "set-cookie2"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc6265#section-9.4">RFC6265, section 9.4</a>
      */
-    public static final CharSequence SET_COOKIE2 = newAsciiString("set-cookie2");
+    public static final CharSequence SET_COOKIE2 = intern("set-cookie2");
     /**
      * {@code "te"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7230#section-4.3">RFC7230, section 4.3</a>
      */
-    public static final CharSequence TE = newAsciiString("te");
+    public static final CharSequence TE = intern("te");
     /**
      * {@code "trailer"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7230#section-4.4">RFC7230, section 4.4</a>
      */
-    public static final CharSequence TRAILER = newAsciiString("trailer");
+    public static final CharSequence TRAILER = intern("trailer");
     /**
      * {@code "transfer-encoding"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7230#section-3.3.1">RFC7230, section 3.3.1</a>
      */
-    public static final CharSequence TRANSFER_ENCODING = newAsciiString("transfer-encoding");
+    public static final CharSequence TRANSFER_ENCODING = intern("transfer-encoding");
     /**
      * {@code "upgrade"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7230#section-6.7">RFC7230, section 6.7</a>
      */
-    public static final CharSequence UPGRADE = newAsciiString("upgrade");
+    public static final CharSequence UPGRADE = intern("upgrade");
     /**
      * {@code "user-agent"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-5.5.3">RFC7231, section 5.5.3</a>
      */
-    public static final CharSequence USER_AGENT = newAsciiString("user-agent");
+    public static final CharSequence USER_AGENT = intern("user-agent");
     /**
      * {@code "vary"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7231#section-7.1.4">RFC7231, section 7.1.4</a>
      */
-    public static final CharSequence VARY = newAsciiString("vary");
+    public static final CharSequence VARY = intern("vary");
     /**
      * {@code "via"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7230#section-5.7.1">RFC7230, section 5.7.1</a>
      */
-    public static final CharSequence VIA = newAsciiString("via");
+    public static final CharSequence VIA = intern("via");
     /**
      * {@code "warning"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7234#section-5.5">RFC7234, section 5.5</a>
      */
-    public static final CharSequence WARNING = newAsciiString("warning");
+    public static final CharSequence WARNING = intern("warning");
     /**
      * {@code "websocket-location"}
      */
-    public static final CharSequence WEBSOCKET_LOCATION = newAsciiString("websocket-location");
+    public static final CharSequence WEBSOCKET_LOCATION = intern("websocket-location");
     /**
      * {@code "websocket-origin"}
      */
-    public static final CharSequence WEBSOCKET_ORIGIN = newAsciiString("websocket-origin");
+    public static final CharSequence WEBSOCKET_ORIGIN = intern("websocket-origin");
     /**
      * {@code "websocket-protocol"}
      */
-    public static final CharSequence WEBSOCKET_PROTOCOL = newAsciiString("websocket-protocol");
+    public static final CharSequence WEBSOCKET_PROTOCOL = intern("websocket-protocol");
     /**
      * {@code "www-authenticate"}
      *
      * @see <a href="https://tools.ietf.org/html/rfc7235#section-4.1">RFC7235, section 4.1</a>
      */
-    public static final CharSequence WWW_AUTHENTICATE = newAsciiString("www-authenticate");
+    public static final CharSequence WWW_AUTHENTICATE = intern("www-authenticate");
     /**
      * {@code "x-forwarded-for"} (XFF)
      * header is a de-facto standard header for identifying the originating IP address of a client connecting to a web
@@ -479,7 +479,7 @@ public final class HttpHeaderNames {
      * @see <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/X-Forwarded-For">X-Forwarded-For</a>
      *
      */
-    public static final CharSequence X_FORWARDED_FOR = newAsciiString("x-forwarded-for");
+    public static final CharSequence X_FORWARDED_FOR = intern("x-forwarded-for");
     /**
      *  {@code "x-forwarded-host"} (XFH)
      * header is a de-facto standard header for identifying the original host requested by the client in the
@@ -489,7 +489,7 @@ public final class HttpHeaderNames {
      *
      * @see <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/X-Forwarded-Host">x-forwarded-host</a>
      */
-    public static final CharSequence X_FORWARDED_HOST = newAsciiString("x-forwarded-host");
+    public static final CharSequence X_FORWARDED_HOST = intern("x-forwarded-host");
     /**
      * {@code "x-forwarded-proto"} (XFP)
      * header is a de-facto standard header for identifying the protocol (HTTP or HTTPS) that a client used to connect
@@ -499,15 +499,45 @@ public final class HttpHeaderNames {
      *
      * @see <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/X-Forwarded-Proto">x-forwarded-proto</a>
      */
-    public static final CharSequence X_FORWARDED_PROTO = newAsciiString("x-forwarded-proto");
+    public static final CharSequence X_FORWARDED_PROTO = intern("x-forwarded-proto");
     /**
      * {@code "x-requested-with"} is not a standard, but wildly used by most JavaScript frameworks header to identify
      * <a href="https://developer.mozilla.org/en-US/docs/Web/Guide/AJAX">Ajax</a> requests. Usually frameworks send this
      * header with value of {@link HttpHeaderValues#XML_HTTP_REQUEST XMLHttpRequest}.
      */
-    public static final CharSequence X_REQUESTED_WITH = newAsciiString("x-requested-with");
+    public static final CharSequence X_REQUESTED_WITH = intern("x-requested-with");
 
     private HttpHeaderNames() {
         // No instances
     }
+
+    /**
+     * Returns a canonical instance of the header {@code name} with a pre-computed hash code, creating it if it does not
+     * exist yet. All constants in this class are canonical instances.
+     * <p>
+     * Lookups of {@link HttpHeaders} via a canonical instance skip hashing, and skip comparing the name byte-by-byte if
+     * the header was added with the same instance (e.g. because the decoder resolved it via
+     * {@link #canonicalName(CharSequence)}). This method is intended for a bounded set of names stored in constants,
+     * instances are never released.
+     *
+     * @param name the header name, supporting only 8-bit ASCII characters.
+     * @return a canonical instance of the header {@code name}.
+     */
+    public static CharSequence intern(final CharSequence name) {
+        return InternedHeaderNames.intern(requireNonNull(name));
+    }
+
+    /**
+     * Returns the canonical instance previously created by {@link #intern(CharSequence)} whose content equals
+     * {@code name} (case-sensitive), or {@code name} itself if there is none. Never creates a new canonical instance.
+     * <p>
+     * Names which differ from the canonical instance only by case, like {@code "Content-Type"}, are not resolved, so
+     * they keep the representation in which they were received.
+     *
+     * @param name the header name.
+     * @return the canonical instance for {@code name}, or {@code name}.
+     */
+    public static CharSequence canonicalName(final CharSequence name) {
+        return InternedHeaderNames.canonical(name);
+    }
 }
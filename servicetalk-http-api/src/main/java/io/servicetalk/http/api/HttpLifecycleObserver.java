@@ -1,5 +1,5 @@
 /*
- * Copyright © 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -194,6 +194,19 @@ public interface HttpLifecycleObserver {
          */
         void onResponseData(Buffer data);
 
+        /**
+         * Callback when a region of a file was observed as the response payload body, see
+         * {@link StreamingHttpResponse#fileBody(java.nio.channels.FileChannel, long, long)}.
+         * <p>
+         * The region is transferred by the transport without reading it into a {@link Buffer}, so
+         * {@link #onResponseData(Buffer)} is not invoked for its content. May be invoked multiple times if the file is
+         * split into multiple regions.
+         *
+         * @param region the response payload body file region, {@link HttpFileRegion#count()} is the number of bytes
+         */
+        default void onResponseFileRegion(HttpFileRegion region) {
+        }
+
         /**
          * Callback when response trailers were observed.
          *
@@ -150,6 +150,22 @@ public interface HttpServerBuilder {
      */
     <T> HttpServerBuilder listenSocketOption(SocketOption<T> option, T value);
 
+    /**
+     * Binds one listen socket per IO thread to the same address, with the kernel distributing accepted connections
+     * between them ({@code SO_REUSEPORT}).
+     * <p>
+     * Each accepted connection is served by the IO thread of the listen socket which accepted it, which avoids
+     * contention on a single accept queue for workloads with many short-lived connections. This is only supported by
+     * the native Linux transports (epoll and io_uring) when binding to an IP address. Otherwise, a single listen socket
+     * is bound.
+     *
+     * @param enable {@code true} to bind one listen socket per IO thread if supported.
+     * @return {@code this}.
+     */
+    default HttpServerBuilder listenerSharding(boolean enable) {
+        throw new UnsupportedOperationException("listenerSharding is not supported by " + getClass());
+    }
+
     /**
      * Enables wire-logging for this server.
      *
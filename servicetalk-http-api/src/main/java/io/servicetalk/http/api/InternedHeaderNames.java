@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.api;
+
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.api.CharSequences.caseInsensitiveHashCode;
+import static io.servicetalk.buffer.api.CharSequences.contentEquals;
+import static io.servicetalk.buffer.api.CharSequences.newAsciiString;
+
+/**
+ * A table of canonical header name instances with pre-computed hash codes.
+ * <p>
+ * Header names which are resolved to their canonical instance hit the identity fast-path of
+ * {@link io.servicetalk.buffer.api.CharSequences#contentEqualsIgnoreCase(CharSequence, CharSequence)} when looked up
+ * via the same constant, and never need to compute their hash code again. Lookups are lock free, registrations copy
+ * the table.
+ */
+final class InternedHeaderNames {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final Object lock = new Object();
+    private static volatile CharSequence[] table = new CharSequence[INITIAL_CAPACITY];
+    private static int size;
+
+    private InternedHeaderNames() {
+        // No instances
+    }
+
+    /**
+     * Returns the canonical instance for {@code name}, registering a new one if none exists.
+     *
+     * @param name the header name.
+     * @return the canonical instance for {@code name}.
+     */
+    static CharSequence intern(final CharSequence name) {
+        CharSequence interned = find(table, name);
+        if (interned != null) {
+            return interned;
+        }
+        synchronized (lock) {
+            CharSequence[] current = table;
+            interned = find(current, name);
+            if (interned != null) {
+                return interned;
+            }
+            interned = newAsciiString(name);
+            // Pre-compute the hash code, AsciiString caches it.
+            final int hash = interned.hashCode();
+            if ((size + 1) << 1 > current.length) {
+                current = rehash(current, current.length << 1);
+            } else {
+                current = current.clone();
+            }
+            insert(current, hash, interned);
+            ++size;
+            table = current;
+            return interned;
+        }
+    }
+
+    /**
+     * Returns the canonical instance whose content equals {@code name} (case-sensitive) or {@code name} itself if
+     * there is no such instance.
+     *
+     * @param name the header name.
+     * @return the canonical instance for {@code name}, or {@code name}.
+     */
+    static CharSequence canonical(final CharSequence name) {
+        final CharSequence interned = find(table, name);
+        return interned == null ? name : interned;
+    }
+
+    @Nullable
+    private static CharSequence find(final CharSequence[] table, final CharSequence name) {
+        final int mask = table.length - 1;
+        int i = caseInsensitiveHashCode(name) & mask;
+        CharSequence candidate;
+        while ((candidate = table[i]) != null) {
+            if (candidate == name || contentEquals(candidate, name)) {
+                return candidate;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    private static CharSequence[] rehash(final CharSequence[] table, final int newCapacity) {
+        final CharSequence[] newTable = new CharSequence[newCapacity];
+        for (CharSequence name : table) {
+            if (name != null) {
+                insert(newTable, name.hashCode(), name);
+            }
+        }
+        return newTable;
+    }
+
+    private static void insert(final CharSequence[] table, final int hash, final CharSequence name) {
+        final int mask = table.length - 1;
+        int i = hash & mask;
+        while (table[i] != null) {
+            i = (i + 1) & mask;
+        }
+        table[i] = name;
+    }
+}
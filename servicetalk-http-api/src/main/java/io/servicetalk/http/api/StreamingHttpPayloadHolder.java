@@ -29,17 +29,21 @@ import io.servicetalk.http.api.HttpDataSourceTransformations.HttpTransportBuffer
 import io.servicetalk.http.api.HttpDataSourceTransformations.ObjectBridgeFlowControlAndDiscardOperator;
 import io.servicetalk.http.api.HttpDataSourceTransformations.PayloadAndTrailers;
 
+import java.nio.channels.FileChannel;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import javax.annotation.Nullable;
 
+import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.DEFAULT_RO_ALLOCATOR;
 import static io.servicetalk.concurrent.api.Processors.newSingleProcessor;
 import static io.servicetalk.concurrent.api.Publisher.defer;
 import static io.servicetalk.concurrent.api.Publisher.empty;
 import static io.servicetalk.concurrent.api.Publisher.from;
 import static io.servicetalk.concurrent.api.SourceAdapters.fromSource;
 import static io.servicetalk.http.api.HttpDataSourceTransformations.aggregatePayloadAndTrailers;
+import static io.servicetalk.http.api.HttpHeaderNames.CONTENT_LENGTH;
+import static io.servicetalk.http.api.HttpHeaderNames.TRANSFER_ENCODING;
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Function.identity;
 
@@ -109,6 +113,13 @@ final class StreamingHttpPayloadHolder implements PayloadInfo {
         payloadInfo.setMayHaveTrailersAndGenericTypeBuffer(true);
     }
 
+    void fileBody(final FileChannel fileChannel, final long position, final long count) {
+        messageBody(HttpFileRegion.regions(fileChannel, position, count));
+        payloadInfo.setEmpty(count == 0);
+        headers.remove(TRANSFER_ENCODING);
+        headers.set(CONTENT_LENGTH, Long.toString(count));
+    }
+
     <T> void payloadBody(final Publisher<T> payloadBody, final HttpStreamingSerializer<T> serializer) {
         payloadBody(serializer.serialize(headers, payloadBody, allocator));
         // Because #serialize(...) method may apply operators, check the original payloadBody again:
@@ -381,6 +392,8 @@ final class StreamingHttpPayloadHolder implements PayloadInfo {
             public void onNext(final Object o) {
                 if (o instanceof Buffer) {
                     target.onNext((Buffer) o);
+                } else if (o instanceof HttpFileRegion) {
+                    target.onNext(((HttpFileRegion) o).toBuffer(DEFAULT_RO_ALLOCATOR));
                 } else if (o instanceof HttpHeaders) {
                     if (trailers != null) {
                         throwDuplicateTrailersException(trailers, o);
@@ -21,6 +21,7 @@ import io.servicetalk.concurrent.api.Single;
 import io.servicetalk.context.api.ContextMap;
 import io.servicetalk.encoding.api.ContentCodec;
 
+import java.nio.channels.FileChannel;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -119,6 +120,27 @@ public interface StreamingHttpResponse extends HttpResponseMetaData {
      */
     <T> StreamingHttpResponse payloadBody(Publisher<T> payloadBody, HttpStreamingSerializer<T> serializer);
 
+    /**
+     * Returns a {@link StreamingHttpResponse} with its underlying payload set to {@code count} bytes of
+     * {@code fileChannel} starting at {@code position}.
+     * <p>
+     * The {@link HttpHeaderNames#CONTENT_LENGTH content-length} is set to {@code count}. On plaintext HTTP/1.x
+     * connections the transport transfers the file without copying it through user space (e.g. using
+     * {@code sendfile}). Over TLS, HTTP/2 or if the payload body is accessed via {@link #payloadBody()}, the file is
+     * read as a sequence of memory-mapped {@link Buffer}s of bounded size.
+     * <p>
+     * The {@code fileChannel} is not closed when the response completes, and must not be modified or closed until then.
+     * @param fileChannel The {@link FileChannel} to read the payload body from.
+     * @param position The offset in {@code fileChannel} of the first byte of the payload body.
+     * @param count The number of bytes of the payload body.
+     * @return {@code this}
+     * @see HttpFileRegion
+     */
+    default StreamingHttpResponse fileBody(FileChannel fileChannel, long position, long count) {
+        throw new UnsupportedOperationException("StreamingHttpResponse#fileBody(FileChannel, long, long) " +
+                "is not supported by " + getClass());
+    }
+
     /**
      * Returns a {@link StreamingHttpResponse} with its underlying payload transformed to the result of serialization.
      * @param transformer A {@link Function} which take as a parameter the existing payload body {@link Publisher} and
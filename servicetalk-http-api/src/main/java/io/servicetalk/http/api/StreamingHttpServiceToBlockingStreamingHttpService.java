@@ -28,6 +28,7 @@ import java.io.IOException;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.DEFAULT_RO_ALLOCATOR;
 import static io.servicetalk.concurrent.api.SourceAdapters.toSource;
 import static io.servicetalk.concurrent.api.internal.BlockingUtils.futureGetCancelOnInterrupt;
 import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
@@ -134,6 +135,12 @@ final class StreamingHttpServiceToBlockingStreamingHttpService implements Blocki
                     } catch (IOException e) {
                         throwException(e);
                     }
+                } else if (bufferOrTrailers instanceof HttpFileRegion) {
+                    try {
+                        payloadWriter.write(((HttpFileRegion) bufferOrTrailers).toBuffer(DEFAULT_RO_ALLOCATOR));
+                    } catch (IOException e) {
+                        throwException(e);
+                    }
                 } else if (bufferOrTrailers instanceof HttpHeaders) {
                     payloadWriter.setTrailers((HttpHeaders) bufferOrTrailers);
                 } else {
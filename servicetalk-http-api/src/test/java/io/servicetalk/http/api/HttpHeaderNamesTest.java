@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.api;
+
+import org.junit.jupiter.api.Test;
+
+import static io.servicetalk.buffer.api.CharSequences.newAsciiString;
+import static io.servicetalk.http.api.HttpHeaderNames.CONTENT_LENGTH;
+import static io.servicetalk.http.api.HttpHeaderNames.CONTENT_TYPE;
+import static io.servicetalk.http.api.HttpHeaderNames.canonicalName;
+import static io.servicetalk.http.api.HttpHeaderNames.intern;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+class HttpHeaderNamesTest {
+
+    @Test
+    void constantsAreCanonical() {
+        assertThat(canonicalName("content-type"), is(sameInstance(CONTENT_TYPE)));
+        assertThat(canonicalName(newAsciiString("content-length")), is(sameInstance(CONTENT_LENGTH)));
+        assertThat(intern("content-type"), is(sameInstance(CONTENT_TYPE)));
+    }
+
+    @Test
+    void canonicalNameIsCaseSensitive() {
+        CharSequence name = "Content-Type";
+        assertThat(canonicalName(name), is(sameInstance(name)));
+        CharSequence asciiName = newAsciiString("CONTENT-LENGTH");
+        assertThat(canonicalName(asciiName), is(sameInstance(asciiName)));
+        CharSequence interned = intern("x-servicetalk-mixed-case");
+        CharSequence mixedCase = "X-ServiceTalk-Mixed-Case";
+        assertThat(canonicalName(mixedCase), is(sameInstance(mixedCase)));
+        assertThat(canonicalName("x-servicetalk-mixed-case"), is(sameInstance(interned)));
+    }
+
+    @Test
+    void unknownNameIsNotRegistered() {
+        CharSequence name = "x-servicetalk-unknown-header";
+        assertThat(canonicalName(name), is(sameInstance(name)));
+        assertThat(canonicalName(newAsciiString(name)).toString(), is(name));
+    }
+
+    @Test
+    void internUserDefinedName() {
+        CharSequence interned = intern("x-servicetalk-interned-header");
+        assertThat(intern(newAsciiString("x-servicetalk-interned-header")), is(sameInstance(interned)));
+        assertThat(canonicalName("x-servicetalk-interned-header"), is(sameInstance(interned)));
+    }
+
+    @Test
+    void internManyNames() {
+        CharSequence[] interned = new CharSequence[1024];
+        for (int i = 0; i < interned.length; ++i) {
+            interned[i] = intern("x-servicetalk-many-" + i);
+        }
+        for (int i = 0; i < interned.length; ++i) {
+            assertThat(canonicalName("x-servicetalk-many-" + i), is(sameInstance(interned[i])));
+        }
+        assertThat(canonicalName("content-type"), is(sameInstance(CONTENT_TYPE)));
+    }
+
+    @Test
+    void lookupViaCanonicalName() {
+        HttpHeaders headers = DefaultHttpHeadersFactory.INSTANCE.newHeaders();
+        headers.add(canonicalName(newAsciiString("content-type")), "text/plain");
+        assertThat(String.valueOf(headers.get(CONTENT_TYPE)), is("text/plain"));
+        assertThat(String.valueOf(headers.get("Content-Type")), is("text/plain"));
+    }
+}
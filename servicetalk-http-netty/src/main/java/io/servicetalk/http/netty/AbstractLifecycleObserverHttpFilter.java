@@ -23,6 +23,7 @@ import io.servicetalk.context.api.ContextMap;
 import io.servicetalk.http.api.HttpExecutionStrategies;
 import io.servicetalk.http.api.HttpExecutionStrategy;
 import io.servicetalk.http.api.HttpExecutionStrategyInfluencer;
+import io.servicetalk.http.api.HttpFileRegion;
 import io.servicetalk.http.api.HttpHeaders;
 import io.servicetalk.http.api.HttpLifecycleObserver;
 import io.servicetalk.http.api.HttpLifecycleObserver.HttpExchangeObserver;
@@ -197,6 +198,9 @@ abstract class AbstractLifecycleObserverHttpFilter implements HttpExecutionStrat
             assert onResponse != null;
             if (item instanceof Buffer) {
                 safeReport(onResponse::onResponseData, (Buffer) item, onResponse, "onResponseData");
+            } else if (item instanceof HttpFileRegion) {
+                safeReport(onResponse::onResponseFileRegion, (HttpFileRegion) item, onResponse,
+                        "onResponseFileRegion");
             } else if (item instanceof HttpHeaders) {
                 safeReport(onResponse::onResponseTrailers, (HttpHeaders) item, onResponse, "onResponseTrailers");
             } else {
@@ -249,6 +249,12 @@ final class DefaultHttpServerBuilder implements HttpServerBuilder {
         return this;
     }
 
+    @Override
+    public HttpServerBuilder listenerSharding(final boolean enable) {
+        config.tcpConfig().listenerSharding(enable);
+        return this;
+    }
+
     @Override
     public HttpServerBuilder enableWireLogging(final String loggerName, final LogLevel logLevel,
                                                final BooleanSupplier logUserData) {
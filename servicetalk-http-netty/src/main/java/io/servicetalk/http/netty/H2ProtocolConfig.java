@@ -1,5 +1,5 @@
 /*
- * Copyright © 2019 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2019, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -99,6 +99,21 @@ public interface H2ProtocolConfig extends HttpProtocolConfig {
                 getClass());
     }
 
+    /**
+     * Maximum size in bytes of a <a href="https://datatracker.ietf.org/doc/html/rfc7540#section-6.1">DATA frame</a>
+     * that consecutive payload body chunks of a response are coalesced into, or {@code 0} to write every chunk as its
+     * own {@code DATA} frame.
+     * <p>
+     * Coalescing reduces the frame overhead of streams of many small chunks, like server-streaming gRPC responses of
+     * small messages. Chunks are held at most until the next flush, so the latency they may add is bounded by how long
+     * the transport delays flushes, see {@link io.servicetalk.transport.api.TransportConfigBuilder#maxFlushDelay}.
+     * Chunks are not coalesced when every chunk is flushed.
+     * @return maximum size in bytes of a coalesced {@code DATA} frame, or {@code 0} if coalescing is disabled.
+     */
+    default int maxCoalescedDataFrameSize() {
+        return 0;
+    }
+
     /**
      * A policy for sending <a href="https://tools.ietf.org/html/rfc7540#section-6.7">PING frames</a> to the peer.
      * <p>
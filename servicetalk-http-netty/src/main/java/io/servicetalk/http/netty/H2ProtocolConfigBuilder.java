@@ -1,5 +1,5 @@
 /*
- * Copyright © 2019-2022 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2019-2022, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import javax.annotation.Nullable;
 
 import static io.servicetalk.http.netty.H2KeepAlivePolicies.disabled;
 import static io.servicetalk.http.netty.H2KeepAlivePolicies.validateKeepAlivePolicy;
+import static io.servicetalk.utils.internal.NumberUtils.ensureNonNegative;
 import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
 import static java.util.Objects.requireNonNull;
 
@@ -57,6 +58,7 @@ public final class H2ProtocolConfigBuilder {
     private KeepAlivePolicy keepAlivePolicy = disabled();
     private int flowControlQuantum = DEFAULT_FLOW_CONTROL_QUANTUM;
     private int flowControlIncrement = CONNECTION_STREAM_FLOW_CONTROL_INCREMENT;
+    private int maxCoalescedDataFrameSize;
 
     H2ProtocolConfigBuilder() {
     }
@@ -153,6 +155,22 @@ public final class H2ProtocolConfigBuilder {
         return this;
     }
 
+    /**
+     * Sets the maximum size in bytes of a DATA frame that consecutive payload body chunks of a response are coalesced
+     * into.
+     * <p>
+     * Chunks are held at most until the next flush, so this is only effective if the transport delays flushes, see
+     * {@link io.servicetalk.transport.api.TransportConfigBuilder#maxFlushDelay}.
+     * @param maxCoalescedDataFrameSize maximum size in bytes of a coalesced DATA frame, or {@code 0} to write every
+     * chunk as its own DATA frame (the default).
+     * @return {@code this}
+     * @see H2ProtocolConfig#maxCoalescedDataFrameSize()
+     */
+    public H2ProtocolConfigBuilder maxCoalescedDataFrameSize(int maxCoalescedDataFrameSize) {
+        this.maxCoalescedDataFrameSize = ensureNonNegative(maxCoalescedDataFrameSize, "maxCoalescedDataFrameSize");
+        return this;
+    }
+
     /**
      * Builds {@link H2ProtocolConfig}.
      *
@@ -160,7 +178,7 @@ public final class H2ProtocolConfigBuilder {
      */
     public H2ProtocolConfig build() {
         return new DefaultH2ProtocolConfig(h2Settings, headersFactory, headersSensitivityDetector, frameLoggerConfig,
-                keepAlivePolicy, flowControlQuantum, flowControlIncrement);
+                keepAlivePolicy, flowControlQuantum, flowControlIncrement, maxCoalescedDataFrameSize);
     }
 
     private static final class DefaultH2ProtocolConfig implements H2ProtocolConfig {
@@ -172,6 +190,7 @@ public final class H2ProtocolConfigBuilder {
         private final KeepAlivePolicy keepAlivePolicy;
         private final int flowControlQuantum;
         private final int flowControlIncrement;
+        private final int maxCoalescedDataFrameSize;
 
         DefaultH2ProtocolConfig(final Http2Settings h2Settings,
                                 final HttpHeadersFactory headersFactory,
@@ -179,7 +198,8 @@ public final class H2ProtocolConfigBuilder {
                                 @Nullable final UserDataLoggerConfig frameLoggerConfig,
                                 final KeepAlivePolicy keepAlivePolicy,
                                 final int flowControlQuantum,
-                                final int flowControlIncrement) {
+                                final int flowControlIncrement,
+                                final int maxCoalescedDataFrameSize) {
             this.h2Settings = h2Settings;
             this.headersFactory = headersFactory;
             this.headersSensitivityDetector = headersSensitivityDetector;
@@ -187,6 +207,7 @@ public final class H2ProtocolConfigBuilder {
             this.keepAlivePolicy = keepAlivePolicy;
             this.flowControlQuantum = flowControlQuantum;
             this.flowControlIncrement = flowControlIncrement;
+            this.maxCoalescedDataFrameSize = maxCoalescedDataFrameSize;
         }
 
         @Override
@@ -225,6 +246,11 @@ public final class H2ProtocolConfigBuilder {
             return flowControlIncrement;
         }
 
+        @Override
+        public int maxCoalescedDataFrameSize() {
+            return maxCoalescedDataFrameSize;
+        }
+
         @Override
         public String toString() {
             return getClass().getSimpleName() +
@@ -236,6 +262,7 @@ public final class H2ProtocolConfigBuilder {
                     ", keepAlivePolicy=" + keepAlivePolicy +
                     ", flowControlQuantum=" + flowControlQuantum +
                     ", flowControlIncrement=" + flowControlIncrement +
+                    ", maxCoalescedDataFrameSize=" + maxCoalescedDataFrameSize +
                     ", h2Settings=" + h2Settings + '}';
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2019-2023 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2019-2023, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -170,7 +170,8 @@ final class H2ServerParentConnectionContext extends H2ParentConnectionContext im
                                 final CloseHandler closeHandler = forNonPipelined(false, streamChannel.config());
                                 streamChannel.pipeline().addLast(new H2ToStH1ServerDuplexHandler(
                                         connection.executionContext().bufferAllocator(),
-                                        h2ServerConfig.headersFactory(), closeHandler, streamObserver));
+                                        h2ServerConfig.headersFactory(), closeHandler, streamObserver,
+                                        h2ServerConfig.maxCoalescedDataFrameSize()));
 
                                 // ServiceTalk <-> Netty netty utilities
                                 DefaultNettyConnection<Object, Object> streamConnection =
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2019-2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2019-2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,15 +18,20 @@ package io.servicetalk.http.netty;
 import io.servicetalk.buffer.api.Buffer;
 import io.servicetalk.buffer.api.BufferAllocator;
 import io.servicetalk.http.api.Http2Exception;
+import io.servicetalk.http.api.HttpFileRegion;
 import io.servicetalk.http.api.HttpHeaders;
 import io.servicetalk.http.api.HttpHeadersFactory;
 import io.servicetalk.http.api.HttpRequestMethod;
 import io.servicetalk.http.api.HttpResponseMetaData;
 import io.servicetalk.transport.api.ConnectionObserver.StreamObserver;
 import io.servicetalk.transport.netty.internal.CloseHandler;
+import io.servicetalk.transport.netty.internal.StacklessClosedChannelException;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.CoalescingBufferQueue;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
 import io.netty.handler.codec.http2.Http2DataFrame;
 import io.netty.handler.codec.http2.Http2Headers;
 import io.netty.handler.codec.http2.Http2HeadersFrame;
@@ -39,6 +44,7 @@ import static io.netty.handler.codec.http.HttpHeaderValues.ZERO;
 import static io.netty.handler.codec.http2.Http2Headers.PseudoHeaderName.AUTHORITY;
 import static io.netty.handler.codec.http2.Http2Headers.PseudoHeaderName.METHOD;
 import static io.netty.handler.codec.http2.Http2Headers.PseudoHeaderName.PATH;
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
 import static io.servicetalk.http.api.HttpProtocolVersion.HTTP_2_0;
 import static io.servicetalk.http.api.HttpRequestMetaDataFactory.newRequestMetaData;
 import static io.servicetalk.http.api.HttpRequestMethod.Properties.NONE;
@@ -47,14 +53,24 @@ import static io.servicetalk.http.netty.H2ToStH1Utils.h1HeadersToH2Headers;
 import static io.servicetalk.http.netty.H2ToStH1Utils.h2HeadersSanitizeForH1;
 import static io.servicetalk.http.netty.HeaderUtils.clientMaySendPayloadBodyFor;
 import static io.servicetalk.http.netty.HeaderUtils.shouldAddZeroContentLength;
+import static io.servicetalk.http.netty.HttpObjectEncoder.encodeAndRetain;
 
 final class H2ToStH1ServerDuplexHandler extends AbstractH2DuplexHandler {
+    private final int maxCoalescedDataFrameSize;
+    @Nullable
+    private CoalescingBufferQueue pendingData;
     private boolean readHeaders;
     private boolean responseSent;
 
     H2ToStH1ServerDuplexHandler(BufferAllocator allocator, HttpHeadersFactory headersFactory,
                                 CloseHandler closeHandler, StreamObserver observer) {
+        this(allocator, headersFactory, closeHandler, observer, 0);
+    }
+
+    H2ToStH1ServerDuplexHandler(BufferAllocator allocator, HttpHeadersFactory headersFactory,
+                                CloseHandler closeHandler, StreamObserver observer, int maxCoalescedDataFrameSize) {
         super(allocator, headersFactory, closeHandler, observer);
+        this.maxCoalescedDataFrameSize = maxCoalescedDataFrameSize;
     }
 
     @Override
@@ -75,14 +91,73 @@ final class H2ToStH1ServerDuplexHandler extends AbstractH2DuplexHandler {
             h2Headers.status(metaData.status().codeAsCharSequence());
             writeMetaData(ctx, metaData, h2Headers, realResponse, promise);
         } else if (msg instanceof Buffer) {
-            writeBuffer(ctx, (Buffer) msg, promise);
+            writeData(ctx, (Buffer) msg, promise);
+        } else if (msg instanceof HttpFileRegion) {
+            // HTTP/2 frames data itself, so the region can't be transferred directly from the file.
+            final Buffer mapped;
+            try {
+                mapped = ((HttpFileRegion) msg).toBuffer(DEFAULT_ALLOCATOR);
+            } catch (Throwable cause) {
+                promise.tryFailure(cause);
+                return;
+            }
+            writeData(ctx, mapped, promise);
         } else if (msg instanceof HttpHeaders) {
+            writePendingData(ctx);
             writeTrailers(ctx, msg, promise);
         } else {
+            writePendingData(ctx);
             ctx.write(msg, promise);
         }
     }
 
+    @Override
+    public void flush(final ChannelHandlerContext ctx) {
+        writePendingData(ctx);
+        ctx.flush();
+    }
+
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext ctx) {
+        if (pendingData != null) {
+            // Data which hasn't been flushed before the stream is closed is discarded, like unflushed writes are.
+            pendingData.releaseAndFailAll(
+                    StacklessClosedChannelException.newInstance(H2ToStH1ServerDuplexHandler.class, "handlerRemoved"));
+        }
+    }
+
+    private void writeData(final ChannelHandlerContext ctx, final Buffer buffer, final ChannelPromise promise) {
+        if (maxCoalescedDataFrameSize <= 0) {
+            writeBuffer(ctx, buffer, promise);
+            return;
+        }
+        final ByteBuf data = encodeAndRetain(buffer);
+        if (data.readableBytes() >= maxCoalescedDataFrameSize) {
+            writePendingData(ctx);
+            ctx.write(new DefaultHttp2DataFrame(data, false), promise);
+            return;
+        }
+        CoalescingBufferQueue pendingData = this.pendingData;
+        if (pendingData == null) {
+            pendingData = this.pendingData = new CoalescingBufferQueue(ctx.channel(), 4);
+        }
+        // Consecutive small buffers are written as a single DATA frame when the size limit is reached, or the
+        // FlushStrategy flushes, which bounds the time data is held by the latency the FlushStrategy allows.
+        pendingData.add(data, promise);
+        if (pendingData.readableBytes() >= maxCoalescedDataFrameSize) {
+            writePendingData(ctx);
+        }
+    }
+
+    private void writePendingData(final ChannelHandlerContext ctx) {
+        final CoalescingBufferQueue pendingData = this.pendingData;
+        if (pendingData != null && !pendingData.isEmpty()) {
+            final ChannelPromise promise = ctx.newPromise();
+            ctx.write(new DefaultHttp2DataFrame(pendingData.remove(pendingData.readableBytes(), promise), false),
+                    promise);
+        }
+    }
+
     @Override
     public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Http2Exception {
         if (msg instanceof Http2HeadersFrame) {
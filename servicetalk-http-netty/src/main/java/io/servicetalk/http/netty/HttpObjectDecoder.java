@@ -73,6 +73,7 @@ import static io.servicetalk.http.api.HttpHeaderNames.SEC_WEBSOCKET_KEY2;
 import static io.servicetalk.http.api.HttpHeaderNames.SEC_WEBSOCKET_LOCATION;
 import static io.servicetalk.http.api.HttpHeaderNames.SEC_WEBSOCKET_ORIGIN;
 import static io.servicetalk.http.api.HttpHeaderNames.UPGRADE;
+import static io.servicetalk.http.api.HttpHeaderNames.canonicalName;
 import static io.servicetalk.http.api.HttpProtocolVersion.HTTP_1_0;
 import static io.servicetalk.http.api.HttpProtocolVersion.HTTP_1_1;
 import static io.servicetalk.http.api.HttpRequestMethod.GET;
@@ -666,8 +667,13 @@ abstract class HttpObjectDecoder<T extends HttpMetaData> extends ByteToMessageDe
         if (nameEnd == nameStart) {
             throw newDecoderExceptionAtLine("Empty header name in line ", parsingLine);
         }
-        // We assume the allocator will not leak memory, and so we retain + slice to avoid copying data.
-        final CharSequence name = newAsciiString(newBufferFrom(buffer.retainedSlice(nameStart, nameEnd - nameStart)));
+        // Resolve well-known names to their canonical instance, so lookups via the constants are identity comparisons.
+        final CharSequence slicedName = newAsciiString(newBufferFrom(buffer.slice(nameStart, nameEnd - nameStart)));
+        final CharSequence name = canonicalName(slicedName);
+        if (name == slicedName) {
+            // We assume the allocator will not leak memory, and so we retain + slice to avoid copying data.
+            buffer.retain();
+        }
         final CharSequence value;
         try {
             final int valueStart;
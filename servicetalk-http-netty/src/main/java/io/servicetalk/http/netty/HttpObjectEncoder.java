@@ -32,6 +32,7 @@ package io.servicetalk.http.netty;
 
 import io.servicetalk.buffer.api.Buffer;
 import io.servicetalk.http.api.EmptyHttpHeaders;
+import io.servicetalk.http.api.HttpFileRegion;
 import io.servicetalk.http.api.HttpHeaderNames;
 import io.servicetalk.http.api.HttpHeaderValues;
 import io.servicetalk.http.api.HttpHeaders;
@@ -43,6 +44,10 @@ import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.PromiseCombiner;
 
 import java.io.IOException;
@@ -60,6 +65,7 @@ import static io.netty.handler.codec.http.HttpConstants.CR;
 import static io.netty.handler.codec.http.HttpConstants.LF;
 import static io.netty.handler.codec.http.HttpConstants.SP;
 import static io.servicetalk.buffer.api.CharSequences.unwrapBuffer;
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
 import static io.servicetalk.buffer.netty.BufferUtils.newBufferFrom;
 import static io.servicetalk.buffer.netty.BufferUtils.toByteBufNoThrow;
 import static io.servicetalk.http.api.HeaderUtils.isTransferEncodingChunked;
@@ -203,7 +209,7 @@ abstract class HttpObjectEncoder<T extends HttpMetaData> extends ChannelDuplexHa
                 ctx.write(EMPTY_BUFFER, promise);
             } else if (state == CONTENT_LEN_CHUNKED) {
                 PromiseCombiner promiseCombiner = new PromiseCombiner(ctx.executor());
-                encodeChunkedContent(ctx, stBuffer, stBuffer.readableBytes(), promiseCombiner);
+                encodeChunkedContent(ctx, encodeAndRetain(stBuffer), stBuffer.readableBytes(), promiseCombiner);
                 promiseCombiner.finish(promise);
             } else if (state <= CONTENT_LEN_LARGEST_VALUE || state >= 0 && (state -= readableBytes) < 0) {
                 // state may be <0 if there is no content-length or transfer-encoding, so let this pass through, but if
@@ -215,6 +221,36 @@ abstract class HttpObjectEncoder<T extends HttpMetaData> extends ChannelDuplexHa
                 }
                 ctx.write(encodeAndRetain(stBuffer), promise);
             }
+        } else if (msg instanceof HttpFileRegion) {
+            final HttpFileRegion region = (HttpFileRegion) msg;
+            if (ctx.pipeline().get(SslHandler.class) != null) {
+                // A FileRegion can't be encrypted by the SslHandler, fallback to a memory-mapped Buffer.
+                final Buffer mapped;
+                try {
+                    mapped = region.toBuffer(DEFAULT_ALLOCATOR);
+                } catch (Throwable e) {
+                    tryIoException(ctx, e, promise);
+                    return;
+                }
+                write(ctx, mapped, promise);
+                return;
+            }
+            // Regions are split to a size which fits in an int.
+            final int readableBytes = (int) region.count();
+            if (readableBytes <= 0) {
+                ctx.write(EMPTY_BUFFER, promise);
+            } else if (state == CONTENT_LEN_CHUNKED) {
+                PromiseCombiner promiseCombiner = new PromiseCombiner(ctx.executor());
+                encodeChunkedContent(ctx, new NonClosingFileRegion(region), readableBytes, promiseCombiner);
+                promiseCombiner.finish(promise);
+            } else if (state <= CONTENT_LEN_LARGEST_VALUE || state >= 0 && (state -= readableBytes) < 0) {
+                tryTooMuchContent(ctx, readableBytes, promise);
+            } else {
+                if (state == 0) {
+                    contentLenConsumed(ctx, promise);
+                }
+                ctx.write(new NonClosingFileRegion(region), promise);
+            }
         } else if (msg instanceof HttpHeaders) {
             final boolean isChunked = state == CONTENT_LEN_CHUNKED;
             state = CONTENT_LEN_INIT;
@@ -386,7 +422,12 @@ abstract class HttpObjectEncoder<T extends HttpMetaData> extends ChannelDuplexHa
         }
     }
 
-    private static void encodeChunkedContent(ChannelHandlerContext ctx, Buffer msg, long contentLength,
+    /**
+     * Writes a chunk of content.
+     * @param content the encoded content, either a {@link ByteBuf} or a {@link FileRegion}, whose ownership is
+     * transferred to this method.
+     */
+    private static void encodeChunkedContent(ChannelHandlerContext ctx, Object content, long contentLength,
                                              PromiseCombiner promiseCombiner) {
         if (contentLength > 0) {
             String lengthHex = toHexString(contentLength);
@@ -396,16 +437,17 @@ abstract class HttpObjectEncoder<T extends HttpMetaData> extends ChannelDuplexHa
                 writeShortBE(buf, CRLF_SHORT);
             } catch (Throwable e) {
                 buf.release();
+                ReferenceCountUtil.release(content);
                 throw e;
             }
             promiseCombiner.add(ctx.write(buf));
-            promiseCombiner.add(ctx.write(encodeAndRetain(msg)));
+            promiseCombiner.add(ctx.write(content));
             promiseCombiner.add(ctx.write(CRLF_BUF.duplicate()));
         } else {
             assert contentLength == 0;
             // Need to produce some output otherwise an
             // IllegalStateException will be thrown
-            promiseCombiner.add(ctx.write(encodeAndRetain(msg)));
+            promiseCombiner.add(ctx.write(content));
         }
     }
 
@@ -489,4 +531,19 @@ abstract class HttpObjectEncoder<T extends HttpMetaData> extends ChannelDuplexHa
         ByteBuf byteBuf = toByteBufNoThrow(buffer);
         return byteBuf != null ? byteBuf : wrappedBuffer(buffer.toNioBuffer());
     }
+
+    /**
+     * A {@link FileRegion} for a {@link HttpFileRegion}, the {@link HttpFileRegion#fileChannel()} is owned by the user
+     * and must not be closed when the region is released.
+     */
+    private static final class NonClosingFileRegion extends DefaultFileRegion {
+        NonClosingFileRegion(final HttpFileRegion region) {
+            super(region.fileChannel(), region.position(), region.count());
+        }
+
+        @Override
+        protected void deallocate() {
+            // Don't close the FileChannel.
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,6 +29,7 @@ import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopStreamO
 
 import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
@@ -41,9 +42,12 @@ import io.netty.handler.codec.http2.Http2HeadersFrame;
 import io.netty.handler.codec.http2.Http2StreamChannel;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.nio.channels.ClosedChannelException;
+
 import static io.netty.buffer.ByteBufUtil.writeAscii;
 import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_LENGTH;
 import static io.netty.handler.codec.http.HttpMethod.PUT;
@@ -414,6 +418,53 @@ class AbstractH2DuplexHandlerTest {
         assertThat("Unexpected outbound messages", channel.outboundMessages(), empty());
     }
 
+    @Test
+    void coalescedDataFrames() {
+        channel.pipeline().addLast(new H2ToStH1ServerDuplexHandler(DEFAULT_ALLOCATOR, HEADERS_FACTORY, closeHandler,
+                NoopStreamObserver.INSTANCE, 8));
+        ChannelFuture first = channel.write(DEFAULT_ALLOCATOR.fromAscii("12"));
+        ChannelFuture second = channel.write(EMPTY_BUFFER);
+        ChannelFuture third = channel.write(DEFAULT_ALLOCATOR.fromAscii("34"));
+        channel.flush();
+        assertThat(first.isSuccess(), is(true));
+        assertThat(second.isSuccess(), is(true));
+        assertThat(third.isSuccess(), is(true));
+        assertDataFrame("1234");
+        assertThat("Unexpected outbound messages", channel.outboundMessages(), empty());
+
+        // A frame is written when the limit is reached, large chunks are written as their own frame, and pending
+        // chunks are written before the trailers.
+        channel.write(DEFAULT_ALLOCATOR.fromAscii("5678"));
+        channel.write(DEFAULT_ALLOCATOR.fromAscii("9012"));
+        channel.write(DEFAULT_ALLOCATOR.fromAscii("3"));
+        channel.write(DEFAULT_ALLOCATOR.fromAscii("0123456789"));
+        channel.write(DEFAULT_ALLOCATOR.fromAscii("4"));
+        channel.writeOutbound(EmptyHttpHeaders.INSTANCE);
+        assertDataFrame("56789012");
+        assertDataFrame("3");
+        assertDataFrame("0123456789");
+        assertDataFrame("4");
+        Http2DataFrame dataFrame = channel.readOutbound();
+        assertThat("Unexpected endStream flag value at last frame", dataFrame.isEndStream(), is(true));
+        assertThat("Unexpected outbound messages", channel.outboundMessages(), empty());
+    }
+
+    @Test
+    void coalescedDataFailsWhenClosedBeforeFlush() {
+        channel.pipeline().addLast(new H2ToStH1ServerDuplexHandler(DEFAULT_ALLOCATOR, HEADERS_FACTORY, closeHandler,
+                NoopStreamObserver.INSTANCE, 8));
+        ChannelFuture future = channel.write(DEFAULT_ALLOCATOR.fromAscii("12"));
+        channel.close();
+        assertThat(future.cause(), instanceOf(ClosedChannelException.class));
+    }
+
+    private void assertDataFrame(String content) {
+        Http2DataFrame dataFrame = channel.readOutbound();
+        assertThat("Unexpected data", dataFrame.content().toString(US_ASCII), is(content));
+        assertThat("Unexpected endStream flag value at data frame", dataFrame.isEndStream(), is(false));
+        dataFrame.release();
+    }
+
     private void assertEmptyDataFrame() {
         Http2DataFrame dataFrame = channel.readOutbound();
         assertThat(dataFrame.content().readableBytes(), is(0));
@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.http.api.BlockingHttpClient;
+import io.servicetalk.http.api.HttpFileRegion;
+import io.servicetalk.http.api.HttpHeaders;
+import io.servicetalk.http.api.HttpLifecycleObserver;
+import io.servicetalk.http.api.HttpLifecycleObserver.HttpExchangeObserver;
+import io.servicetalk.http.api.HttpLifecycleObserver.HttpRequestObserver;
+import io.servicetalk.http.api.HttpLifecycleObserver.HttpResponseObserver;
+import io.servicetalk.http.api.HttpResponse;
+import io.servicetalk.http.api.HttpServerBuilder;
+import io.servicetalk.http.api.SingleAddressHttpClientBuilder;
+import io.servicetalk.test.resources.DefaultTestCerts;
+import io.servicetalk.transport.api.ClientSslConfigBuilder;
+import io.servicetalk.transport.api.HostAndPort;
+import io.servicetalk.transport.api.ServerContext;
+import io.servicetalk.transport.api.ServerSslConfigBuilder;
+import io.servicetalk.transport.netty.internal.NettyConnectionContext;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.net.InetSocketAddress;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.http.api.HttpHeaderNames.CONTENT_LENGTH;
+import static io.servicetalk.http.api.HttpResponseStatus.OK;
+import static io.servicetalk.http.netty.HttpProtocol.HTTP_1;
+import static io.servicetalk.test.resources.DefaultTestCerts.serverPemHostname;
+import static io.servicetalk.transport.netty.internal.AddressUtils.localAddress;
+import static io.servicetalk.transport.netty.internal.AddressUtils.serverHostAndPort;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FileBodyTest {
+
+    // Larger than a single HttpFileRegion to verify the file is split into multiple regions.
+    private static final int FILE_SIZE = 9 * 1024 * 1024 + 7;
+    private static final int OFFSET = 3;
+
+    @TempDir
+    Path tempDir;
+
+    static List<Arguments> protocolsAndSsl() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (HttpProtocol protocol : HttpProtocol.values()) {
+            arguments.add(Arguments.of(protocol, false));
+            arguments.add(Arguments.of(protocol, true));
+        }
+        return arguments;
+    }
+
+    @ParameterizedTest(name = "{displayName} [{index}] protocol={0}, ssl={1}")
+    @MethodSource("protocolsAndSsl")
+    void fileBody(HttpProtocol protocol, boolean ssl) throws Exception {
+        final byte[] content = new byte[FILE_SIZE];
+        ThreadLocalRandom.current().nextBytes(content);
+        final Path file = Files.write(tempDir.resolve("payload.bin"), content);
+        final long count = content.length - OFFSET;
+        final int requests = 3;
+        final FileRegionCounter fileRegionCounter = new FileRegionCounter();
+        final ResponseBytesObserver responseObserver = new ResponseBytesObserver(requests);
+
+        try (FileChannel fileChannel = FileChannel.open(file, READ);
+             ServerContext serverContext = newServerBuilder(protocol, ssl)
+                     .lifecycleObserver(responseObserver.lifecycleObserver())
+                     .listenStreamingAndAwait((ctx, request, responseFactory) -> {
+                         if (ctx instanceof NettyConnectionContext) {
+                             ChannelPipeline pipeline = ((NettyConnectionContext) ctx).nettyChannel().pipeline();
+                             if (pipeline.get(FileRegionCounter.class) == null) {
+                                 pipeline.addFirst(fileRegionCounter);
+                             }
+                         }
+                         return succeeded(responseFactory.ok().fileBody(fileChannel, OFFSET, count));
+                     });
+             BlockingHttpClient client = newClientBuilder(serverContext, protocol, ssl).buildBlocking()) {
+            // Send a few requests to verify the connection stays in a consistent state after a file response.
+            for (int i = 0; i < requests; i++) {
+                HttpResponse response = client.request(client.get("/"));
+                assertThat(response.status(), is(OK));
+                assertThat(String.valueOf(response.headers().get(CONTENT_LENGTH)), is(Long.toString(count)));
+                byte[] received = new byte[response.payloadBody().readableBytes()];
+                response.payloadBody().readBytes(received);
+                byte[] expected = new byte[(int) count];
+                System.arraycopy(content, OFFSET, expected, 0, expected.length);
+                assertThat(received, is(expected));
+            }
+            responseObserver.responsesComplete.await();
+            assertThat("Unexpected response bytes reported to HttpLifecycleObserver",
+                    responseObserver.responseBytes.get(), is(requests * count));
+            if (protocol == HTTP_1 && !ssl) {
+                assertThat("File was not written as a FileRegion", fileRegionCounter.fileRegions.get(),
+                        is(greaterThan(requests)));
+            } else {
+                assertThat("FileRegion written despite fallback to Buffers", fileRegionCounter.fileRegions.get(),
+                        is(0));
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{displayName} [{index}] protocol={0}, ssl={1}")
+    @MethodSource("protocolsAndSsl")
+    void fileBodyAccessedAsPayloadBody(HttpProtocol protocol, boolean ssl) throws Exception {
+        final byte[] content = new byte[1024];
+        ThreadLocalRandom.current().nextBytes(content);
+        final Path file = Files.write(tempDir.resolve("payload.bin"), content);
+
+        try (FileChannel fileChannel = FileChannel.open(file, READ);
+             ServerContext serverContext = newServerBuilder(protocol, ssl)
+                     .listenStreamingAndAwait((ctx, request, responseFactory) ->
+                             // Filters which access the payload body see the file as Buffers.
+                             succeeded(responseFactory.ok().fileBody(fileChannel, 0, content.length)
+                                     .transformPayloadBody(body -> body.map(buffer -> buffer))));
+             BlockingHttpClient client = newClientBuilder(serverContext, protocol, ssl).buildBlocking()) {
+            HttpResponse response = client.request(client.get("/"));
+            assertThat(response.status(), is(OK));
+            byte[] received = new byte[response.payloadBody().readableBytes()];
+            response.payloadBody().readBytes(received);
+            assertThat(received, is(content));
+        }
+    }
+
+    /**
+     * Counts the {@link FileRegion}s written to the channel, added in front of the pipeline.
+     */
+    private static final class FileRegionCounter extends ChannelOutboundHandlerAdapter {
+        final AtomicInteger fileRegions = new AtomicInteger();
+
+        @Override
+        public boolean isSharable() {
+            return true;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            if (msg instanceof FileRegion) {
+                fileRegions.incrementAndGet();
+            }
+            ctx.write(msg, promise);
+        }
+    }
+
+    private static final class ResponseBytesObserver implements HttpResponseObserver {
+        final AtomicLong responseBytes = new AtomicLong();
+        final CountDownLatch responsesComplete;
+
+        ResponseBytesObserver(int responses) {
+            responsesComplete = new CountDownLatch(responses);
+        }
+
+        HttpLifecycleObserver lifecycleObserver() {
+            HttpLifecycleObserver observer = mock(HttpLifecycleObserver.class);
+            HttpExchangeObserver exchangeObserver = mock(HttpExchangeObserver.class);
+            when(observer.onNewExchange()).thenReturn(exchangeObserver);
+            when(exchangeObserver.onRequest(any())).thenReturn(mock(HttpRequestObserver.class));
+            when(exchangeObserver.onResponse(any())).thenReturn(this);
+            return observer;
+        }
+
+        @Override
+        public void onResponseData(Buffer data) {
+            responseBytes.addAndGet(data.readableBytes());
+        }
+
+        @Override
+        public void onResponseFileRegion(HttpFileRegion region) {
+            responseBytes.addAndGet(region.count());
+        }
+
+        @Override
+        public void onResponseTrailers(HttpHeaders trailers) {
+        }
+
+        @Override
+        public void onResponseComplete() {
+            responsesComplete.countDown();
+        }
+
+        @Override
+        public void onResponseError(Throwable cause) {
+        }
+
+        @Override
+        public void onResponseCancel() {
+        }
+    }
+
+    private static HttpServerBuilder newServerBuilder(HttpProtocol protocol, boolean ssl) {
+        HttpServerBuilder builder = HttpServers.forAddress(localAddress(0)).protocols(protocol.config);
+        if (ssl) {
+            builder.sslConfig(new ServerSslConfigBuilder(DefaultTestCerts::loadServerPem,
+                    DefaultTestCerts::loadServerKey).build());
+        }
+        return builder;
+    }
+
+    private static SingleAddressHttpClientBuilder<HostAndPort, InetSocketAddress> newClientBuilder(
+            ServerContext serverContext, HttpProtocol protocol, boolean ssl) {
+        SingleAddressHttpClientBuilder<HostAndPort, InetSocketAddress> builder =
+                HttpClients.forSingleAddress(serverHostAndPort(serverContext)).protocols(protocol.config);
+        if (ssl) {
+            builder.sslConfig(new ClientSslConfigBuilder(DefaultTestCerts::loadServerCAPem)
+                    .peerHost(serverPemHostname()).build());
+        }
+        return builder;
+    }
+}
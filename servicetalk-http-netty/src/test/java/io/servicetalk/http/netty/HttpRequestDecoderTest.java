@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018, 2020, 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2020, 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,10 +29,14 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
+import static io.servicetalk.buffer.api.Matchers.contentEqualTo;
 import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
 import static io.servicetalk.buffer.netty.BufferUtils.getByteBufAllocator;
+import static io.servicetalk.http.api.HttpHeaderNames.CONNECTION;
 import static io.servicetalk.http.api.HttpHeaderNames.HOST;
 import static io.servicetalk.http.api.HttpProtocolVersion.HTTP_1_1;
 import static io.servicetalk.http.api.HttpRequestMethod.GET;
@@ -45,6 +49,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -309,6 +314,26 @@ class HttpRequestDecoderTest extends HttpObjectDecoderTest {
         assertThat(channel.inboundMessages(), is(not(empty())));
     }
 
+    @Test
+    void wellKnownHeaderNamesAreCanonical() {
+        writeMsg("GET / HTTP/1.1" + "\r\n" +
+                "host: servicetalk.io" + "\r\n" +
+                "Connection: keep-alive" + "\r\n" +
+                "x-custom: value" + "\r\n" + "\r\n");
+
+        HttpMetaData metaData = assertStartLine(channel);
+        Iterator<Map.Entry<CharSequence, CharSequence>> itr = metaData.headers().iterator();
+        assertThat(itr.next().getKey(), is(sameInstance(HOST)));
+        // Names are resolved case-sensitively to preserve the wire representation.
+        final CharSequence connection = itr.next().getKey();
+        assertThat(connection, is(not(sameInstance(CONNECTION))));
+        assertThat(connection.toString(), is("Connection"));
+        assertThat(itr.next().getKey().toString(), is("x-custom"));
+        assertThat(metaData.headers().get(CONNECTION), contentEqualTo("keep-alive"));
+        assertEmptyTrailers(channel);
+        assertFalse(channel.finishAndReleaseAll());
+    }
+
     private HttpRequestMetaData assertRequestLine(HttpRequestMethod expectedMethod, String expectedRequestTarget,
                                                   HttpProtocolVersion expectedVersion) {
         return assertRequestLine(expectedMethod, expectedRequestTarget, expectedVersion, channel());
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.http.api.BlockingHttpService;
+import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.http.api.StreamingHttpService;
+
+import io.netty.buffer.ByteBuf;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_DIRECT_POOLED_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferUtils.isLease;
+import static io.servicetalk.buffer.netty.BufferUtils.toByteBuf;
+import static io.servicetalk.concurrent.api.Publisher.from;
+import static io.servicetalk.http.api.HttpApiConversions.toStreamingHttpService;
+import static io.servicetalk.http.api.HttpExecutionStrategies.offloadNone;
+import static io.servicetalk.http.api.HttpResponseStatus.OK;
+import static io.servicetalk.http.netty.AbstractNettyHttpServerTest.ExecutorSupplier.CACHED;
+import static io.servicetalk.http.netty.AbstractNettyHttpServerTest.ExecutorSupplier.CACHED_SERVER;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class PooledBufferWriteTest extends AbstractNettyHttpServerTest {
+
+    private final BlockingQueue<ByteBuf> responseLeases = new LinkedBlockingQueue<>();
+
+    @Override
+    void service(final StreamingHttpService service) {
+        super.service(toStreamingHttpService(offloadNone(), (BlockingHttpService) (ctx, request, responseFactory) -> {
+            final Buffer payload = PREFER_DIRECT_POOLED_ALLOCATOR.fromAscii(request.payloadBody().toString(US_ASCII));
+            responseLeases.add(toByteBuf(payload));
+            return responseFactory.ok().payloadBody(payload);
+        }));
+    }
+
+    @ParameterizedTest(name = "{displayName} [{index}] protocol={0}")
+    @EnumSource(HttpProtocol.class)
+    void writtenLeasesAreReleased(HttpProtocol protocol) throws Exception {
+        protocol(protocol.config);
+        setUp(CACHED, CACHED_SERVER);
+        final String payload = "Hello ServiceTalk";
+        final Buffer requestPayload = PREFER_DIRECT_POOLED_ALLOCATOR.fromAscii(payload);
+        assertThat(isLease(requestPayload), is(true));
+        final ByteBuf requestLease = toByteBuf(requestPayload);
+        StreamingHttpRequest request = streamingHttpConnection().post("/").payloadBody(from(requestPayload));
+        StreamingHttpResponse response = makeRequest(request);
+        assertResponse(response, protocol.version, OK, payload);
+
+        // The leases are released by the writing event loop right after the write, which may race with the read.
+        awaitReleased(requestLease);
+        awaitReleased(responseLeases.take());
+    }
+
+    private static void awaitReleased(final ByteBuf lease) throws InterruptedException {
+        while (lease.refCnt() != 0) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -71,6 +71,15 @@ public final class HttpPredicateRouterBuilder implements RouteStarter {
     private final RouteContinuationImpl continuation = new RouteContinuationImpl();
     @Nullable
     private BiPredicate<ConnectionContext, StreamingHttpRequest> predicate;
+    /**
+     * {@link #predicate} without the path constraint captured in {@link #exactPaths} or {@link #pathPrefix}.
+     */
+    @Nullable
+    private BiPredicate<ConnectionContext, StreamingHttpRequest> residualPredicate;
+    @Nullable
+    private String[] exactPaths;
+    @Nullable
+    private String pathPrefix;
 
     @Override
     public RouteContinuation whenMethod(final HttpRequestMethod method) {
@@ -86,19 +95,23 @@ public final class HttpPredicateRouterBuilder implements RouteStarter {
 
     @Override
     public RouteContinuation whenPathEquals(final String path) {
-        andPredicate(pathEquals(path));
+        andPathPredicate(pathEquals(path), new String[] {path}, null);
         return continuation;
     }
 
     @Override
     public RouteContinuation whenPathIsOneOf(final String... paths) {
-        andPredicate(pathIsOneOf(paths));
+        if (paths.length == 0) {
+            andPredicate(pathIsOneOf(paths));
+        } else {
+            andPathPredicate(pathIsOneOf(paths), paths.clone(), null);
+        }
         return continuation;
     }
 
     @Override
     public RouteContinuation whenPathStartsWith(final String pathPrefix) {
-        andPredicate(pathStartsWith(pathPrefix));
+        andPathPredicate(pathStartsWith(pathPrefix), null, pathPrefix);
         return continuation;
     }
 
@@ -157,17 +170,45 @@ public final class HttpPredicateRouterBuilder implements RouteStarter {
         return continuation;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If any route is constrained by {@link #whenPathEquals(String)}, {@link #whenPathIsOneOf(String...)} or
+     * {@link #whenPathStartsWith(String)} (or their {@code and*} counterparts), the returned router indexes those
+     * routes in a radix tree keyed by path so that only the routes which can match the request path are evaluated.
+     * Routes without such a constraint are still evaluated, in the order they were added relative to all other routes.
+     */
     @Override
     public StreamingHttpService buildStreaming() {
+        for (Route route : routes) {
+            if (route.isPathIndexed()) {
+                return new RadixTreeRouter(DefaultFallbackServiceStreaming.instance(), routes);
+            }
+        }
         return new InOrderRouter(DefaultFallbackServiceStreaming.instance(), routes);
     }
 
     private void andPredicate(final BiPredicate<ConnectionContext, StreamingHttpRequest> newPredicate) {
-        if (predicate == null) {
-            predicate = newPredicate;
-        } else {
-            predicate = predicate.and(newPredicate);
+        predicate = and(predicate, newPredicate);
+        residualPredicate = and(residualPredicate, newPredicate);
+    }
+
+    private void andPathPredicate(final BiPredicate<ConnectionContext, StreamingHttpRequest> newPredicate,
+                                  @Nullable final String[] newExactPaths, @Nullable final String newPathPrefix) {
+        if (exactPaths != null || pathPrefix != null) {
+            // Only the first path constraint of a route is indexed, others are evaluated as regular predicates.
+            andPredicate(newPredicate);
+            return;
         }
+        predicate = and(predicate, newPredicate);
+        exactPaths = newExactPaths;
+        pathPrefix = newPathPrefix;
+    }
+
+    private static BiPredicate<ConnectionContext, StreamingHttpRequest> and(
+            @Nullable final BiPredicate<ConnectionContext, StreamingHttpRequest> current,
+            final BiPredicate<ConnectionContext, StreamingHttpRequest> newPredicate) {
+        return current == null ? newPredicate : current.and(newPredicate);
     }
 
     private class RouteContinuationImpl implements RouteContinuation {
@@ -280,9 +321,13 @@ public final class HttpPredicateRouterBuilder implements RouteStarter {
 
         private RouteStarter thenRouteTo0(final StreamingHttpService route, final HttpExecutionStrategy routeStrategy) {
             assert predicate != null;
-            routes.add(new Route(predicate, route, null == strategy ? null : routeStrategy));
+            routes.add(new Route(predicate, route, null == strategy ? null : routeStrategy, exactPaths, pathPrefix,
+                    residualPredicate));
             // Reset shared state since we have finished current route construction
             predicate = null;
+            residualPredicate = null;
+            exactPaths = null;
+            pathPrefix = null;
             strategy = null;
             return HttpPredicateRouterBuilder.this;
         }
@@ -18,7 +18,6 @@ package io.servicetalk.http.router.predicate;
 import io.servicetalk.concurrent.api.AsyncCloseable;
 import io.servicetalk.concurrent.api.Completable;
 import io.servicetalk.concurrent.api.Single;
-import io.servicetalk.http.api.HttpExecutionContext;
 import io.servicetalk.http.api.HttpExecutionStrategies;
 import io.servicetalk.http.api.HttpExecutionStrategy;
 import io.servicetalk.http.api.HttpServiceContext;
@@ -26,10 +25,10 @@ import io.servicetalk.http.api.StreamingHttpRequest;
 import io.servicetalk.http.api.StreamingHttpResponse;
 import io.servicetalk.http.api.StreamingHttpResponseFactory;
 import io.servicetalk.http.api.StreamingHttpService;
-import io.servicetalk.http.api.StreamingHttpServiceToOffloadedStreamingHttpService;
-import io.servicetalk.transport.api.IoThreadFactory;
+import io.servicetalk.transport.api.ConnectionContext;
 
 import java.util.List;
+import javax.annotation.Nullable;
 
 import static io.servicetalk.concurrent.api.AsyncCloseables.newCompositeCloseable;
 import static io.servicetalk.http.api.HttpExecutionStrategies.offloadAll;
@@ -66,20 +65,25 @@ final class InOrderRouter implements StreamingHttpService {
     public Single<StreamingHttpResponse> handle(final HttpServiceContext ctx,
                                                 final StreamingHttpRequest request,
                                                 final StreamingHttpResponseFactory factory) {
+        final Route route = selectRoute(ctx, request);
+        return route == null ? fallbackService.handle(ctx, request, factory) : route.handle(ctx, request, factory);
+    }
+
+    /**
+     * Selects the first {@link Route} whose predicate matches the passed request.
+     *
+     * @param ctx the {@link ConnectionContext} of the request.
+     * @param request the request to route.
+     * @return the first matching {@link Route}, or {@code null} if none matches.
+     */
+    @Nullable
+    Route selectRoute(final ConnectionContext ctx, final StreamingHttpRequest request) {
         for (final Route pair : routes) {
             if (pair.predicate().test(ctx, request)) {
-                StreamingHttpService service = pair.service();
-                final HttpExecutionStrategy strategy = pair.routeStrategy();
-                HttpExecutionContext useContext = ctx.executionContext();
-                if (null != strategy && useContext.executionStrategy().missing(strategy).hasOffloads()) {
-                    // Additional offloading needed
-                    service = StreamingHttpServiceToOffloadedStreamingHttpService.offloadService(strategy,
-                            useContext.executor(), IoThreadFactory.IoThread::currentThreadIsIoThread, service);
-                }
-                return service.handle(ctx, request, factory);
+                return pair;
             }
         }
-        return fallbackService.handle(ctx, request, factory);
+        return null;
     }
 
     /**
@@ -0,0 +1,286 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.router.predicate;
+
+import io.servicetalk.concurrent.api.AsyncCloseable;
+import io.servicetalk.concurrent.api.Completable;
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.http.api.HttpExecutionStrategies;
+import io.servicetalk.http.api.HttpExecutionStrategy;
+import io.servicetalk.http.api.HttpServiceContext;
+import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.http.api.StreamingHttpResponseFactory;
+import io.servicetalk.http.api.StreamingHttpService;
+import io.servicetalk.transport.api.ConnectionContext;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.concurrent.api.AsyncCloseables.newCompositeCloseable;
+import static io.servicetalk.http.api.HttpExecutionStrategies.offloadAll;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link StreamingHttpService} implementation which routes requests to a number of other
+ * {@link StreamingHttpService}s based on predicates, using a radix tree of the path constraints of the routes to
+ * narrow down the routes that have to be evaluated for each request.
+ * <p>
+ * Routes constrained by {@code pathEquals}, {@code pathIsOneOf} or {@code pathStartsWith} are indexed in the tree
+ * by their path. A lookup walks the request path through the tree once and yields the (pre-computed) list of
+ * candidate routes for that position: the routes whose prefix is a prefix of the request path, the routes whose exact
+ * path equals the request path and all routes which are not path-indexed. Only the remaining (non-indexed)
+ * predicates of the candidates, such as method or header constraints, are evaluated, in the order the routes were
+ * registered, so the first matching route is the same one that {@link InOrderRouter} would select.
+ */
+final class RadixTreeRouter implements StreamingHttpService {
+
+    private static final Route[] EMPTY_ROUTES = new Route[0];
+
+    private final StreamingHttpService fallbackService;
+    private final Route[] routes;
+    private final CompiledNode root;
+    private final AsyncCloseable closeable;
+
+    /**
+     * Constructs a router service with the specified fallback service, and predicate-service pairs to evaluate.
+     * @param fallbackService the service to use to handle requests if no predicates match.
+     * @param routes the list of predicate-service pairs to use for handling requests.
+     */
+    RadixTreeRouter(final StreamingHttpService fallbackService, final List<Route> routes) {
+        this.fallbackService = requireNonNull(fallbackService);
+        this.routes = routes.toArray(EMPTY_ROUTES);
+        this.root = compile(this.routes);
+        this.closeable = newCompositeCloseable()
+                .mergeAll(fallbackService)
+                .mergeAll(routes.stream().map(Route::service).toArray(StreamingHttpService[]::new));
+    }
+
+    @Override
+    public Single<StreamingHttpResponse> handle(final HttpServiceContext ctx,
+                                                final StreamingHttpRequest request,
+                                                final StreamingHttpResponseFactory factory) {
+        final Route route = selectRoute(ctx, request);
+        return route == null ? fallbackService.handle(ctx, request, factory) : route.handle(ctx, request, factory);
+    }
+
+    /**
+     * Selects the first {@link Route} whose predicate matches the passed request.
+     *
+     * @param ctx the {@link ConnectionContext} of the request.
+     * @param request the request to route.
+     * @return the first matching {@link Route}, or {@code null} if none matches.
+     */
+    @Nullable
+    Route selectRoute(final ConnectionContext ctx, final StreamingHttpRequest request) {
+        for (final Route route : candidates(request.path())) {
+            if (route.testResidual(ctx, request)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the candidate routes for the passed {@code path}, in registration order.
+     *
+     * @param path the request path.
+     * @return the candidate routes for the passed {@code path}, in registration order.
+     */
+    Route[] candidates(final String path) {
+        CompiledNode node = root;
+        int position = 0;
+        final int length = path.length();
+        while (position < length) {
+            final CompiledNode child = node.child(path.charAt(position));
+            if (child == null || !path.regionMatches(position, child.label, 0, child.label.length())) {
+                return node.prefixCandidates;
+            }
+            position += child.label.length();
+            node = child;
+        }
+        return node.exactCandidates;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return {@link HttpExecutionStrategies#offloadAll()} as default safe behavior for predicates and routes. Apps
+     * will typically use {@link HttpExecutionStrategies#offloadNone()} as
+     * {@link io.servicetalk.http.api.HttpServerBuilder#executionStrategy(HttpExecutionStrategy)} to override if either
+     * no offloading is required or diverse strategies are needed for various routes.
+     */
+    @Override
+    public HttpExecutionStrategy requiredOffloads() {
+        return offloadAll();
+    }
+
+    @Override
+    public Completable closeAsync() {
+        return closeable.closeAsync();
+    }
+
+    @Override
+    public Completable closeAsyncGracefully() {
+        return closeable.closeAsyncGracefully();
+    }
+
+    private static CompiledNode compile(final Route[] routes) {
+        final BuildNode root = new BuildNode("");
+        final TreeSet<Integer> unindexed = new TreeSet<>();
+        for (int i = 0; i < routes.length; ++i) {
+            final Route route = routes[i];
+            final String[] exactPaths = route.exactPaths();
+            final String pathPrefix = route.pathPrefix();
+            if (exactPaths != null) {
+                for (String exactPath : exactPaths) {
+                    root.insert(exactPath).exact.add(i);
+                }
+            } else if (pathPrefix != null) {
+                root.insert(pathPrefix).prefix.add(i);
+            } else {
+                unindexed.add(i);
+            }
+        }
+        return root.compile(routes, unindexed, null);
+    }
+
+    private static Route[] toRoutes(final Route[] routes, final TreeSet<Integer> indexes) {
+        final Route[] result = new Route[indexes.size()];
+        int i = 0;
+        for (Integer index : indexes) {
+            result[i++] = routes[index];
+        }
+        return result;
+    }
+
+    /**
+     * Mutable node used while building the tree.
+     */
+    private static final class BuildNode {
+        String label;
+        final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        final TreeSet<Integer> exact = new TreeSet<>();
+        final TreeSet<Integer> prefix = new TreeSet<>();
+
+        BuildNode(final String label) {
+            this.label = label;
+        }
+
+        BuildNode insert(final String path) {
+            BuildNode node = this;
+            String remaining = path;
+            while (!remaining.isEmpty()) {
+                final BuildNode child = node.children.get(remaining.charAt(0));
+                if (child == null) {
+                    final BuildNode leaf = new BuildNode(remaining);
+                    node.children.put(remaining.charAt(0), leaf);
+                    return leaf;
+                }
+                final int common = commonPrefixLength(remaining, child.label);
+                if (common < child.label.length()) {
+                    // Split the edge so that the common part becomes its own node.
+                    final BuildNode split = new BuildNode(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.children.put(child.label.charAt(0), child);
+                    node.children.put(split.label.charAt(0), split);
+                    node = split;
+                } else {
+                    node = child;
+                }
+                remaining = remaining.substring(common);
+            }
+            return node;
+        }
+
+        CompiledNode compile(final Route[] routes, final TreeSet<Integer> parentPrefixCandidates,
+                             @Nullable final Route[] parentPrefixRoutes) {
+            final TreeSet<Integer> prefixCandidates;
+            final Route[] prefixRoutes;
+            if (prefix.isEmpty() && parentPrefixRoutes != null) {
+                prefixCandidates = parentPrefixCandidates;
+                prefixRoutes = parentPrefixRoutes;
+            } else {
+                prefixCandidates = new TreeSet<>(parentPrefixCandidates);
+                prefixCandidates.addAll(prefix);
+                prefixRoutes = toRoutes(routes, prefixCandidates);
+            }
+            final Route[] exactRoutes;
+            if (exact.isEmpty()) {
+                exactRoutes = prefixRoutes;
+            } else {
+                final TreeSet<Integer> exactCandidates = new TreeSet<>(prefixCandidates);
+                exactCandidates.addAll(exact);
+                exactRoutes = toRoutes(routes, exactCandidates);
+            }
+            final char[] keys = new char[children.size()];
+            final CompiledNode[] compiledChildren = new CompiledNode[children.size()];
+            int i = 0;
+            for (BuildNode child : children.values()) {
+                keys[i] = child.label.charAt(0);
+                compiledChildren[i] = child.compile(routes, prefixCandidates, prefixRoutes);
+                ++i;
+            }
+            return new CompiledNode(label, keys, compiledChildren, prefixRoutes, exactRoutes);
+        }
+
+        private static int commonPrefixLength(final String a, final String b) {
+            final int max = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < max && a.charAt(i) == b.charAt(i)) {
+                ++i;
+            }
+            return i;
+        }
+    }
+
+    /**
+     * Immutable node used for lookups.
+     */
+    private static final class CompiledNode {
+        final String label;
+        /**
+         * First character of each child label, sorted to allow binary search.
+         */
+        private final char[] childKeys;
+        private final CompiledNode[] children;
+        /**
+         * Candidates when the request path continues beyond (or diverges after) this node.
+         */
+        final Route[] prefixCandidates;
+        /**
+         * Candidates when the request path ends exactly at this node.
+         */
+        final Route[] exactCandidates;
+
+        CompiledNode(final String label, final char[] childKeys, final CompiledNode[] children,
+                     final Route[] prefixCandidates, final Route[] exactCandidates) {
+            this.label = label;
+            this.childKeys = childKeys;
+            this.children = children;
+            this.prefixCandidates = prefixCandidates;
+            this.exactCandidates = exactCandidates;
+        }
+
+        @Nullable
+        CompiledNode child(final char c) {
+            final int index = Arrays.binarySearch(childKeys, c);
+            return index < 0 ? null : children[index];
+        }
+    }
+}
@@ -15,10 +15,17 @@
  */
 package io.servicetalk.http.router.predicate;
 
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.http.api.HttpExecutionContext;
 import io.servicetalk.http.api.HttpExecutionStrategy;
+import io.servicetalk.http.api.HttpServiceContext;
 import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.http.api.StreamingHttpResponseFactory;
 import io.servicetalk.http.api.StreamingHttpService;
+import io.servicetalk.http.api.StreamingHttpServiceToOffloadedStreamingHttpService;
 import io.servicetalk.transport.api.ConnectionContext;
+import io.servicetalk.transport.api.IoThreadFactory;
 
 import java.util.function.BiPredicate;
 import javax.annotation.Nullable;
@@ -36,11 +43,40 @@ final class Route {
     @Nullable
     private final HttpExecutionStrategy routeStrategy;
 
+    /**
+     * Exact paths this route is restricted to, or null if the route has no exact path constraint which can be indexed.
+     */
+    @Nullable
+    private final String[] exactPaths;
+
+    /**
+     * Path prefix this route is restricted to, or null if the route has no prefix constraint which can be indexed.
+     */
+    @Nullable
+    private final String pathPrefix;
+
+    /**
+     * {@link #predicate()} without the indexed path constraint, or null if there is nothing left to evaluate.
+     */
+    @Nullable
+    private final BiPredicate<ConnectionContext, StreamingHttpRequest> residualPredicate;
+
     Route(final BiPredicate<ConnectionContext, StreamingHttpRequest> predicate,
           final StreamingHttpService service, @Nullable final HttpExecutionStrategy strategy) {
+        this(predicate, service, strategy, null, null, predicate);
+    }
+
+    Route(final BiPredicate<ConnectionContext, StreamingHttpRequest> predicate,
+          final StreamingHttpService service, @Nullable final HttpExecutionStrategy strategy,
+          @Nullable final String[] exactPaths, @Nullable final String pathPrefix,
+          @Nullable final BiPredicate<ConnectionContext, StreamingHttpRequest> residualPredicate) {
+        assert exactPaths == null || pathPrefix == null;
         this.predicate = requireNonNull(predicate);
         this.service = requireNonNull(service);
         routeStrategy = strategy;
+        this.exactPaths = exactPaths;
+        this.pathPrefix = pathPrefix;
+        this.residualPredicate = residualPredicate;
     }
 
     BiPredicate<ConnectionContext, StreamingHttpRequest> predicate() {
@@ -55,4 +91,53 @@ final class Route {
     HttpExecutionStrategy routeStrategy() {
         return routeStrategy;
     }
+
+    @Nullable
+    String[] exactPaths() {
+        return exactPaths;
+    }
+
+    @Nullable
+    String pathPrefix() {
+        return pathPrefix;
+    }
+
+    boolean isPathIndexed() {
+        return exactPaths != null || pathPrefix != null;
+    }
+
+    /**
+     * Evaluates the part of {@link #predicate()} which is not already guaranteed by a path index lookup.
+     *
+     * @param ctx the {@link ConnectionContext} of the request.
+     * @param request the request to evaluate.
+     * @return {@code true} if the request matches the residual predicate.
+     */
+    boolean testResidual(final ConnectionContext ctx, final StreamingHttpRequest request) {
+        return residualPredicate == null || residualPredicate.test(ctx, request);
+    }
+
+    /**
+     * Invokes the {@link #service()} of this route, applying any additional offloading required by
+     * {@link #routeStrategy()}.
+     *
+     * @param ctx the {@link HttpServiceContext} of the request.
+     * @param request the request to handle.
+     * @param factory the {@link StreamingHttpResponseFactory} to use.
+     * @return the response from the route's service.
+     */
+    Single<StreamingHttpResponse> handle(final HttpServiceContext ctx, final StreamingHttpRequest request,
+                                         final StreamingHttpResponseFactory factory) {
+        final HttpExecutionStrategy strategy = routeStrategy;
+        if (null != strategy) {
+            final HttpExecutionContext useContext = ctx.executionContext();
+            if (useContext.executionStrategy().missing(strategy).hasOffloads()) {
+                // Additional offloading needed
+                return StreamingHttpServiceToOffloadedStreamingHttpService.offloadService(strategy,
+                        useContext.executor(), IoThreadFactory.IoThread::currentThreadIsIoThread, service)
+                        .handle(ctx, request, factory);
+            }
+        }
+        return service.handle(ctx, request, factory);
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.router.predicate;
+
+import io.servicetalk.http.api.StreamingHttpService;
+
+import org.junit.jupiter.api.Test;
+
+import static io.servicetalk.http.api.HttpRequestMethod.GET;
+import static io.servicetalk.http.api.HttpRequestMethod.POST;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+class RadixTreeRouterTest extends BaseHttpPredicateRouterBuilderTest {
+
+    @Test
+    void opaqueRoutesOnlyUseInOrderRouter() {
+        final StreamingHttpService service = new HttpPredicateRouterBuilder()
+                .whenMethod(GET).thenRouteTo(serviceA)
+                .whenPathMatches("/a.*").thenRouteTo(serviceB)
+                .buildStreaming();
+        assertThat(service, instanceOf(InOrderRouter.class));
+    }
+
+    @Test
+    void pathRoutesUseRadixTreeRouter() {
+        final StreamingHttpService service = new HttpPredicateRouterBuilder()
+                .whenPathEquals("/a").thenRouteTo(serviceA)
+                .buildStreaming();
+        assertThat(service, instanceOf(RadixTreeRouter.class));
+    }
+
+    @Test
+    void exactAndPrefixRoutesSharingEdges() {
+        final StreamingHttpService service = new HttpPredicateRouterBuilder()
+                .whenPathEquals("/abc").thenRouteTo(serviceA)
+                .whenPathStartsWith("/ab").thenRouteTo(serviceB)
+                .whenPathEquals("/abd/x").thenRouteTo(serviceC)
+                .whenPathStartsWith("/b/").thenRouteTo(serviceD)
+                .when((ctx, req) -> true).thenRouteTo(fallbackService)
+                .buildStreaming();
+
+        assertRoutedTo(service, "/abc", responseA);
+        assertRoutedTo(service, "/ab", responseB);
+        assertRoutedTo(service, "/abcd", responseB);
+        // Registered after the prefix route which also matches.
+        assertRoutedTo(service, "/abd/x", responseB);
+        assertRoutedTo(service, "/b/", responseD);
+        assertRoutedTo(service, "/b/c/d", responseD);
+        assertRoutedTo(service, "/b", fallbackResponse);
+        assertRoutedTo(service, "/a", fallbackResponse);
+        assertRoutedTo(service, "/", fallbackResponse);
+        assertRoutedTo(service, "", fallbackResponse);
+        assertRoutedTo(service, "/c", fallbackResponse);
+    }
+
+    @Test
+    void registrationOrderIsPreservedWithOpaqueRoutes() {
+        final StreamingHttpService service = new HttpPredicateRouterBuilder()
+                .whenPathStartsWith("/api/").andMethod(POST).thenRouteTo(serviceA)
+                .when(req -> req.path().endsWith(".json")).thenRouteTo(serviceB)
+                .whenPathEquals("/api/item.json").thenRouteTo(serviceC)
+                .whenPathStartsWith("/api/").thenRouteTo(serviceD)
+                .when((ctx, req) -> true).thenRouteTo(fallbackService)
+                .buildStreaming();
+
+        when(request.method()).thenReturn(POST);
+        assertRoutedTo(service, "/api/item.json", responseA);
+        assertRoutedTo(service, "/other", fallbackResponse);
+
+        when(request.method()).thenReturn(GET);
+        assertRoutedTo(service, "/api/item.json", responseB);
+        assertRoutedTo(service, "/api/item", responseD);
+        assertRoutedTo(service, "/other.json", responseB);
+        assertRoutedTo(service, "/other", fallbackResponse);
+    }
+
+    @Test
+    void pathIsOneOfIndexesAllPaths() {
+        final StreamingHttpService service = new HttpPredicateRouterBuilder()
+                .whenPathIsOneOf("/x", "/y/z", "/y").thenRouteTo(serviceA)
+                .whenPathStartsWith("/").thenRouteTo(serviceB)
+                .when((ctx, req) -> true).thenRouteTo(fallbackService)
+                .buildStreaming();
+
+        assertRoutedTo(service, "/x", responseA);
+        assertRoutedTo(service, "/y", responseA);
+        assertRoutedTo(service, "/y/z", responseA);
+        assertRoutedTo(service, "/y/", responseB);
+        assertRoutedTo(service, "/xx", responseB);
+    }
+
+    @Test
+    void additionalPathConstraintsAreEvaluated() {
+        final StreamingHttpService service = new HttpPredicateRouterBuilder()
+                .whenPathStartsWith("/a").andPathEquals("/abc").thenRouteTo(serviceA)
+                .whenPathStartsWith("/a").andPathMatches(".*z").thenRouteTo(serviceB)
+                .when((ctx, req) -> true).thenRouteTo(fallbackService)
+                .buildStreaming();
+
+        assertRoutedTo(service, "/abc", responseA);
+        assertRoutedTo(service, "/abz", responseB);
+        assertRoutedTo(service, "/ab", fallbackResponse);
+    }
+
+    private void assertRoutedTo(final StreamingHttpService service, final String path,
+                                final Object expectedResponse) {
+        when(request.path()).thenReturn(path);
+        assertSame(expectedResponse, service.handle(ctx, request, reqRespFactory), () -> "path: " + path);
+    }
+}
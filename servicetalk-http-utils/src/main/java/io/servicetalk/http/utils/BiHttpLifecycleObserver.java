@@ -1,5 +1,5 @@
 /*
- * Copyright © 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package io.servicetalk.http.utils;
 
 import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.http.api.HttpFileRegion;
 import io.servicetalk.http.api.HttpHeaders;
 import io.servicetalk.http.api.HttpLifecycleObserver;
 import io.servicetalk.http.api.HttpRequestMetaData;
@@ -210,6 +211,15 @@ final class BiHttpLifecycleObserver implements HttpLifecycleObserver {
             }
         }
 
+        @Override
+        public void onResponseFileRegion(final HttpFileRegion region) {
+            try {
+                first.onResponseFileRegion(region);
+            } finally {
+                second.onResponseFileRegion(region);
+            }
+        }
+
         @Override
         public void onResponseTrailers(final HttpHeaders trailers) {
             try {
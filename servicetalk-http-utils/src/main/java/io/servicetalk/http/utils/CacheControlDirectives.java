@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.utils;
+
+import io.servicetalk.http.api.HttpHeaders;
+
+import java.util.Iterator;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.api.CharSequences.contentEqualsIgnoreCase;
+import static io.servicetalk.http.api.HttpHeaderNames.CACHE_CONTROL;
+import static io.servicetalk.http.api.HttpHeaderNames.PRAGMA;
+import static io.servicetalk.http.api.HttpHeaderValues.NO_CACHE;
+
+/**
+ * The {@code cache-control} directives of a request or a response which are relevant for a private cache, see
+ * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-5.2">RFC 9111, section 5.2</a>.
+ */
+final class CacheControlDirectives {
+
+    static final long UNSET = -1;
+    /**
+     * Delta-seconds larger than this value are treated as this value, see
+     * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-1.2.2">RFC 9111, section 1.2.2</a>.
+     */
+    private static final long MAX_DELTA_SECONDS = Integer.MAX_VALUE;
+
+    boolean noStore;
+    boolean noCache;
+    boolean mustRevalidate;
+    boolean isPublic;
+    boolean sharedMaxAge;
+    long maxAgeSeconds = UNSET;
+
+    private CacheControlDirectives() {
+    }
+
+    static CacheControlDirectives parse(final HttpHeaders headers) {
+        final CacheControlDirectives directives = new CacheControlDirectives();
+        final Iterator<? extends CharSequence> values = headers.valuesIterator(CACHE_CONTROL);
+        if (!values.hasNext()) {
+            // Pragma is only considered in the absence of cache-control, for HTTP/1.0 caches.
+            directives.noCache = headers.containsIgnoreCase(PRAGMA, NO_CACHE);
+            return directives;
+        }
+        do {
+            directives.parseValue(values.next());
+        } while (values.hasNext());
+        return directives;
+    }
+
+    private void parseValue(final CharSequence value) {
+        final int length = value.length();
+        int i = 0;
+        while (i < length) {
+            i = skipWhitespace(value, i);
+            final int nameStart = i;
+            while (i < length && value.charAt(i) != '=' && value.charAt(i) != ',') {
+                ++i;
+            }
+            final CharSequence name = trimTrailingWhitespace(value, nameStart, i);
+            CharSequence argument = null;
+            if (i < length && value.charAt(i) == '=') {
+                i = skipWhitespace(value, i + 1);
+                if (i < length && value.charAt(i) == '"') {
+                    final int argumentStart = ++i;
+                    while (i < length && value.charAt(i) != '"') {
+                        i += value.charAt(i) == '\\' ? 2 : 1;
+                    }
+                    argument = value.subSequence(argumentStart, Math.min(i, length));
+                    while (i < length && value.charAt(i) != ',') {
+                        ++i;
+                    }
+                } else {
+                    final int argumentStart = i;
+                    while (i < length && value.charAt(i) != ',') {
+                        ++i;
+                    }
+                    argument = trimTrailingWhitespace(value, argumentStart, i);
+                }
+            }
+            directive(name, argument);
+            ++i; // skip the comma
+        }
+    }
+
+    private void directive(final CharSequence name, @Nullable final CharSequence argument) {
+        if (contentEqualsIgnoreCase(name, "max-age")) {
+            maxAgeSeconds = deltaSeconds(argument);
+        } else if (contentEqualsIgnoreCase(name, "no-cache")) {
+            // A qualified no-cache only restricts the listed fields, we conservatively revalidate the whole response.
+            noCache = true;
+        } else if (contentEqualsIgnoreCase(name, "no-store")) {
+            noStore = true;
+        } else if (contentEqualsIgnoreCase(name, "must-revalidate")) {
+            mustRevalidate = true;
+        } else if (contentEqualsIgnoreCase(name, "public")) {
+            isPublic = true;
+        } else if (contentEqualsIgnoreCase(name, "s-maxage")) {
+            sharedMaxAge = true;
+        }
+    }
+
+    /**
+     * Parses delta-seconds, invalid values are treated as {@code 0} which makes the response stale.
+     */
+    private static long deltaSeconds(@Nullable final CharSequence argument) {
+        if (argument == null || argument.length() == 0) {
+            return 0;
+        }
+        long seconds = 0;
+        for (int i = 0; i < argument.length(); ++i) {
+            final char c = argument.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            seconds = seconds * 10 + (c - '0');
+            if (seconds > MAX_DELTA_SECONDS) {
+                return MAX_DELTA_SECONDS;
+            }
+        }
+        return seconds;
+    }
+
+    private static int skipWhitespace(final CharSequence value, int i) {
+        while (i < value.length() && isWhitespace(value.charAt(i))) {
+            ++i;
+        }
+        return i;
+    }
+
+    private static CharSequence trimTrailingWhitespace(final CharSequence value, final int start, int end) {
+        while (end > start && isWhitespace(value.charAt(end - 1))) {
+            --end;
+        }
+        return value.subSequence(start, end);
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t';
+    }
+}
@@ -0,0 +1,489 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.utils;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.api.Executor;
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.http.api.FilterableStreamingHttpClient;
+import io.servicetalk.http.api.HttpExecutionStrategies;
+import io.servicetalk.http.api.HttpExecutionStrategy;
+import io.servicetalk.http.api.HttpRequestMetaData;
+import io.servicetalk.http.api.StreamingHttpClientFilter;
+import io.servicetalk.http.api.StreamingHttpClientFilterFactory;
+import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpRequester;
+import io.servicetalk.http.api.StreamingHttpResponse;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.http.api.HttpContextKeys.HTTP_EXECUTION_STRATEGY_KEY;
+import static io.servicetalk.utils.internal.DurationUtils.ensurePositive;
+import static io.servicetalk.utils.internal.DurationUtils.toNanos;
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A filter to hedge HTTP requests on the client-side to reduce tail latency.
+ * <p>
+ * If the response metadata of a request doesn't arrive within a delay, a second (speculative) request is sent. The
+ * first attempt to receive response metadata wins and the other attempt is cancelled. The hedged request is selected
+ * by the {@code LoadBalancer} of the client like any other request, load balancers which take outstanding requests
+ * into account (e.g. the default one) are likely to select a different host than the one which is slow to respond.
+ * If one attempt fails, the result of the other attempt is used. Hedging doesn't replace retries for failures; if both
+ * are used, this filter should be appended after the retrying filter so that each retry is hedged.
+ * <p>
+ * The delay is either fixed ({@link Builder#delay(Duration)}) or derived from a percentile of recently observed
+ * response latencies ({@link Builder#delayPercentile(double, Duration, Duration)}). The extra load is bounded by a
+ * token budget ({@link Builder#budget(double, int)}): each hedgeable request deposits a fraction of a token, each
+ * hedged request consumes a token.
+ * <p>
+ * Only requests with {@link io.servicetalk.http.api.HttpRequestMethod.Properties#isIdempotent() idempotent} methods
+ * are hedged by default, see {@link Builder#hedgeWhen(Predicate)}. The request payload body is subscribed to once per
+ * attempt, a hedged request fails (and doesn't affect the first attempt) if the payload body can only be subscribed
+ * to once.
+ */
+public final class HedgingHttpRequesterFilter implements StreamingHttpClientFilterFactory {
+
+    private static final int TOKEN_SCALE = 1000;
+    private static final Predicate<HttpRequestMetaData> IDEMPOTENT_METHODS =
+            metaData -> metaData.method().properties().isIdempotent();
+
+    private final Predicate<HttpRequestMetaData> hedgeWhen;
+    private final Function<StreamingHttpResponse, Single<StreamingHttpResponse>> responseValidator;
+    private final long delayNanos;
+    private final double delayPercentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final int depositPerRequest;
+    private final int maxTokens;
+    private final HedgeObserver observer;
+
+    private HedgingHttpRequesterFilter(final Builder builder) {
+        this.hedgeWhen = builder.hedgeWhen;
+        this.responseValidator = builder.responseValidator;
+        this.delayNanos = builder.delayNanos;
+        this.delayPercentile = builder.delayPercentile;
+        this.minDelayNanos = builder.minDelayNanos;
+        this.maxDelayNanos = builder.maxDelayNanos;
+        this.depositPerRequest = builder.depositPerRequest;
+        this.maxTokens = builder.maxTokens;
+        this.observer = builder.observer;
+    }
+
+    @Override
+    public StreamingHttpClientFilter create(final FilterableStreamingHttpClient client) {
+        return new HedgingHttpClientFilter(client);
+    }
+
+    @Override
+    public HttpExecutionStrategy requiredOffloads() {
+        // No influence since we do not block.
+        return HttpExecutionStrategies.offloadNone();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                "{delayNanos=" + delayNanos +
+                ", delayPercentile=" + delayPercentile +
+                ", minDelayNanos=" + minDelayNanos +
+                ", maxDelayNanos=" + maxDelayNanos +
+                ", depositPerRequest=" + depositPerRequest +
+                ", maxTokens=" + maxTokens +
+                '}';
+    }
+
+    private final class HedgingHttpClientFilter extends StreamingHttpClientFilter {
+        private final TokenBudget budget = new TokenBudget(depositPerRequest, maxTokens);
+        @Nullable
+        private final LatencyPercentile latency = delayPercentile > 0 ?
+                new LatencyPercentile(delayPercentile, minDelayNanos, maxDelayNanos) : null;
+
+        HedgingHttpClientFilter(final FilterableStreamingHttpClient delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected Single<StreamingHttpResponse> request(final StreamingHttpRequester delegate,
+                                                        final StreamingHttpRequest request) {
+            if (!hedgeWhen.test(request)) {
+                return delegate.request(request);
+            }
+            // State intentionally outside the defer because the request state is shared across subscribes.
+            final Publisher<Object> originalMessageBody = request.messageBody();
+            return Single.defer(() -> {
+                observer.onHedgeableRequest(request);
+                budget.deposit();
+                final HttpExecutionStrategy strategy = request.context()
+                        .getOrDefault(HTTP_EXECUTION_STRATEGY_KEY, executionContext().executionStrategy());
+                assert strategy != null;
+                final Executor executor = strategy.isRequestResponseOffloaded() ?
+                        executionContext().executor() : executionContext().ioExecutor();
+                final HedgeState state = new HedgeState(executor.currentTime(NANOSECONDS));
+
+                final Single<StreamingHttpResponse> first = attempt(delegate,
+                        request.transformMessageBody(p -> duplicateBuffers(originalMessageBody)), state, executor,
+                        false);
+                final Single<StreamingHttpResponse> hedge = executor.timer(
+                        latency == null ? delayNanos : latency.delayNanos(), NANOSECONDS)
+                        .concat(Single.<StreamingHttpResponse>defer(() -> {
+                            if (!budget.tryAcquire()) {
+                                observer.onHedgeRejected(request);
+                                return Single.never();
+                            }
+                            state.hedgeStarted();
+                            observer.onHedge(request);
+                            // The copy is created lazily because most requests are expected to complete before the
+                            // delay expires.
+                            return attempt(delegate, copy(delegate, request, originalMessageBody), state, executor,
+                                    true).shareContextOnSubscribe();
+                        }));
+                return first.ambWith(hedge).shareContextOnSubscribe();
+            });
+        }
+
+        private Single<StreamingHttpResponse> attempt(final StreamingHttpRequester delegate,
+                                                      final StreamingHttpRequest request, final HedgeState state,
+                                                      final Executor executor, final boolean hedge) {
+            return delegate.request(request).flatMap(responseValidator).flatMap(response -> {
+                if (!state.tryWin()) {
+                    // Lost the race against the other attempt. Amb may not have observed the winner yet, never
+                    // complete so that it can only select the response which won the race.
+                    response.messageBody().ignoreElements().subscribe();
+                    return Single.never();
+                }
+                if (latency != null) {
+                    latency.record(executor.currentTime(NANOSECONDS) - state.startNanos);
+                }
+                if (hedge) {
+                    observer.onHedgeWin(request);
+                }
+                return Single.succeeded(response);
+            }).onErrorResume(cause -> state.attemptFailed() ? Single.failed(cause) : Single.never());
+        }
+    }
+
+    private static StreamingHttpRequest copy(final StreamingHttpRequester delegate,
+                                             final StreamingHttpRequest request,
+                                             final Publisher<Object> originalMessageBody) {
+        final StreamingHttpRequest copy = delegate.newRequest(request.method(), request.requestTarget())
+                .version(request.version())
+                .context(request.context().copy())
+                .transformMessageBody(p -> duplicateBuffers(originalMessageBody));
+        copy.headers().set(request.headers());
+        return copy;
+    }
+
+    private static Publisher<?> duplicateBuffers(final Publisher<Object> originalMessageBody) {
+        // Buffers may be written by both attempts, each needs its own indexes.
+        return originalMessageBody.map(item -> item instanceof Buffer ? ((Buffer) item).duplicate() : item);
+    }
+
+    /**
+     * Callbacks to provide visibility into hedging decisions of {@link HedgingHttpRequesterFilter}, e.g. to compute
+     * the hedge rate ({@link #onHedge(HttpRequestMetaData)} per {@link #onHedgeableRequest(HttpRequestMetaData)}) and
+     * the win rate of hedged requests ({@link #onHedgeWin(HttpRequestMetaData)} per
+     * {@link #onHedge(HttpRequestMetaData)}).
+     * <p>
+     * Callbacks are invoked on the hot path of requests and must not block.
+     */
+    public interface HedgeObserver {
+        /**
+         * Invoked for every request which is eligible for hedging.
+         *
+         * @param requestMetaData the {@link HttpRequestMetaData} of the request.
+         */
+        default void onHedgeableRequest(HttpRequestMetaData requestMetaData) {
+        }
+
+        /**
+         * Invoked when a hedged request is sent because no response was received within the delay.
+         *
+         * @param requestMetaData the {@link HttpRequestMetaData} of the original request.
+         */
+        default void onHedge(HttpRequestMetaData requestMetaData) {
+        }
+
+        /**
+         * Invoked when a request is not hedged because the budget is exhausted.
+         *
+         * @param requestMetaData the {@link HttpRequestMetaData} of the original request.
+         */
+        default void onHedgeRejected(HttpRequestMetaData requestMetaData) {
+        }
+
+        /**
+         * Invoked when a hedged request received its response before the original request.
+         *
+         * @param requestMetaData the {@link HttpRequestMetaData} of the hedged request.
+         */
+        default void onHedgeWin(HttpRequestMetaData requestMetaData) {
+        }
+    }
+
+    /**
+     * A builder for {@link HedgingHttpRequesterFilter}.
+     */
+    public static final class Builder {
+        private static final HedgeObserver NOOP_OBSERVER = new HedgeObserver() { };
+
+        private Predicate<HttpRequestMetaData> hedgeWhen = IDEMPOTENT_METHODS;
+        private Function<StreamingHttpResponse, Single<StreamingHttpResponse>> responseValidator = Single::succeeded;
+        private long delayNanos;
+        private double delayPercentile = 95;
+        private long minDelayNanos = toNanos(ofMillis(1));
+        private long maxDelayNanos = toNanos(ofSeconds(1));
+        private int depositPerRequest = TOKEN_SCALE / 10;
+        private int maxTokens = 10 * TOKEN_SCALE;
+        private HedgeObserver observer = NOOP_OBSERVER;
+
+        /**
+         * Sends a hedged request if no response metadata is received within a fixed {@code delay}.
+         *
+         * @param delay the delay after which a hedged request is sent.
+         * @return {@code this}.
+         */
+        public Builder delay(final Duration delay) {
+            this.delayNanos = toNanos(ensurePositive(delay, "delay"));
+            this.delayPercentile = 0;
+            return this;
+        }
+
+        /**
+         * Sends a hedged request if no response metadata is received within the {@code percentile} of recently
+         * observed response latencies. This is the default with the 95th percentile between 1 millisecond and
+         * 1 second.
+         *
+         * @param percentile the percentile of recently observed response latencies, between {@code 0} and
+         * {@code 100} (exclusive).
+         * @param minDelay the minimum delay after which a hedged request is sent.
+         * @param maxDelay the maximum delay after which a hedged request is sent, also used until enough latencies
+         * are observed.
+         * @return {@code this}.
+         */
+        public Builder delayPercentile(final double percentile, final Duration minDelay, final Duration maxDelay) {
+            if (!(percentile > 0 && percentile < 100)) {
+                throw new IllegalArgumentException("percentile: " + percentile + " (expected (0, 100))");
+            }
+            final long minNanos = toNanos(ensurePositive(minDelay, "minDelay"));
+            final long maxNanos = toNanos(ensurePositive(maxDelay, "maxDelay"));
+            if (minNanos > maxNanos) {
+                throw new IllegalArgumentException("minDelay: " + minDelay + " (expected <= maxDelay: " + maxDelay +
+                        ')');
+            }
+            this.delayPercentile = percentile;
+            this.minDelayNanos = minNanos;
+            this.maxDelayNanos = maxNanos;
+            return this;
+        }
+
+        /**
+         * Bounds the extra load caused by hedged requests. Each hedgeable request deposits {@code hedgeRatio}
+         * tokens, up to {@code maxTokens}, and each hedged request consumes one token. The budget is tracked per
+         * client. Defaults to {@code 0.1} (at most 10% extra requests) with bursts of up to {@code 10} hedged
+         * requests.
+         *
+         * @param hedgeRatio the ratio of hedged requests to hedgeable requests, between {@code 0} (exclusive) and
+         * {@code 1} (inclusive).
+         * @param maxTokens the maximum number of tokens that can be accumulated, which bounds bursts of hedged
+         * requests.
+         * @return {@code this}.
+         */
+        public Builder budget(final double hedgeRatio, final int maxTokens) {
+            if (!(hedgeRatio > 0 && hedgeRatio <= 1)) {
+                throw new IllegalArgumentException("hedgeRatio: " + hedgeRatio + " (expected (0, 1])");
+            }
+            this.depositPerRequest = max(1, (int) (hedgeRatio * TOKEN_SCALE));
+            this.maxTokens = ensurePositive(maxTokens, "maxTokens") * TOKEN_SCALE;
+            return this;
+        }
+
+        /**
+         * Overrides which requests are eligible for hedging. By default, only requests with
+         * {@link io.servicetalk.http.api.HttpRequestMethod.Properties#isIdempotent() idempotent} methods are
+         * hedged.
+         *
+         * @param hedgeWhen {@link Predicate} which returns {@code true} for requests which may be hedged.
+         * @return {@code this}.
+         */
+        public Builder hedgeWhen(final Predicate<HttpRequestMetaData> hedgeWhen) {
+            this.hedgeWhen = requireNonNull(hedgeWhen);
+            return this;
+        }
+
+        /**
+         * Sets a function which validates the response of an attempt before it can win, for protocols which report
+         * failures in a successful HTTP response. If the returned {@link Single} fails, the attempt is treated as
+         * failed: the result of the other attempt is used, or the failure is propagated if no other attempt is
+         * pending. The function is responsible for the payload body of the responses it rejects. By default, all
+         * responses are accepted.
+         *
+         * @param responseValidator {@link Function} which returns the response to use, or a failed {@link Single} if
+         * the response is a failure.
+         * @return {@code this}.
+         */
+        public Builder responseValidator(
+                final Function<StreamingHttpResponse, Single<StreamingHttpResponse>> responseValidator) {
+            this.responseValidator = requireNonNull(responseValidator);
+            return this;
+        }
+
+        /**
+         * Sets a {@link HedgeObserver} to provide visibility into hedging decisions.
+         *
+         * @param observer the {@link HedgeObserver}.
+         * @return {@code this}.
+         */
+        public Builder observer(final HedgeObserver observer) {
+            this.observer = requireNonNull(observer);
+            return this;
+        }
+
+        /**
+         * Creates a new {@link HedgingHttpRequesterFilter}.
+         *
+         * @return a new {@link HedgingHttpRequesterFilter}.
+         */
+        public HedgingHttpRequesterFilter build() {
+            return new HedgingHttpRequesterFilter(this);
+        }
+    }
+
+    private static final class HedgeState {
+        private static final AtomicIntegerFieldUpdater<HedgeState> pendingAttemptsUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(HedgeState.class, "pendingAttempts");
+        private static final AtomicIntegerFieldUpdater<HedgeState> wonUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(HedgeState.class, "won");
+
+        final long startNanos;
+        private volatile int pendingAttempts = 1;
+        private volatile int won;
+
+        HedgeState(final long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        void hedgeStarted() {
+            pendingAttemptsUpdater.incrementAndGet(this);
+        }
+
+        boolean tryWin() {
+            return wonUpdater.compareAndSet(this, 0, 1);
+        }
+
+        /**
+         * Returns {@code true} if the failed attempt was the last pending one and its error has to be propagated.
+         */
+        boolean attemptFailed() {
+            return pendingAttemptsUpdater.decrementAndGet(this) == 0;
+        }
+    }
+
+    private static final class TokenBudget {
+        private final AtomicInteger tokens;
+        private final int depositPerRequest;
+        private final int maxTokens;
+
+        TokenBudget(final int depositPerRequest, final int maxTokens) {
+            this.depositPerRequest = depositPerRequest;
+            this.maxTokens = maxTokens;
+            this.tokens = new AtomicInteger(maxTokens);
+        }
+
+        void deposit() {
+            for (;;) {
+                final int current = tokens.get();
+                if (current >= maxTokens ||
+                        tokens.compareAndSet(current, min(maxTokens, current + depositPerRequest))) {
+                    return;
+                }
+            }
+        }
+
+        boolean tryAcquire() {
+            for (;;) {
+                final int current = tokens.get();
+                if (current < TOKEN_SCALE) {
+                    return false;
+                }
+                if (tokens.compareAndSet(current, current - TOKEN_SCALE)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tracks a percentile over a window of the most recent latencies. The percentile is recomputed periodically by the
+     * thread which records a sample, so reading it is a volatile read.
+     */
+    private static final class LatencyPercentile {
+        private static final int WINDOW = 1024;
+        private static final int RECOMPUTE_INTERVAL = 128;
+
+        private final AtomicLongArray samples = new AtomicLongArray(WINDOW);
+        private final AtomicLong count = new AtomicLong();
+        private final double percentile;
+        private final long minNanos;
+        private final long maxNanos;
+        private volatile long delayNanos;
+
+        LatencyPercentile(final double percentile, final long minNanos, final long maxNanos) {
+            this.percentile = percentile;
+            this.minNanos = minNanos;
+            this.maxNanos = maxNanos;
+            this.delayNanos = maxNanos;
+        }
+
+        long delayNanos() {
+            return delayNanos;
+        }
+
+        void record(final long latencyNanos) {
+            final long n = count.getAndIncrement();
+            samples.lazySet((int) (n & (WINDOW - 1)), latencyNanos);
+            if ((n + 1) % RECOMPUTE_INTERVAL == 0) {
+                recompute((int) min(n + 1, WINDOW));
+            }
+        }
+
+        private void recompute(final int size) {
+            final long[] sorted = new long[size];
+            for (int i = 0; i < size; ++i) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+            final int index = max(0, (int) ceil(percentile / 100 * size) - 1);
+            delayNanos = max(minNanos, min(maxNanos, sorted[index]));
+        }
+    }
+}
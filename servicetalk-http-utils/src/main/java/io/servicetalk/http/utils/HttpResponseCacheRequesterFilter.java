@@ -0,0 +1,645 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.utils;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.http.api.DefaultHttpHeadersFactory;
+import io.servicetalk.http.api.FilterableStreamingHttpClient;
+import io.servicetalk.http.api.HttpExecutionStrategies;
+import io.servicetalk.http.api.HttpExecutionStrategy;
+import io.servicetalk.http.api.HttpHeaders;
+import io.servicetalk.http.api.HttpProtocolVersion;
+import io.servicetalk.http.api.HttpRequestMetaData;
+import io.servicetalk.http.api.HttpRequestMethod;
+import io.servicetalk.http.api.HttpResponseStatus;
+import io.servicetalk.http.api.StreamingHttpClientFilter;
+import io.servicetalk.http.api.StreamingHttpClientFilterFactory;
+import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpRequester;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.transport.api.HostAndPort;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map.Entry;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.api.CharSequences.contentEquals;
+import static io.servicetalk.buffer.api.CharSequences.contentEqualsIgnoreCase;
+import static io.servicetalk.buffer.api.CharSequences.parseLong;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.http.api.HttpHeaderNames.AGE;
+import static io.servicetalk.http.api.HttpHeaderNames.AUTHORIZATION;
+import static io.servicetalk.http.api.HttpHeaderNames.CONTENT_LENGTH;
+import static io.servicetalk.http.api.HttpHeaderNames.DATE;
+import static io.servicetalk.http.api.HttpHeaderNames.ETAG;
+import static io.servicetalk.http.api.HttpHeaderNames.EXPIRES;
+import static io.servicetalk.http.api.HttpHeaderNames.IF_MATCH;
+import static io.servicetalk.http.api.HttpHeaderNames.IF_MODIFIED_SINCE;
+import static io.servicetalk.http.api.HttpHeaderNames.IF_NONE_MATCH;
+import static io.servicetalk.http.api.HttpHeaderNames.IF_RANGE;
+import static io.servicetalk.http.api.HttpHeaderNames.IF_UNMODIFIED_SINCE;
+import static io.servicetalk.http.api.HttpHeaderNames.LAST_MODIFIED;
+import static io.servicetalk.http.api.HttpHeaderNames.RANGE;
+import static io.servicetalk.http.api.HttpHeaderNames.VARY;
+import static io.servicetalk.http.api.HttpRequestMethod.GET;
+import static io.servicetalk.http.api.HttpResponseStatus.NOT_MODIFIED;
+import static io.servicetalk.http.utils.CacheControlDirectives.UNSET;
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+import static java.lang.Math.max;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A filter which caches HTTP responses on the client-side, following the rules of a private cache defined by
+ * <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>.
+ * <p>
+ * Responses to {@code GET} requests are stored if their status code is cacheable by default, they don't contain the
+ * {@code no-store} directive and they either have an explicit expiration time ({@code max-age} or {@code expires}) or
+ * a validator ({@code etag} or {@code last-modified}). Heuristic freshness is not applied: responses without an
+ * explicit expiration time are revalidated for each request. Responses to requests with credentials
+ * ({@code authorization}) are only stored if the response explicitly allows it. Responses with trailers, a
+ * {@code vary: *} header or a payload body larger than {@link Builder#maxEntrySize(int)} are not stored.
+ * <p>
+ * A fresh stored response is returned without sending the request. A stale stored response (or one which must be
+ * revalidated because of {@code no-cache}) is revalidated with a conditional request using its validator, a
+ * {@code 304 Not Modified} response with a matching validator refreshes the stored response which is then returned.
+ * The request directives {@code no-store}, {@code no-cache} and {@code max-age} are honored, requests with their own
+ * conditional or range headers bypass the cache. Requests with unsafe methods invalidate the stored response for
+ * their target URI.
+ * <p>
+ * Stored responses are selected by the scheme, host, port, path and query of the request, and by the values of the
+ * request headers listed in the {@code vary} header of the response. Only the most recent variant of a resource is
+ * stored. Stored payload bodies are read-only {@link Buffer}s which are shared, not copied, by the responses
+ * returned from the cache. The cache is bounded by the total size of the stored responses
+ * ({@link Builder#maxSize(long)}) and evicts responses in segmented LRU order, which protects frequently read
+ * responses from one-off reads.
+ * <p>
+ * The cache is local to the client which this filter is applied to.
+ */
+public final class HttpResponseCacheRequesterFilter implements StreamingHttpClientFilterFactory {
+
+    /**
+     * Estimated memory used by a stored response in addition to its header and payload body bytes.
+     */
+    private static final int ENTRY_OVERHEAD = 256;
+    private static final int DEFAULT_INITIAL_BODY_CAPACITY = 1024;
+
+    private final long maxSize;
+    private final int maxEntrySize;
+
+    private HttpResponseCacheRequesterFilter(final Builder builder) {
+        this.maxSize = builder.maxSize;
+        this.maxEntrySize = builder.maxEntrySize;
+    }
+
+    @Override
+    public StreamingHttpClientFilter create(final FilterableStreamingHttpClient client) {
+        return new HttpResponseCacheHttpClientFilter(client);
+    }
+
+    @Override
+    public HttpExecutionStrategy requiredOffloads() {
+        // No influence since we do not block.
+        return HttpExecutionStrategies.offloadNone();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                "{maxSize=" + maxSize +
+                ", maxEntrySize=" + maxEntrySize +
+                '}';
+    }
+
+    private final class HttpResponseCacheHttpClientFilter extends StreamingHttpClientFilter {
+        private final SegmentedLruCache<String, CachedResponse> store =
+                new SegmentedLruCache<>(maxSize, cached -> cached.weight);
+
+        HttpResponseCacheHttpClientFilter(final FilterableStreamingHttpClient delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected Single<StreamingHttpResponse> request(final StreamingHttpRequester delegate,
+                                                        final StreamingHttpRequest request) {
+            final HttpRequestMethod method = request.method();
+            if (!GET.equals(method)) {
+                if (method.properties().isSafe()) {
+                    return delegate.request(request);
+                }
+                return delegate.request(request).whenOnSuccess(response -> {
+                    final int code = response.status().code();
+                    if (code >= 200 && code < 400) {
+                        // The state of the resource may have changed, see RFC 9111, section 4.4.
+                        store.remove(key(request));
+                    }
+                });
+            }
+            return Single.defer(() -> {
+                final CacheControlDirectives directives = CacheControlDirectives.parse(request.headers());
+                if (directives.noStore || hasPreconditions(request.headers())) {
+                    return delegate.request(request).shareContextOnSubscribe();
+                }
+                final String key = key(request);
+                final CachedResponse cached = store.get(key);
+                if (cached != null && cached.matchesVary(request.headers())) {
+                    final long now = currentTimeMillis();
+                    if (!directives.noCache && cached.isFresh(now, directives.maxAgeSeconds)) {
+                        return succeeded(cached.toResponse(delegate, now));
+                    }
+                    if (cached.hasValidator()) {
+                        return revalidate(delegate, request, key, cached).shareContextOnSubscribe();
+                    }
+                }
+                final long requestTime = currentTimeMillis();
+                return delegate.request(request)
+                        .map(response -> maybeStore(request, response, key, requestTime))
+                        .shareContextOnSubscribe();
+            });
+        }
+
+        private Single<StreamingHttpResponse> revalidate(final StreamingHttpRequester delegate,
+                                                         final StreamingHttpRequest request, final String key,
+                                                         final CachedResponse cached) {
+            final HttpHeaders headers = request.headers();
+            if (cached.etag != null) {
+                headers.set(IF_NONE_MATCH, cached.etag);
+            } else {
+                assert cached.lastModified != null;
+                headers.set(IF_MODIFIED_SINCE, cached.lastModified);
+            }
+            final long requestTime = currentTimeMillis();
+            return delegate.request(request)
+                    // The conditional headers were added by the cache, restore the request as sent by the caller
+                    // also if it fails, because the caller may retry it.
+                    .beforeFinally(() -> {
+                        headers.remove(IF_NONE_MATCH);
+                        headers.remove(IF_MODIFIED_SINCE);
+                    })
+                    .flatMap(response -> {
+                        if (response.status().code() != NOT_MODIFIED.code()) {
+                            return succeeded(maybeStore(request, response, key, requestTime));
+                        }
+                        response.messageBody().ignoreElements().subscribe();
+                        if (!cached.isSelectedBy(response.headers())) {
+                            // The 304 response is for another representation and can't be used to update the stored
+                            // response, see RFC 9111, section 4.3.4. Send the request again without conditions.
+                            store.remove(key);
+                            final long retryRequestTime = currentTimeMillis();
+                            return delegate.request(request)
+                                    .map(retried -> maybeStore(request, retried, key, retryRequestTime));
+                        }
+                        final long responseTime = currentTimeMillis();
+                        final CachedResponse refreshed = cached.refresh(response.headers(), requestTime,
+                                responseTime);
+                        store.put(key, refreshed);
+                        return succeeded(refreshed.toResponse(delegate, responseTime));
+                    });
+        }
+
+        private StreamingHttpResponse maybeStore(final HttpRequestMetaData request,
+                                                 final StreamingHttpResponse response, final String key,
+                                                 final long requestTime) {
+            final CacheControlDirectives directives = CacheControlDirectives.parse(response.headers());
+            final List<String> varyNames = varyNames(response.headers());
+            if (!isStorable(request, response, directives, varyNames)) {
+                store.remove(key);
+                return response;
+            }
+            final CharSequence contentLength = response.headers().get(CONTENT_LENGTH);
+            final long length = contentLength == null ? -1 : parseContentLength(contentLength);
+            if (length > maxEntrySize) {
+                store.remove(key);
+                return response;
+            }
+            final CachedResponse.Template template = new CachedResponse.Template(response, directives, varyNames,
+                    request.headers(), requestTime, currentTimeMillis());
+            final BodyRecorder recorder = new BodyRecorder(key, template, executionContext().bufferAllocator()
+                    .newBuffer(length >= 0 ? (int) length : DEFAULT_INITIAL_BODY_CAPACITY));
+            return response.transformMessageBody(p -> p.map(recorder::onItem).beforeOnComplete(recorder::onComplete));
+        }
+
+        private long currentTimeMillis() {
+            return executionContext().executor().currentTime(MILLISECONDS);
+        }
+
+        /**
+         * Copies the payload body while it is consumed by the caller, the response is stored once it completes.
+         */
+        private final class BodyRecorder {
+            private final String key;
+            private final CachedResponse.Template template;
+            @Nullable
+            private Buffer body;
+
+            BodyRecorder(final String key, final CachedResponse.Template template, final Buffer body) {
+                this.key = key;
+                this.template = template;
+                this.body = body;
+            }
+
+            Object onItem(final Object item) {
+                final Buffer body = this.body;
+                if (body != null) {
+                    if (item instanceof Buffer &&
+                            body.readableBytes() + ((Buffer) item).readableBytes() <= maxEntrySize) {
+                        final Buffer buffer = (Buffer) item;
+                        body.writeBytes(buffer, buffer.readerIndex(), buffer.readableBytes());
+                    } else {
+                        // Too large or has trailers, which are not stored.
+                        this.body = null;
+                    }
+                }
+                return item;
+            }
+
+            void onComplete() {
+                final Buffer body = this.body;
+                if (body != null) {
+                    this.body = null;
+                    store.put(key, template.complete(body.asReadOnly()));
+                }
+            }
+        }
+    }
+
+    private static boolean isStorable(final HttpRequestMetaData request, final StreamingHttpResponse response,
+                                      final CacheControlDirectives directives, final List<String> varyNames) {
+        if (directives.noStore || !isCacheableByDefault(response.status()) || varyNames.contains("*")) {
+            return false;
+        }
+        if (request.headers().contains(AUTHORIZATION) &&
+                !(directives.isPublic || directives.mustRevalidate || directives.sharedMaxAge)) {
+            // See RFC 9111, section 3.5.
+            return false;
+        }
+        final HttpHeaders headers = response.headers();
+        return directives.maxAgeSeconds != UNSET || headers.contains(EXPIRES) ||
+                headers.contains(ETAG) || headers.contains(LAST_MODIFIED);
+    }
+
+    /**
+     * See <a href="https://www.rfc-editor.org/rfc/rfc9110#section-15.1">RFC 9110, section 15.1</a>.
+     */
+    private static boolean isCacheableByDefault(final HttpResponseStatus status) {
+        switch (status.code()) {
+            case 200:
+            case 203:
+            case 204:
+            case 300:
+            case 301:
+            case 308:
+            case 404:
+            case 405:
+            case 410:
+            case 414:
+            case 501:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean hasPreconditions(final HttpHeaders headers) {
+        return headers.contains(IF_NONE_MATCH) || headers.contains(IF_MODIFIED_SINCE) ||
+                headers.contains(IF_MATCH) || headers.contains(IF_UNMODIFIED_SINCE) || headers.contains(IF_RANGE) ||
+                headers.contains(RANGE);
+    }
+
+    private static String key(final HttpRequestMetaData metaData) {
+        final StringBuilder sb = new StringBuilder(64);
+        final String scheme = metaData.scheme();
+        if (scheme != null) {
+            sb.append(scheme.toLowerCase(Locale.ROOT)).append("://");
+        }
+        final HostAndPort hostAndPort = metaData.effectiveHostAndPort();
+        if (hostAndPort != null) {
+            sb.append(hostAndPort.hostName().toLowerCase(Locale.ROOT)).append(':').append(hostAndPort.port());
+        }
+        final String path = metaData.rawPath();
+        sb.append(path.isEmpty() ? "/" : path);
+        final String query = metaData.rawQuery();
+        if (query != null) {
+            sb.append('?').append(query);
+        }
+        return sb.toString();
+    }
+
+    private static List<String> varyNames(final HttpHeaders headers) {
+        final Iterator<? extends CharSequence> values = headers.valuesIterator(VARY);
+        if (!values.hasNext()) {
+            return emptyList();
+        }
+        final List<String> names = new ArrayList<>(2);
+        do {
+            for (String name : values.next().toString().split(",")) {
+                name = name.trim();
+                if (!name.isEmpty()) {
+                    names.add(name.toLowerCase(Locale.ROOT));
+                }
+            }
+        } while (values.hasNext());
+        return names;
+    }
+
+    @Nullable
+    private static String joinValues(final HttpHeaders headers, final CharSequence name) {
+        final Iterator<? extends CharSequence> values = headers.valuesIterator(name);
+        if (!values.hasNext()) {
+            return null;
+        }
+        final CharSequence first = values.next();
+        if (!values.hasNext()) {
+            return first.toString();
+        }
+        final StringBuilder sb = new StringBuilder().append(first);
+        do {
+            sb.append(',').append(values.next());
+        } while (values.hasNext());
+        return sb.toString();
+    }
+
+    private static boolean isWeak(final CharSequence etag) {
+        return etag.length() >= 2 && etag.charAt(0) == 'W' && etag.charAt(1) == '/';
+    }
+
+    private static CharSequence opaqueTag(final CharSequence etag) {
+        return isWeak(etag) ? etag.subSequence(2, etag.length()) : etag;
+    }
+
+    private static long parseContentLength(final CharSequence contentLength) {
+        try {
+            return parseLong(contentLength);
+        } catch (NumberFormatException e) {
+            // Invalid values are reported by the decoder, the limit is still enforced while recording.
+            return -1;
+        }
+    }
+
+    /**
+     * Parses an HTTP-date, returns the milliseconds since the epoch or {@code -1} if the date is invalid.
+     */
+    private static long parseHttpDate(@Nullable final CharSequence date) {
+        if (date == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(date, RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    private static long deltaSecondsToMillis(@Nullable final CharSequence value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return SECONDS.toMillis(max(0, parseLong(value)));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static final class CachedResponse {
+        private final HttpResponseStatus status;
+        private final HttpProtocolVersion version;
+        private final HttpHeaders headers;
+        private final Buffer body;
+        private final List<String> varyNames;
+        private final List<String> varyValues;
+        @Nullable
+        final CharSequence etag;
+        @Nullable
+        final CharSequence lastModified;
+        private final boolean noCache;
+        private final long freshnessLifetimeMillis;
+        private final long correctedInitialAgeMillis;
+        private final long responseTimeMillis;
+        final int weight;
+
+        private CachedResponse(final HttpResponseStatus status, final HttpProtocolVersion version,
+                               final HttpHeaders headers, final Buffer body, final List<String> varyNames,
+                               final List<String> varyValues, final CacheControlDirectives directives,
+                               final long requestTimeMillis, final long responseTimeMillis) {
+            this.status = status;
+            this.version = version;
+            this.headers = headers;
+            this.body = body;
+            this.varyNames = varyNames;
+            this.varyValues = varyValues;
+            this.etag = headers.get(ETAG);
+            this.lastModified = headers.get(LAST_MODIFIED);
+            this.noCache = directives.noCache;
+            this.responseTimeMillis = responseTimeMillis;
+
+            // See RFC 9111, section 4.2.1 and 4.2.3. Dates are compared with the wall clock, elapsed times are
+            // measured with the monotonic time of the executor.
+            final long wallClockMillis = System.currentTimeMillis();
+            final long date = parseHttpDate(headers.get(DATE));
+            if (directives.maxAgeSeconds != UNSET) {
+                freshnessLifetimeMillis = SECONDS.toMillis(directives.maxAgeSeconds);
+            } else {
+                final long expires = parseHttpDate(headers.get(EXPIRES));
+                // Invalid expires means the response is already expired.
+                freshnessLifetimeMillis = expires < 0 ? 0 : max(0, expires - (date < 0 ? wallClockMillis : date));
+            }
+            final long apparentAge = date < 0 ? 0 : max(0, wallClockMillis - date);
+            final long correctedAgeValue = deltaSecondsToMillis(headers.get(AGE)) +
+                    (responseTimeMillis - requestTimeMillis);
+            this.correctedInitialAgeMillis = max(apparentAge, correctedAgeValue);
+
+            int weight = ENTRY_OVERHEAD + body.readableBytes();
+            for (Entry<CharSequence, CharSequence> header : headers) {
+                weight += header.getKey().length() + header.getValue().length();
+            }
+            this.weight = weight;
+        }
+
+        boolean matchesVary(final HttpHeaders requestHeaders) {
+            for (int i = 0; i < varyNames.size(); ++i) {
+                final String value = joinValues(requestHeaders, varyNames.get(i));
+                final String storedValue = varyValues.get(i);
+                if (value == null ? storedValue != null : !value.equals(storedValue)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isFresh(final long nowMillis, final long requestMaxAgeSeconds) {
+            if (noCache) {
+                return false;
+            }
+            final long currentAge = currentAgeMillis(nowMillis);
+            if (requestMaxAgeSeconds != UNSET && currentAge > SECONDS.toMillis(requestMaxAgeSeconds)) {
+                return false;
+            }
+            return currentAge < freshnessLifetimeMillis;
+        }
+
+        boolean hasValidator() {
+            return etag != null || lastModified != null;
+        }
+
+        StreamingHttpResponse toResponse(final StreamingHttpRequester delegate, final long nowMillis) {
+            final StreamingHttpResponse response = delegate.httpResponseFactory().newResponse(status)
+                    .version(version);
+            response.headers().set(headers)
+                    .set(AGE, Long.toString(MILLISECONDS.toSeconds(currentAgeMillis(nowMillis))));
+            if (body.readableBytes() > 0) {
+                // The read-only body is shared, each response only needs its own indexes.
+                response.payloadBody(Publisher.from(body.duplicate()));
+            }
+            return response;
+        }
+
+        /**
+         * Returns {@code true} if the validators of a {@code 304 Not Modified} response select this stored response
+         * for update, see <a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.3.4">RFC 9111, section 4.3.4</a>.
+         */
+        boolean isSelectedBy(final HttpHeaders notModifiedHeaders) {
+            final CharSequence notModifiedEtag = notModifiedHeaders.get(ETAG);
+            if (notModifiedEtag != null) {
+                if (etag == null) {
+                    return false;
+                }
+                // A strong validator only selects the same strong validator, a weak validator uses the weak
+                // comparison, see RFC 9110, section 8.8.3.2.
+                return isWeak(notModifiedEtag) ? contentEquals(opaqueTag(notModifiedEtag), opaqueTag(etag)) :
+                        contentEquals(notModifiedEtag, etag);
+            }
+            final CharSequence notModifiedLastModified = notModifiedHeaders.get(LAST_MODIFIED);
+            if (notModifiedLastModified != null) {
+                return lastModified != null && contentEquals(notModifiedLastModified, lastModified);
+            }
+            // The response doesn't repeat a validator, it answers the condition of the request for this response.
+            return true;
+        }
+
+        /**
+         * Updates the stored response with the headers of a {@code 304 Not Modified} response, see
+         * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.3.4">RFC 9111, section 4.3.4</a>.
+         */
+        CachedResponse refresh(final HttpHeaders notModifiedHeaders, final long requestTimeMillis,
+                               final long responseTimeMillis) {
+            final HttpHeaders merged = DefaultHttpHeadersFactory.INSTANCE.newHeaders().set(headers);
+            final Set<String> names = new HashSet<>();
+            for (Entry<CharSequence, CharSequence> header : notModifiedHeaders) {
+                final CharSequence name = header.getKey();
+                if (!contentEqualsIgnoreCase(CONTENT_LENGTH, name) &&
+                        names.add(name.toString().toLowerCase(Locale.ROOT))) {
+                    merged.set(name, notModifiedHeaders.values(name));
+                }
+            }
+            return new CachedResponse(status, version, merged, body, varyNames, varyValues,
+                    CacheControlDirectives.parse(merged), requestTimeMillis, responseTimeMillis);
+        }
+
+        private long currentAgeMillis(final long nowMillis) {
+            return correctedInitialAgeMillis + max(0, nowMillis - responseTimeMillis);
+        }
+
+        /**
+         * Everything which is known about a response before its payload body is received.
+         */
+        static final class Template {
+            private final HttpResponseStatus status;
+            private final HttpProtocolVersion version;
+            private final HttpHeaders headers;
+            private final CacheControlDirectives directives;
+            private final List<String> varyNames;
+            private final List<String> varyValues;
+            private final long requestTimeMillis;
+            private final long responseTimeMillis;
+
+            Template(final StreamingHttpResponse response, final CacheControlDirectives directives,
+                     final List<String> varyNames, final HttpHeaders requestHeaders, final long requestTimeMillis,
+                     final long responseTimeMillis) {
+                this.status = response.status();
+                this.version = response.version();
+                // The caller may modify the headers of the response it receives.
+                this.headers = DefaultHttpHeadersFactory.INSTANCE.newHeaders().set(response.headers());
+                this.directives = directives;
+                this.varyNames = varyNames;
+                final List<String> varyValues = new ArrayList<>(varyNames.size());
+                for (String name : varyNames) {
+                    varyValues.add(joinValues(requestHeaders, name));
+                }
+                this.varyValues = varyValues;
+                this.requestTimeMillis = requestTimeMillis;
+                this.responseTimeMillis = responseTimeMillis;
+            }
+
+            CachedResponse complete(final Buffer body) {
+                return new CachedResponse(status, version, headers, body, varyNames, varyValues, directives,
+                        requestTimeMillis, responseTimeMillis);
+            }
+        }
+    }
+
+    /**
+     * A builder for {@link HttpResponseCacheRequesterFilter}.
+     */
+    public static final class Builder {
+        private long maxSize = 64L * 1024 * 1024;
+        private int maxEntrySize = 1024 * 1024;
+
+        /**
+         * Sets the maximum total size in bytes of the stored responses, including their headers. Defaults to
+         * {@code 64} MiB.
+         *
+         * @param maxSize the maximum total size in bytes of the stored responses.
+         * @return {@code this}.
+         */
+        public Builder maxSize(final long maxSize) {
+            this.maxSize = ensurePositive(maxSize, "maxSize");
+            return this;
+        }
+
+        /**
+         * Sets the maximum size in bytes of the payload body of a stored response, larger responses are not stored.
+         * Defaults to {@code 1} MiB.
+         *
+         * @param maxEntrySize the maximum size in bytes of the payload body of a stored response.
+         * @return {@code this}.
+         */
+        public Builder maxEntrySize(final int maxEntrySize) {
+            this.maxEntrySize = ensurePositive(maxEntrySize, "maxEntrySize");
+            return this;
+        }
+
+        /**
+         * Creates a new {@link HttpResponseCacheRequesterFilter}.
+         *
+         * @return a new {@link HttpResponseCacheRequesterFilter}.
+         */
+        public HttpResponseCacheRequesterFilter build() {
+            return new HttpResponseCacheRequesterFilter(this);
+        }
+    }
+}
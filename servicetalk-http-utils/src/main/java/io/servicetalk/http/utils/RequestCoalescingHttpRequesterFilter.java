@@ -0,0 +1,403 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.utils;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.SingleSource.Processor;
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.concurrent.api.TerminalSignalConsumer;
+import io.servicetalk.http.api.DefaultHttpHeadersFactory;
+import io.servicetalk.http.api.FilterableStreamingHttpClient;
+import io.servicetalk.http.api.HttpExecutionStrategies;
+import io.servicetalk.http.api.HttpExecutionStrategy;
+import io.servicetalk.http.api.HttpHeaders;
+import io.servicetalk.http.api.HttpProtocolVersion;
+import io.servicetalk.http.api.HttpRequestMetaData;
+import io.servicetalk.http.api.HttpRequestMethod;
+import io.servicetalk.http.api.HttpResponseStatus;
+import io.servicetalk.http.api.StreamingHttpClientFilter;
+import io.servicetalk.http.api.StreamingHttpClientFilterFactory;
+import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpRequester;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.transport.api.HostAndPort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.api.CharSequences.parseLong;
+import static io.servicetalk.concurrent.api.Processors.newSingleProcessor;
+import static io.servicetalk.concurrent.api.Publisher.fromIterable;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.concurrent.api.SourceAdapters.fromSource;
+import static io.servicetalk.http.api.HttpHeaderNames.ACCEPT;
+import static io.servicetalk.http.api.HttpHeaderNames.ACCEPT_ENCODING;
+import static io.servicetalk.http.api.HttpHeaderNames.ACCEPT_LANGUAGE;
+import static io.servicetalk.http.api.HttpHeaderNames.AUTHORIZATION;
+import static io.servicetalk.http.api.HttpHeaderNames.CONTENT_LENGTH;
+import static io.servicetalk.http.api.HttpHeaderNames.COOKIE;
+import static io.servicetalk.http.api.HttpRequestMethod.GET;
+import static io.servicetalk.http.api.HttpRequestMethod.HEAD;
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A filter to coalesce identical concurrent HTTP requests on the client-side into a single request.
+ * <p>
+ * While a request is in flight, identical requests sent through the same client wait for its response instead of
+ * being sent. Requests are identical if they have the same method, scheme, host, port, path and query, and the same
+ * values for the headers which select a representation of the resource ({@link Builder#varyHeaders(CharSequence...)}).
+ * The request which is sent receives the response as it is streamed, its payload body is recorded while it is consumed
+ * and each waiting request receives its own copy once the payload body completes. The response must therefore be
+ * consumed for the waiting requests to complete. Requests which arrive after the response has been received are sent
+ * as usual, this filter doesn't cache responses.
+ * <p>
+ * Responses with a payload body larger than {@link Builder#maxPayloadSize(int)} are not shared: the request which was
+ * sent keeps the response and the waiting requests are sent on their own, either when the {@code content-length}
+ * announces a larger payload body or when the limit is exceeded while recording. Errors of the shared request are
+ * propagated to all the coalesced requests.
+ * <p>
+ * Only {@code GET} and {@code HEAD} requests are coalesced by default, see {@link Builder#coalesceWhen(Predicate)}.
+ * The payload body of a request which waits for the response of another request is not subscribed to, coalesced
+ * requests are expected not to have a payload body.
+ */
+public final class RequestCoalescingHttpRequesterFilter implements StreamingHttpClientFilterFactory {
+
+    private static final Predicate<HttpRequestMetaData> GET_AND_HEAD = metaData -> {
+        final HttpRequestMethod method = metaData.method();
+        return GET.equals(method) || HEAD.equals(method);
+    };
+    private static final Outcome NOT_SHARED = StreamingHttpRequester::request;
+
+    private final Predicate<HttpRequestMetaData> coalesceWhen;
+    private final CharSequence[] varyHeaders;
+    private final int maxPayloadSize;
+
+    private RequestCoalescingHttpRequesterFilter(final Builder builder) {
+        this.coalesceWhen = builder.coalesceWhen;
+        this.varyHeaders = builder.varyHeaders;
+        this.maxPayloadSize = builder.maxPayloadSize;
+    }
+
+    @Override
+    public StreamingHttpClientFilter create(final FilterableStreamingHttpClient client) {
+        return new RequestCoalescingHttpClientFilter(client);
+    }
+
+    @Override
+    public HttpExecutionStrategy requiredOffloads() {
+        // No influence since we do not block.
+        return HttpExecutionStrategies.offloadNone();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                "{varyHeaders=" + Arrays.toString(varyHeaders) +
+                ", maxPayloadSize=" + maxPayloadSize +
+                '}';
+    }
+
+    private final class RequestCoalescingHttpClientFilter extends StreamingHttpClientFilter {
+        private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+        RequestCoalescingHttpClientFilter(final FilterableStreamingHttpClient delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected Single<StreamingHttpResponse> request(final StreamingHttpRequester delegate,
+                                                        final StreamingHttpRequest request) {
+            if (!coalesceWhen.test(request)) {
+                return delegate.request(request);
+            }
+            return Single.defer(() -> {
+                final String key = key(request);
+                final Flight newFlight = new Flight(key);
+                final Flight flight = inFlight.putIfAbsent(key, newFlight);
+                if (flight == null) {
+                    return newFlight.originate(delegate, request).shareContextOnSubscribe();
+                }
+                return fromSource(flight.outcome).flatMap(outcome -> outcome.response(delegate, request))
+                        .shareContextOnSubscribe();
+            });
+        }
+
+        /**
+         * A request in flight. The request which started it receives the response as it is streamed, the requests
+         * which join it wait for the {@link Outcome}.
+         */
+        private final class Flight {
+            private final String key;
+            final Processor<Outcome, Outcome> outcome = newSingleProcessor();
+
+            Flight(final String key) {
+                this.key = key;
+            }
+
+            Single<StreamingHttpResponse> originate(final StreamingHttpRequester delegate,
+                                                    final StreamingHttpRequest request) {
+                final boolean head = HEAD.equals(request.method());
+                return delegate.request(request)
+                        .whenOnError(this::fail)
+                        // Nobody consumes the response, the waiting requests are sent on their own.
+                        .whenCancel(() -> complete(NOT_SHARED))
+                        .map(response -> {
+                            if (!head && exceedsMaxPayloadSize(response.headers().get(CONTENT_LENGTH))) {
+                                complete(NOT_SHARED);
+                                return response;
+                            }
+                            final Recorder recorder = new Recorder(this, response);
+                            return response.transformMessageBody(p -> p.map(recorder::onItem).whenFinally(recorder));
+                        });
+            }
+
+            void complete(final Outcome result) {
+                // Later requests are sent on their own, the requests which already joined the flight receive the
+                // outcome.
+                inFlight.remove(key, this);
+                outcome.onSuccess(result);
+            }
+
+            void fail(final Throwable cause) {
+                inFlight.remove(key, this);
+                outcome.onError(cause);
+            }
+        }
+
+        /**
+         * Records the payload body while it is consumed by the request which started the flight, to replay it for
+         * the requests which joined the flight once it completes.
+         */
+        private final class Recorder implements TerminalSignalConsumer {
+            private final Flight flight;
+            private final HttpResponseStatus status;
+            private final HttpProtocolVersion version;
+            private final HttpHeaders headers;
+            @Nullable
+            private List<Object> items = new ArrayList<>(2);
+            private int payloadSize;
+
+            Recorder(final Flight flight, final StreamingHttpResponse response) {
+                this.flight = flight;
+                this.status = response.status();
+                this.version = response.version();
+                // The caller may modify the headers of the response it receives.
+                this.headers = DefaultHttpHeadersFactory.INSTANCE.newHeaders().set(response.headers());
+            }
+
+            Object onItem(final Object item) {
+                final List<Object> items = this.items;
+                if (items != null) {
+                    if (item instanceof Buffer) {
+                        final Buffer buffer = (Buffer) item;
+                        payloadSize += buffer.readableBytes();
+                        if (payloadSize > maxPayloadSize) {
+                            // Too large to share, the caller keeps the live response and the waiting requests are
+                            // sent on their own.
+                            this.items = null;
+                            flight.complete(NOT_SHARED);
+                        } else {
+                            // The memory is shared, the duplicate keeps the indexes independent of the caller.
+                            items.add(buffer.duplicate());
+                        }
+                    } else if (item instanceof HttpHeaders) {
+                        items.add(DefaultHttpHeadersFactory.INSTANCE.newTrailers().set((HttpHeaders) item));
+                    } else {
+                        items.add(item);
+                    }
+                }
+                return item;
+            }
+
+            @Override
+            public void onComplete() {
+                final List<Object> items = this.items;
+                if (items != null) {
+                    this.items = null;
+                    flight.complete(new Aggregated(status, version, headers, items));
+                }
+            }
+
+            @Override
+            public void onError(final Throwable cause) {
+                if (items != null) {
+                    items = null;
+                    flight.fail(cause);
+                }
+            }
+
+            @Override
+            public void cancel() {
+                if (items != null) {
+                    items = null;
+                    flight.complete(NOT_SHARED);
+                }
+            }
+        }
+    }
+
+    private String key(final HttpRequestMetaData metaData) {
+        final StringBuilder sb = new StringBuilder(64).append(metaData.method().name()).append(' ');
+        final String scheme = metaData.scheme();
+        if (scheme != null) {
+            sb.append(scheme.toLowerCase(Locale.ROOT)).append("://");
+        }
+        final HostAndPort hostAndPort = metaData.effectiveHostAndPort();
+        if (hostAndPort != null) {
+            sb.append(hostAndPort.hostName().toLowerCase(Locale.ROOT)).append(':').append(hostAndPort.port());
+        }
+        final String path = metaData.rawPath();
+        sb.append(path.isEmpty() ? "/" : path);
+        final String query = metaData.rawQuery();
+        if (query != null) {
+            sb.append('?').append(query);
+        }
+        for (CharSequence name : varyHeaders) {
+            final Iterator<? extends CharSequence> values = metaData.headers().valuesIterator(name);
+            if (values.hasNext()) {
+                sb.append('\n').append(name).append(':').append(values.next());
+                while (values.hasNext()) {
+                    sb.append(',').append(values.next());
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private boolean exceedsMaxPayloadSize(@Nullable final CharSequence contentLength) {
+        if (contentLength == null) {
+            return false;
+        }
+        try {
+            return parseLong(contentLength) > maxPayloadSize;
+        } catch (NumberFormatException e) {
+            // Invalid values are reported by the decoder, the limit is still enforced while recording.
+            return false;
+        }
+    }
+
+    /**
+     * Result of a coalesced request, shared by all the requests which waited for it.
+     */
+    @FunctionalInterface
+    private interface Outcome {
+        Single<StreamingHttpResponse> response(StreamingHttpRequester delegate, StreamingHttpRequest request);
+    }
+
+    private static final class Aggregated implements Outcome {
+        private final HttpResponseStatus status;
+        private final HttpProtocolVersion version;
+        private final HttpHeaders headers;
+        private final List<Object> items;
+
+        Aggregated(final HttpResponseStatus status, final HttpProtocolVersion version, final HttpHeaders headers,
+                   final List<Object> items) {
+            this.status = status;
+            this.version = version;
+            this.headers = headers;
+            this.items = items;
+        }
+
+        @Override
+        public Single<StreamingHttpResponse> response(final StreamingHttpRequester delegate,
+                                                      final StreamingHttpRequest request) {
+            final StreamingHttpResponse response = delegate.httpResponseFactory().newResponse(status)
+                    .version(version);
+            response.headers().set(headers);
+            if (!items.isEmpty()) {
+                response.transformMessageBody(p -> fromIterable(items).map(Aggregated::copy));
+            }
+            return succeeded(response);
+        }
+
+        private static Object copy(final Object item) {
+            // Every response needs its own Buffer indexes and its own mutable trailers.
+            if (item instanceof Buffer) {
+                return ((Buffer) item).duplicate();
+            }
+            if (item instanceof HttpHeaders) {
+                return DefaultHttpHeadersFactory.INSTANCE.newTrailers().set((HttpHeaders) item);
+            }
+            return item;
+        }
+    }
+
+    /**
+     * A builder for {@link RequestCoalescingHttpRequesterFilter}.
+     */
+    public static final class Builder {
+        private Predicate<HttpRequestMetaData> coalesceWhen = GET_AND_HEAD;
+        private CharSequence[] varyHeaders = {ACCEPT, ACCEPT_ENCODING, ACCEPT_LANGUAGE, AUTHORIZATION, COOKIE};
+        private int maxPayloadSize = 1024 * 1024;
+
+        /**
+         * Overrides which requests may be coalesced. By default, only {@code GET} and {@code HEAD} requests are
+         * coalesced.
+         *
+         * @param coalesceWhen {@link Predicate} which returns {@code true} for requests which may be coalesced.
+         * @return {@code this}.
+         */
+        public Builder coalesceWhen(final Predicate<HttpRequestMetaData> coalesceWhen) {
+            this.coalesceWhen = requireNonNull(coalesceWhen);
+            return this;
+        }
+
+        /**
+         * Sets the request headers which select a representation of the resource: requests are only coalesced if
+         * they have the same values for these headers. Defaults to {@code accept}, {@code accept-encoding},
+         * {@code accept-language}, {@code authorization} and {@code cookie}.
+         *
+         * @param varyHeaders the names of the request headers to compare, in lower case.
+         * @return {@code this}.
+         */
+        public Builder varyHeaders(final CharSequence... varyHeaders) {
+            this.varyHeaders = requireNonNull(varyHeaders).clone();
+            for (CharSequence name : this.varyHeaders) {
+                requireNonNull(name);
+            }
+            return this;
+        }
+
+        /**
+         * Sets the maximum size in bytes of a payload body which is recorded to be shared by coalesced requests.
+         * Defaults to {@code 1} MiB.
+         *
+         * @param maxPayloadSize the maximum size in bytes of a shared payload body.
+         * @return {@code this}.
+         */
+        public Builder maxPayloadSize(final int maxPayloadSize) {
+            this.maxPayloadSize = ensurePositive(maxPayloadSize, "maxPayloadSize");
+            return this;
+        }
+
+        /**
+         * Creates a new {@link RequestCoalescingHttpRequesterFilter}.
+         *
+         * @return a new {@link RequestCoalescingHttpRequesterFilter}.
+         */
+        public RequestCoalescingHttpRequesterFilter build() {
+            return new RequestCoalescingHttpRequesterFilter(this);
+        }
+    }
+}
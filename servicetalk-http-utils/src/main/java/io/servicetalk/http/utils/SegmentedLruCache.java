@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nullable;
+
+/**
+ * A size-weighted cache with segmented LRU eviction.
+ * <p>
+ * New entries are inserted into a probation segment, entries which are read again are promoted to a protected segment
+ * which holds up to {@link #PROTECTED_RATIO} of the weight. Entries demoted from the protected segment get another
+ * chance in the probation segment, which is where entries are evicted from. Entries which are read only once (e.g. a
+ * scan) therefore don't evict entries which are read frequently.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of values.
+ */
+final class SegmentedLruCache<K, V> {
+    private static final double PROTECTED_RATIO = 0.8;
+
+    // Both maps are in access order: the eldest entry is the least recently used one.
+    private final LinkedHashMap<K, V> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, V> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private final ToIntFunction<V> weigher;
+    private final long maxWeight;
+    private final long maxProtectedWeight;
+    private long probationWeight;
+    private long protectedWeight;
+
+    SegmentedLruCache(final long maxWeight, final ToIntFunction<V> weigher) {
+        this.maxWeight = maxWeight;
+        this.maxProtectedWeight = (long) (maxWeight * PROTECTED_RATIO);
+        this.weigher = weigher;
+    }
+
+    @Nullable
+    synchronized V get(final K key) {
+        V value = protectedSegment.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = probation.remove(key);
+        if (value == null) {
+            return null;
+        }
+        final int weight = weigher.applyAsInt(value);
+        probationWeight -= weight;
+        protectedSegment.put(key, value);
+        protectedWeight += weight;
+        // Demote the least recently used protected entries, they become the most recently used probation entries.
+        final Iterator<Entry<K, V>> itr = protectedSegment.entrySet().iterator();
+        while (protectedWeight > maxProtectedWeight && itr.hasNext()) {
+            final Entry<K, V> eldest = itr.next();
+            if (eldest.getKey().equals(key)) {
+                break;
+            }
+            itr.remove();
+            final int eldestWeight = weigher.applyAsInt(eldest.getValue());
+            protectedWeight -= eldestWeight;
+            probation.put(eldest.getKey(), eldest.getValue());
+            probationWeight += eldestWeight;
+        }
+        return value;
+    }
+
+    synchronized void put(final K key, final V value) {
+        removeInternal(key);
+        final int weight = weigher.applyAsInt(value);
+        if (weight > maxWeight) {
+            return;
+        }
+        probation.put(key, value);
+        probationWeight += weight;
+        evict();
+    }
+
+    synchronized void remove(final K key) {
+        removeInternal(key);
+    }
+
+    synchronized long weight() {
+        return probationWeight + protectedWeight;
+    }
+
+    private void removeInternal(final K key) {
+        V value = probation.remove(key);
+        if (value != null) {
+            probationWeight -= weigher.applyAsInt(value);
+            return;
+        }
+        value = protectedSegment.remove(key);
+        if (value != null) {
+            protectedWeight -= weigher.applyAsInt(value);
+        }
+    }
+
+    private void evict() {
+        evict(probation.entrySet().iterator(), true);
+        evict(protectedSegment.entrySet().iterator(), false);
+    }
+
+    private void evict(final Iterator<Entry<K, V>> itr, final boolean fromProbation) {
+        while (probationWeight + protectedWeight > maxWeight && itr.hasNext()) {
+            final int weight = weigher.applyAsInt(itr.next().getValue());
+            itr.remove();
+            if (fromProbation) {
+                probationWeight -= weight;
+            } else {
+                protectedWeight -= weight;
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2019, 2021-2022 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2019, 2021-2022, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,7 +43,11 @@ import java.util.function.BiFunction;
  * <p>If no executor is specified at construction an executor from {@link HttpExecutionContext} associated with the
  * client or connection will be used. If the {@link HttpExecutionContext#executionStrategy()} specifies an
  * {@link HttpExecutionStrategy} with offloads then {@link HttpExecutionContext#executor()} will be used and if no
- * offloads are specified then {@link HttpExecutionContext#ioExecutor()} will be used.
+ * offloads are specified then {@link HttpExecutionContext#ioExecutor()} will be used. When the
+ * {@code io.servicetalk.transport.netty.eventLoopLocalTimers} system property is {@code true}, timeouts which are
+ * started on an I/O thread of the {@link HttpExecutionContext#ioExecutor()} are kept on the event loop of that thread
+ * (usually the one of the connection) and expire in coalesced deadline checks, instead of being scheduled on any
+ * event loop of the {@link HttpExecutionContext#ioExecutor()}.
  *
  * <p>The order with which this filter is applied may be highly significant. For example, appending it before a retry
  * filter would have different results than applying it after the retry filter; timeout would apply for all retries vs
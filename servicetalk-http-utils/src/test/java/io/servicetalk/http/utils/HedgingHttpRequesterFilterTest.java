@@ -0,0 +1,347 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.utils;
+
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.concurrent.api.TestExecutor;
+import io.servicetalk.concurrent.api.TestSingle;
+import io.servicetalk.http.api.DefaultHttpHeadersFactory;
+import io.servicetalk.http.api.DefaultStreamingHttpRequestResponseFactory;
+import io.servicetalk.http.api.HttpExecutionContext;
+import io.servicetalk.http.api.HttpRequestMetaData;
+import io.servicetalk.http.api.StreamingHttpClient;
+import io.servicetalk.http.api.StreamingHttpClientFilter;
+import io.servicetalk.http.api.StreamingHttpClientFilterFactory;
+import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpRequestResponseFactory;
+import io.servicetalk.http.api.StreamingHttpRequester;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.http.utils.HedgingHttpRequesterFilter.HedgeObserver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.concurrent.internal.DeliberateException.DELIBERATE_EXCEPTION;
+import static io.servicetalk.http.api.FilterFactoryUtils.appendClientFilterFactory;
+import static io.servicetalk.http.api.HttpExecutionStrategies.offloadAll;
+import static io.servicetalk.http.api.HttpProtocolVersion.HTTP_1_1;
+import static io.servicetalk.http.api.HttpResponseStatus.OK;
+import static io.servicetalk.http.api.TestStreamingHttpClient.from;
+import static java.time.Duration.ofMillis;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HedgingHttpRequesterFilterTest {
+
+    private static final StreamingHttpRequestResponseFactory reqRespFactory =
+            new DefaultStreamingHttpRequestResponseFactory(DEFAULT_ALLOCATOR, DefaultHttpHeadersFactory.INSTANCE,
+                    HTTP_1_1);
+
+    private final TestExecutor executor = new TestExecutor();
+    private final List<Attempt> attempts = new CopyOnWriteArrayList<>();
+    private final CountingObserver observer = new CountingObserver();
+
+    private StreamingHttpClient newClient(HedgingHttpRequesterFilter.Builder builder) {
+        HttpExecutionContext executionContext = mock(HttpExecutionContext.class);
+        when(executionContext.executionStrategy()).thenReturn(offloadAll());
+        when(executionContext.executor()).thenReturn(executor);
+        StreamingHttpClientFilterFactory backend = client -> new StreamingHttpClientFilter(client) {
+            @Override
+            protected Single<StreamingHttpResponse> request(final StreamingHttpRequester delegate,
+                                                            final StreamingHttpRequest request) {
+                Attempt attempt = new Attempt(request);
+                attempts.add(attempt);
+                return attempt.response.whenCancel(() -> attempt.cancelled.set(true));
+            }
+        };
+        return from(reqRespFactory, executionContext,
+                appendClientFilterFactory(builder.observer(observer).build(), backend));
+    }
+
+    @Test
+    void fastResponseIsNotHedged() throws Exception {
+        StreamingHttpClient client = newClient(new HedgingHttpRequesterFilter.Builder().delay(ofMillis(100)));
+        Future<StreamingHttpResponse> response = client.request(client.get("/")).toFuture();
+        assertThat(attempts, hasSize(1));
+        attempts.get(0).response.onSuccess(reqRespFactory.ok());
+        assertThat(response.get().status(), is(OK));
+
+        executor.advanceTimeBy(100, MILLISECONDS);
+        assertThat(attempts, hasSize(1));
+        assertThat(observer.hedgeable.get(), is(1));
+        assertThat(observer.hedges.get(), is(0));
+    }
+
+    @Test
+    void nonIdempotentRequestIsNotHedged() {
+        StreamingHttpClient client = newClient(new HedgingHttpRequesterFilter.Builder().delay(ofMillis(100)));
+        client.request(client.post("/")).toFuture();
+        executor.advanceTimeBy(100, MILLISECONDS);
+        assertThat(attempts, hasSize(1));
+        assertThat(observer.hedgeable.get(), is(0));
+    }
+
+    @Test
+    void hedgeWinsAndCancelsFirstAttempt() throws Exception {
+        StreamingHttpClient client = newClient(new HedgingHttpRequesterFilter.Builder().delay(ofMillis(100)));
+        Future<StreamingHttpResponse> response = client.request(client.get("/").setHeader("foo", "bar"))
+                .toFuture();
+        executor.advanceTimeBy(99, MILLISECONDS);
+        assertThat(attempts, hasSize(1));
+        executor.advanceTimeBy(1, MILLISECONDS);
+        assertThat(attempts, hasSize(2));
+
+        Attempt hedge = attempts.get(1);
+        assertThat(hedge.request, is(not(sameInstance(attempts.get(0).request))));
+        assertThat(hedge.request.requestTarget(), is("/"));
+        assertThat(String.valueOf(hedge.request.headers().get("foo")), is("bar"));
+
+        hedge.response.onSuccess(reqRespFactory.ok());
+        assertThat(response.get().status(), is(OK));
+        assertThat(attempts.get(0).cancelled.get(), is(true));
+        assertThat(observer.hedges.get(), is(1));
+        assertThat(observer.wins.get(), is(1));
+    }
+
+    @Test
+    void firstAttemptWinsAndCancelsHedge() throws Exception {
+        StreamingHttpClient client = newClient(new HedgingHttpRequesterFilter.Builder().delay(ofMillis(100)));
+        Future<StreamingHttpResponse> response = client.request(client.get("/")).toFuture();
+        executor.advanceTimeBy(100, MILLISECONDS);
+        assertThat(attempts, hasSize(2));
+
+        attempts.get(0).response.onSuccess(reqRespFactory.ok());
+        assertThat(response.get().status(), is(OK));
+        assertThat(attempts.get(1).cancelled.get(), is(true));
+        assertThat(observer.wins.get(), is(0));
+    }
+
+    @Test
+    void failedAttemptDefersToOtherAttempt() throws Exception {
+        StreamingHttpClient client = newClient(new HedgingHttpRequesterFilter.Builder().delay(ofMillis(100)));
+        Future<StreamingHttpResponse> response = client.request(client.get("/")).toFuture();
+        executor.advanceTimeBy(100, MILLISECONDS);
+        assertThat(attempts, hasSize(2));
+
+        attempts.get(0).response.onError(DELIBERATE_EXCEPTION);
+        assertThat(response.isDone(), is(false));
+        attempts.get(1).response.onSuccess(reqRespFactory.ok());
+        assertThat(response.get().status(), is(OK));
+    }
+
+    @Test
+    void allAttemptsFailed() {
+        StreamingHttpClient client = newClient(new HedgingHttpRequesterFilter.Builder().delay(ofMillis(100)));
+        Future<StreamingHttpResponse> response = client.request(client.get("/")).toFuture();
+        executor.advanceTimeBy(100, MILLISECONDS);
+        assertThat(attempts, hasSize(2));
+
+        attempts.get(1).response.onError(new IllegalStateException("hedge"));
+        attempts.get(0).response.onError(DELIBERATE_EXCEPTION);
+        ExecutionException e = assertThrows(ExecutionException.class, response::get);
+        assertThat(e.getCause(), is(sameInstance(DELIBERATE_EXCEPTION)));
+    }
+
+    @Test
+    void rejectedResponseDefersToOtherAttempt() throws Exception {
+        StreamingHttpClient client = newClient(new HedgingHttpRequesterFilter.Builder().delay(ofMillis(100))
+                .responseValidator(response -> response.status().equals(OK) ?
+                        Single.succeeded(response) : Single.failed(DELIBERATE_EXCEPTION)));
+        Future<StreamingHttpResponse> response = client.request(client.get("/")).toFuture();
+        executor.advanceTimeBy(100, MILLISECONDS);
+        assertThat(attempts, hasSize(2));
+
+        attempts.get(0).response.onSuccess(reqRespFactory.serviceUnavailable());
+        assertThat(response.isDone(), is(false));
+        attempts.get(1).response.onSuccess(reqRespFactory.ok());
+        assertThat(response.get().status(), is(OK));
+        assertThat(observer.wins.get(), is(1));
+    }
+
+    @Test
+    void failureBeforeDelayIsNotHedged() {
+        StreamingHttpClient client = newClient(new HedgingHttpRequesterFilter.Builder().delay(ofMillis(100)));
+        Future<StreamingHttpResponse> response = client.request(client.get("/")).toFuture();
+        attempts.get(0).response.onError(DELIBERATE_EXCEPTION);
+        ExecutionException e = assertThrows(ExecutionException.class, response::get);
+        assertThat(e.getCause(), is(sameInstance(DELIBERATE_EXCEPTION)));
+
+        executor.advanceTimeBy(100, MILLISECONDS);
+        assertThat(attempts, hasSize(1));
+    }
+
+    @Test
+    void budgetBoundsHedges() {
+        StreamingHttpClient client = newClient(new HedgingHttpRequesterFilter.Builder().delay(ofMillis(100))
+                .budget(0.1, 1));
+        client.request(client.get("/")).toFuture();
+        client.request(client.get("/")).toFuture();
+        executor.advanceTimeBy(100, MILLISECONDS);
+
+        // The first request consumes the only token, the second request only deposits a fraction of a token.
+        assertThat(attempts, hasSize(3));
+        assertThat(observer.hedgeable.get(), is(2));
+        assertThat(observer.hedges.get(), is(1));
+        assertThat(observer.rejected.get(), is(1));
+    }
+
+    @Test
+    void concurrentCompletionReturnsWinningResponse() throws Exception {
+        StreamingHttpClient client = newClient(new HedgingHttpRequesterFilter.Builder().delay(ofMillis(100))
+                .budget(1, 1));
+        ExecutorService threads = newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 1000; ++i) {
+                attempts.clear();
+                observer.wins.set(0);
+                Future<StreamingHttpResponse> response = client.request(client.get("/")).toFuture();
+                executor.advanceTimeBy(100, MILLISECONDS);
+                assertThat(attempts, hasSize(2));
+
+                AtomicBoolean firstDrained = new AtomicBoolean();
+                AtomicBoolean hedgeDrained = new AtomicBoolean();
+                StreamingHttpResponse first = newResponse(firstDrained);
+                StreamingHttpResponse hedge = newResponse(hedgeDrained);
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> firstDone = threads.submit(() -> {
+                    barrier.await();
+                    attempts.get(0).response.onSuccess(first);
+                    return null;
+                });
+                Future<?> hedgeDone = threads.submit(() -> {
+                    barrier.await();
+                    attempts.get(1).response.onSuccess(hedge);
+                    return null;
+                });
+                firstDone.get();
+                hedgeDone.get();
+
+                // The returned response must be the one which won, the other one is drained.
+                StreamingHttpResponse winner = response.get();
+                if (winner == hedge) {
+                    assertThat(observer.wins.get(), is(1));
+                    assertThat(firstDrained.get(), is(true));
+                    assertThat(hedgeDrained.get(), is(false));
+                } else {
+                    assertThat(winner, is(sameInstance(first)));
+                    assertThat(observer.wins.get(), is(0));
+                    assertThat(firstDrained.get(), is(false));
+                    assertThat(hedgeDrained.get(), is(true));
+                }
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void defaultDelayIsPercentileOfObservedLatencies() throws Exception {
+        StreamingHttpClient client = newClient(new HedgingHttpRequesterFilter.Builder());
+        // The maximum delay is used until enough latencies are observed.
+        client.request(client.get("/")).toFuture();
+        executor.advanceTimeBy(999, MILLISECONDS);
+        assertThat(attempts, hasSize(1));
+        executor.advanceTimeBy(1, MILLISECONDS);
+        assertThat(attempts, hasSize(2));
+        attempts.get(0).response.onSuccess(reqRespFactory.ok());
+
+        // 127 more latencies of 10ms, the 95th percentile of the 128 samples is 10ms.
+        for (int i = 0; i < 127; ++i) {
+            attempts.clear();
+            Future<StreamingHttpResponse> response = client.request(client.get("/")).toFuture();
+            executor.advanceTimeBy(10, MILLISECONDS);
+            assertThat(attempts, hasSize(1));
+            attempts.get(0).response.onSuccess(reqRespFactory.ok());
+            assertThat(response.get().status(), is(OK));
+        }
+
+        attempts.clear();
+        client.request(client.get("/")).toFuture();
+        executor.advanceTimeBy(9, MILLISECONDS);
+        assertThat(attempts, hasSize(1));
+        executor.advanceTimeBy(1, MILLISECONDS);
+        assertThat(attempts, hasSize(2));
+        assertThat(observer.hedges.get(), is(2));
+    }
+
+    @Test
+    void invalidConfiguration() {
+        HedgingHttpRequesterFilter.Builder builder = new HedgingHttpRequesterFilter.Builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.delay(ofMillis(0)));
+        assertThrows(IllegalArgumentException.class, () -> builder.delayPercentile(100, ofMillis(1), ofMillis(2)));
+        assertThrows(IllegalArgumentException.class, () -> builder.delayPercentile(95, ofMillis(2), ofMillis(1)));
+        assertThrows(IllegalArgumentException.class, () -> builder.budget(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> builder.budget(0.1, 0));
+    }
+
+    private static StreamingHttpResponse newResponse(final AtomicBoolean drained) {
+        return reqRespFactory.ok().transformMessageBody(body -> body.whenOnSubscribe(__ -> drained.set(true)));
+    }
+
+    private static final class Attempt {
+        final StreamingHttpRequest request;
+        final TestSingle<StreamingHttpResponse> response = new TestSingle<>();
+        final AtomicBoolean cancelled = new AtomicBoolean();
+
+        Attempt(final StreamingHttpRequest request) {
+            this.request = request;
+        }
+    }
+
+    private static final class CountingObserver implements HedgeObserver {
+        final AtomicInteger hedgeable = new AtomicInteger();
+        final AtomicInteger hedges = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+        final AtomicInteger wins = new AtomicInteger();
+
+        @Override
+        public void onHedgeableRequest(final HttpRequestMetaData requestMetaData) {
+            hedgeable.incrementAndGet();
+        }
+
+        @Override
+        public void onHedge(final HttpRequestMetaData requestMetaData) {
+            hedges.incrementAndGet();
+        }
+
+        @Override
+        public void onHedgeRejected(final HttpRequestMetaData requestMetaData) {
+            rejected.incrementAndGet();
+        }
+
+        @Override
+        public void onHedgeWin(final HttpRequestMetaData requestMetaData) {
+            wins.incrementAndGet();
+        }
+    }
+}
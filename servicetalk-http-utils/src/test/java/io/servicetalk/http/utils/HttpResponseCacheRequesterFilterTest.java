@@ -0,0 +1,351 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.utils;
+
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.concurrent.api.TestExecutor;
+import io.servicetalk.http.api.DefaultHttpHeadersFactory;
+import io.servicetalk.http.api.DefaultStreamingHttpRequestResponseFactory;
+import io.servicetalk.http.api.HttpExecutionContext;
+import io.servicetalk.http.api.HttpResponse;
+import io.servicetalk.http.api.HttpResponseStatus;
+import io.servicetalk.http.api.StreamingHttpClient;
+import io.servicetalk.http.api.StreamingHttpClientFilter;
+import io.servicetalk.http.api.StreamingHttpClientFilterFactory;
+import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpRequestResponseFactory;
+import io.servicetalk.http.api.StreamingHttpRequester;
+import io.servicetalk.http.api.StreamingHttpResponse;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.http.api.FilterFactoryUtils.appendClientFilterFactory;
+import static io.servicetalk.http.api.HttpExecutionStrategies.offloadNone;
+import static io.servicetalk.http.api.HttpHeaderNames.ACCEPT;
+import static io.servicetalk.http.api.HttpHeaderNames.AGE;
+import static io.servicetalk.http.api.HttpHeaderNames.AUTHORIZATION;
+import static io.servicetalk.http.api.HttpHeaderNames.CACHE_CONTROL;
+import static io.servicetalk.http.api.HttpHeaderNames.DATE;
+import static io.servicetalk.http.api.HttpHeaderNames.ETAG;
+import static io.servicetalk.http.api.HttpHeaderNames.EXPIRES;
+import static io.servicetalk.http.api.HttpHeaderNames.IF_NONE_MATCH;
+import static io.servicetalk.http.api.HttpHeaderNames.VARY;
+import static io.servicetalk.http.api.HttpProtocolVersion.HTTP_1_1;
+import static io.servicetalk.http.api.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.servicetalk.http.api.HttpResponseStatus.NOT_MODIFIED;
+import static io.servicetalk.http.api.HttpResponseStatus.OK;
+import static io.servicetalk.http.api.TestStreamingHttpClient.from;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HttpResponseCacheRequesterFilterTest {
+
+    private static final StreamingHttpRequestResponseFactory reqRespFactory =
+            new DefaultStreamingHttpRequestResponseFactory(DEFAULT_ALLOCATOR, DefaultHttpHeadersFactory.INSTANCE,
+                    HTTP_1_1);
+
+    private final TestExecutor executor = new TestExecutor();
+    private final Queue<StreamingHttpResponse> responses = new ConcurrentLinkedQueue<>();
+    private final List<String> ifNoneMatch = new CopyOnWriteArrayList<>();
+
+    private StreamingHttpClient newClient(HttpResponseCacheRequesterFilter.Builder builder) {
+        HttpExecutionContext executionContext = mock(HttpExecutionContext.class);
+        when(executionContext.executionStrategy()).thenReturn(offloadNone());
+        when(executionContext.executor()).thenReturn(executor);
+        when(executionContext.bufferAllocator()).thenReturn(DEFAULT_ALLOCATOR);
+        StreamingHttpClientFilterFactory backend = client -> new StreamingHttpClientFilter(client) {
+            @Override
+            protected Single<StreamingHttpResponse> request(final StreamingHttpRequester delegate,
+                                                            final StreamingHttpRequest request) {
+                ifNoneMatch.add(String.valueOf(request.headers().get(IF_NONE_MATCH)));
+                StreamingHttpResponse response = responses.poll();
+                return response == null ? Single.failed(new IllegalStateException("Unexpected request")) :
+                        Single.succeeded(response);
+            }
+        };
+        return from(reqRespFactory, executionContext, appendClientFilterFactory(builder.build(), backend));
+    }
+
+    private StreamingHttpClient newClient() {
+        return newClient(new HttpResponseCacheRequesterFilter.Builder());
+    }
+
+    @Test
+    void freshResponseIsReturnedFromCache() throws Exception {
+        StreamingHttpClient client = newClient();
+        respond(OK, "hello", CACHE_CONTROL, "max-age=60");
+        assertResponse(send(client, client.get("/foo")), OK, "hello");
+
+        executor.advanceTimeBy(10, SECONDS);
+        HttpResponse cached = send(client, client.get("/foo"));
+        assertResponse(cached, OK, "hello");
+        assertThat(String.valueOf(cached.headers().get(AGE)), is("10"));
+        assertThat(ifNoneMatch, hasSize(1));
+
+        // Other resources are not affected.
+        respond(OK, "bar", CACHE_CONTROL, "max-age=60");
+        assertResponse(send(client, client.get("/bar")), OK, "bar");
+        assertThat(ifNoneMatch, hasSize(2));
+    }
+
+    @Test
+    void ageOfStoredResponseIsAccounted() throws Exception {
+        StreamingHttpClient client = newClient();
+        respond(OK, "hello", CACHE_CONTROL, "max-age=60", AGE, "55");
+        send(client, client.get("/foo"));
+
+        executor.advanceTimeBy(4, SECONDS);
+        assertResponse(send(client, client.get("/foo")), OK, "hello");
+        assertThat(ifNoneMatch, hasSize(1));
+
+        executor.advanceTimeBy(1, SECONDS);
+        respond(OK, "world");
+        assertResponse(send(client, client.get("/foo")), OK, "world");
+        assertThat(ifNoneMatch, hasSize(2));
+    }
+
+    @Test
+    void expiresIsRelativeToDate() throws Exception {
+        StreamingHttpClient client = newClient();
+        ZonedDateTime date = ZonedDateTime.now(ZoneOffset.UTC);
+        respond(OK, "hello", DATE, RFC_1123_DATE_TIME.format(date),
+                EXPIRES, RFC_1123_DATE_TIME.format(date.plusMinutes(1)));
+        send(client, client.get("/foo"));
+        assertResponse(send(client, client.get("/foo")), OK, "hello");
+        assertThat(ifNoneMatch, hasSize(1));
+    }
+
+    @Test
+    void invalidExpiresIsStale() throws Exception {
+        StreamingHttpClient client = newClient();
+        respond(OK, "hello", EXPIRES, "0");
+        send(client, client.get("/foo"));
+        respond(OK, "world");
+        assertResponse(send(client, client.get("/foo")), OK, "world");
+        assertThat(ifNoneMatch, hasSize(2));
+    }
+
+    @Test
+    void staleResponseIsRevalidated() throws Exception {
+        StreamingHttpClient client = newClient();
+        respond(OK, "hello", CACHE_CONTROL, "max-age=10", ETAG, "\"v1\"");
+        send(client, client.get("/foo"));
+
+        executor.advanceTimeBy(11, SECONDS);
+        respond(NOT_MODIFIED, "", CACHE_CONTROL, "max-age=20", ETAG, "\"v1\"");
+        StreamingHttpRequest request = client.get("/foo");
+        assertResponse(send(client, request), OK, "hello");
+        assertThat(ifNoneMatch, contains("null", "\"v1\""));
+        assertThat("Conditional header not removed", request.headers().get(IF_NONE_MATCH), is(nullValue()));
+
+        // The freshness lifetime was updated by the 304 response.
+        executor.advanceTimeBy(15, SECONDS);
+        HttpResponse cached = send(client, client.get("/foo"));
+        assertResponse(cached, OK, "hello");
+        assertThat(String.valueOf(cached.headers().get(CACHE_CONTROL)), is("max-age=20"));
+        assertThat(ifNoneMatch, hasSize(2));
+    }
+
+    @Test
+    void failedRevalidationRestoresRequest() throws Exception {
+        StreamingHttpClient client = newClient();
+        respond(OK, "hello", CACHE_CONTROL, "max-age=10", ETAG, "\"v1\"");
+        send(client, client.get("/foo"));
+
+        executor.advanceTimeBy(11, SECONDS);
+        // No response is queued, the revalidation fails.
+        StreamingHttpRequest request = client.get("/foo");
+        ExecutionException e = assertThrows(ExecutionException.class, () -> send(client, request));
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        assertThat("Conditional header not removed", request.headers().get(IF_NONE_MATCH), is(nullValue()));
+
+        // A retry of the same request is revalidated again, instead of bypassing the cache as a conditional request.
+        respond(NOT_MODIFIED, "", ETAG, "\"v1\"");
+        assertResponse(send(client, request), OK, "hello");
+        assertThat(ifNoneMatch, contains("null", "\"v1\"", "\"v1\""));
+        assertThat("Conditional header not removed", request.headers().get(IF_NONE_MATCH), is(nullValue()));
+    }
+
+    @Test
+    void notModifiedResponseWithOtherValidatorIsNotUsed() throws Exception {
+        StreamingHttpClient client = newClient();
+        respond(OK, "hello", CACHE_CONTROL, "max-age=10", ETAG, "\"v1\"");
+        send(client, client.get("/foo"));
+
+        executor.advanceTimeBy(11, SECONDS);
+        respond(NOT_MODIFIED, "", CACHE_CONTROL, "max-age=10", ETAG, "\"v2\"");
+        respond(OK, "world", CACHE_CONTROL, "max-age=10", ETAG, "\"v2\"");
+        assertResponse(send(client, client.get("/foo")), OK, "world");
+        // The request is sent again without conditions, and its response is stored.
+        assertThat(ifNoneMatch, contains("null", "\"v1\"", "null"));
+        assertResponse(send(client, client.get("/foo")), OK, "world");
+        assertThat(ifNoneMatch, hasSize(3));
+
+        // A weak validator selects the stored response with the same opaque tag.
+        executor.advanceTimeBy(11, SECONDS);
+        respond(NOT_MODIFIED, "", ETAG, "W/\"v2\"");
+        assertResponse(send(client, client.get("/foo")), OK, "world");
+        assertThat(ifNoneMatch, contains("null", "\"v1\"", "null", "\"v2\""));
+    }
+
+    @Test
+    void modifiedResponseReplacesStoredResponse() throws Exception {
+        StreamingHttpClient client = newClient();
+        respond(OK, "hello", CACHE_CONTROL, "max-age=10", ETAG, "\"v1\"");
+        send(client, client.get("/foo"));
+
+        executor.advanceTimeBy(11, SECONDS);
+        respond(OK, "world", CACHE_CONTROL, "max-age=10", ETAG, "\"v2\"");
+        assertResponse(send(client, client.get("/foo")), OK, "world");
+        assertResponse(send(client, client.get("/foo")), OK, "world");
+        assertThat(ifNoneMatch, contains("null", "\"v1\""));
+    }
+
+    @Test
+    void noCacheResponseIsAlwaysRevalidated() throws Exception {
+        StreamingHttpClient client = newClient();
+        respond(OK, "hello", CACHE_CONTROL, "no-cache, max-age=60", ETAG, "\"v1\"");
+        send(client, client.get("/foo"));
+        respond(NOT_MODIFIED, "", ETAG, "\"v1\"");
+        assertResponse(send(client, client.get("/foo")), OK, "hello");
+        assertThat(ifNoneMatch, contains("null", "\"v1\""));
+    }
+
+    @Test
+    void requestDirectivesAreHonored() throws Exception {
+        StreamingHttpClient client = newClient();
+        respond(OK, "hello", CACHE_CONTROL, "max-age=60", ETAG, "\"v1\"");
+        send(client, client.get("/foo"));
+
+        respond(NOT_MODIFIED, "", ETAG, "\"v1\"");
+        assertResponse(send(client, client.get("/foo").setHeader(CACHE_CONTROL, "no-cache")), OK, "hello");
+
+        executor.advanceTimeBy(6, SECONDS);
+        respond(NOT_MODIFIED, "", ETAG, "\"v1\"");
+        assertResponse(send(client, client.get("/foo").setHeader(CACHE_CONTROL, "max-age=5")), OK, "hello");
+        assertThat(ifNoneMatch, contains("null", "\"v1\"", "\"v1\""));
+
+        respond(OK, "world");
+        assertResponse(send(client, client.get("/foo").setHeader(CACHE_CONTROL, "no-store")), OK, "world");
+        assertThat(ifNoneMatch, hasSize(4));
+    }
+
+    @Test
+    void responsesWhichMustNotBeStored() throws Exception {
+        assertNotStored(OK, CACHE_CONTROL, "no-store, max-age=60");
+        assertNotStored(OK);
+        assertNotStored(INTERNAL_SERVER_ERROR, CACHE_CONTROL, "max-age=60");
+        assertNotStored(OK, CACHE_CONTROL, "max-age=60", VARY, "*");
+    }
+
+    @Test
+    void responseToAuthorizedRequestRequiresExplicitPermission() throws Exception {
+        StreamingHttpClient client = newClient();
+        respond(OK, "private", CACHE_CONTROL, "max-age=60");
+        send(client, client.get("/foo").setHeader(AUTHORIZATION, "secret"));
+        respond(OK, "public", CACHE_CONTROL, "public, max-age=60");
+        send(client, client.get("/foo").setHeader(AUTHORIZATION, "secret"));
+        assertResponse(send(client, client.get("/foo").setHeader(AUTHORIZATION, "secret")), OK, "public");
+        assertThat(ifNoneMatch, hasSize(2));
+    }
+
+    @Test
+    void varyHeadersSelectStoredResponse() throws Exception {
+        StreamingHttpClient client = newClient();
+        respond(OK, "text", CACHE_CONTROL, "max-age=60", VARY, "Accept");
+        send(client, client.get("/foo").setHeader(ACCEPT, "text/plain"));
+        assertResponse(send(client, client.get("/foo").setHeader(ACCEPT, "text/plain")), OK, "text");
+
+        respond(OK, "json", CACHE_CONTROL, "max-age=60", VARY, "Accept");
+        assertResponse(send(client, client.get("/foo").setHeader(ACCEPT, "application/json")), OK, "json");
+        assertResponse(send(client, client.get("/foo").setHeader(ACCEPT, "application/json")), OK, "json");
+        assertThat(ifNoneMatch, hasSize(2));
+    }
+
+    @Test
+    void unsafeRequestInvalidatesStoredResponse() throws Exception {
+        StreamingHttpClient client = newClient();
+        respond(OK, "hello", CACHE_CONTROL, "max-age=60");
+        send(client, client.get("/foo"));
+        respond(OK, "");
+        send(client, client.post("/foo"));
+        respond(OK, "world", CACHE_CONTROL, "max-age=60");
+        assertResponse(send(client, client.get("/foo")), OK, "world");
+        assertThat(ifNoneMatch, hasSize(3));
+    }
+
+    @Test
+    void largePayloadBodyIsNotStored() throws Exception {
+        StreamingHttpClient client = newClient(new HttpResponseCacheRequesterFilter.Builder().maxEntrySize(4));
+        respond(OK, "hello", CACHE_CONTROL, "max-age=60");
+        assertResponse(send(client, client.get("/foo")), OK, "hello");
+        respond(OK, "world", CACHE_CONTROL, "max-age=60");
+        assertResponse(send(client, client.get("/foo")), OK, "world");
+        assertThat(ifNoneMatch, hasSize(2));
+    }
+
+    private void assertNotStored(final HttpResponseStatus status, final CharSequence... headers) throws Exception {
+        StreamingHttpClient client = newClient();
+        ifNoneMatch.clear();
+        respond(status, "hello", headers);
+        send(client, client.get("/foo"));
+        respond(OK, "world");
+        assertResponse(send(client, client.get("/foo")), OK, "world");
+        assertThat(ifNoneMatch, hasSize(2));
+    }
+
+    private void respond(final HttpResponseStatus status, final String payload, final CharSequence... headers) {
+        final StreamingHttpResponse response = reqRespFactory.newResponse(status);
+        for (int i = 0; i < headers.length; i += 2) {
+            response.headers().set(headers[i], headers[i + 1]);
+        }
+        if (!payload.isEmpty()) {
+            response.payloadBody(Publisher.from(DEFAULT_ALLOCATOR.fromAscii(payload)));
+        }
+        responses.add(response);
+    }
+
+    private static HttpResponse send(final StreamingHttpClient client,
+                                     final StreamingHttpRequest request) throws Exception {
+        return client.request(request).flatMap(StreamingHttpResponse::toResponse).toFuture().get();
+    }
+
+    private static void assertResponse(final HttpResponse response, final HttpResponseStatus status,
+                                       final String payload) {
+        assertThat(response.status(), is(status));
+        assertThat(response.payloadBody().toString(US_ASCII), is(payload));
+    }
+}
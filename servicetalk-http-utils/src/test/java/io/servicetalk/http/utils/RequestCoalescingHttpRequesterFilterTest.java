@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.utils;
+
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.concurrent.api.TestSingle;
+import io.servicetalk.http.api.DefaultHttpHeadersFactory;
+import io.servicetalk.http.api.DefaultStreamingHttpRequestResponseFactory;
+import io.servicetalk.http.api.HttpExecutionContext;
+import io.servicetalk.http.api.HttpResponse;
+import io.servicetalk.http.api.StreamingHttpClient;
+import io.servicetalk.http.api.StreamingHttpClientFilter;
+import io.servicetalk.http.api.StreamingHttpClientFilterFactory;
+import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpRequestResponseFactory;
+import io.servicetalk.http.api.StreamingHttpRequester;
+import io.servicetalk.http.api.StreamingHttpResponse;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.concurrent.internal.DeliberateException.DELIBERATE_EXCEPTION;
+import static io.servicetalk.http.api.FilterFactoryUtils.appendClientFilterFactory;
+import static io.servicetalk.http.api.HttpExecutionStrategies.offloadNone;
+import static io.servicetalk.http.api.HttpHeaderNames.ACCEPT;
+import static io.servicetalk.http.api.HttpHeaderNames.CONTENT_LENGTH;
+import static io.servicetalk.http.api.HttpProtocolVersion.HTTP_1_1;
+import static io.servicetalk.http.api.HttpResponseStatus.OK;
+import static io.servicetalk.http.api.TestStreamingHttpClient.from;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RequestCoalescingHttpRequesterFilterTest {
+
+    private static final StreamingHttpRequestResponseFactory reqRespFactory =
+            new DefaultStreamingHttpRequestResponseFactory(DEFAULT_ALLOCATOR, DefaultHttpHeadersFactory.INSTANCE,
+                    HTTP_1_1);
+
+    private final List<TestSingle<StreamingHttpResponse>> upstream = new CopyOnWriteArrayList<>();
+
+    private StreamingHttpClient newClient(RequestCoalescingHttpRequesterFilter.Builder builder) {
+        HttpExecutionContext executionContext = mock(HttpExecutionContext.class);
+        when(executionContext.executionStrategy()).thenReturn(offloadNone());
+        StreamingHttpClientFilterFactory backend = client -> new StreamingHttpClientFilter(client) {
+            @Override
+            protected Single<StreamingHttpResponse> request(final StreamingHttpRequester delegate,
+                                                            final StreamingHttpRequest request) {
+                TestSingle<StreamingHttpResponse> response = new TestSingle<>();
+                upstream.add(response);
+                return response;
+            }
+        };
+        return from(reqRespFactory, executionContext,
+                appendClientFilterFactory(builder.build(), backend));
+    }
+
+    @Test
+    void identicalConcurrentRequestsAreCoalesced() throws Exception {
+        StreamingHttpClient client = newClient(new RequestCoalescingHttpRequesterFilter.Builder());
+        Future<HttpResponse> first = aggregated(client, client.get("/foo?bar=baz"));
+        Future<HttpResponse> second = aggregated(client, client.get("/foo?bar=baz"));
+        assertThat(upstream, hasSize(1));
+
+        upstream.get(0).onSuccess(okResponse("hello"));
+        assertPayload(first, "hello");
+        assertPayload(second, "hello");
+
+        // The response is not cached.
+        client.request(client.get("/foo?bar=baz")).toFuture();
+        assertThat(upstream, hasSize(2));
+    }
+
+    @Test
+    void differentRequestsAreNotCoalesced() {
+        StreamingHttpClient client = newClient(new RequestCoalescingHttpRequesterFilter.Builder());
+        client.request(client.get("/foo")).toFuture();
+        client.request(client.get("/bar")).toFuture();
+        client.request(client.get("/foo?bar=baz")).toFuture();
+        client.request(client.head("/foo")).toFuture();
+        client.request(client.get("/foo").setHeader(ACCEPT, "text/plain")).toFuture();
+        client.request(client.get("/foo").setHeader(ACCEPT, "application/json")).toFuture();
+        // Headers which don't select a representation of the resource are ignored.
+        client.request(client.get("/foo").setHeader("x-other", "value")).toFuture();
+        assertThat(upstream, hasSize(6));
+    }
+
+    @Test
+    void nonMatchingRequestsAreNotCoalesced() {
+        StreamingHttpClient client = newClient(new RequestCoalescingHttpRequesterFilter.Builder());
+        client.request(client.post("/foo")).toFuture();
+        client.request(client.post("/foo")).toFuture();
+        assertThat(upstream, hasSize(2));
+    }
+
+    @Test
+    void errorIsPropagatedToAllRequests() {
+        StreamingHttpClient client = newClient(new RequestCoalescingHttpRequesterFilter.Builder());
+        Future<StreamingHttpResponse> first = client.request(client.get("/foo")).toFuture();
+        Future<StreamingHttpResponse> second = client.request(client.get("/foo")).toFuture();
+        upstream.get(0).onError(DELIBERATE_EXCEPTION);
+        assertThat(assertThrows(ExecutionException.class, first::get).getCause(),
+                is(sameInstance(DELIBERATE_EXCEPTION)));
+        assertThat(assertThrows(ExecutionException.class, second::get).getCause(),
+                is(sameInstance(DELIBERATE_EXCEPTION)));
+    }
+
+    @Test
+    void largeContentLengthIsNotShared() throws Exception {
+        StreamingHttpClient client = newClient(new RequestCoalescingHttpRequesterFilter.Builder().maxPayloadSize(4));
+        Future<HttpResponse> first = aggregated(client, client.get("/foo"));
+        Future<HttpResponse> second = aggregated(client, client.get("/foo"));
+        StreamingHttpResponse large = okResponse("hello");
+        large.headers().set(CONTENT_LENGTH, "5");
+        upstream.get(0).onSuccess(large);
+
+        // The response is returned to one request, the other request is sent on its own.
+        assertThat(upstream, hasSize(2));
+        upstream.get(1).onSuccess(okResponse("hello"));
+        assertPayload(first, "hello");
+        assertPayload(second, "hello");
+    }
+
+    @Test
+    void payloadExceedingLimitIsNotShared() throws Exception {
+        StreamingHttpClient client = newClient(new RequestCoalescingHttpRequesterFilter.Builder().maxPayloadSize(4));
+        Future<HttpResponse> first = aggregated(client, client.get("/foo"));
+        Future<HttpResponse> second = aggregated(client, client.get("/foo"));
+        upstream.get(0).onSuccess(okResponse("hello"));
+
+        // The first request keeps the response, only the waiting request is sent on its own.
+        assertPayload(first, "hello");
+        assertThat(upstream, hasSize(2));
+        upstream.get(1).onSuccess(okResponse("world"));
+        assertPayload(second, "world");
+    }
+
+    @Test
+    void singleRequestIsSentOnce() throws Exception {
+        StreamingHttpClient client = newClient(new RequestCoalescingHttpRequesterFilter.Builder().maxPayloadSize(4));
+        Future<HttpResponse> response = aggregated(client, client.get("/foo"));
+        upstream.get(0).onSuccess(okResponse("hello"));
+        assertPayload(response, "hello");
+        assertThat(upstream, hasSize(1));
+    }
+
+    private static Future<HttpResponse> aggregated(final StreamingHttpClient client,
+                                                   final StreamingHttpRequest request) {
+        return client.request(request).flatMap(StreamingHttpResponse::toResponse).toFuture();
+    }
+
+    private static StreamingHttpResponse okResponse(final String payload) {
+        return reqRespFactory.ok().payloadBody(Publisher.from(DEFAULT_ALLOCATOR.fromAscii(payload)));
+    }
+
+    private static void assertPayload(final Future<HttpResponse> response, final String payload) throws Exception {
+        assertThat(response.get().status(), is(OK));
+        assertThat(response.get().payloadBody().toString(US_ASCII), is(payload));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class SegmentedLruCacheTest {
+
+    private final SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(10, String::length);
+
+    @Test
+    void evictsLeastRecentlyUsedByWeight() {
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.put("c", "cccc");
+        assertThat(cache.get("a"), is(nullValue()));
+        assertThat(cache.get("b"), is("bbbb"));
+        assertThat(cache.get("c"), is("cccc"));
+        assertThat(cache.weight(), is(8L));
+    }
+
+    @Test
+    void frequentlyReadEntriesSurviveScans() {
+        cache.put("hot", "hhhh");
+        assertThat(cache.get("hot"), is("hhhh"));
+        for (int i = 0; i < 10; i++) {
+            cache.put("scan" + i, "ss");
+        }
+        assertThat(cache.get("hot"), is("hhhh"));
+        assertThat(cache.get("scan0"), is(nullValue()));
+        assertThat(cache.get("scan9"), is("ss"));
+    }
+
+    @Test
+    void protectedSegmentIsBounded() {
+        cache.put("a", "aaaa");
+        cache.get("a");
+        cache.put("b", "bb");
+        cache.get("b");
+        cache.put("c", "ccc");
+        // Exceeds the weight of the protected segment, the least recently used protected entry is demoted.
+        cache.get("c");
+        assertThat(cache.weight(), is(9L));
+        cache.put("d", "dd");
+        assertThat(cache.get("a"), is(nullValue()));
+        assertThat(cache.get("b"), is("bb"));
+        assertThat(cache.get("c"), is("ccc"));
+    }
+
+    @Test
+    void replacesAndRemovesEntries() {
+        cache.put("a", "aaaa");
+        cache.put("a", "aa");
+        assertThat(cache.get("a"), is("aa"));
+        assertThat(cache.weight(), is(2L));
+        cache.remove("a");
+        assertThat(cache.get("a"), is(nullValue()));
+        assertThat(cache.weight(), is(0L));
+    }
+
+    @Test
+    void entriesHeavierThanTheCacheAreNotStored() {
+        cache.put("a", "aaaaaaaaaaa");
+        assertThat(cache.get("a"), is(nullValue()));
+        assertThat(cache.weight(), is(0L));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2024 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2024, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import io.servicetalk.client.api.ServiceDiscovererEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.Collection;
 import javax.annotation.Nullable;
 
@@ -153,6 +154,36 @@ final class CatchAllLoadBalancerObserver implements LoadBalancerObserver {
                         delegate, unexpected);
             }
         }
+
+        @Override
+        public void onConnectionWaitQueued(int queueDepth) {
+            try {
+                delegate.onConnectionWaitQueued(queueDepth);
+            } catch (Throwable unexpected) {
+                LOGGER.warn("Unexpected exception from {} while reporting an onConnectionWaitQueued event",
+                        delegate, unexpected);
+            }
+        }
+
+        @Override
+        public void onConnectionWaitServed(int queueDepth, Duration waitTime) {
+            try {
+                delegate.onConnectionWaitServed(queueDepth, waitTime);
+            } catch (Throwable unexpected) {
+                LOGGER.warn("Unexpected exception from {} while reporting an onConnectionWaitServed event",
+                        delegate, unexpected);
+            }
+        }
+
+        @Override
+        public void onConnectionWaitTimedOut(int queueDepth, Duration waitTime) {
+            try {
+                delegate.onConnectionWaitTimedOut(queueDepth, waitTime);
+            } catch (Throwable unexpected) {
+                LOGGER.warn("Unexpected exception from {} while reporting an onConnectionWaitTimedOut event",
+                        delegate, unexpected);
+            }
+        }
     }
 
     static LoadBalancerObserver wrap(LoadBalancerObserver observer) {
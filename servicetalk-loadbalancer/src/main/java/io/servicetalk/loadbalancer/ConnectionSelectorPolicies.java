@@ -1,5 +1,5 @@
 /*
- * Copyright © 2024 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2024, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 package io.servicetalk.loadbalancer;
 
 import io.servicetalk.client.api.LoadBalancedConnection;
+import io.servicetalk.transport.api.IoExecutor;
+
+import java.util.function.Function;
 
 /**
  * A factory to create different {@link ConnectionSelectorPolicy} variants.
@@ -139,4 +142,29 @@ public final class ConnectionSelectorPolicies {
                                                                                      final boolean forceCorePool) {
         return P2CConnectionSelector.factory(maxEffort, corePoolSize, forceCorePool);
     }
+
+    /**
+     * A {@link ConnectionSelectorPolicy} that partitions the connections of each host by the event loop they run on
+     * and prefers the connections of the calling event loop.
+     * <p>
+     * Connections are grouped into one shard per {@link IoExecutor} returned by {@code ioExecutorFunction}, which is
+     * expected to be the single event loop of the connection, e.g.
+     * {@code c -> c.connectionContext().executionContext().ioExecutor()} for HTTP connections. When called from an
+     * event loop ({@link IoExecutor#isCurrentThreadEventLoop()}), the connections of its shard are searched first, in
+     * the order they were created, so requests are written on the thread which already runs the connection and
+     * concurrent callers don't contend on the same connections. Only if none of them can be selected are the
+     * connections of other shards searched using the {@code delegate} policy. Callers which are not an event loop of
+     * any connection use the {@code delegate} policy directly. This policy doesn't influence which event loop runs a
+     * new connection, the connection factory still picks it.
+     *
+     * @param delegate the {@link ConnectionSelectorPolicy} used to select connections from other shards.
+     * @param ioExecutorFunction returns the {@link IoExecutor} of the event loop of a connection.
+     * @param <C> the concrete type of the {@link LoadBalancedConnection}
+     * @return the configured {@link ConnectionSelectorPolicy}.
+     */
+    public static <C extends LoadBalancedConnection> ConnectionSelectorPolicy<C> eventLoopAffine(
+            final ConnectionSelectorPolicy<C> delegate,
+            final Function<? super C, ? extends IoExecutor> ioExecutorFunction) {
+        return EventLoopAffineConnectionSelector.factory(delegate, ioExecutorFunction);
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.loadbalancer;
+
+import io.servicetalk.concurrent.api.Executor;
+
+import java.time.Duration;
+
+import static io.servicetalk.utils.internal.DurationUtils.ensurePositive;
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.time.Duration.ofMillis;
+import static java.util.Objects.requireNonNull;
+
+final class ConnectionWaitConfig {
+
+    // Connections don't signal when they accept more requests, so waiting selections are re-checked periodically.
+    private static final long MAX_RECHECK_INTERVAL_NANOS = ofMillis(10).toNanos();
+    private static final long MIN_RECHECK_INTERVAL_NANOS = ofMillis(1).toNanos();
+
+    final Executor executor;
+    final int maxWaiters;
+    final Duration maxWaitTime;
+
+    // Computed from the constructor values.
+    final long maxWaitTimeNanos;
+    final long recheckIntervalNanos;
+
+    ConnectionWaitConfig(final Executor executor, final int maxWaiters, final Duration maxWaitTime) {
+        this.executor = requireNonNull(executor, "executor");
+        this.maxWaiters = ensurePositive(maxWaiters, "maxWaiters");
+        this.maxWaitTime = ensurePositive(maxWaitTime, "maxWaitTime");
+        this.maxWaitTimeNanos = maxWaitTime.toNanos();
+        this.recheckIntervalNanos = max(MIN_RECHECK_INTERVAL_NANOS,
+                min(maxWaitTimeNanos / 4, MAX_RECHECK_INTERVAL_NANOS));
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionWaitConfig{" +
+                "executor=" + executor +
+                ", maxWaiters=" + maxWaiters +
+                ", maxWaitTime=" + maxWaitTime +
+                '}';
+    }
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.loadbalancer;
+
+import io.servicetalk.client.api.ConnectionLimitReachedException;
+import io.servicetalk.client.api.ConnectionRejectedException;
+import io.servicetalk.client.api.LoadBalancedConnection;
+import io.servicetalk.concurrent.Cancellable;
+import io.servicetalk.concurrent.SingleSource;
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.context.api.ContextMap;
+import io.servicetalk.loadbalancer.LoadBalancerObserver.HostObserver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.concurrent.api.Processors.newSingleProcessor;
+import static io.servicetalk.concurrent.api.Single.failed;
+import static io.servicetalk.concurrent.api.SourceAdapters.fromSource;
+import static io.servicetalk.concurrent.api.SourceAdapters.toSource;
+import static java.time.Duration.ofNanos;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater;
+
+/**
+ * A bounded FIFO of connection selections waiting for a host that is at its connection capacity.
+ * <p>
+ * Waiters are served from existing connections when a connection is added to the host or periodically, because
+ * connections don't signal when they accept more requests. When a connection closes, the oldest waiter also attempts
+ * to open a new connection, as the close may have released capacity of a connection limit.
+ *
+ * @param <C> the type of connection.
+ */
+abstract class ConnectionWaitQueue<C extends LoadBalancedConnection> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionWaitQueue.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<ConnectionWaitQueue> sizeUpdater =
+            newUpdater(ConnectionWaitQueue.class, "size");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<ConnectionWaitQueue> drainingUpdater =
+            newUpdater(ConnectionWaitQueue.class, "draining");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<ConnectionWaitQueue> recheckScheduledUpdater =
+            newUpdater(ConnectionWaitQueue.class, "recheckScheduled");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<ConnectionWaitQueue> connectingUpdater =
+            newUpdater(ConnectionWaitQueue.class, "connecting");
+
+    private final String description;
+    private final ConnectionWaitConfig config;
+    private final HostObserver hostObserver;
+    private final Deque<Waiter<C>> waiters = new ConcurrentLinkedDeque<>();
+    // Number of waiters that are not yet terminated, including a waiter that is opening a new connection.
+    private volatile int size;
+    private volatile int draining;
+    private volatile int recheckScheduled;
+    private volatile int connecting;
+    private volatile boolean closed;
+
+    ConnectionWaitQueue(final String description, final ConnectionWaitConfig config,
+                        final HostObserver hostObserver) {
+        this.description = requireNonNull(description, "description");
+        this.config = requireNonNull(config, "config");
+        this.hostObserver = requireNonNull(hostObserver, "hostObserver");
+    }
+
+    /**
+     * Select a connection from the existing connections of the host.
+     *
+     * @param selector the selector to use.
+     * @param context the context of the selection.
+     * @return the selected connection, or {@code null} if none of the connections was selected.
+     */
+    @Nullable
+    abstract C pickConnection(Predicate<C> selector, @Nullable ContextMap context);
+
+    /**
+     * Open a new connection to the host.
+     *
+     * @param selector the selector to use for the new connection.
+     * @param context the context of the selection.
+     * @return the new connection.
+     */
+    abstract Single<C> newConnection(Predicate<C> selector, @Nullable ContextMap context);
+
+    /**
+     * Whether the passed error means that the host is at its connection capacity and the selection can wait.
+     *
+     * @param cause the error of a connection selection.
+     * @return {@code true} if the selection can wait for capacity.
+     */
+    static boolean isCapacityError(final Throwable cause) {
+        return cause instanceof ConnectionLimitReachedException || cause instanceof ConnectionRejectedException;
+    }
+
+    /**
+     * Queue a selection which failed with the passed capacity error.
+     *
+     * @param selector the selector of the failed selection.
+     * @param context the context of the failed selection.
+     * @param cause the error of the failed selection, which is propagated if the selection can't wait.
+     * @return a {@link Single} that completes with a connection once the selection is served.
+     */
+    final Single<C> enqueue(final Predicate<C> selector, @Nullable final ContextMap context, final Throwable cause) {
+        int depth;
+        do {
+            depth = size;
+            if (closed || depth >= config.maxWaiters) {
+                return failed(cause);
+            }
+        } while (!sizeUpdater.compareAndSet(this, depth, depth + 1));
+
+        final Waiter<C> waiter = new Waiter<>(selector, context, cause,
+                config.executor.currentTime(NANOSECONDS), config.maxWaitTimeNanos);
+        waiters.addLast(waiter);
+        hostObserver.onConnectionWaitQueued(depth + 1);
+        if (closed) {
+            // Raced with close(), which may not have seen this waiter.
+            failAll();
+        } else {
+            scheduleRecheck();
+            // Capacity may have been released between the failed selection and queueing.
+            drain();
+        }
+        return fromSource(waiter.processor).<C>liftSync(subscriber -> new SingleSource.Subscriber<C>() {
+            @Override
+            public void onSubscribe(final Cancellable cancellable) {
+                subscriber.onSubscribe(() -> {
+                    if (terminate(waiter) >= 0) {
+                        waiters.remove(waiter);
+                        cancellable.cancel();
+                    }
+                    // Otherwise, a connection may already be selected for the waiter. It is delivered like the
+                    // result of a selection which completes concurrently with cancel, the caller is responsible for
+                    // releasing it.
+                });
+            }
+
+            @Override
+            public void onSuccess(@Nullable final C result) {
+                subscriber.onSuccess(result);
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                subscriber.onError(t);
+            }
+        }).shareContextOnSubscribe();
+    }
+
+    /**
+     * Notify that a new connection was added to the host.
+     */
+    final void connectionAdded() {
+        if (size > 0) {
+            drain();
+        }
+    }
+
+    /**
+     * Notify that a connection of the host was closed.
+     */
+    final void connectionClosed() {
+        if (size > 0) {
+            drain();
+            connectOldest();
+        }
+    }
+
+    /**
+     * Fail all waiters with the error that made them wait and don't accept new waiters.
+     */
+    final void close() {
+        closed = true;
+        failAll();
+    }
+
+    /**
+     * Get the number of waiting selections.
+     *
+     * @return the number of waiting selections.
+     */
+    final int size() {
+        return size;
+    }
+
+    private void drain() {
+        if (drainingUpdater.getAndIncrement(this) != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            final long now = config.executor.currentTime(NANOSECONDS);
+            for (Iterator<Waiter<C>> it = waiters.iterator(); it.hasNext();) {
+                final Waiter<C> waiter = it.next();
+                if (waiter.isTerminated()) {
+                    it.remove();
+                } else if (now - waiter.deadline >= 0) {
+                    it.remove();
+                    timeout(waiter, terminate(waiter), now);
+                } else if (waiter.tryClaim()) {
+                    final C connection = pickConnection(waiter.selector, waiter.context);
+                    if (connection != null) {
+                        it.remove();
+                        serve(waiter, connection, now);
+                    } else if (!waiter.tryUnclaim()) {
+                        // Cancelled or failed while selecting.
+                        it.remove();
+                        fail(waiter, terminateClaimed(waiter), waiter.cause);
+                    }
+                } else {
+                    it.remove();
+                }
+            }
+            missed = drainingUpdater.addAndGet(this, -missed);
+        } while (missed != 0);
+    }
+
+    private void connectOldest() {
+        if (!connectingUpdater.compareAndSet(this, 0, 1)) {
+            return;
+        }
+        Waiter<C> waiter;
+        do {
+            waiter = waiters.pollFirst();
+        } while (waiter != null && !waiter.tryClaim());
+        if (waiter == null) {
+            connecting = 0;
+            return;
+        }
+        final Waiter<C> connectingWaiter = waiter;
+        toSource(newConnection(connectingWaiter.selector, connectingWaiter.context))
+                .subscribe(new SingleSource.Subscriber<C>() {
+            @Override
+            public void onSubscribe(final Cancellable cancellable) {
+                // The waiter is claimed until the connection attempt terminates, it can't be cancelled meanwhile.
+            }
+
+            @Override
+            public void onSuccess(@Nullable final C connection) {
+                connecting = 0;
+                assert connection != null;
+                serve(connectingWaiter, connection, config.executor.currentTime(NANOSECONDS));
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                connecting = 0;
+                final long now = config.executor.currentTime(NANOSECONDS);
+                if (!isCapacityError(t)) {
+                    fail(connectingWaiter, terminateClaimed(connectingWaiter), t);
+                } else if (now - connectingWaiter.deadline >= 0) {
+                    timeout(connectingWaiter, terminateClaimed(connectingWaiter), now);
+                } else if (connectingWaiter.tryUnclaim()) {
+                    // Still at capacity, keep the position at the head of the queue.
+                    waiters.addFirst(connectingWaiter);
+                    if (closed) {
+                        failAll();
+                    }
+                } else {
+                    // Cancelled or failed while connecting.
+                    fail(connectingWaiter, terminateClaimed(connectingWaiter), connectingWaiter.cause);
+                }
+            }
+        });
+    }
+
+    private void scheduleRecheck() {
+        if (!recheckScheduledUpdater.compareAndSet(this, 0, 1)) {
+            return;
+        }
+        try {
+            config.executor.schedule(this::recheck, config.recheckIntervalNanos, NANOSECONDS);
+        } catch (Throwable cause) {
+            recheckScheduled = 0;
+            LOGGER.warn("{}: failed to schedule a re-check of waiting connection selections, failing them.",
+                    description, cause);
+            failAll();
+        }
+    }
+
+    private void recheck() {
+        recheckScheduled = 0;
+        if (closed) {
+            return;
+        }
+        drain();
+        if (size > 0) {
+            scheduleRecheck();
+        }
+    }
+
+    private void serve(final Waiter<C> waiter, final C connection, final long now) {
+        // The waiter is claimed, it can't be terminated by anyone else once a connection is selected for it.
+        final int depth = terminateClaimed(waiter);
+        hostObserver.onConnectionWaitServed(depth, ofNanos(now - waiter.enqueueTime));
+        waiter.processor.onSuccess(connection);
+    }
+
+    private void timeout(final Waiter<C> waiter, final int depth, final long now) {
+        if (depth >= 0) {
+            hostObserver.onConnectionWaitTimedOut(depth, ofNanos(now - waiter.enqueueTime));
+            LOGGER.debug("{}: connection selection was not served within {}.", description, config.maxWaitTime);
+            waiter.processor.onError(waiter.cause);
+        }
+    }
+
+    private void fail(final Waiter<C> waiter, final int depth, final Throwable cause) {
+        if (depth >= 0) {
+            waiter.processor.onError(cause);
+        }
+    }
+
+    private void failAll() {
+        Waiter<C> waiter;
+        while ((waiter = waiters.pollFirst()) != null) {
+            fail(waiter, terminate(waiter), waiter.cause);
+        }
+    }
+
+    /**
+     * Terminate the passed waiter.
+     *
+     * @return the number of remaining waiters if this call terminated the waiter, {@code -1} if the waiter was
+     * already terminated or is claimed, in which case the claim owner terminates it.
+     */
+    private int terminate(final Waiter<C> waiter) {
+        return waiter.tryTerminate() ? sizeUpdater.decrementAndGet(this) : -1;
+    }
+
+    /**
+     * Terminate the passed waiter, which is claimed by the caller.
+     *
+     * @return the number of remaining waiters.
+     */
+    private int terminateClaimed(final Waiter<C> waiter) {
+        waiter.terminateClaimed();
+        return sizeUpdater.decrementAndGet(this);
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionWaitQueue{" +
+                "description=" + description +
+                ", config=" + config +
+                ", size=" + size +
+                '}';
+    }
+
+    /**
+     * A waiting selection. Selecting a connection may reserve it, so a waiter is claimed while a connection is
+     * selected or opened for it. A claimed waiter can't be terminated by others, they only request termination, which
+     * the claim owner completes if it didn't get a connection.
+     */
+    private static final class Waiter<C> {
+        private static final int WAITING = 0;
+        private static final int CLAIMED = 1;
+        private static final int TERMINATE_REQUESTED = 2;
+        private static final int TERMINATED = 3;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Waiter> stateUpdater = newUpdater(Waiter.class, "state");
+
+        final Predicate<C> selector;
+        @Nullable
+        final ContextMap context;
+        final Throwable cause;
+        final long enqueueTime;
+        final long deadline;
+        final SingleSource.Processor<C, C> processor = newSingleProcessor();
+        private volatile int state;
+
+        Waiter(final Predicate<C> selector, @Nullable final ContextMap context, final Throwable cause,
+               final long enqueueTime, final long maxWaitTimeNanos) {
+            // Don't select connections for a waiter which is being terminated, e.g. cancelled.
+            this.selector = connection -> state == CLAIMED && selector.test(connection);
+            this.context = context;
+            this.cause = cause;
+            this.enqueueTime = enqueueTime;
+            this.deadline = enqueueTime + maxWaitTimeNanos;
+        }
+
+        boolean isTerminated() {
+            return state == TERMINATED;
+        }
+
+        boolean tryClaim() {
+            return stateUpdater.compareAndSet(this, WAITING, CLAIMED);
+        }
+
+        /**
+         * Returns {@code false} if termination was requested while claimed, the caller must terminate the waiter.
+         */
+        boolean tryUnclaim() {
+            return stateUpdater.compareAndSet(this, CLAIMED, WAITING);
+        }
+
+        void terminateClaimed() {
+            final int prev = stateUpdater.getAndSet(this, TERMINATED);
+            assert prev == CLAIMED || prev == TERMINATE_REQUESTED;
+        }
+
+        boolean tryTerminate() {
+            for (;;) {
+                final int current = state;
+                if (current == WAITING) {
+                    if (stateUpdater.compareAndSet(this, WAITING, TERMINATED)) {
+                        return true;
+                    }
+                } else if (current != CLAIMED || stateUpdater.compareAndSet(this, CLAIMED, TERMINATE_REQUESTED)) {
+                    return false;
+                }
+            }
+        }
+    }
+}
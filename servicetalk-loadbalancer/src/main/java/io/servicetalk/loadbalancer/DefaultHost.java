@@ -1,5 +1,5 @@
 /*
- * Copyright © 2021-2023 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2021-2023, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -90,6 +90,8 @@ final class DefaultHost<Addr, C extends LoadBalancedConnection> implements Host<
     private final HealthIndicator<Addr, C> healthIndicator;
     private final LoadBalancerObserver.HostObserver hostObserver;
     private final ConnectionFactory<Addr, ? extends C> connectionFactory;
+    @Nullable
+    private final ConnectionWaitQueue<C> waitQueue;
     private final ListenableAsyncCloseable closeable;
     private volatile ConnState connState = new ConnState(emptyList(), State.ACTIVE, 0, null);
 
@@ -97,6 +99,7 @@ final class DefaultHost<Addr, C extends LoadBalancedConnection> implements Host<
                 final ConnectionSelector<C> connectionSelector,
                 final ConnectionFactory<Addr, ? extends C> connectionFactory,
                 final HostObserver hostObserver, @Nullable final HealthCheckConfig healthCheckConfig,
+                @Nullable final ConnectionWaitConfig connectionWaitConfig,
                 @Nullable final HealthIndicator<Addr, C> healthIndicator) {
         this.lbDescription = requireNonNull(lbDescription, "lbDescription");
         this.address = requireNonNull(address, "address");
@@ -108,6 +111,7 @@ final class DefaultHost<Addr, C extends LoadBalancedConnection> implements Host<
         assert healthCheckConfig == null || healthCheckConfig.failedThreshold > 0;
         this.healthCheckConfig = healthCheckConfig;
         this.hostObserver = requireNonNull(hostObserver, "hostObserver");
+        this.waitQueue = connectionWaitConfig == null ? null : new HostConnectionWaitQueue(connectionWaitConfig);
         this.closeable = toAsyncCloseable(this::doClose);
     }
 
@@ -192,6 +196,18 @@ final class DefaultHost<Addr, C extends LoadBalancedConnection> implements Host<
     @Override
     public Single<C> newConnection(
             Predicate<C> selector, final boolean forceNewConnectionAndReserve, @Nullable final ContextMap context) {
+        final Single<C> newConnection = newConnection0(selector, forceNewConnectionAndReserve, context);
+        final ConnectionWaitQueue<C> waitQueue = this.waitQueue;
+        // A reservation requires a new connection, so only selections which can share a connection can wait.
+        if (waitQueue == null || forceNewConnectionAndReserve) {
+            return newConnection;
+        }
+        return newConnection.onErrorResume(ConnectionWaitQueue::isCapacityError,
+                cause -> waitQueue.enqueue(selector, context, cause));
+    }
+
+    private Single<C> newConnection0(
+            Predicate<C> selector, final boolean forceNewConnectionAndReserve, @Nullable final ContextMap context) {
         return Single.defer(() -> {
             ContextMap actualContext = context;
             if (actualContext == null) {
@@ -351,6 +367,9 @@ final class DefaultHost<Addr, C extends LoadBalancedConnection> implements Host<
 
         LOGGER.trace("{}: added a new connection {} to {} after {} attempt(s).",
                 lbDescription, connection, this, addAttempt);
+        if (waitQueue != null) {
+            waitQueue.connectionAdded();
+        }
         // Instrument the new connection so we prune it on close
         connection.onClose().beforeFinally(() -> {
             int removeAttempt = 0;
@@ -391,6 +410,9 @@ final class DefaultHost<Addr, C extends LoadBalancedConnection> implements Host<
             }
             LOGGER.trace("{}: removed connection {} from {} after {} attempt(s).",
                     lbDescription, connection, this, removeAttempt);
+            if (waitQueue != null) {
+                waitQueue.connectionClosed();
+            }
         }).onErrorComplete(t -> {
             // Use onErrorComplete instead of whenOnError to avoid double logging of an error inside subscribe():
             // SimpleCompletableSubscriber.
@@ -430,6 +452,9 @@ final class DefaultHost<Addr, C extends LoadBalancedConnection> implements Host<
         return Completable.defer(() -> {
             final ConnState oldState = closeConnState();
             cancelIfHealthCheck(oldState);
+            if (waitQueue != null) {
+                waitQueue.close();
+            }
             LOGGER.debug("{}: closing {} connection(s) {}gracefully to the closed address: {}.",
                     lbDescription, oldState.connections.size(), graceful ? "" : "un", address);
             if (oldState.state == State.ACTIVE) {
@@ -472,6 +497,24 @@ final class DefaultHost<Addr, C extends LoadBalancedConnection> implements Host<
                 '}';
     }
 
+    private final class HostConnectionWaitQueue extends ConnectionWaitQueue<C> {
+
+        HostConnectionWaitQueue(final ConnectionWaitConfig config) {
+            super(lbDescription, config, hostObserver);
+        }
+
+        @Nullable
+        @Override
+        C pickConnection(final Predicate<C> selector, @Nullable final ContextMap context) {
+            return DefaultHost.this.pickConnection(selector, context);
+        }
+
+        @Override
+        Single<C> newConnection(final Predicate<C> selector, @Nullable final ContextMap context) {
+            return newConnection0(selector, false, context);
+        }
+    }
+
     private final class HealthCheck extends DelayedCancellable {
         private final Throwable lastError;
 
@@ -490,7 +533,7 @@ final class DefaultHost<Addr, C extends LoadBalancedConnection> implements Host<
                             .apply(0, originalCause)
                             // Remove any state from async context
                             .beforeOnSubscribe(__ -> AsyncContext.clear())
-                            .concat(newConnection(cxn -> true, false, null)
+                            .concat(newConnection0(cxn -> true, false, null)
                                     // There is no risk for StackOverflowError because result of each connection
                                     // attempt will be invoked on IoExecutor as a new task.
                                     .retryWhen(retryWithConstantBackoffDeltaJitter(
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2024 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2024, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,10 +53,8 @@ final class DefaultHostPriorityStrategy implements HostPriorityStrategy {
     private <T extends PrioritizedHost> List<T> rebuildWithPriorities(final List<T> hosts) {
         assert !hosts.isEmpty();
 
-        // TODO: this precludes having an expected amount of traffic favor local zones and the rest routed to
-        //  remote zones intentionally even if all hosts are well.
-        //  https://www.envoyproxy.io/docs/envoy/latest/configuration/upstream/cluster_manager/cluster_runtime
-        //      #zone-aware-load-balancing
+        // This only fails over between priority groups. Intentionally routing an expected amount of traffic to local
+        // zones, and the rest to remote zones, even if all hosts are well is done by ZoneAwareHostPriorityStrategy.
         // Consolidate our hosts into their respective priority groups. Since we're going to use a map we must use
         // and ordered map (in this case a TreeMap) so that we can iterate in order of group priority.
         TreeMap<Integer, Group<T>> groups = new TreeMap<>();
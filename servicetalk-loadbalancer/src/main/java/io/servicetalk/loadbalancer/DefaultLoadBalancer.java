@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018-2023 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018-2023, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -47,6 +47,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.function.Function;
@@ -107,11 +108,13 @@ final class DefaultLoadBalancer<ResolvedAddress, C extends LoadBalancedConnectio
     private final Processor<Object, Object> eventStreamProcessor = newPublisherProcessorDropHeadOnOverflow(32);
     private final Publisher<Object> eventStream;
     private final SequentialCancellable discoveryCancellable = new SequentialCancellable();
-    private final ConnectionSelector<C> connectionSelector;
+    private final ConnectionSelectorPolicy<C> connectionSelectorPolicy;
     private final Subsetter subsetter;
     private final ConnectionFactory<ResolvedAddress, ? extends C> connectionFactory;
     @Nullable
     private final HealthCheckConfig healthCheckConfig;
+    @Nullable
+    private final ConnectionWaitConfig connectionWaitConfig;
     private final HostPriorityStrategy priorityStrategy;
     private final OutlierDetector<ResolvedAddress, C> outlierDetector;
     private final Cancellable outlierDetectorStatusChangeStream;
@@ -135,6 +138,8 @@ final class DefaultLoadBalancer<ResolvedAddress, C extends LoadBalancedConnectio
      * @param healthCheckConfig configuration for the health checking mechanism, which monitors hosts that
      * are unable to have a connection established. Providing {@code null} disables this mechanism (meaning the host
      * continues being eligible for connecting on the request path).
+     * @param connectionWaitConfig configuration for queueing selections when a host is at its connection capacity.
+     * Providing {@code null} disables queueing (meaning such selections fail immediately).
      * @param outlierDetectorFactory outlier detector factory.
      */
     DefaultLoadBalancer(
@@ -148,6 +153,7 @@ final class DefaultLoadBalancer<ResolvedAddress, C extends LoadBalancedConnectio
             final ConnectionFactory<ResolvedAddress, ? extends C> connectionFactory,
             final LoadBalancerObserverFactory loadBalancerObserverFactory,
             @Nullable final HealthCheckConfig healthCheckConfig,
+            @Nullable final ConnectionWaitConfig connectionWaitConfig,
             final Function<String, OutlierDetector<ResolvedAddress, C>> outlierDetectorFactory) {
         this.lbDescription = makeDescription(
                 requireNonNull(id, "id"), requireNonNull(targetResource, "targetResource"));
@@ -155,8 +161,7 @@ final class DefaultLoadBalancer<ResolvedAddress, C extends LoadBalancedConnectio
                 .buildSelector(Collections.emptyList(), lbDescription);
         this.priorityStrategy = requireNonNull(
                 priorityStrategyFactory, "priorityStrategyFactory").apply(lbDescription);
-        this.connectionSelector = requireNonNull(connectionSelectorPolicy,
-                "connectionSelectorPolicy").buildConnectionSelector(lbDescription);
+        this.connectionSelectorPolicy = requireNonNull(connectionSelectorPolicy, "connectionSelectorPolicy");
         this.eventPublisher = requireNonNull(eventPublisher);
         this.eventStream = fromSource(eventStreamProcessor)
                 .replay(1); // Allow for multiple subscribers and provide new subscribers with last signal.
@@ -166,6 +171,7 @@ final class DefaultLoadBalancer<ResolvedAddress, C extends LoadBalancedConnectio
                 requireNonNull(loadBalancerObserverFactory, "loadBalancerObserverFactory")
                 .newObserver(lbDescription));
         this.healthCheckConfig = healthCheckConfig;
+        this.connectionWaitConfig = connectionWaitConfig;
         this.sequentialExecutor = new SequentialExecutor((uncaughtException) ->
                 LOGGER.error("{}: Uncaught exception in {}", this, this.getClass().getSimpleName(), uncaughtException));
         this.asyncCloseable = toAsyncCloseable(this::doClose);
@@ -338,12 +344,15 @@ final class DefaultLoadBalancer<ResolvedAddress, C extends LoadBalancedConnectio
                     nextHosts.add(host);
                     continue;
                 }
-                // Set the new weight and priority of the host.
+                // Set the new weight, priority, and locality of the host.
                 double oldSDWeight = host.serviceDiscoveryWeight();
                 int oldPriority = host.priority();
+                String oldLocality = host.locality();
                 host.serviceDiscoveryWeight(eventWeight(event));
                 host.priority(eventPriority(event));
-                hostSetChanged |= oldPriority != host.priority() || oldSDWeight != host.serviceDiscoveryWeight();
+                host.locality(eventLocality(event));
+                hostSetChanged |= oldPriority != host.priority() || oldSDWeight != host.serviceDiscoveryWeight() ||
+                        !Objects.equals(oldLocality, host.locality());
 
                 if (AVAILABLE.equals(event.status())) {
                     // We only send the ready event if the previous host list was empty.
@@ -421,9 +430,10 @@ final class DefaultLoadBalancer<ResolvedAddress, C extends LoadBalancedConnectio
             final HealthCheckConfig hostHealthCheckConfig =
                     healthCheckConfig == null || healthCheckConfig.failedThreshold < 0 ? null : healthCheckConfig;
             final PrioritizedHostImpl<ResolvedAddress, C> host = new PrioritizedHostImpl<>(
-                    new DefaultHost<>(lbDescription, addr, connectionSelector,
-                    connectionFactory, hostObserver, hostHealthCheckConfig, indicator),
-                    eventWeight(event), eventPriority(event));
+                    new DefaultHost<>(lbDescription, addr,
+                    connectionSelectorPolicy.buildConnectionSelector(lbDescription),
+                    connectionFactory, hostObserver, hostHealthCheckConfig, connectionWaitConfig, indicator),
+                    eventWeight(event), eventPriority(event), eventLocality(event));
             if (indicator != null) {
                 indicator.setHost(host);
             }
@@ -654,6 +664,15 @@ final class DefaultLoadBalancer<ResolvedAddress, C extends LoadBalancedConnectio
         }
     }
 
+    @Nullable
+    private static String eventLocality(ServiceDiscovererEvent<?> event) {
+        if (event instanceof RichServiceDiscovererEvent<?>) {
+            return ((RichServiceDiscovererEvent<?>) event).locality();
+        } else {
+            return null;
+        }
+    }
+
     // Exposed for testing
     List<PrioritizedHostImpl<ResolvedAddress, C>> hosts() {
         return new ArrayList<>(usedHosts);
@@ -665,13 +684,16 @@ final class DefaultLoadBalancer<ResolvedAddress, C extends LoadBalancedConnectio
         private final long randomSeed = ThreadLocalRandom.current().nextLong();
         private final Host<ResolvedAddress, C> delegate;
         private int priority;
+        @Nullable
+        private String locality;
         private double serviceDiscoveryWeight;
         private double loadBalancingWeight;
 
         PrioritizedHostImpl(final Host<ResolvedAddress, C> delegate, final double serviceDiscoveryWeight,
-                            final int priority) {
+                            final int priority, @Nullable final String locality) {
             this.delegate = requireNonNull(delegate, "delegate");
             this.priority = ensureNonNegative(priority, "priority");
+            this.locality = locality;
             this.serviceDiscoveryWeight = serviceDiscoveryWeight;
             this.loadBalancingWeight = serviceDiscoveryWeight;
         }
@@ -694,6 +716,16 @@ final class DefaultLoadBalancer<ResolvedAddress, C extends LoadBalancedConnectio
             this.priority = priority;
         }
 
+        @Nullable
+        @Override
+        public String locality() {
+            return locality;
+        }
+
+        void locality(@Nullable final String locality) {
+            this.locality = locality;
+        }
+
         // Set the intrinsic weight of the host. This is the information from service discovery.
         // When this is set it also overwrites the load balancing weight which must then be recalculated.
         void serviceDiscoveryWeight(final double weight) {
@@ -781,6 +813,7 @@ final class DefaultLoadBalancer<ResolvedAddress, C extends LoadBalancedConnectio
         @Override
         public String toString() {
             return getClass().getSimpleName() + "(priority: " + priority +
+                ", locality: " + locality +
                 ", intrinsicWeight: " + serviceDiscoveryWeight +
                 ", loadBalancedWeight: " + loadBalancingWeight +
                 ", host: " + delegate +
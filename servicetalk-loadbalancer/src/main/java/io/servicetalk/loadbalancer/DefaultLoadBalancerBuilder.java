@@ -1,5 +1,5 @@
 /*
- * Copyright © 2023 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2023, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,10 +24,17 @@ import io.servicetalk.concurrent.api.Executor;
 import io.servicetalk.concurrent.api.Publisher;
 import io.servicetalk.transport.api.ExecutionStrategy;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import javax.annotation.Nullable;
 
+import static io.servicetalk.utils.internal.DurationUtils.ensurePositive;
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 
 final class DefaultLoadBalancerBuilder<ResolvedAddress, C extends LoadBalancedConnection>
@@ -42,6 +49,14 @@ final class DefaultLoadBalancerBuilder<ResolvedAddress, C extends LoadBalancedCo
     private LoadBalancingPolicy<ResolvedAddress, C> loadBalancingPolicy = defaultLoadBalancingPolicy();
     private ConnectionSelectorPolicy<C> connectionSelectorPolicy = defaultConnectionSelectorPolicy();
     private OutlierDetectorConfig outlierDetectorConfig = OutlierDetectorConfig.DEFAULT_CONFIG;
+    private Subsetter subsetter = new RandomSubsetter(Integer.MAX_VALUE);
+    @Nullable
+    private String localZone;
+    private Map<String, Double> callerZoneShares = emptyMap();
+    @Nullable
+    private Function<? super ServiceDiscovererEvent<ResolvedAddress>, String> localityExtractor;
+    private int maxConnectionWaiters;
+    private Duration maxConnectionWaitTime = Duration.ZERO;
 
     // package private constructor so users must funnel through providers in `LoadBalancers`
     DefaultLoadBalancerBuilder(final String id) {
@@ -81,10 +96,38 @@ final class DefaultLoadBalancerBuilder<ResolvedAddress, C extends LoadBalancedCo
         return this;
     }
 
+    @Override
+    public LoadBalancerBuilder<ResolvedAddress, C> deterministicSubsetting(int clientId, int subsetSize) {
+        this.subsetter = new DeterministicSubsetter(clientId, subsetSize);
+        return this;
+    }
+
+    @Override
+    public LoadBalancerBuilder<ResolvedAddress, C> zoneAwareRouting(
+            String localZone, Map<String, Double> callerZoneWeights,
+            Function<? super ServiceDiscovererEvent<ResolvedAddress>, String> localityExtractor) {
+        requireNonNull(localZone, "localZone");
+        // Validate and copy eagerly, so that later changes to the map don't affect built load balancers.
+        this.callerZoneShares = ZoneAwareHostPriorityStrategy.callerShares(localZone,
+                requireNonNull(callerZoneWeights, "callerZoneWeights"));
+        this.localityExtractor = requireNonNull(localityExtractor, "localityExtractor");
+        this.localZone = localZone;
+        return this;
+    }
+
+    @Override
+    public LoadBalancerBuilder<ResolvedAddress, C> connectionWaitQueue(int maxWaitersPerHost, Duration maxWaitTime) {
+        this.maxConnectionWaiters = ensurePositive(maxWaitersPerHost, "maxWaitersPerHost");
+        this.maxConnectionWaitTime = ensurePositive(maxWaitTime, "maxWaitTime");
+        return this;
+    }
+
     @Override
     public LoadBalancerFactory<ResolvedAddress, C> build() {
         return new DefaultLoadBalancerFactory<>(id, loadBalancingPolicy, loadBalancerObserverFactory,
-                connectionSelectorPolicy, outlierDetectorConfig, getExecutor());
+                connectionSelectorPolicy, outlierDetectorConfig, subsetter, localZone, callerZoneShares,
+                localityExtractor, maxConnectionWaiters,
+                maxConnectionWaitTime, getExecutor());
     }
 
     static final class DefaultLoadBalancerFactory<ResolvedAddress, C extends LoadBalancedConnection>
@@ -94,6 +137,14 @@ final class DefaultLoadBalancerBuilder<ResolvedAddress, C extends LoadBalancedCo
         private final LoadBalancingPolicy<ResolvedAddress, C> loadBalancingPolicy;
         private final ConnectionSelectorPolicy<C> connectionSelectorPolicy;
         private final OutlierDetectorConfig outlierDetectorConfig;
+        private final Subsetter subsetter;
+        @Nullable
+        private final String localZone;
+        private final Map<String, Double> callerZoneShares;
+        @Nullable
+        private final Function<? super ServiceDiscovererEvent<ResolvedAddress>, String> localityExtractor;
+        private final int maxConnectionWaiters;
+        private final Duration maxConnectionWaitTime;
         @Nullable
         private final LoadBalancerObserverFactory loadBalancerObserverFactory;
         private final Executor executor;
@@ -102,12 +153,25 @@ final class DefaultLoadBalancerBuilder<ResolvedAddress, C extends LoadBalancedCo
                                    @Nullable final LoadBalancerObserverFactory loadBalancerObserverFactory,
                                    final ConnectionSelectorPolicy<C> connectionSelectorPolicy,
                                    final OutlierDetectorConfig outlierDetectorConfig,
+                                   final Subsetter subsetter,
+                                   @Nullable final String localZone,
+                                   final Map<String, Double> callerZoneShares,
+                                   @Nullable final Function<? super ServiceDiscovererEvent<ResolvedAddress>,
+                                           String> localityExtractor,
+                                   final int maxConnectionWaiters,
+                                   final Duration maxConnectionWaitTime,
                                    final Executor executor) {
             this.id = requireNonNull(id, "id");
             this.loadBalancingPolicy = requireNonNull(loadBalancingPolicy, "loadBalancingPolicy");
             this.loadBalancerObserverFactory = loadBalancerObserverFactory;
             this.outlierDetectorConfig = requireNonNull(outlierDetectorConfig, "outlierDetectorConfig");
             this.connectionSelectorPolicy = requireNonNull(connectionSelectorPolicy, "connectionSelectorPolicy");
+            this.subsetter = requireNonNull(subsetter, "subsetter");
+            this.localZone = localZone;
+            this.callerZoneShares = requireNonNull(callerZoneShares, "callerZoneShares");
+            this.localityExtractor = localityExtractor;
+            this.maxConnectionWaiters = maxConnectionWaiters;
+            this.maxConnectionWaitTime = requireNonNull(maxConnectionWaitTime, "maxConnectionWaitTime");
             this.executor = requireNonNull(executor, "executor");
         }
 
@@ -143,6 +207,13 @@ final class DefaultLoadBalancerBuilder<ResolvedAddress, C extends LoadBalancedCo
                         outlierDetectorConfig.serviceDiscoveryResubscribeInterval(),
                         outlierDetectorConfig.serviceDiscoveryResubscribeJitter());
             }
+            final String localZone = this.localZone;
+            final Function<String, HostPriorityStrategy> priorityStrategyFactory = localZone == null ?
+                    DefaultHostPriorityStrategy::new : lbDescription -> new ZoneAwareHostPriorityStrategy(
+                            new DefaultHostPriorityStrategy(lbDescription), lbDescription, localZone,
+                            callerZoneShares);
+            final ConnectionWaitConfig connectionWaitConfig = maxConnectionWaiters <= 0 ? null :
+                    new ConnectionWaitConfig(executor, maxConnectionWaiters, maxConnectionWaitTime);
             final LoadBalancerObserverFactory loadBalancerObserverFactory = this.loadBalancerObserverFactory != null ?
                     this.loadBalancerObserverFactory : NoopLoadBalancerObserver.factory();
             final Function<String, OutlierDetector<ResolvedAddress, C>> outlierDetectorFactory;
@@ -152,10 +223,15 @@ final class DefaultLoadBalancerBuilder<ResolvedAddress, C extends LoadBalancedCo
                 outlierDetectorFactory = (lbDescription) ->
                     new XdsOutlierDetector<>(executor, outlierDetectorConfig, lbDescription);
             }
-            return new DefaultLoadBalancer<>(id, targetResource, eventPublisher,
-                    DefaultHostPriorityStrategy::new, loadBalancingPolicy, new RandomSubsetter(Integer.MAX_VALUE),
+            final Function<? super ServiceDiscovererEvent<ResolvedAddress>, String> localityExtractor =
+                    this.localityExtractor;
+            final Publisher<? extends Collection<? extends ServiceDiscovererEvent<ResolvedAddress>>> events =
+                    localityExtractor == null ? eventPublisher :
+                            eventPublisher.map(batch -> withLocality(batch, localityExtractor));
+            return new DefaultLoadBalancer<>(id, targetResource, events,
+                    priorityStrategyFactory, loadBalancingPolicy, subsetter,
                     connectionSelectorPolicy, connectionFactory,
-                    loadBalancerObserverFactory, healthCheckConfig, outlierDetectorFactory);
+                    loadBalancerObserverFactory, healthCheckConfig, connectionWaitConfig, outlierDetectorFactory);
         }
 
         @Override
@@ -171,12 +247,28 @@ final class DefaultLoadBalancerBuilder<ResolvedAddress, C extends LoadBalancedCo
                     ", loadBalancingPolicy=" + loadBalancingPolicy +
                     ", connectionSelectorPolicy=" + connectionSelectorPolicy +
                     ", outlierDetectorConfig=" + outlierDetectorConfig +
+                    ", subsetter=" + subsetter +
+                    ", localZone=" + localZone +
+                    ", callerZoneShares=" + callerZoneShares +
+                    ", localityExtractor=" + localityExtractor +
+                    ", maxConnectionWaiters=" + maxConnectionWaiters +
+                    ", maxConnectionWaitTime=" + maxConnectionWaitTime +
                     ", loadBalancerObserverFactory=" + loadBalancerObserverFactory +
                     ", executor=" + executor +
                     '}';
         }
     }
 
+    private static <ResolvedAddress> Collection<RichServiceDiscovererEvent<ResolvedAddress>> withLocality(
+            final Collection<? extends ServiceDiscovererEvent<ResolvedAddress>> events,
+            final Function<? super ServiceDiscovererEvent<ResolvedAddress>, String> localityExtractor) {
+        final List<RichServiceDiscovererEvent<ResolvedAddress>> result = new ArrayList<>(events.size());
+        for (ServiceDiscovererEvent<ResolvedAddress> event : events) {
+            result.add(RichServiceDiscovererEvent.withLocality(event, localityExtractor.apply(event)));
+        }
+        return result;
+    }
+
     private Executor getExecutor() {
         return backgroundExecutor ==
                 null ? RoundRobinLoadBalancerFactory.SharedExecutor.getInstance() : backgroundExecutor;
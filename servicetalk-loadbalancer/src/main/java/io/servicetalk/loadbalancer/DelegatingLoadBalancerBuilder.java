@@ -1,5 +1,5 @@
 /*
- * Copyright © 2024 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2024, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,12 @@ package io.servicetalk.loadbalancer;
 
 import io.servicetalk.client.api.LoadBalancedConnection;
 import io.servicetalk.client.api.LoadBalancerFactory;
+import io.servicetalk.client.api.ServiceDiscovererEvent;
 import io.servicetalk.concurrent.api.Executor;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
 import javax.annotation.Nullable;
 
 import static java.util.Objects.requireNonNull;
@@ -78,6 +82,26 @@ public class DelegatingLoadBalancerBuilder<ResolvedAddress, C extends LoadBalanc
         return this;
     }
 
+    @Override
+    public LoadBalancerBuilder<ResolvedAddress, C> deterministicSubsetting(int clientId, int subsetSize) {
+        delegate = delegate.deterministicSubsetting(clientId, subsetSize);
+        return this;
+    }
+
+    @Override
+    public LoadBalancerBuilder<ResolvedAddress, C> zoneAwareRouting(
+            String localZone, Map<String, Double> callerZoneWeights,
+            Function<? super ServiceDiscovererEvent<ResolvedAddress>, String> localityExtractor) {
+        delegate = delegate.zoneAwareRouting(localZone, callerZoneWeights, localityExtractor);
+        return this;
+    }
+
+    @Override
+    public LoadBalancerBuilder<ResolvedAddress, C> connectionWaitQueue(int maxWaitersPerHost, Duration maxWaitTime) {
+        delegate = delegate.connectionWaitQueue(maxWaitersPerHost, maxWaitTime);
+        return this;
+    }
+
     @Override
     public LoadBalancerBuilder<ResolvedAddress, C> connectionSelectorPolicy(
             ConnectionSelectorPolicy<C> connectionSelectorPolicy) {
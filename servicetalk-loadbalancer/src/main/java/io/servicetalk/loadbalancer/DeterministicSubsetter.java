@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.loadbalancer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.servicetalk.utils.internal.NumberUtils.ensureNonNegative;
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+import static java.util.Comparator.comparingLong;
+
+/**
+ * A {@link Subsetter} that assigns each client a stable subset of hosts based on the client id.
+ * <p>
+ * This follows the deterministic subsetting algorithm described in the
+ * <a href="https://sre.google/sre-book/load-balancing-datacenter/">Google SRE book</a>: clients are grouped into
+ * rounds of {@code hosts / subsetSize} clients, all clients of the same round order hosts the same way and take
+ * disjoint slices of that order. As long as client ids are assigned densely (for example, a task index), every host
+ * is used by almost the same number of clients.
+ * <p>
+ * Instead of shuffling the host list, hosts are ordered by a hash of their address seeded with the round. This way
+ * every client computes the same order independently of the order of service discovery events, and adding or
+ * removing a host shifts slices by at most one position, so each client sees at most one host change as long as the
+ * number of subsets per round stays the same.
+ */
+final class DeterministicSubsetter implements Subsetter {
+
+    private final int clientId;
+    private final int subsetSize;
+
+    DeterministicSubsetter(int clientId, int subsetSize) {
+        this.clientId = ensureNonNegative(clientId, "clientId");
+        this.subsetSize = ensurePositive(subsetSize, "subsetSize");
+    }
+
+    @Override
+    public <T extends PrioritizedHost> List<T> subset(List<T> nextHosts) {
+        final int size = nextHosts.size();
+        if (size <= subsetSize) {
+            return nextHosts;
+        }
+
+        final int subsetCount = size / subsetSize;
+        final long round = clientId / subsetCount;
+        final List<T> ordered = new ArrayList<>(nextHosts);
+        ordered.sort(comparingLong(host -> score(round, host)));
+
+        // Similar to the RandomSubsetter, unhealthy hosts don't count towards the subset size, so we keep taking
+        // hosts (wrapping around if necessary) until we have enough healthy ones or run out of hosts.
+        final int start = (clientId % subsetCount) * subsetSize;
+        final List<T> result = new ArrayList<>(subsetSize);
+        for (int i = 0, healthyCount = 0; i < size && healthyCount < subsetSize; i++) {
+            T host = ordered.get((start + i) % size);
+            result.add(host);
+            if (host.isHealthy()) {
+                ++healthyCount;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{clientId=" + clientId + ", subsetSize=" + subsetSize + '}';
+    }
+
+    private static long score(long round, PrioritizedHost host) {
+        // SplitMix64 finalizer to spread the address hash code, which is often sequential for IP addresses.
+        long z = round * 0x9E3779B97F4A7C15L + host.address().hashCode();
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.loadbalancer;
+
+import io.servicetalk.client.api.LoadBalancedConnection;
+import io.servicetalk.transport.api.IoExecutor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A connection selection strategy that partitions the connections of a host by their event loop and prefers the
+ * connections of the calling event loop.
+ * <p>
+ * Connections are grouped into one shard per {@link IoExecutor} of their event loop. The shards are rebuilt only when
+ * the connection list of the host changes, which is copy-on-write, not on every selection. A caller running on an event
+ * loop ({@link IoExecutor#isCurrentThreadEventLoop()}) searches the connections of its shard in creation order, so
+ * tailing connections can be removed due to idleness. Only if no connection of the local shard is accepted by the
+ * selector are connections of other shards searched, using the delegate {@link ConnectionSelector}.
+ * <p>
+ * The shards are cached for a single connection list, so an instance must be used by a single host.
+ *
+ * @param <C> the concrete type of the {@link LoadBalancedConnection}.
+ */
+final class EventLoopAffineConnectionSelector<C extends LoadBalancedConnection> implements ConnectionSelector<C> {
+
+    private final ConnectionSelector<C> delegate;
+    private final Function<? super C, ? extends IoExecutor> ioExecutorFunction;
+    @Nullable
+    private volatile Shards<C> shards;
+
+    private EventLoopAffineConnectionSelector(final ConnectionSelector<C> delegate,
+                                              final Function<? super C, ? extends IoExecutor> ioExecutorFunction) {
+        this.delegate = requireNonNull(delegate, "delegate");
+        this.ioExecutorFunction = requireNonNull(ioExecutorFunction, "ioExecutorFunction");
+    }
+
+    @Nullable
+    @Override
+    public C select(List<C> connections, Predicate<C> selector) {
+        Shards<C> current = shards;
+        if (current == null || current.connections != connections) {
+            // Concurrent callers may build the shards of the same list more than once, which is harmless.
+            current = new Shards<>(connections, ioExecutorFunction, current);
+            shards = current;
+        }
+        final Shard<C> localShard = current.currentThreadShard();
+        if (localShard == null) {
+            return delegate.select(connections, selector);
+        }
+        final List<C> localConnections = localShard.connections;
+        for (int i = 0; i < localConnections.size(); i++) {
+            final C connection = localConnections.get(i);
+            if (selector.test(connection)) {
+                return connection;
+            }
+        }
+        if (localConnections.size() == connections.size()) {
+            return null;
+        }
+        // The local shard is saturated, steal from other shards.
+        final IoExecutor localIoExecutor = localShard.ioExecutor;
+        return delegate.select(connections, connection ->
+                !localIoExecutor.equals(ioExecutorFunction.apply(connection)) && selector.test(connection));
+    }
+
+    static <C extends LoadBalancedConnection> ConnectionSelectorPolicy<C> factory(
+            final ConnectionSelectorPolicy<C> delegate,
+            final Function<? super C, ? extends IoExecutor> ioExecutorFunction) {
+        return new EventLoopAffineConnectionSelectorFactory<>(delegate, ioExecutorFunction);
+    }
+
+    private static final class Shards<C extends LoadBalancedConnection> {
+        final List<C> connections;
+        private final Shard<C>[] shards;
+
+        @SuppressWarnings("unchecked")
+        Shards(final List<C> connections, final Function<? super C, ? extends IoExecutor> ioExecutorFunction,
+               @Nullable final Shards<C> previous) {
+            this.connections = connections;
+            final Map<IoExecutor, List<C>> byIoExecutor = new LinkedHashMap<>();
+            for (int i = 0; i < connections.size(); i++) {
+                final C connection = connections.get(i);
+                byIoExecutor.computeIfAbsent(ioExecutorFunction.apply(connection), __ -> new ArrayList<>(4))
+                        .add(connection);
+            }
+            shards = new Shard[byIoExecutor.size()];
+            int i = 0;
+            for (Map.Entry<IoExecutor, List<C>> entry : byIoExecutor.entrySet()) {
+                final Shard<C> shard = new Shard<>(entry.getKey(), entry.getValue());
+                if (previous != null) {
+                    shard.thread = previous.threadOf(shard.ioExecutor);
+                }
+                shards[i++] = shard;
+            }
+        }
+
+        @Nullable
+        Shard<C> currentThreadShard() {
+            final Thread currentThread = Thread.currentThread();
+            for (Shard<C> shard : shards) {
+                final Thread thread = shard.thread;
+                if (thread == currentThread) {
+                    return shard;
+                }
+                if (thread == null && shard.ioExecutor.isCurrentThreadEventLoop()) {
+                    shard.thread = currentThread;
+                    return shard;
+                }
+            }
+            return null;
+        }
+
+        @Nullable
+        private Thread threadOf(final IoExecutor ioExecutor) {
+            for (Shard<C> shard : shards) {
+                if (shard.ioExecutor.equals(ioExecutor)) {
+                    return shard.thread;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Shard<C extends LoadBalancedConnection> {
+        final IoExecutor ioExecutor;
+        final List<C> connections;
+        /**
+         * The event loop thread of {@link #ioExecutor}, learned from the first caller running on it. Racy writes are
+         * idempotent, and a stale {@code null} only costs a {@link IoExecutor#isCurrentThreadEventLoop()} call.
+         */
+        @Nullable
+        Thread thread;
+
+        Shard(final IoExecutor ioExecutor, final List<C> connections) {
+            this.ioExecutor = ioExecutor;
+            this.connections = connections;
+        }
+    }
+
+    private static final class EventLoopAffineConnectionSelectorFactory<C extends LoadBalancedConnection>
+            extends ConnectionSelectorPolicy<C> {
+
+        private final ConnectionSelectorPolicy<C> delegate;
+        private final Function<? super C, ? extends IoExecutor> ioExecutorFunction;
+
+        EventLoopAffineConnectionSelectorFactory(final ConnectionSelectorPolicy<C> delegate,
+                                                 final Function<? super C, ? extends IoExecutor> ioExecutorFunction) {
+            this.delegate = requireNonNull(delegate, "delegate");
+            this.ioExecutorFunction = requireNonNull(ioExecutorFunction, "ioExecutorFunction");
+        }
+
+        @Override
+        public ConnectionSelector<C> buildConnectionSelector(String lbDescription) {
+            return new EventLoopAffineConnectionSelector<>(delegate.buildConnectionSelector(lbDescription),
+                    ioExecutorFunction);
+        }
+
+        @Override
+        public String toString() {
+            return EventLoopAffineConnectionSelectorFactory.class.getSimpleName() + "{" +
+                    "delegate=" + delegate +
+                    ", ioExecutorFunction=" + ioExecutorFunction +
+                    '}';
+        }
+    }
+}
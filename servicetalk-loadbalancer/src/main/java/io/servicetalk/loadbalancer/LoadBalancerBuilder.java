@@ -1,5 +1,5 @@
 /*
- * Copyright © 2023 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2023, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,9 @@ import io.servicetalk.concurrent.api.Executor;
 import io.servicetalk.concurrent.api.Publisher;
 import io.servicetalk.context.api.ContextMap;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 
@@ -113,6 +116,74 @@ public interface LoadBalancerBuilder<ResolvedAddress, C extends LoadBalancedConn
      */
     LoadBalancerBuilder<ResolvedAddress, C> backgroundExecutor(Executor backgroundExecutor);
 
+    /**
+     * Restrict each load balancer to a deterministic subset of hosts.
+     * <p>
+     * Hosts are split among clients so that every client uses a stable subset of {@code subsetSize} hosts and every
+     * host is used by approximately the same number of clients. This bounds the number of connections each client
+     * opens in large deployments without the uneven host load of random subsets. When hosts are added or removed,
+     * most clients keep their subset, or change it by a single host. Unhealthy hosts don't count towards the subset
+     * size.
+     * <p>
+     * The balance depends on client ids being assigned densely, for example, from {@code 0} to the number of client
+     * instances minus one. The resolved addresses must have a {@link Object#hashCode()} that is consistent across
+     * client instances, like {@link java.net.InetSocketAddress}.
+     *
+     * @param clientId the non-negative id of this client instance.
+     * @param subsetSize the number of healthy hosts each load balancer should use.
+     * @return {@code this}.
+     */
+    default LoadBalancerBuilder<ResolvedAddress, C> deterministicSubsetting(int clientId, int subsetSize) {
+        throw new UnsupportedOperationException(
+                "LoadBalancerBuilder#deterministicSubsetting(int, int) is not supported by " + getClass());
+    }
+
+    /**
+     * Favor hosts in the locality (for example, the availability zone) of this client.
+     * <p>
+     * Within each priority group, all traffic is routed to hosts in the local zone if the local zone has at least the
+     * share of healthy host capacity that it has of all clients. Otherwise, the local zone receives traffic
+     * proportional to its capacity and the residual traffic is routed to remote zones that have spare capacity. If
+     * all clients use the same {@code callerZoneWeights}, hosts receive an equal load relative to their weight while
+     * cross-zone traffic is minimized. Clusters with less than 6 hosts are not affected, and hosts without a locality
+     * are considered remote.
+     * <p>
+     * The locality of each host is provided by the {@code localityExtractor}, for example from a custom
+     * {@link ServiceDiscovererEvent} type or from the resolved address.
+     *
+     * @param localZone the locality of this client.
+     * @param callerZoneWeights the relative number of clients in each locality, for example the number of client
+     * instances per zone. Must contain a positive weight for {@code localZone}.
+     * @param localityExtractor returns the locality of the host of a {@link ServiceDiscovererEvent}, or {@code null}
+     * if it is unknown.
+     * @return {@code this}.
+     */
+    default LoadBalancerBuilder<ResolvedAddress, C> zoneAwareRouting(
+            String localZone, Map<String, Double> callerZoneWeights,
+            Function<? super ServiceDiscovererEvent<ResolvedAddress>, String> localityExtractor) {
+        throw new UnsupportedOperationException(
+                "LoadBalancerBuilder#zoneAwareRouting(String, Map, Function) is not supported by " + getClass());
+    }
+
+    /**
+     * Queue connection selections for a host instead of failing them when the host is at its connection capacity.
+     * <p>
+     * A host is at capacity when none of its connections accepts more requests and no new connection can be opened,
+     * for example because a {@link io.servicetalk.client.api.LimitingConnectionFactoryFilter} limit is reached. By
+     * default, such selections fail immediately and rely on a retry strategy, which can result in busy retries and
+     * error spikes during short bursts. With a wait queue, up to {@code maxWaitersPerHost} selections wait in FIFO
+     * order for a connection to accept requests or for a connection to close, and fail with the original error if
+     * they are not served within {@code maxWaitTime}.
+     *
+     * @param maxWaitersPerHost the maximum number of selections that can wait for each host.
+     * @param maxWaitTime the maximum amount of time a selection waits for a connection.
+     * @return {@code this}.
+     */
+    default LoadBalancerBuilder<ResolvedAddress, C> connectionWaitQueue(int maxWaitersPerHost, Duration maxWaitTime) {
+        throw new UnsupportedOperationException(
+                "LoadBalancerBuilder#connectionWaitQueue(int, Duration) is not supported by " + getClass());
+    }
+
     /**
      * Builds the {@link LoadBalancerFactory} configured by this builder.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2023 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2023, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import io.servicetalk.client.api.NoActiveHostException;
 import io.servicetalk.client.api.NoAvailableHostException;
 import io.servicetalk.client.api.ServiceDiscovererEvent;
 
+import java.time.Duration;
 import java.util.Collection;
 import javax.annotation.Nullable;
 
@@ -102,6 +103,30 @@ public interface LoadBalancerObserver {
          * Callback for when a {@link io.servicetalk.loadbalancer.Host} transitions from unhealthy to healthy.
          */
         void onHostRevived();
+
+        /**
+         * Callback for when a connection selection is queued because the host is at its connection capacity.
+         * @param queueDepth the number of selections waiting for the host, including this one.
+         */
+        default void onConnectionWaitQueued(int queueDepth) {
+        }
+
+        /**
+         * Callback for when a queued connection selection is served with a connection.
+         * @param queueDepth the number of selections still waiting for the host.
+         * @param waitTime the time the selection spent waiting.
+         */
+        default void onConnectionWaitServed(int queueDepth, Duration waitTime) {
+        }
+
+        /**
+         * Callback for when a queued connection selection fails because it was not served within the maximum wait
+         * time.
+         * @param queueDepth the number of selections still waiting for the host.
+         * @param waitTime the time the selection spent waiting.
+         */
+        default void onConnectionWaitTimedOut(int queueDepth, Duration waitTime) {
+        }
     }
 
     /**
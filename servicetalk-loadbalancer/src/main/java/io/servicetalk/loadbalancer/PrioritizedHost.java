@@ -1,5 +1,5 @@
 /*
- * Copyright © 2024 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2024, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,11 +15,19 @@
  */
 package io.servicetalk.loadbalancer;
 
+import javax.annotation.Nullable;
+
 /**
  * Handles for determining the weight of a host based on it's underlying weight and priority.
  */
 interface PrioritizedHost {
 
+    /**
+     * The address of the host.
+     * @return the address of the host.
+     */
+    Object address();
+
     /**
      * A random seed given to a host on it's initial creation.
      * @return a random seed given to a host on it's initial creation.
@@ -32,6 +40,15 @@ interface PrioritizedHost {
      */
     int priority();
 
+    /**
+     * The locality, for example the availability zone, of the host.
+     * @return the locality of the host, or {@code null} if unknown.
+     */
+    @Nullable
+    default String locality() {
+        return null;
+    }
+
     /**
      * Whether the host is considered healthy or not.
      * @return whether the host is considered healthy or not.
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2024 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2024, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -58,4 +58,9 @@ final class RandomSubsetter implements Subsetter {
         }
         return result;
     }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{randomSubsetSize=" + randomSubsetSize + '}';
+    }
 }
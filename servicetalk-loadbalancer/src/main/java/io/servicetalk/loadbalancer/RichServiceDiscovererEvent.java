@@ -1,5 +1,5 @@
 /*
- * Copyright © 2024 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2024, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,12 +18,13 @@ package io.servicetalk.loadbalancer;
 import io.servicetalk.client.api.ServiceDiscovererEvent;
 
 import java.util.Objects;
+import javax.annotation.Nullable;
 
 import static io.servicetalk.utils.internal.NumberUtils.ensureNonNegative;
 import static java.util.Objects.requireNonNull;
 
 /**
- * A richer {@link ServiceDiscovererEvent} that can carry weight and priority information.
+ * A richer {@link ServiceDiscovererEvent} that can carry weight, priority, and locality information.
  * @param <ResolvedAddress> the type of the resolved address.
  */
 final class RichServiceDiscovererEvent<ResolvedAddress> implements ServiceDiscovererEvent<ResolvedAddress> {
@@ -32,8 +33,15 @@ final class RichServiceDiscovererEvent<ResolvedAddress> implements ServiceDiscov
     private final Status status;
     private final double weight;
     private final int priority;
+    @Nullable
+    private final String locality;
 
     RichServiceDiscovererEvent(ResolvedAddress address, Status status, double weight, int priority) {
+        this(address, status, weight, priority, null);
+    }
+
+    RichServiceDiscovererEvent(ResolvedAddress address, Status status, double weight, int priority,
+                               @Nullable String locality) {
         if (weight < 0d) {
             throw new IllegalArgumentException("Illegal weight: " + weight);
         }
@@ -41,6 +49,25 @@ final class RichServiceDiscovererEvent<ResolvedAddress> implements ServiceDiscov
         this.status = requireNonNull(status, "status");
         this.weight = weight;
         this.priority = ensureNonNegative(priority, "priority");
+        this.locality = locality;
+    }
+
+    /**
+     * Create a {@link RichServiceDiscovererEvent} with the specified locality, keeping the weight and priority of the
+     * provided event if it is already a {@link RichServiceDiscovererEvent}.
+     * @param event the event to copy.
+     * @param locality the locality of the host, or {@code null} if unknown.
+     * @param <ResolvedAddress> the type of the resolved address.
+     * @return a {@link RichServiceDiscovererEvent} with the specified locality.
+     */
+    static <ResolvedAddress> RichServiceDiscovererEvent<ResolvedAddress> withLocality(
+            final ServiceDiscovererEvent<ResolvedAddress> event, @Nullable final String locality) {
+        if (event instanceof RichServiceDiscovererEvent) {
+            final RichServiceDiscovererEvent<ResolvedAddress> rich =
+                    (RichServiceDiscovererEvent<ResolvedAddress>) event;
+            return new RichServiceDiscovererEvent<>(rich.address, rich.status, rich.weight, rich.priority, locality);
+        }
+        return new RichServiceDiscovererEvent<>(event.address(), event.status(), 1d, 0, locality);
     }
 
     @Override
@@ -69,6 +96,15 @@ final class RichServiceDiscovererEvent<ResolvedAddress> implements ServiceDiscov
         return priority;
     }
 
+    /**
+     * Locality, for example the availability zone, this endpoint belongs to.
+     * @return the locality this endpoint belongs to, or {@code null} if unknown.
+     */
+    @Nullable
+    String locality() {
+        return locality;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -79,12 +115,13 @@ final class RichServiceDiscovererEvent<ResolvedAddress> implements ServiceDiscov
         }
         RichServiceDiscovererEvent<?> that = (RichServiceDiscovererEvent<?>) o;
         return Double.compare(that.weight, weight) == 0 && priority == that.priority &&
-                address.equals(that.address) && status.equals(that.status);
+                address.equals(that.address) && status.equals(that.status) &&
+                Objects.equals(locality, that.locality);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(address, status, weight, priority);
+        return Objects.hash(address, status, weight, priority, locality);
     }
 
     @Override
@@ -94,6 +131,7 @@ final class RichServiceDiscovererEvent<ResolvedAddress> implements ServiceDiscov
                 ", status=" + status +
                 ", weight=" + weight +
                 ", priority=" + priority +
+                ", locality=" + locality +
                 '}';
     }
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.loadbalancer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.servicetalk.utils.internal.NumberUtils.ensureNonNegative;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link HostPriorityStrategy} that intentionally favors hosts in the locality of the caller.
+ * <p>
+ * This follows Envoy's
+ * <a href="https://www.envoyproxy.io/docs/envoy/latest/intro/arch_overview/upstream/load_balancing/zone_aware">
+ * zone aware routing</a>: within each priority group, if the local zone has at least the share of the group's healthy
+ * capacity that the local zone has of all callers, all traffic stays in the local zone. Otherwise,
+ * the local zone receives traffic proportional to its capacity and the residual traffic spills to the remote zones
+ * that have more capacity than callers, proportional to the capacity they have left. As long as all callers use the
+ * same caller distribution, every host receives the same load relative to its weight while cross-zone traffic is
+ * minimized.
+ * <p>
+ * Hosts without a locality are considered to be in their own remote zone without callers. Priority failover is
+ * delegated to another {@link HostPriorityStrategy} and applied first.
+ */
+final class ZoneAwareHostPriorityStrategy implements HostPriorityStrategy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZoneAwareHostPriorityStrategy.class);
+
+    // Same as Envoy's default min_cluster_size: zone aware routing is not worth it for small clusters where a
+    // single host would receive all traffic of a zone.
+    static final int DEFAULT_MIN_HOSTS = 6;
+
+    private final HostPriorityStrategy delegate;
+    private final String lbDescription;
+    private final String localZone;
+    private final Map<String, Double> callerShares;
+    private final int minHosts;
+
+    ZoneAwareHostPriorityStrategy(final HostPriorityStrategy delegate, final String lbDescription,
+                                  final String localZone, final Map<String, Double> callerZoneWeights) {
+        this(delegate, lbDescription, localZone, callerZoneWeights, DEFAULT_MIN_HOSTS);
+    }
+
+    // exposed for testing
+    ZoneAwareHostPriorityStrategy(final HostPriorityStrategy delegate, final String lbDescription,
+                                  final String localZone, final Map<String, Double> callerZoneWeights,
+                                  final int minHosts) {
+        this.delegate = requireNonNull(delegate, "delegate");
+        this.lbDescription = requireNonNull(lbDescription, "lbDescription");
+        this.localZone = requireNonNull(localZone, "localZone");
+        this.callerShares = callerShares(localZone, callerZoneWeights);
+        this.minHosts = ensureNonNegative(minHosts, "minHosts");
+    }
+
+    @Override
+    public <T extends PrioritizedHost> List<T> prioritize(final List<T> hosts) {
+        final List<T> prioritized = delegate.prioritize(hosts);
+        if (prioritized.size() < minHosts) {
+            LOGGER.debug("{}: {} hosts is less than the minimum of {} hosts for zone aware routing.",
+                    lbDescription, prioritized.size(), minHosts);
+            return prioritized;
+        }
+
+        // Zones are balanced within each priority group so that the traffic share of each group is preserved.
+        final Map<Integer, List<T>> groups = new LinkedHashMap<>();
+        for (T host : prioritized) {
+            groups.computeIfAbsent(host.priority(), i -> new ArrayList<>()).add(host);
+        }
+        final List<T> results = new ArrayList<>(prioritized.size());
+        for (List<T> group : groups.values()) {
+            balanceZones(group, results);
+        }
+        return results.isEmpty() ? prioritized : results;
+    }
+
+    private <T extends PrioritizedHost> void balanceZones(final List<T> group, final List<T> results) {
+        double groupWeight = 0;
+        double totalCapacity = 0;
+        final Map<String, Double> capacity = new HashMap<>();
+        for (T host : group) {
+            groupWeight += host.weight();
+            if (host.isHealthy()) {
+                totalCapacity += host.weight();
+                capacity.merge(zone(host), host.weight(), Double::sum);
+            }
+        }
+        final double localCapacityShare = capacity.getOrDefault(localZone, 0d) / totalCapacity;
+        if (!(localCapacityShare > 0) || localCapacityShare == 1) {
+            // There is nothing to favor, or no healthy capacity at all.
+            results.addAll(group);
+            return;
+        }
+
+        final Map<String, Double> traffic = new HashMap<>();
+        final double localCallerShare = callerShares.get(localZone);
+        if (localCapacityShare >= localCallerShare) {
+            traffic.put(localZone, 1d);
+        } else {
+            final double localTraffic = localCapacityShare / localCallerShare;
+            traffic.put(localZone, localTraffic);
+            // Spill to the zones which have capacity left after serving their own callers.
+            double totalResidual = 0;
+            final Map<String, Double> residual = new HashMap<>();
+            for (Map.Entry<String, Double> entry : capacity.entrySet()) {
+                if (!entry.getKey().equals(localZone)) {
+                    final double zoneResidual = Math.max(0, entry.getValue() / totalCapacity -
+                            callerShares.getOrDefault(entry.getKey(), 0d));
+                    residual.put(entry.getKey(), zoneResidual);
+                    totalResidual += zoneResidual;
+                }
+            }
+            for (Map.Entry<String, Double> entry : residual.entrySet()) {
+                // If no remote zone has residual capacity (all zones are overloaded), spill proportional to capacity.
+                final double share = totalResidual > 0 ? entry.getValue() / totalResidual :
+                        capacity.get(entry.getKey()) / (totalCapacity * (1 - localCapacityShare));
+                traffic.put(entry.getKey(), (1 - localTraffic) * share);
+            }
+        }
+
+        for (T host : group) {
+            final String zone = zone(host);
+            final double zoneTraffic = traffic.getOrDefault(zone, 0d);
+            // Zones without healthy capacity don't receive traffic.
+            final double hostWeight = zoneTraffic == 0 ? 0 :
+                    host.weight() * groupWeight * zoneTraffic / capacity.get(zone);
+            host.weight(hostWeight);
+            if (hostWeight > 0) {
+                results.add(host);
+            }
+        }
+        LOGGER.debug("{}: Zone aware routing for priority {} from zone {} resulted in traffic shares {}.",
+                lbDescription, group.get(0).priority(), localZone, traffic);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{localZone=" + localZone +
+                ", callerShares=" + callerShares +
+                ", minHosts=" + minHosts +
+                ", delegate=" + delegate +
+                '}';
+    }
+
+    private static String zone(final PrioritizedHost host) {
+        final String locality = host.locality();
+        // Hosts with an unknown locality form their own zone that has no callers.
+        return locality == null ? "" : locality;
+    }
+
+    static Map<String, Double> callerShares(final String localZone, final Map<String, Double> callerZoneWeights) {
+        if (localZone.isEmpty()) {
+            throw new IllegalArgumentException("localZone: '' (expected non-empty)");
+        }
+        double total = 0;
+        for (Map.Entry<String, Double> entry : callerZoneWeights.entrySet()) {
+            final double weight = entry.getValue();
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("callerZoneWeights: " + entry.getKey() + '=' + weight +
+                        " (expected >= 0)");
+            }
+            total += weight;
+        }
+        final Double localWeight = callerZoneWeights.get(localZone);
+        if (localWeight == null || !(localWeight > 0)) {
+            throw new IllegalArgumentException("callerZoneWeights: " + callerZoneWeights +
+                    " (expected a positive weight for the local zone " + localZone + ')');
+        }
+        final Map<String, Double> shares = new HashMap<>();
+        for (Map.Entry<String, Double> entry : callerZoneWeights.entrySet()) {
+            shares.put(entry.getKey(), entry.getValue() / total);
+        }
+        return unmodifiableMap(shares);
+    }
+}
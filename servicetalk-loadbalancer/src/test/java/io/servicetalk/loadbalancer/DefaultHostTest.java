@@ -1,5 +1,5 @@
 /*
- * Copyright © 2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,12 @@
 package io.servicetalk.loadbalancer;
 
 import io.servicetalk.client.api.ConnectionFactory;
+import io.servicetalk.client.api.ConnectionLimitReachedException;
 import io.servicetalk.concurrent.api.ExecutorExtension;
+import io.servicetalk.concurrent.api.ListenableAsyncCloseable;
+import io.servicetalk.concurrent.api.Single;
 import io.servicetalk.concurrent.api.TestExecutor;
+import io.servicetalk.concurrent.test.internal.TestSingleSubscriber;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,20 +29,34 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 
+import static io.servicetalk.concurrent.api.AsyncCloseables.emptyAsyncCloseable;
 import static io.servicetalk.concurrent.api.Single.failed;
 import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.concurrent.api.SourceAdapters.toSource;
 import static io.servicetalk.concurrent.internal.DeliberateException.DELIBERATE_EXCEPTION;
 import static io.servicetalk.loadbalancer.HealthCheckConfig.DEFAULT_HEALTH_CHECK_FAILED_CONNECTIONS_THRESHOLD;
 import static io.servicetalk.loadbalancer.UnhealthyHostConnectionFactory.UNHEALTHY_HOST_EXCEPTION;
+import static java.time.Duration.ofMillis;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -57,6 +75,8 @@ class DefaultHostTest {
     private TestExecutor testExecutor;
     @Nullable
     private HealthCheckConfig healthCheckConfig;
+    @Nullable
+    private ConnectionWaitConfig connectionWaitConfig;
     private DefaultHost<String, TestLoadBalancedConnection> host;
 
     static <T> Predicate<T> any() {
@@ -71,6 +91,7 @@ class DefaultHostTest {
                 succeeded(TestLoadBalancedConnection.mockConnection(address)));
         testExecutor = executor.executor();
         healthCheckConfig = null;
+        connectionWaitConfig = null;
     }
 
     @AfterEach
@@ -84,7 +105,7 @@ class DefaultHostTest {
         host = new DefaultHost<>("lbDescription", DEFAULT_ADDRESS,
                 ConnectionSelectorPolicies.<TestLoadBalancedConnection>linearSearch()
                         .buildConnectionSelector("resource"),
-                connectionFactory, mockHostObserver, healthCheckConfig, healthIndicator);
+                connectionFactory, mockHostObserver, healthCheckConfig, connectionWaitConfig, healthIndicator);
     }
 
     private void buildHost() {
@@ -237,4 +258,153 @@ class DefaultHostTest {
         verify(healthIndicator, times(1)).beforeConnectStart();
         verify(healthIndicator, times(1)).onConnectError(0L, ConnectTracker.ErrorClass.CONNECT_ERROR);
     }
+
+    @Test
+    void waitingSelectionIsServedWhenConnectionAcceptsRequests() throws Exception {
+        final TestLoadBalancedConnection cxn = TestLoadBalancedConnection.mockConnection(DEFAULT_ADDRESS);
+        final Set<TestLoadBalancedConnection> busy = new HashSet<>();
+        buildWaitingHost(1, succeeded(cxn));
+        assertThat(host.newConnection(any(), false, null).toFuture().get(), is(cxn));
+        busy.add(cxn);
+
+        Future<TestLoadBalancedConnection> waiting =
+                host.newConnection(c -> !busy.contains(c), false, null).toFuture();
+        verify(mockHostObserver, times(1)).onConnectionWaitQueued(1);
+        testExecutor.advanceTimeBy(50, MILLISECONDS);
+        assertThat(waiting.isDone(), is(false));
+
+        busy.clear();
+        testExecutor.advanceTimeBy(10, MILLISECONDS);
+        assertThat(waiting.get(), is(cxn));
+        verify(mockHostObserver, times(1)).onConnectionWaitServed(eq(0), isA(Duration.class));
+    }
+
+    @Test
+    void waitingSelectionCancelledDuringSelectionReceivesSelectedConnection() throws Exception {
+        final TestLoadBalancedConnection cxn = TestLoadBalancedConnection.mockConnection(DEFAULT_ADDRESS);
+        buildWaitingHost(1, succeeded(cxn));
+        host.newConnection(any(), false, null).toFuture().get();
+
+        final TestSingleSubscriber<TestLoadBalancedConnection> subscriber = new TestSingleSubscriber<>();
+        final AtomicBoolean busy = new AtomicBoolean(true);
+        toSource(host.newConnection(c -> {
+            if (busy.get()) {
+                return false;
+            }
+            // Cancelled concurrently with the selection, which reserves the connection.
+            subscriber.awaitSubscription().cancel();
+            return true;
+        }, false, null)).subscribe(subscriber);
+        verify(mockHostObserver, times(1)).onConnectionWaitQueued(1);
+
+        busy.set(false);
+        testExecutor.advanceTimeBy(25, MILLISECONDS);
+        // The selected connection is not lost, like for any selection which completes concurrently with cancel.
+        assertThat(subscriber.awaitOnSuccess(), is(cxn));
+        verify(mockHostObserver, times(1)).onConnectionWaitServed(eq(0), isA(Duration.class));
+    }
+
+    @Test
+    void waitingSelectionCancelledDuringRejectedSelectionLeavesQueue() throws Exception {
+        buildWaitingHost(1, succeeded(TestLoadBalancedConnection.mockConnection(DEFAULT_ADDRESS)));
+        host.newConnection(any(), false, null).toFuture().get();
+
+        final TestSingleSubscriber<TestLoadBalancedConnection> subscriber = new TestSingleSubscriber<>();
+        final AtomicBoolean cancel = new AtomicBoolean();
+        toSource(host.newConnection(c -> {
+            if (cancel.get()) {
+                subscriber.awaitSubscription().cancel();
+            }
+            return false;
+        }, false, null)).subscribe(subscriber);
+        verify(mockHostObserver, times(1)).onConnectionWaitQueued(1);
+
+        cancel.set(true);
+        testExecutor.advanceTimeBy(25, MILLISECONDS);
+        assertThat(subscriber.awaitOnError(), instanceOf(ConnectionLimitReachedException.class));
+        // The cancelled selection no longer occupies the queue.
+        assertThat(host.newConnection(c -> false, false, null).toFuture().isDone(), is(false));
+        verify(mockHostObserver, times(2)).onConnectionWaitQueued(1);
+    }
+
+    @Test
+    void waitingSelectionFailsAfterMaxWaitTime() throws Exception {
+        buildWaitingHost(1, succeeded(TestLoadBalancedConnection.mockConnection(DEFAULT_ADDRESS)));
+        host.newConnection(any(), false, null).toFuture().get();
+
+        Future<TestLoadBalancedConnection> waiting = host.newConnection(c -> false, false, null).toFuture();
+        verify(mockHostObserver, times(1)).onConnectionWaitQueued(1);
+        testExecutor.advanceTimeBy(100, MILLISECONDS);
+        ExecutionException e = assertThrows(ExecutionException.class, waiting::get);
+        assertThat(e.getCause(), instanceOf(ConnectionLimitReachedException.class));
+        verify(mockHostObserver, times(1)).onConnectionWaitTimedOut(eq(0), isA(Duration.class));
+    }
+
+    @Test
+    void waitQueueIsBounded() throws Exception {
+        buildWaitingHost(1, succeeded(TestLoadBalancedConnection.mockConnection(DEFAULT_ADDRESS)));
+        host.newConnection(any(), false, null).toFuture().get();
+
+        Future<TestLoadBalancedConnection> waiting = host.newConnection(c -> false, false, null).toFuture();
+        verify(mockHostObserver, times(1)).onConnectionWaitQueued(1);
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> host.newConnection(c -> false, false, null).toFuture().get());
+        assertThat(e.getCause(), instanceOf(ConnectionLimitReachedException.class));
+
+        // Reservations require a new connection and don't wait.
+        e = assertThrows(ExecutionException.class,
+                () -> host.newConnection(any(), true, null).toFuture().get());
+        assertThat(e.getCause(), instanceOf(ConnectionLimitReachedException.class));
+
+        waiting.cancel(true);
+        assertThat(host.newConnection(c -> false, false, null).toFuture().isDone(), is(false));
+        verify(mockHostObserver, times(2)).onConnectionWaitQueued(1);
+    }
+
+    @Test
+    void closedConnectionLetsOldestWaiterConnect() throws Exception {
+        final ListenableAsyncCloseable closeable = emptyAsyncCloseable();
+        final TestLoadBalancedConnection first = TestLoadBalancedConnection.mockConnection(DEFAULT_ADDRESS, closeable);
+        final TestLoadBalancedConnection second = TestLoadBalancedConnection.mockConnection(DEFAULT_ADDRESS);
+        final Set<TestLoadBalancedConnection> busy = new HashSet<>();
+        buildWaitingHost(2, succeeded(first), failed(new ConnectionLimitReachedException("limit")),
+                failed(new ConnectionLimitReachedException("limit")), succeeded(second));
+        host.newConnection(any(), false, null).toFuture().get();
+        busy.add(first);
+
+        // Every connection accepts a single request.
+        Future<TestLoadBalancedConnection> oldest = host.newConnection(busy::add, false, null).toFuture();
+        Future<TestLoadBalancedConnection> newest = host.newConnection(busy::add, false, null).toFuture();
+        verify(mockHostObserver, times(1)).onConnectionWaitQueued(1);
+        verify(mockHostObserver, times(1)).onConnectionWaitQueued(2);
+
+        closeable.closeAsync().toFuture().get();
+        assertThat(oldest.get(), is(second));
+        assertThat(newest.isDone(), is(false));
+        verify(mockHostObserver, times(1)).onConnectionWaitServed(eq(1), isA(Duration.class));
+    }
+
+    @Test
+    void closingHostFailsWaitingSelections() throws Exception {
+        buildWaitingHost(1, succeeded(TestLoadBalancedConnection.mockConnection(DEFAULT_ADDRESS)));
+        host.newConnection(any(), false, null).toFuture().get();
+
+        Future<TestLoadBalancedConnection> waiting = host.newConnection(c -> false, false, null).toFuture();
+        verify(mockHostObserver, times(1)).onConnectionWaitQueued(1);
+        host.closeAsync().toFuture().get();
+        verify(mockHostObserver, times(1)).onActiveHostRemoved(1);
+        ExecutionException e = assertThrows(ExecutionException.class, waiting::get);
+        assertThat(e.getCause(), instanceOf(ConnectionLimitReachedException.class));
+    }
+
+    @SafeVarargs
+    private final void buildWaitingHost(int maxWaiters, Single<TestLoadBalancedConnection>... connections) {
+        final Queue<Single<TestLoadBalancedConnection>> results = new ArrayDeque<>(asList(connections));
+        connectionFactory = new TestConnectionFactory(address -> {
+            Single<TestLoadBalancedConnection> result = results.poll();
+            return result == null ? failed(new ConnectionLimitReachedException("limit")) : result;
+        });
+        connectionWaitConfig = new ConnectionWaitConfig(testExecutor, maxWaiters, ofMillis(100));
+        buildHost();
+    }
 }
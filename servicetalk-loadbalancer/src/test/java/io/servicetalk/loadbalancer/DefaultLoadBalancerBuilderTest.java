@@ -1,5 +1,5 @@
 /*
- * Copyright © 2024 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2024, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,11 +15,33 @@
  */
 package io.servicetalk.loadbalancer;
 
+import io.servicetalk.client.api.DefaultServiceDiscovererEvent;
+import io.servicetalk.client.api.LoadBalancer;
+import io.servicetalk.client.api.ServiceDiscovererEvent;
+import io.servicetalk.concurrent.api.TestPublisher;
+
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.servicetalk.client.api.ServiceDiscovererEvent.Status.AVAILABLE;
+import static io.servicetalk.concurrent.api.BlockingTestUtils.awaitIndefinitely;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.loadbalancer.TestLoadBalancedConnection.mockConnection;
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofMillis;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 final class DefaultLoadBalancerBuilderTest {
 
@@ -38,4 +60,57 @@ final class DefaultLoadBalancerBuilderTest {
         "DefaultLoadBalancerFactory{" +
                 "id='builder_id', "));
     }
+
+    @Test
+    void deterministicSubsetting() {
+        DefaultLoadBalancerBuilder<String, TestLoadBalancedConnection> builder =
+                new DefaultLoadBalancerBuilder<>("builder_id");
+        builder.deterministicSubsetting(3, 5);
+        assertThat(builder.build().toString(),
+                containsString("subsetter=DeterministicSubsetter{clientId=3, subsetSize=5}"));
+    }
+
+    @Test
+    void connectionWaitQueue() {
+        DefaultLoadBalancerBuilder<String, TestLoadBalancedConnection> builder =
+                new DefaultLoadBalancerBuilder<>("builder_id");
+        assertThrows(IllegalArgumentException.class, () -> builder.connectionWaitQueue(0, ofMillis(10)));
+        assertThrows(IllegalArgumentException.class, () -> builder.connectionWaitQueue(10, ZERO));
+        builder.connectionWaitQueue(10, ofMillis(50));
+        assertThat(builder.build().toString(),
+                containsString("maxConnectionWaiters=10, maxConnectionWaitTime=PT0.05S"));
+    }
+
+    @Test
+    void zoneAwareRoutingUsesLocalityOfServiceDiscovererEvents() throws Exception {
+        final Map<String, Double> callerZoneWeights = new HashMap<>();
+        callerZoneWeights.put("zone-a", 1d);
+        callerZoneWeights.put("zone-b", 1d);
+        final TestPublisher<Collection<ServiceDiscovererEvent<String>>> sdPublisher = new TestPublisher<>();
+        final LoadBalancer<TestLoadBalancedConnection> lb =
+                LoadBalancers.<String, TestLoadBalancedConnection>builder("builder_id")
+                        .zoneAwareRouting("zone-a", callerZoneWeights,
+                                event -> event.address().substring(0, event.address().indexOf('/')))
+                        .build()
+                        .newLoadBalancer(sdPublisher,
+                                new TestConnectionFactory(address -> succeeded(mockConnection(address))),
+                                "test-service");
+        try {
+            // Both zones have the same share of the hosts and of the callers, so all traffic stays in zone-a.
+            final List<ServiceDiscovererEvent<String>> events = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                events.add(new DefaultServiceDiscovererEvent<>("zone-a/" + i, AVAILABLE));
+                events.add(new DefaultServiceDiscovererEvent<>("zone-b/" + i, AVAILABLE));
+            }
+            sdPublisher.onNext(events);
+
+            final Set<String> selected = new HashSet<>();
+            for (int i = 0; i < 30; i++) {
+                selected.add(lb.selectConnection(cnx -> true, null).toFuture().get().address());
+            }
+            assertThat(selected, containsInAnyOrder("zone-a/0", "zone-a/1", "zone-a/2"));
+        } finally {
+            awaitIndefinitely(lb.closeAsync());
+        }
+    }
 }
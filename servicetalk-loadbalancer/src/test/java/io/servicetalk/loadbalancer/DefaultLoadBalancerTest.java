@@ -1,5 +1,5 @@
 /*
- * Copyright © 2023 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2023, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -321,6 +321,7 @@ class DefaultLoadBalancerTest extends LoadBalancerTestScaffold {
                 connectionFactory,
                 NoopLoadBalancerObserver.factory(),
                 null,
+                null,
                 factory);
     }
 
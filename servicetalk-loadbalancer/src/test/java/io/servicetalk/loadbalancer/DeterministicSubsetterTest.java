@@ -0,0 +1,224 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeterministicSubsetterTest {
+
+    private final Random random = new Random(0);
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new DeterministicSubsetter(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> new DeterministicSubsetter(0, 0));
+    }
+
+    @Test
+    void desiredSubsetLargerThanHostList() {
+        List<TestHost> hosts = hosts(10);
+        assertThat(new DeterministicSubsetter(3, 10).subset(hosts), sameInstance(hosts));
+    }
+
+    @Test
+    void subsetIsStableAndIndependentOfHostOrder() {
+        List<TestHost> hosts = hosts(100);
+        DeterministicSubsetter subsetter = new DeterministicSubsetter(42, 10);
+        Set<String> subset = addresses(subsetter.subset(hosts));
+        assertThat(subset.size(), equalTo(10));
+
+        for (int i = 0; i < 10; i++) {
+            // Every client creates its own hosts with a different random seed and receives them in a different order.
+            List<TestHost> shuffled = copy(hosts);
+            Collections.shuffle(shuffled, random);
+            assertThat(addresses(subsetter.subset(shuffled)), equalTo(subset));
+        }
+    }
+
+    @Test
+    void clientsOfTheSameRoundGetDisjointSubsets() {
+        List<TestHost> hosts = hosts(100);
+        Set<String> seen = new HashSet<>();
+        // 100 hosts / subsets of 10 => clients 0..9 form the first round and cover all hosts exactly once.
+        for (int clientId = 0; clientId < 10; clientId++) {
+            for (String address : addresses(new DeterministicSubsetter(clientId, 10).subset(hosts))) {
+                assertThat(seen.add(address), equalTo(true));
+            }
+        }
+        assertThat(seen.size(), equalTo(100));
+    }
+
+    @Test
+    void unhealthyHostsDoNotCountTowardsSubsetSize() {
+        List<TestHost> hosts = hosts(100);
+        DeterministicSubsetter subsetter = new DeterministicSubsetter(7, 10);
+        for (TestHost host : subsetter.subset(hosts).subList(0, 3)) {
+            host.healthy = false;
+        }
+        List<TestHost> subset = subsetter.subset(hosts);
+        assertThat(subset.size(), equalTo(13));
+        assertThat(subset.stream().filter(TestHost::isHealthy).count(), equalTo(10L));
+
+        for (TestHost host : hosts) {
+            host.healthy = false;
+        }
+        assertThat(subsetter.subset(hosts).size(), equalTo(hosts.size()));
+    }
+
+    @Test
+    void addingOrRemovingHostChangesAtMostOneHostPerClient() {
+        final int clients = 1000;
+        List<TestHost> hosts = hosts(105);
+        List<TestHost> added = copy(hosts);
+        added.add(new TestHost("10.0.1.1:8080", random.nextLong()));
+        List<TestHost> removed = copy(hosts);
+        removed.remove(random.nextInt(removed.size()));
+
+        for (int clientId = 0; clientId < clients; clientId++) {
+            DeterministicSubsetter subsetter = new DeterministicSubsetter(clientId, 10);
+            Set<String> before = addresses(subsetter.subset(hosts));
+            assertThat(difference(before, addresses(subsetter.subset(added))), lessThanOrEqualTo(1));
+            assertThat(difference(before, addresses(subsetter.subset(removed))), lessThanOrEqualTo(1));
+        }
+    }
+
+    @Test
+    void connectionCountVarianceVersusRandomSubsetter() {
+        final int clients = 1000;
+        final int subsetSize = 10;
+        final List<TestHost> hosts = hosts(133);
+
+        final Map<String, Integer> deterministicCounts = new HashMap<>();
+        final Map<String, Integer> randomCounts = new HashMap<>();
+        for (int clientId = 0; clientId < clients; clientId++) {
+            // Each client creates its own hosts, which get a new random seed.
+            final List<TestHost> clientHosts = copy(hosts);
+            for (TestHost host : new DeterministicSubsetter(clientId, subsetSize).subset(clientHosts)) {
+                deterministicCounts.merge(host.address, 1, Integer::sum);
+            }
+            for (TestHost host : new RandomSubsetter(subsetSize).subset(clientHosts)) {
+                randomCounts.merge(host.address, 1, Integer::sum);
+            }
+        }
+
+        final double deterministicVariance = variance(deterministicCounts, hosts);
+        final double randomVariance = variance(randomCounts, hosts);
+        // Mean is clients * subsetSize / hosts ~= 75 connections per host.
+        assertThat("per-host connection count variance: deterministic=" + deterministicVariance +
+                ", random=" + randomVariance, deterministicVariance, lessThan(randomVariance / 4));
+    }
+
+    private static double variance(Map<String, Integer> counts, List<TestHost> hosts) {
+        double sum = 0;
+        for (TestHost host : hosts) {
+            sum += counts.getOrDefault(host.address, 0);
+        }
+        final double mean = sum / hosts.size();
+        double variance = 0;
+        for (TestHost host : hosts) {
+            final double delta = counts.getOrDefault(host.address, 0) - mean;
+            variance += delta * delta;
+        }
+        return variance / hosts.size();
+    }
+
+    private static int difference(Set<String> before, Set<String> after) {
+        Set<String> difference = new HashSet<>(before);
+        difference.removeAll(after);
+        return difference.size();
+    }
+
+    private static Set<String> addresses(List<TestHost> hosts) {
+        Set<String> addresses = new HashSet<>();
+        for (TestHost host : hosts) {
+            addresses.add(host.address);
+        }
+        return addresses;
+    }
+
+    private List<TestHost> copy(List<TestHost> hosts) {
+        List<TestHost> copy = new ArrayList<>(hosts.size());
+        for (TestHost host : hosts) {
+            copy.add(new TestHost(host.address, random.nextLong()));
+        }
+        return copy;
+    }
+
+    private List<TestHost> hosts(int count) {
+        List<TestHost> hosts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            hosts.add(new TestHost("10.0.0." + i + ":8080", random.nextLong()));
+        }
+        return hosts;
+    }
+
+    private static final class TestHost implements PrioritizedHost {
+
+        private final String address;
+        private final long randomSeed;
+        boolean healthy = true;
+
+        TestHost(final String address, final long randomSeed) {
+            this.address = address;
+            this.randomSeed = randomSeed;
+        }
+
+        @Override
+        public String address() {
+            return address;
+        }
+
+        @Override
+        public long randomSeed() {
+            return randomSeed;
+        }
+
+        @Override
+        public int priority() {
+            return 0;
+        }
+
+        @Override
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        @Override
+        public double weight() {
+            return 1;
+        }
+
+        @Override
+        public void weight(final double weight) {
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.loadbalancer;
+
+import io.servicetalk.concurrent.api.TestExecutor;
+import io.servicetalk.transport.api.IoExecutor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.loadbalancer.TestLoadBalancedConnection.mockConnection;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventLoopAffineConnectionSelectorTest {
+
+    private final Map<TestLoadBalancedConnection, IoExecutor> eventLoops = new IdentityHashMap<>();
+    private final TestIoExecutor eventLoop1 = new TestIoExecutor();
+    private final TestIoExecutor eventLoop2 = new TestIoExecutor();
+    private final ConnectionSelector<TestLoadBalancedConnection> strategy =
+            EventLoopAffineConnectionSelector.factory(LinearSearchConnectionSelector.<TestLoadBalancedConnection>
+                            factory(64), eventLoops::get)
+                    .buildConnectionSelector("resource");
+
+    @Test
+    void prefersConnectionsOfCallerEventLoop() {
+        List<TestLoadBalancedConnection> connections = makeConnections(eventLoop1, eventLoop2, 6);
+        eventLoop2.thread = Thread.currentThread();
+        TestLoadBalancedConnection selected = strategy.select(connections, c -> true);
+        assertSame(connections.get(1), selected);
+        assertSame(eventLoop2, eventLoops.get(strategy.select(connections, c -> c != selected)));
+    }
+
+    @Test
+    void callersOnDifferentEventLoopsUseDifferentConnections() throws Exception {
+        List<TestLoadBalancedConnection> connections = makeConnections(eventLoop1, eventLoop2, 6);
+        eventLoop1.thread = Thread.currentThread();
+        assertSame(connections.get(0), strategy.select(connections, c -> true));
+
+        AtomicReference<TestLoadBalancedConnection> selectedOnEventLoop2 = new AtomicReference<>();
+        Thread thread = new Thread(() -> selectedOnEventLoop2.set(strategy.select(connections, c -> true)));
+        eventLoop2.thread = thread;
+        thread.start();
+        thread.join();
+        assertSame(connections.get(1), selectedOnEventLoop2.get());
+    }
+
+    @Test
+    void stealsFromOtherEventLoopsWhenLocalConnectionsAreSaturated() {
+        List<TestLoadBalancedConnection> connections = makeConnections(eventLoop1, eventLoop2, 20);
+        eventLoop1.thread = Thread.currentThread();
+        Set<TestLoadBalancedConnection> saturated = new HashSet<>();
+        TestLoadBalancedConnection selected;
+        while ((selected = strategy.select(connections, c -> !saturated.contains(c))) != null) {
+            if (saturated.size() < 10) {
+                assertSame(eventLoop1, eventLoops.get(selected), "Local connections must be selected first");
+            }
+            saturated.add(selected);
+        }
+        assertThat("Not all connections were selected", saturated, hasSize(connections.size()));
+    }
+
+    @Test
+    void usesDelegateIfCallerIsNotAnEventLoop() {
+        List<TestLoadBalancedConnection> connections = makeConnections(eventLoop1, eventLoop2, 5);
+        assertEquals(connections.get(0), strategy.select(connections, c -> true));
+        assertEquals(connections.get(1), strategy.select(connections, c -> c != connections.get(0)));
+        assertNull(strategy.select(connections, c -> false));
+    }
+
+    @Test
+    void newConnectionsJoinTheirEventLoop() {
+        List<TestLoadBalancedConnection> connections = makeConnections(eventLoop1, eventLoop1, 2);
+        eventLoop2.thread = Thread.currentThread();
+        assertSame(connections.get(0), strategy.select(connections, c -> true));
+
+        List<TestLoadBalancedConnection> newConnections = new ArrayList<>(connections);
+        newConnections.add(newConnection(eventLoop2));
+        assertSame(newConnections.get(2), strategy.select(newConnections, c -> true));
+    }
+
+    @Test
+    void rejectsNullFunction() {
+        assertThrows(NullPointerException.class, () -> EventLoopAffineConnectionSelector.factory(
+                LinearSearchConnectionSelector.<TestLoadBalancedConnection>factory(64), null));
+    }
+
+    /**
+     * Creates connections which alternate between two event loops, starting with {@code first}.
+     */
+    private List<TestLoadBalancedConnection> makeConnections(IoExecutor first, IoExecutor second, int size) {
+        List<TestLoadBalancedConnection> connections = ConnectionSelectorHelpers.makeConnections(size);
+        for (int i = 0; i < connections.size(); i++) {
+            eventLoops.put(connections.get(i), i % 2 == 0 ? first : second);
+        }
+        return connections;
+    }
+
+    private TestLoadBalancedConnection newConnection(IoExecutor eventLoop) {
+        TestLoadBalancedConnection connection = mockConnection("address-" + eventLoops.size());
+        eventLoops.put(connection, eventLoop);
+        return connection;
+    }
+
+    private static final class TestIoExecutor extends TestExecutor implements IoExecutor {
+        @Nullable
+        volatile Thread thread;
+
+        @Override
+        public boolean isCurrentThreadEventLoop() {
+            return Thread.currentThread() == thread;
+        }
+
+        @Override
+        public boolean isUnixDomainSocketSupported() {
+            return false;
+        }
+
+        @Override
+        public boolean isFileDescriptorSocketAddressSupported() {
+            return false;
+        }
+
+        @Override
+        public boolean isIoThreadSupported() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ZoneAwareHostPriorityStrategyTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    void allTrafficStaysLocalWithEnoughCapacity() {
+        List<TestHost> hosts = hosts(4, 4, 4);
+        List<TestHost> result = strategy("a", callers(1, 1, 1)).prioritize(hosts);
+        assertThat(result.size(), equalTo(4));
+        assertThat(zoneShares(result).get("a"), closeTo(1, DELTA));
+        for (TestHost host : result) {
+            assertThat(host.weight(), closeTo(result.get(0).weight(), DELTA));
+        }
+    }
+
+    @Test
+    void spillsResidualTrafficToZonesWithSpareCapacity() {
+        // Zone a has 10% of the hosts but 30% of the callers: it can serve a third of its own traffic, the rest
+        // goes to zone c which has 40% of the hosts and only 20% of the callers. Zone b is exactly provisioned.
+        List<TestHost> result = strategy("a", callers(30, 50, 20)).prioritize(hosts(2, 10, 8));
+        Map<String, Double> shares = zoneShares(result);
+        assertThat(shares.get("a"), closeTo(1 / 3d, DELTA));
+        assertThat(shares.get("b"), equalTo(null));
+        assertThat(shares.get("c"), closeTo(2 / 3d, DELTA));
+        assertThat(result.size(), equalTo(10));
+    }
+
+    @Test
+    void unhealthyLocalHostsSpillTraffic() {
+        List<TestHost> hosts = hosts(4, 4, 4);
+        hosts.get(0).healthy = false;
+        hosts.get(1).healthy = false;
+        List<TestHost> result = strategy("a", callers(1, 1, 1)).prioritize(hosts);
+        Map<String, Double> shares = zoneShares(result);
+        // Local capacity is 2/10 instead of 1/3.
+        assertThat(shares.get("a"), closeTo(0.6, DELTA));
+        assertThat(shares.get("b"), closeTo(0.2, DELTA));
+        assertThat(shares.get("c"), closeTo(0.2, DELTA));
+    }
+
+    @Test
+    void hostsWithoutLocalityAreRemote() {
+        List<TestHost> hosts = hosts(2, 0, 0);
+        for (int i = 0; i < 6; i++) {
+            hosts.add(new TestHost("unknown-" + i, null));
+        }
+        List<TestHost> result = strategy("a", callers(1, 1, 0)).prioritize(hosts);
+        Map<String, Double> shares = zoneShares(result);
+        assertThat(shares.get("a"), closeTo(0.5, DELTA));
+        assertThat(shares.get(null), closeTo(0.5, DELTA));
+    }
+
+    @Test
+    void smallClustersAreNotAffected() {
+        List<TestHost> hosts = hosts(1, 2, 2);
+        List<TestHost> result = strategy("a", callers(1, 1, 1)).prioritize(hosts);
+        assertThat(result, sameInstance(hosts));
+        for (TestHost host : result) {
+            assertThat(host.weight(), equalTo(1d));
+        }
+    }
+
+    @Test
+    void invalidCallerZoneWeights() {
+        assertThrows(IllegalArgumentException.class, () -> strategy("a", singletonMap("b", 1d)));
+        assertThrows(IllegalArgumentException.class, () -> strategy("a", singletonMap("a", 0d)));
+        assertThrows(IllegalArgumentException.class, () -> strategy("", singletonMap("", 1d)));
+        Map<String, Double> negative = callers(1, 1, 1);
+        negative.put("b", -1d);
+        assertThrows(IllegalArgumentException.class, () -> strategy("a", negative));
+    }
+
+    @Test
+    void crossZoneTrafficAndHostLoadForUnevenZones() {
+        final Map<String, Double> callers = callers(30, 50, 20);
+        final int[] hostsPerZone = {2, 10, 8};
+        final Simulation zoneAware = simulate(callers, hostsPerZone, zone -> strategy(zone, callers));
+        final Simulation baseline = simulate(callers, hostsPerZone, zone -> new DefaultHostPriorityStrategy("test"));
+
+        final String report = "cross-zone traffic: zoneAware=" + zoneAware.crossZoneFraction +
+                ", baseline=" + baseline.crossZoneFraction + "; max/mean host load: zoneAware=" +
+                zoneAware.maxToMeanLoad + ", baseline=" + baseline.maxToMeanLoad;
+        // Zone aware routing only sends zone a's overflow across zones (30% * 2/3), without the baseline's 64%.
+        assertThat(report, zoneAware.crossZoneFraction, closeTo(0.2, 0.01));
+        assertThat(report, baseline.crossZoneFraction, closeTo(0.64, 0.01));
+        // Both keep every host equally loaded.
+        assertThat(report, zoneAware.maxToMeanLoad, lessThan(1.05));
+        assertThat(report, baseline.maxToMeanLoad, lessThan(1.05));
+    }
+
+    private static Simulation simulate(Map<String, Double> callers, int[] hostsPerZone,
+                                       Function<String, HostPriorityStrategy> strategyFactory) {
+        final int requests = 200_000;
+        final Random random = new Random(0);
+        // Every zone of callers computes its own host weights.
+        final Map<String, List<TestHost>> hostsByCallerZone = new HashMap<>();
+        for (String zone : callers.keySet()) {
+            hostsByCallerZone.put(zone, strategyFactory.apply(zone).prioritize(
+                    hosts(hostsPerZone[0], hostsPerZone[1], hostsPerZone[2])));
+        }
+        double totalCallers = 0;
+        for (double weight : callers.values()) {
+            totalCallers += weight;
+        }
+
+        final Map<String, Integer> load = new HashMap<>();
+        int crossZone = 0;
+        for (int i = 0; i < requests; i++) {
+            final String callerZone = pick(callers, totalCallers, random);
+            final TestHost host = pick(hostsByCallerZone.get(callerZone), random);
+            load.merge(host.address, 1, Integer::sum);
+            if (!callerZone.equals(host.zone)) {
+                ++crossZone;
+            }
+        }
+
+        final int hostCount = hostsPerZone[0] + hostsPerZone[1] + hostsPerZone[2];
+        int maxLoad = 0;
+        for (int hostLoad : load.values()) {
+            maxLoad = Math.max(maxLoad, hostLoad);
+        }
+        return new Simulation((double) crossZone / requests, maxLoad / ((double) requests / hostCount));
+    }
+
+    private static String pick(Map<String, Double> callers, double total, Random random) {
+        double value = random.nextDouble() * total;
+        String last = null;
+        for (Map.Entry<String, Double> entry : callers.entrySet()) {
+            last = entry.getKey();
+            value -= entry.getValue();
+            if (value < 0) {
+                break;
+            }
+        }
+        return last;
+    }
+
+    private static TestHost pick(List<TestHost> hosts, Random random) {
+        double total = 0;
+        for (TestHost host : hosts) {
+            total += host.weight();
+        }
+        double value = random.nextDouble() * total;
+        for (TestHost host : hosts) {
+            value -= host.weight();
+            if (value < 0) {
+                return host;
+            }
+        }
+        return hosts.get(hosts.size() - 1);
+    }
+
+    private static Map<String, Double> zoneShares(List<TestHost> hosts) {
+        // Host selectors skip unhealthy hosts, so only healthy hosts receive traffic.
+        double total = 0;
+        for (TestHost host : hosts) {
+            if (host.healthy) {
+                total += host.weight();
+            }
+        }
+        Map<String, Double> shares = new HashMap<>();
+        for (TestHost host : hosts) {
+            if (host.healthy) {
+                shares.merge(host.zone, host.weight() / total, Double::sum);
+            }
+        }
+        return shares;
+    }
+
+    private static HostPriorityStrategy strategy(String localZone, Map<String, Double> callers) {
+        return new ZoneAwareHostPriorityStrategy(new DefaultHostPriorityStrategy("test"), "test", localZone,
+                callers);
+    }
+
+    private static Map<String, Double> callers(double a, double b, double c) {
+        Map<String, Double> callers = new HashMap<>();
+        callers.put("a", a);
+        callers.put("b", b);
+        callers.put("c", c);
+        return callers;
+    }
+
+    private static List<TestHost> hosts(int a, int b, int c) {
+        List<TestHost> hosts = new ArrayList<>();
+        addHosts(hosts, "a", a);
+        addHosts(hosts, "b", b);
+        addHosts(hosts, "c", c);
+        return hosts;
+    }
+
+    private static void addHosts(List<TestHost> hosts, String zone, int count) {
+        for (int i = 0; i < count; i++) {
+            hosts.add(new TestHost(zone + '-' + i, zone));
+        }
+    }
+
+    private static final class Simulation {
+        final double crossZoneFraction;
+        final double maxToMeanLoad;
+
+        Simulation(final double crossZoneFraction, final double maxToMeanLoad) {
+            this.crossZoneFraction = crossZoneFraction;
+            this.maxToMeanLoad = maxToMeanLoad;
+        }
+    }
+
+    private static final class TestHost implements PrioritizedHost {
+
+        final String address;
+        @Nullable
+        final String zone;
+        boolean healthy = true;
+        private double weight = 1;
+
+        TestHost(final String address, @Nullable final String zone) {
+            this.address = address;
+            this.zone = zone;
+        }
+
+        @Override
+        public String address() {
+            return address;
+        }
+
+        @Override
+        public long randomSeed() {
+            return 0;
+        }
+
+        @Override
+        public int priority() {
+            return 0;
+        }
+
+        @Nullable
+        @Override
+        public String locality() {
+            return zone;
+        }
+
+        @Override
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        @Override
+        public double weight() {
+            return weight;
+        }
+
+        @Override
+        public void weight(final double weight) {
+            this.weight = weight;
+        }
+    }
+}
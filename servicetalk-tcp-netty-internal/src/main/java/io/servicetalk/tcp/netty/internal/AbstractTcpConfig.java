@@ -27,11 +27,13 @@ import io.netty.channel.ChannelOption;
 
 import java.net.SocketOption;
 import java.net.StandardSocketOptions;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BooleanSupplier;
 import javax.annotation.Nullable;
 
+import static io.servicetalk.transport.netty.internal.FlushStrategies.adaptiveFlush;
 import static io.servicetalk.transport.netty.internal.FlushStrategies.defaultFlushStrategy;
 import static io.servicetalk.transport.netty.internal.SocketOptionUtils.addOption;
 import static io.servicetalk.utils.internal.NumberUtils.ensureNonNegative;
@@ -49,7 +51,8 @@ abstract class AbstractTcpConfig {
     @SuppressWarnings("rawtypes")
     private Map<ChannelOption, Object> options;
     private long idleTimeoutMs;
-    private FlushStrategy flushStrategy = defaultFlushStrategy();
+    @Nullable
+    private FlushStrategy flushStrategy;
     @Nullable
     private UserDataLoggerConfig wireLoggerConfig;
     private TransportConfig transportConfig = DEFAULT_TRANSPORT_CONFIG;
@@ -77,7 +80,11 @@ abstract class AbstractTcpConfig {
     }
 
     final FlushStrategy flushStrategy() {
-        return flushStrategy;
+        if (flushStrategy != null) {
+            return flushStrategy;
+        }
+        final Duration maxFlushDelay = transportConfig.maxFlushDelay();
+        return maxFlushDelay.isZero() ? defaultFlushStrategy() : adaptiveFlush(maxFlushDelay);
     }
 
     @Nullable
@@ -114,7 +121,8 @@ abstract class AbstractTcpConfig {
     }
 
     /**
-     * Sets {@link FlushStrategy} to use for all connections.
+     * Sets {@link FlushStrategy} to use for all connections. Takes precedence over
+     * {@link TransportConfig#maxFlushDelay()}.
      *
      * @param flushStrategy {@link FlushStrategy} to use for all connections
      */
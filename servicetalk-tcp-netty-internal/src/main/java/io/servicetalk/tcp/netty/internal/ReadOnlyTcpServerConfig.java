@@ -50,6 +50,7 @@ public final class ReadOnlyTcpServerConfig extends AbstractReadOnlyTcpConfig {
     private final Duration sniClientHelloTimeout;
     private final boolean acceptInsecureConnections;
     private final boolean alpnConfigured;
+    private final boolean listenerSharding;
 
     ReadOnlyTcpServerConfig(final TcpServerConfig from) {
         super(from);
@@ -86,6 +87,7 @@ public final class ReadOnlyTcpServerConfig extends AbstractReadOnlyTcpConfig {
         sniMaxClientHelloLength = from.sniMaxClientHelloLength();
         sniClientHelloTimeout = from.sniClientHelloTimeout();
         acceptInsecureConnections = from.acceptInsecureConnections();
+        listenerSharding = from.listenerSharding();
     }
 
     /**
@@ -157,6 +159,17 @@ public final class ReadOnlyTcpServerConfig extends AbstractReadOnlyTcpConfig {
         return acceptInsecureConnections;
     }
 
+    /**
+     * Returns {@code true} if one listen socket per IO thread should be bound to the same address, if supported by
+     * the transport.
+     *
+     * @return {@code true} if one listen socket per IO thread should be bound to the same address.
+     * @see TcpServerConfig#listenerSharding(boolean)
+     */
+    public boolean listenerSharding() {
+        return listenerSharding;
+    }
+
     /**
      * Returns the {@link SocketOption}s that are applied to the server socket channel which listens/accepts socket
      * channels.
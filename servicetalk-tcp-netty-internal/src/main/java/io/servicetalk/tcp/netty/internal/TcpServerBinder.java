@@ -1,5 +1,5 @@
 /*
- * Copyright © 2019-2021 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2019-2021, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,16 +38,23 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.util.ReferenceCounted;
+import io.netty.util.concurrent.EventExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import javax.annotation.Nullable;
@@ -56,6 +63,7 @@ import static io.servicetalk.concurrent.api.Executors.immediate;
 import static io.servicetalk.concurrent.api.Single.defer;
 import static io.servicetalk.concurrent.api.Single.succeeded;
 import static io.servicetalk.concurrent.internal.SubscriberUtils.handleExceptionFromOnSubscribe;
+import static io.servicetalk.transport.netty.internal.BuilderUtils.reusePortShardingOption;
 import static io.servicetalk.transport.netty.internal.BuilderUtils.toNettyAddress;
 import static io.servicetalk.transport.netty.internal.ChannelCloseUtils.close;
 import static io.servicetalk.transport.netty.internal.CopyByteBufHandlerChannelInitializer.POOLED_ALLOCATOR;
@@ -130,38 +138,18 @@ public final class TcpServerBinder {
         requireNonNull(connectionConsumer);
         listenAddress = toNettyAddress(listenAddress);
         EventLoopAwareNettyIoExecutor nettyIoExecutor = toEventLoopAwareNettyIoExecutor(executionContext.ioExecutor());
-        ServerBootstrap bs = new ServerBootstrap();
-        configure(config, bs, nettyIoExecutor.eventLoopGroup(), listenAddress.getClass());
+        final EventLoopGroup eventLoopGroup = nettyIoExecutor.eventLoopGroup();
+        final ChannelOption<Boolean> reusePortOption = config.listenerSharding() ?
+                reusePortShardingOption(eventLoopGroup, listenAddress.getClass()) : null;
+        if (config.listenerSharding() && reusePortOption == null) {
+            LOGGER.debug("Listener sharding is not supported by {} for address {}, binding a single listener",
+                    eventLoopGroup, listenAddress);
+        }
 
         ChannelSet channelSet = new ChannelSet(
                 executionContext.executionStrategy().isCloseOffloaded() ? executionContext.executor() : immediate());
-        bs.handler(new ChannelInboundHandlerAdapter() {
-            @Override
-            public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
-                // Verify that we do not leak pooled memory in the "accept" pipeline
-                if (msg instanceof ReferenceCounted) {
-                    try {
-                        throw new IllegalArgumentException("Unexpected ReferenceCounted msg in 'accept' pipeline: " +
-                                msg);
-                    } finally {
-                        ((ReferenceCounted) msg).release();
-                    }
-                }
-                if (msg instanceof Channel) {
-                    final Channel channel = (Channel) msg;
-                    if (!channel.isActive()) {
-                        channel.close();
-                        LOGGER.debug("Channel ({}) is accepted, but was already inactive", msg);
-                        return;
-                    } else if (!channelSet.addIfAbsent(channel)) {
-                        LOGGER.warn("Channel ({}) not added to ChannelSet", msg);
-                        return;
-                    }
-                }
-                ctx.fireChannelRead(msg);
-            }
-        });
-        bs.childHandler(new io.netty.channel.ChannelInitializer<Channel>() {
+        // ChannelInitializer is @Sharable, the same instance can be used for all listeners.
+        final ChannelHandler childHandler = new io.netty.channel.ChannelInitializer<Channel>() {
             @Override
             protected void initChannel(final Channel channel) {
                 Single<CC> connectionSingle = connectionFunction.apply(channel,
@@ -175,12 +163,85 @@ public final class TcpServerBinder {
                     close(channel, cause);
                 });
             }
+        };
+
+        if (reusePortOption == null) {
+            ServerBootstrap bs = new ServerBootstrap();
+            configure(config, bs, eventLoopGroup, listenAddress.getClass());
+            bs.handler(new AcceptHandler(channelSet));
+            bs.childHandler(childHandler);
+            return bindChannel(bs.bind(listenAddress)).map(channel ->
+                    NettyServerContext.wrap(channel, channelSet, connectionAcceptor, executionContext));
+        }
+
+        // Bind one listener per EventLoop to the same address, the kernel distributes accepted connections between
+        // them. Each listener uses its own EventLoop for accepted connections, so a connection never leaves the thread
+        // which accepted it.
+        final List<ServerBootstrap> bootstraps = new ArrayList<>();
+        for (EventExecutor eventLoop : eventLoopGroup) {
+            ServerBootstrap bs = new ServerBootstrap();
+            configure(config, bs, (EventLoop) eventLoop, listenAddress.getClass());
+            bs.option(reusePortOption, true);
+            bs.handler(new AcceptHandler(channelSet));
+            bs.childHandler(childHandler);
+            bootstraps.add(bs);
+        }
+        return bindChannel(bootstraps.get(0).bind(listenAddress)).flatMap(first -> {
+            // The first listener resolves the actual port if an ephemeral port was requested.
+            final SocketAddress boundAddress = first.localAddress();
+            final BoundListeners listeners = new BoundListeners(first);
+            final List<Single<Channel>> others = new ArrayList<>(bootstraps.size() - 1);
+            for (int i = 1; i < bootstraps.size(); ++i) {
+                final ServerBootstrap bs = bootstraps.get(i);
+                others.add(defer(() -> bindChannel(bs.bind(boundAddress))).whenOnSuccess(listeners::add));
+            }
+            return Single.<Channel>collectUnorderedDelayError(others)
+                    .<ServerContext>map(ignored -> NettyServerContext.wrap(new ArrayList<>(listeners.channels),
+                            channelSet, connectionAcceptor, executionContext))
+                    .whenOnError(listeners::closeAll)
+                    .whenCancel(listeners::cancel);
         });
+    }
 
-        ChannelFuture future = bs.bind(listenAddress);
-        return new SubscribableSingle<ServerContext>() {
+    /**
+     * Listen {@link Channel}s bound so far, closed if binding of the remaining listeners fails or is cancelled.
+     */
+    private static final class BoundListeners {
+        final Queue<Channel> channels = new ConcurrentLinkedQueue<>();
+        private volatile boolean cancelled;
+
+        BoundListeners(final Channel first) {
+            channels.add(first);
+        }
+
+        void add(final Channel channel) {
+            channels.add(channel);
+            // A listener may be bound concurrently with cancel, whoever removes it from the queue closes it.
+            if (cancelled && channels.remove(channel)) {
+                channel.close();
+            }
+        }
+
+        void closeAll(final Throwable cause) {
+            Channel channel;
+            while ((channel = channels.poll()) != null) {
+                close(channel, cause);
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            Channel channel;
+            while ((channel = channels.poll()) != null) {
+                channel.close();
+            }
+        }
+    }
+
+    private static Single<Channel> bindChannel(final ChannelFuture future) {
+        return new SubscribableSingle<Channel>() {
             @Override
-            protected void handleSubscribe(Subscriber<? super ServerContext> subscriber) {
+            protected void handleSubscribe(Subscriber<? super Channel> subscriber) {
                 try {
                     subscriber.onSubscribe(() -> future.cancel(true));
                 } catch (Throwable t) {
@@ -201,8 +262,7 @@ public final class TcpServerBinder {
                     Channel channel = f.channel();
                     Throwable cause = f.cause();
                     if (cause == null) {
-                        subscriber.onSuccess(NettyServerContext.wrap(channel, channelSet,
-                                connectionAcceptor, executionContext));
+                        subscriber.onSuccess(channel);
                     } else {
                         close(channel, cause);
                         subscriber.onError(cause);
@@ -283,6 +343,38 @@ public final class TcpServerBinder {
         return connection;
     }
 
+    private static final class AcceptHandler extends ChannelInboundHandlerAdapter {
+        private final ChannelSet channelSet;
+
+        AcceptHandler(final ChannelSet channelSet) {
+            this.channelSet = channelSet;
+        }
+
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            // Verify that we do not leak pooled memory in the "accept" pipeline
+            if (msg instanceof ReferenceCounted) {
+                try {
+                    throw new IllegalArgumentException("Unexpected ReferenceCounted msg in 'accept' pipeline: " + msg);
+                } finally {
+                    ((ReferenceCounted) msg).release();
+                }
+            }
+            if (msg instanceof Channel) {
+                final Channel channel = (Channel) msg;
+                if (!channel.isActive()) {
+                    channel.close();
+                    LOGGER.debug("Channel ({}) is accepted, but was already inactive", msg);
+                    return;
+                } else if (!channelSet.addIfAbsent(channel)) {
+                    LOGGER.warn("Channel ({}) not added to ChannelSet", msg);
+                    return;
+                }
+            }
+            ctx.fireChannelRead(msg);
+        }
+    }
+
     private static void configure(ReadOnlyTcpServerConfig config, ServerBootstrap bs,
                                   @Nullable EventLoopGroup eventLoopGroup,
                                   Class<? extends SocketAddress> bindAddressClass) {
@@ -58,6 +58,7 @@ public final class TcpServerConfig extends AbstractTcpConfig {
     private int sniMaxClientHelloLength = MAX_CLIENT_HELLO_LENGTH;
     private Duration sniClientHelloTimeout = DEFAULT_CLIENT_HELLO_TIMEOUT;
     private boolean acceptInsecureConnections;
+    private boolean listenerSharding;
 
     public TcpServerConfig() {
     }
@@ -71,6 +72,7 @@ public final class TcpServerConfig extends AbstractTcpConfig {
         sniMaxClientHelloLength = from.sniMaxClientHelloLength;
         sniClientHelloTimeout = from.sniClientHelloTimeout;
         acceptInsecureConnections = from.acceptInsecureConnections;
+        listenerSharding = from.listenerSharding;
     }
 
     @Nullable
@@ -100,6 +102,10 @@ public final class TcpServerConfig extends AbstractTcpConfig {
         return acceptInsecureConnections;
     }
 
+    boolean listenerSharding() {
+        return listenerSharding;
+    }
+
     /**
      * Get the {@link ServerSslConfig}.
      *
@@ -232,6 +238,20 @@ public final class TcpServerConfig extends AbstractTcpConfig {
         addOption(listenOptions, option, value);
     }
 
+    /**
+     * Enables binding one listen socket per IO thread to the same address, with the kernel distributing accepted
+     * connections between them ({@code SO_REUSEPORT}). Each accepted connection is served by the IO thread of the
+     * listen socket which accepted it. Only supported by the native Linux transports (epoll and io_uring) for IP
+     * addresses, otherwise a single listen socket is bound.
+     *
+     * @param enable {@code true} to bind one listen socket per IO thread if supported.
+     * @return {@code this}.
+     */
+    public TcpServerConfig listenerSharding(final boolean enable) {
+        this.listenerSharding = enable;
+        return this;
+    }
+
     /**
      * Create a read only view of this object.
      * @return a read only view of this object.
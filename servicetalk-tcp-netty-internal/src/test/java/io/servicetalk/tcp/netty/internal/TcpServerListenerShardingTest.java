@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.tcp.netty.internal;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.client.api.RetryableConnectException;
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.transport.netty.internal.NettyConnection;
+import io.servicetalk.transport.netty.internal.NettyServerContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+
+import static io.servicetalk.transport.netty.internal.BuilderUtils.reusePortShardingOption;
+import static io.servicetalk.transport.netty.internal.EventLoopAwareNettyIoExecutors.toEventLoopAwareNettyIoExecutor;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+final class TcpServerListenerShardingTest extends AbstractTcpServerTest {
+
+    @Override
+    @BeforeEach
+    void setUp() throws Exception {
+        // SO_REUSEPORT is only available with native transports, other transports bind a single listener.
+        assumeTrue(reusePortShardingOption(toEventLoopAwareNettyIoExecutor(SERVER_CTX.ioExecutor()).eventLoopGroup(),
+                InetSocketAddress.class) != null, "Listener sharding requires a native transport");
+        super.setUp();
+        assertThat("Unexpected number of listeners.",
+                ((NettyServerContext) serverContext).listenChannels().size(), greaterThan(1));
+    }
+
+    @Override
+    TcpServerConfig getTcpServerConfig() {
+        return super.getTcpServerConfig().listenerSharding(true);
+    }
+
+    @Test
+    void manyConnections() throws Exception {
+        // More connections than IO threads, so that each listener is likely to accept at least one of them.
+        for (int i = 0; i < 4 * Runtime.getRuntime().availableProcessors(); ++i) {
+            NettyConnection<Buffer, Buffer> connection = client.connectBlocking(CLIENT_CTX, serverAddress);
+            String message = "Hello" + i;
+            connection.write(Publisher.from(connection.executionContext().bufferAllocator().fromAscii(message)))
+                    .toFuture().get();
+            String response = connection.read().firstOrElse(() -> null).map(buffer -> buffer.toString(US_ASCII))
+                    .toFuture().get();
+            assertThat("Unexpected response.", response, is(message));
+            connection.onClose().toFuture().get();
+        }
+    }
+
+    @Test
+    void closeStopsAllListeners() throws Exception {
+        serverContext.closeAsync().toFuture().get();
+        for (int i = 0; i < 4 * Runtime.getRuntime().availableProcessors(); ++i) {
+            Exception ex = assertThrows(Exception.class, () -> client.connectBlocking(CLIENT_CTX, serverAddress));
+            assertThat(ex.getCause(), anyOf(instanceOf(RetryableConnectException.class),
+                    instanceOf(ClosedChannelException.class)));
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -63,6 +63,18 @@ public interface IoExecutor extends Executor {
                 Boolean.TRUE::booleanValue; // unconditional
     }
 
+    /**
+     * Determine if the calling thread is the single event loop of this {@link IoExecutor}.
+     * <p>
+     * An {@link IoExecutor} of a group of event loops, which is not tied to a single event loop, returns
+     * {@code false}.
+     *
+     * @return {@code true} if the calling thread is the single event loop of this {@link IoExecutor}.
+     */
+    default boolean isCurrentThreadEventLoop() {
+        return false;
+    }
+
     // FIXME: 0.43 - remove default method
     @Override
     default Cancellable execute(Runnable task) throws RejectedExecutionException {
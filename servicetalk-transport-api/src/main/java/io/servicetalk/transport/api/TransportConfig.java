@@ -15,6 +15,8 @@
  */
 package io.servicetalk.transport.api;
 
+import java.time.Duration;
+
 /**
  * Configuration for transport settings.
  *
@@ -46,4 +48,18 @@ public interface TransportConfig {
      * @return Maximum number of bytes per read operation
      */
     int maxBytesPerRead();
+
+    /**
+     * Maximum duration the transport may delay flushing a written item in order to coalesce it with subsequent writes
+     * into a single flush.
+     * <p>
+     * When positive, flushes of streaming writes are consolidated while the connection keeps writing items, the
+     * connection is writable and less than the threshold of bytes is pending. {@link Duration#ZERO} (default) flushes
+     * every written item individually.
+     *
+     * @return Maximum duration the transport may delay flushing a written item
+     */
+    default Duration maxFlushDelay() {
+        return Duration.ZERO;
+    }
 }
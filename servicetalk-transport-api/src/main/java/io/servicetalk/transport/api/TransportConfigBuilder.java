@@ -15,6 +15,9 @@
  */
 package io.servicetalk.transport.api;
 
+import java.time.Duration;
+
+import static io.servicetalk.utils.internal.DurationUtils.ensureNonNegative;
 import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
 
 /**
@@ -27,6 +30,7 @@ public final class TransportConfigBuilder {
 
     private int maxReadAttemptsPerSelect = DEFAULT_MAX_READ_ATTEMPTS_PER_SELECT;
     private int maxBytesPerRead = DEFAULT_MAX_BYTES_PER_READ;
+    private Duration maxFlushDelay = Duration.ZERO;
 
     /**
      * Sets maximum number of times the transport will attempt to read data when the selector notifies that there is
@@ -63,23 +67,44 @@ public final class TransportConfigBuilder {
         return this;
     }
 
+    /**
+     * Sets maximum duration the transport may delay flushing a written item in order to coalesce it with subsequent
+     * writes into a single flush.
+     * <p>
+     * When positive, flushes of streaming writes are consolidated while the connection keeps writing items, the
+     * connection is writable and less than the threshold of bytes is pending. This reduces the number of system calls
+     * for streams of small items, such as server-streaming gRPC responses, at the cost of a bounded delay.
+     * {@link Duration#ZERO} (default) flushes every written item individually.
+     *
+     * @param maxFlushDelay Maximum duration the transport may delay flushing a written item
+     * @return {@code this}
+     * @see TransportConfig#maxFlushDelay()
+     */
+    public TransportConfigBuilder maxFlushDelay(final Duration maxFlushDelay) {
+        this.maxFlushDelay = ensureNonNegative(maxFlushDelay, "maxFlushDelay");
+        return this;
+    }
+
     /**
      * Builds a new {@link TransportConfig}.
      *
      * @return a new {@link TransportConfig}
      */
     public TransportConfig build() {
-        return new DefaultTransportConfig(maxReadAttemptsPerSelect, maxBytesPerRead);
+        return new DefaultTransportConfig(maxReadAttemptsPerSelect, maxBytesPerRead, maxFlushDelay);
     }
 
     private static final class DefaultTransportConfig implements TransportConfig {
 
         private final int maxReadAttemptsPerSelect;
         private final int maxBytesPerRead;
+        private final Duration maxFlushDelay;
 
-        private DefaultTransportConfig(final int maxReadAttemptsPerSelect, final int maxBytesPerRead) {
+        private DefaultTransportConfig(final int maxReadAttemptsPerSelect, final int maxBytesPerRead,
+                                       final Duration maxFlushDelay) {
             this.maxReadAttemptsPerSelect = maxReadAttemptsPerSelect;
             this.maxBytesPerRead = maxBytesPerRead;
+            this.maxFlushDelay = maxFlushDelay;
         }
 
         @Override
@@ -92,6 +117,11 @@ public final class TransportConfigBuilder {
             return maxBytesPerRead;
         }
 
+        @Override
+        public Duration maxFlushDelay() {
+            return maxFlushDelay;
+        }
+
         @Override
         public boolean equals(final Object o) {
             if (this == o) {
@@ -102,13 +132,15 @@ public final class TransportConfigBuilder {
             }
 
             final DefaultTransportConfig that = (DefaultTransportConfig) o;
-            return maxReadAttemptsPerSelect == that.maxReadAttemptsPerSelect && maxBytesPerRead == that.maxBytesPerRead;
+            return maxReadAttemptsPerSelect == that.maxReadAttemptsPerSelect &&
+                    maxBytesPerRead == that.maxBytesPerRead && maxFlushDelay.equals(that.maxFlushDelay);
         }
 
         @Override
         public int hashCode() {
             int result = maxReadAttemptsPerSelect;
             result = 31 * result + maxBytesPerRead;
+            result = 31 * result + maxFlushDelay.hashCode();
             return result;
         }
 
@@ -117,6 +149,7 @@ public final class TransportConfigBuilder {
             return getClass().getSimpleName() +
                     "{maxReadAttemptsPerSelect=" + maxReadAttemptsPerSelect +
                     ", maxBytesPerRead=" + maxBytesPerRead +
+                    ", maxFlushDelay=" + maxFlushDelay +
                     '}';
         }
     }
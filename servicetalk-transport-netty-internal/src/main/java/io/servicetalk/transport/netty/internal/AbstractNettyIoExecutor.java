@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,11 +21,13 @@ import io.servicetalk.concurrent.api.Completable;
 import io.servicetalk.concurrent.api.Executor;
 
 import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.ScheduledFuture;
 
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 import static io.servicetalk.concurrent.api.Processors.newCompletableProcessor;
 import static io.servicetalk.concurrent.api.SourceAdapters.fromSource;
@@ -122,7 +124,23 @@ abstract class AbstractNettyIoExecutor<T extends EventLoopGroup> implements Nett
     @Override
     public Cancellable schedule(final Runnable task, final long delay, final TimeUnit unit)
             throws RejectedExecutionException {
+        if (EventLoopLocalScheduler.ENABLED) {
+            final EventExecutor currentEventLoop = currentEventLoop();
+            if (currentEventLoop != null) {
+                // Avoid a thread hop and a new event loop task, the task would run on the current event loop anyway.
+                return EventLoopLocalScheduler.schedule(currentEventLoop, task, delay, unit);
+            }
+        }
         ScheduledFuture<?> future = eventLoop.schedule(task, delay, unit);
         return () -> future.cancel(interruptOnCancel);
     }
+
+    /**
+     * Get the event loop of this executor which runs the current thread.
+     *
+     * @return the event loop of this executor which runs the current thread, or {@code null} if the current thread
+     * isn't an event loop of this executor.
+     */
+    @Nullable
+    abstract EventExecutor currentEventLoop();
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.transport.netty.internal.Flush.ChannelFlushSender;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.EventExecutor;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.transport.netty.internal.FlushOnEach.FLUSH_ON_EACH;
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+import static java.lang.System.nanoTime;
+
+/**
+ * A {@link FlushStrategy} which consolidates flushes while the writer keeps writing, similar to netty's
+ * {@code FlushConsolidationHandler}.
+ * <p>
+ * Instead of flushing after each item, a single flush task is enqueued on the event loop of the channel. When this
+ * task runs it yields to the other tasks of the event loop if more items have been written to this channel since it
+ * last ran, and flushes once a full pass of the event loop completes without a new item. The decision only depends on
+ * the activity of this channel, so channels sharing an event loop don't delay each other's flushes.
+ * <p>
+ * Writes are flushed immediately if the channel becomes unwritable, the number of unflushed bytes reaches a threshold
+ * or the oldest unflushed item has been waiting for longer than the maximum delay.
+ * <p>
+ * If the {@link FlushSender} is not associated with a {@link Channel}, this strategy behaves like
+ * {@link FlushOnEach}.
+ */
+final class AdaptiveFlush implements FlushStrategy {
+
+    private final long maxDelayNanos;
+    private final int maxPendingBytes;
+
+    AdaptiveFlush(final long maxDelayNanos, final int maxPendingBytes) {
+        this.maxDelayNanos = ensurePositive(maxDelayNanos, "maxDelayNanos");
+        this.maxPendingBytes = ensurePositive(maxPendingBytes, "maxPendingBytes");
+    }
+
+    @Override
+    public WriteEventsListener apply(final FlushSender sender) {
+        if (sender instanceof ChannelFlushSender) {
+            final ChannelFlushSender channelSender = (ChannelFlushSender) sender;
+            return new AdaptiveFlushListener(channelSender, channelSender.channel(), channelSender.eventLoop(),
+                    maxDelayNanos, maxPendingBytes);
+        }
+        return FLUSH_ON_EACH.apply(sender);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                "{maxDelayNanos=" + maxDelayNanos +
+                ", maxPendingBytes=" + maxPendingBytes +
+                '}';
+    }
+
+    static final class AdaptiveFlushListener implements WriteEventsListener, Runnable {
+        private static final AtomicIntegerFieldUpdater<AdaptiveFlushListener> flushScheduledUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(AdaptiveFlushListener.class, "flushScheduled");
+        private static final AtomicIntegerFieldUpdater<AdaptiveFlushListener> flushGenerationUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(AdaptiveFlushListener.class, "flushGeneration");
+        private static final AtomicIntegerFieldUpdater<AdaptiveFlushListener> writtenItemsUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(AdaptiveFlushListener.class, "writtenItems");
+
+        private final FlushSender sender;
+        private final Channel channel;
+        private final EventExecutor eventLoop;
+        private final long maxDelayNanos;
+        private final int maxPendingBytes;
+
+        /**
+         * {@code 1} if the flush task ({@link #run()}) is enqueued on the event loop, {@code 0} otherwise.
+         */
+        private volatile int flushScheduled;
+        /**
+         * Incremented on every flush, so the writer thread can reset its unflushed bytes count without sharing it.
+         */
+        private volatile int flushGeneration;
+        /**
+         * {@link System#nanoTime()} when the oldest unflushed item was written, or {@code 0} if there is none.
+         */
+        private volatile long firstUnflushedNanos;
+        /**
+         * Number of items written, only modified by the writer thread.
+         */
+        private volatile int writtenItems;
+
+        // Only accessed from the writer thread.
+        private int seenFlushGeneration;
+        private long unflushedBytes;
+
+        // Only accessed from the event loop.
+        private int seenWrittenItems;
+
+        AdaptiveFlushListener(final FlushSender sender, final Channel channel, final EventExecutor eventLoop,
+                              final long maxDelayNanos, final int maxPendingBytes) {
+            this.sender = sender;
+            this.channel = channel;
+            this.eventLoop = eventLoop;
+            this.maxDelayNanos = maxDelayNanos;
+            this.maxPendingBytes = maxPendingBytes;
+        }
+
+        @Override
+        public void writeStarted() {
+            // No op
+        }
+
+        @Override
+        public void itemWritten(@Nullable final Object written) {
+            final int generation = flushGeneration;
+            if (generation != seenFlushGeneration) {
+                seenFlushGeneration = generation;
+                unflushedBytes = 0;
+            }
+            unflushedBytes += sizeOf(written);
+            writtenItemsUpdater.lazySet(this, writtenItems + 1);
+
+            long firstNanos = firstUnflushedNanos;
+            if (firstNanos == 0) {
+                firstNanos = nanoTimeNonZero();
+                firstUnflushedNanos = firstNanos;
+            }
+            if (unflushedBytes >= maxPendingBytes || !channel.isWritable() ||
+                    nanoTime() - firstNanos >= maxDelayNanos) {
+                flushNow();
+            } else if (flushScheduledUpdater.compareAndSet(this, 0, 1)) {
+                // firstUnflushedNanos is updated before flushScheduled, and the task resets them in the reverse
+                // order. An item written concurrently with the task is either flushed by it or schedules a new task.
+                eventLoop.execute(this);
+            }
+        }
+
+        @Override
+        public void writeTerminated() {
+            // Always flush the last items of a write. A pending flush task may still run afterwards, which is harmless.
+            flushNow();
+        }
+
+        @Override
+        public void writeCancelled() {
+            // No op
+        }
+
+        /**
+         * Flush task, always executed on the event loop.
+         */
+        @Override
+        public void run() {
+            final long firstNanos = firstUnflushedNanos;
+            final int items = writtenItems;
+            if (firstNanos != 0 && items != seenWrittenItems && channel.isWritable() &&
+                    nanoTime() - firstNanos < maxDelayNanos) {
+                // The writer wrote more items since the last run and is likely to write more, yield to the other tasks
+                // of the event loop and flush when a run observes no new item or the maximum delay expires.
+                seenWrittenItems = items;
+                eventLoop.execute(this);
+                return;
+            }
+            seenWrittenItems = items;
+            flushScheduled = 0;
+            // Flush unconditionally, items written concurrently with this task which observed flushScheduled == 1
+            // rely on this flush.
+            flushNow();
+        }
+
+        private void flushNow() {
+            firstUnflushedNanos = 0;
+            flushGenerationUpdater.incrementAndGet(this);
+            sender.flush();
+        }
+
+        private static long sizeOf(@Nullable final Object written) {
+            if (written instanceof Buffer) {
+                return ((Buffer) written).readableBytes();
+            }
+            if (written instanceof ByteBuf) {
+                return ((ByteBuf) written).readableBytes();
+            }
+            return 0;
+        }
+
+        private static long nanoTimeNonZero() {
+            final long nanos = nanoTime();
+            return nanos == 0 ? 1 : nanos;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 
 import static io.servicetalk.buffer.netty.BufferUtils.extractByteBufOrCreate;
+import static io.servicetalk.buffer.netty.BufferUtils.isLease;
 import static io.servicetalk.buffer.netty.BufferUtils.newBufferFrom;
 
 /**
@@ -69,7 +70,10 @@ public final class BufferHandler extends ChannelDuplexHandler {
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
         if (msg instanceof Buffer) {
-            ctx.write(extractByteBufOrCreate((Buffer) msg), promise);
+            final Buffer buffer = (Buffer) msg;
+            final ByteBuf byteBuf = extractByteBufOrCreate(buffer);
+            // The writer releases pooled Buffers once written, so the channel needs its own reference.
+            ctx.write(isLease(buffer) ? byteBuf.retain() : byteBuf, promise);
         } else if (msg instanceof BufferHolder) {
             ctx.write(extractByteBufOrCreate(((BufferHolder) msg).content()), promise);
         } else {
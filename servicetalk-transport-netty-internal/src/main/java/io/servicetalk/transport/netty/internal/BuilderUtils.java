@@ -19,6 +19,7 @@ import io.servicetalk.transport.api.FileDescriptorSocketAddress;
 import io.servicetalk.transport.api.HostAndPort;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.epoll.EpollDatagramChannel;
@@ -36,6 +37,7 @@ import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.channel.unix.UnixChannelOption;
 import io.netty.incubator.channel.uring.IOUringDatagramChannel;
 import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
 import io.netty.incubator.channel.uring.IOUringSocketChannel;
@@ -86,6 +88,23 @@ public final class BuilderUtils {
         }
     }
 
+    /**
+     * Returns the {@link ChannelOption} which allows to bind multiple server channels of the given
+     * {@link EventLoopGroup} to the same address, with the kernel distributing accepted connections between them
+     * ({@code SO_REUSEPORT}). This is supported by the native Linux transports (epoll and io_uring) for IP addresses.
+     *
+     * @param group        the {@link EventLoopGroup} which will be used for the server channels
+     * @param addressClass The class of the address that the server sockets will be bound to.
+     * @return the {@code SO_REUSEPORT} {@link ChannelOption}, or {@code null} if accepting connections can not be
+     * sharded across multiple server channels
+     */
+    @Nullable
+    public static ChannelOption<Boolean> reusePortShardingOption(EventLoopGroup group,
+                                                                 Class<? extends SocketAddress> addressClass) {
+        return InetSocketAddress.class.isAssignableFrom(addressClass) && (useIoUring(group) || useEpoll(group)) ?
+                UnixChannelOption.SO_REUSEPORT : null;
+    }
+
     /**
      * Returns the correct {@link Class} to use with the given {@link EventLoopGroup}.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2020-2023 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2020-2023, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.kqueue.KQueue;
 
@@ -206,6 +207,8 @@ public final class ConnectionObserverInitializer implements ChannelInitializer {
                 observer.onDataWrite(((ByteBuf) msg).readableBytes());
             } else if (msg instanceof ByteBufHolder) {
                 observer.onDataWrite(((ByteBufHolder) msg).content().readableBytes());
+            } else if (msg instanceof FileRegion) {
+                observer.onDataWrite((int) Math.min(((FileRegion) msg).count(), Integer.MAX_VALUE));
             }
             ctx.write(msg, promise);
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,10 @@
 package io.servicetalk.transport.netty.internal;
 
 import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.internal.ThreadExecutorMap;
+
+import javax.annotation.Nullable;
 
 final class EventLoopGroupIoExecutor extends AbstractNettyIoExecutor<EventLoopGroup>
         implements EventLoopAwareNettyIoExecutor {
@@ -29,6 +33,13 @@ final class EventLoopGroupIoExecutor extends AbstractNettyIoExecutor<EventLoopGr
         return false; // We are in the group not a specific eventloop.
     }
 
+    @Nullable
+    @Override
+    EventExecutor currentEventLoop() {
+        final EventExecutor current = ThreadExecutorMap.currentExecutor();
+        return current != null && current.parent() == eventLoop ? current : null;
+    }
+
     @Override
     public EventLoopGroup eventLoopGroup() {
         return eventLoop;
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,9 @@ package io.servicetalk.transport.netty.internal;
 
 import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+
+import javax.annotation.Nullable;
 
 final class EventLoopIoExecutor extends AbstractNettyIoExecutor<EventLoop> implements EventLoopAwareNettyIoExecutor {
 
@@ -29,6 +32,12 @@ final class EventLoopIoExecutor extends AbstractNettyIoExecutor<EventLoop> imple
         return eventLoop.inEventLoop();
     }
 
+    @Nullable
+    @Override
+    EventExecutor currentEventLoop() {
+        return eventLoop.inEventLoop() ? eventLoop : null;
+    }
+
     @Override
     public EventLoopGroup eventLoopGroup() {
         return eventLoop;
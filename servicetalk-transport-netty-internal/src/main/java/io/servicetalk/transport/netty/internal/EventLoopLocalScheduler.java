@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.concurrent.Cancellable;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Math.floorMod;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Schedules tasks on the event loop of the calling thread, with coalesced deadline checks.
+ * <p>
+ * Each event loop thread has one instance which keeps the pending tasks in a deadline ordered queue, and only a single
+ * task is scheduled on the event loop to check for expired deadlines. Deadline checks are rounded up to
+ * {@link #TICK_NANOS}, so that tasks which expire within the same tick are executed by the same check. Timeouts
+ * (e.g. one per request) are therefore scheduled and cancelled without a thread hop or a new task in the event loop.
+ * <p>
+ * Only {@link Cancellable#cancel()} may be called from other threads.
+ */
+final class EventLoopLocalScheduler implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventLoopLocalScheduler.class);
+    private static final String ENABLED_NAME = "io.servicetalk.transport.netty.eventLoopLocalTimers";
+    /**
+     * {@code true} if tasks scheduled from an event loop thread on an {@link io.servicetalk.transport.api.IoExecutor}
+     * which owns that event loop should use this scheduler.
+     */
+    static final boolean ENABLED = getBoolean(ENABLED_NAME);
+    private static final FastThreadLocal<EventLoopLocalScheduler> SCHEDULER = new FastThreadLocal<>();
+    private static final long TICK_NANOS = MILLISECONDS.toNanos(1);
+    // Keeps deadlines far enough from overflow to compare them by subtraction.
+    private static final long MAX_DELAY_NANOS = Long.MAX_VALUE >>> 2;
+    private static final int MIN_PURGE_CANCELLED = 64;
+
+    private final EventExecutor eventLoop;
+    private final PriorityQueue<Timer> timers = new PriorityQueue<>();
+    @Nullable
+    private ScheduledFuture<?> check;
+    private long checkDeadlineNanos;
+    private long nextSequence;
+    private int cancelled;
+
+    private EventLoopLocalScheduler(final EventExecutor eventLoop) {
+        this.eventLoop = eventLoop;
+    }
+
+    /**
+     * Schedules a task on the passed {@link EventExecutor}.
+     *
+     * @param eventLoop the {@link EventExecutor} of the calling thread.
+     * @param task the task to execute on the {@code eventLoop}.
+     * @param delay the delay after which the task is executed.
+     * @param unit the unit of the {@code delay}.
+     * @return {@link Cancellable} which prevents the execution of the task if it didn't start yet.
+     */
+    static Cancellable schedule(final EventExecutor eventLoop, final Runnable task, final long delay,
+                                final TimeUnit unit) {
+        assert eventLoop.inEventLoop();
+        EventLoopLocalScheduler scheduler = SCHEDULER.getIfExists();
+        if (scheduler == null) {
+            scheduler = new EventLoopLocalScheduler(eventLoop);
+            SCHEDULER.set(scheduler);
+        }
+        return scheduler.schedule(task, unit.toNanos(delay));
+    }
+
+    private Cancellable schedule(final Runnable task, final long delayNanos) {
+        final Timer timer = new Timer(this, task,
+                System.nanoTime() + min(max(0, delayNanos), MAX_DELAY_NANOS), nextSequence++);
+        timers.add(timer);
+        arm(timer.deadlineNanos);
+        return timer;
+    }
+
+    private void arm(final long deadlineNanos) {
+        final long remainder = floorMod(deadlineNanos, TICK_NANOS);
+        final long checkNanos = remainder == 0 ? deadlineNanos : deadlineNanos + TICK_NANOS - remainder;
+        if (check != null) {
+            if (checkNanos - checkDeadlineNanos >= 0) {
+                // The pending check runs earlier and re-arms for the remaining timers.
+                return;
+            }
+            check.cancel(false);
+        }
+        checkDeadlineNanos = checkNanos;
+        check = eventLoop.schedule(this, max(0, checkNanos - System.nanoTime()), NANOSECONDS);
+    }
+
+    @Override
+    public void run() {
+        check = null;
+        final long nowNanos = System.nanoTime();
+        Timer timer;
+        while ((timer = timers.peek()) != null && timer.deadlineNanos - nowNanos <= 0) {
+            timers.poll();
+            final Runnable task = timer.task;
+            if (task == null) {
+                if (cancelled > 0) {
+                    --cancelled;
+                }
+                continue;
+            }
+            timer.task = null;
+            try {
+                task.run();
+            } catch (Throwable cause) {
+                LOGGER.warn("Failed to execute scheduled task {} on {}.", task, eventLoop, cause);
+            }
+        }
+        if (timer != null) {
+            arm(timer.deadlineNanos);
+        }
+    }
+
+    private void cancelled() {
+        assert eventLoop.inEventLoop();
+        // Cancelled timers are usually dropped when they reach the head of the queue. Timeouts are usually cancelled
+        // long before they expire though, remove them in bulk to not retain them for their full duration.
+        if (++cancelled >= MIN_PURGE_CANCELLED && cancelled > timers.size() >>> 1) {
+            timers.removeIf(timer -> timer.task == null);
+            cancelled = 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return EventLoopLocalScheduler.class.getSimpleName() + "{eventLoop=" + eventLoop +
+                ", timers=" + timers.size() + '}';
+    }
+
+    private static final class Timer implements Cancellable, Comparable<Timer> {
+        private final EventLoopLocalScheduler scheduler;
+        private final long sequence;
+        final long deadlineNanos;
+        @Nullable
+        volatile Runnable task;
+
+        Timer(final EventLoopLocalScheduler scheduler, final Runnable task, final long deadlineNanos,
+              final long sequence) {
+            this.scheduler = scheduler;
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void cancel() {
+            if (task == null) {
+                return;
+            }
+            // Release the task right away, the timer itself is removed from the queue by the event loop.
+            task = null;
+            if (scheduler.eventLoop.inEventLoop()) {
+                scheduler.cancelled();
+            }
+        }
+
+        @Override
+        public int compareTo(final Timer other) {
+            final long diff = deadlineNanos - other.deadlineNanos;
+            return diff < 0 ? -1 : diff > 0 ? 1 : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -19,6 +19,7 @@ import io.servicetalk.concurrent.PublisherSource.Subscriber;
 import io.servicetalk.concurrent.PublisherSource.Subscription;
 import io.servicetalk.concurrent.api.Publisher;
 import io.servicetalk.transport.api.ConnectionObserver.WriteObserver;
+import io.servicetalk.transport.netty.internal.FlushStrategy.FlushSender;
 import io.servicetalk.transport.netty.internal.FlushStrategy.WriteEventsListener;
 
 import io.netty.channel.Channel;
@@ -55,6 +56,38 @@ final class Flush {
         return source.liftSync(subscriber -> new FlushSubscriber<>(flushStrategy, subscriber, channel, observer));
     }
 
+    /**
+     * A {@link FlushSender} which exposes the {@link Channel} it flushes, for {@link FlushStrategy}s that adapt to the
+     * state of the connection.
+     */
+    abstract static class ChannelFlushSender implements FlushSender {
+        private final Channel channel;
+        private final EventExecutor eventLoop;
+
+        ChannelFlushSender(final Channel channel, final EventExecutor eventLoop) {
+            this.channel = channel;
+            this.eventLoop = eventLoop;
+        }
+
+        /**
+         * Returns the {@link Channel} flushed by this {@link FlushSender}.
+         *
+         * @return the {@link Channel} flushed by this {@link FlushSender}.
+         */
+        final Channel channel() {
+            return channel;
+        }
+
+        /**
+         * Returns the {@link EventExecutor} of the {@link #channel()}.
+         *
+         * @return the {@link EventExecutor} of the {@link #channel()}.
+         */
+        final EventExecutor eventLoop() {
+            return eventLoop;
+        }
+    }
+
     private static final class FlushSubscriber<T> implements Subscriber<T> {
         private final EventExecutor eventLoop;
         private final Subscriber<? super T> subscriber;
@@ -67,12 +100,15 @@ final class Flush {
             this.eventLoop = requireNonNull(channel.eventLoop());
             this.subscriber = requireNonNull(subscriber);
             this.observer = observer;
-            this.writeEventsListener = flushStrategy.apply(() -> {
-                observer.onFlushRequest();
-                if (enqueueFlush) {
-                    eventLoop.execute(channel::flush);
-                } else {
-                    channel.flush();
+            this.writeEventsListener = flushStrategy.apply(new ChannelFlushSender(channel, eventLoop) {
+                @Override
+                public void flush() {
+                    observer.onFlushRequest();
+                    if (enqueueFlush) {
+                        eventLoop.execute(channel::flush);
+                    } else {
+                        channel.flush();
+                    }
                 }
             });
         }
@@ -19,6 +19,8 @@ import io.servicetalk.concurrent.api.Publisher;
 import io.servicetalk.transport.netty.internal.FlushStrategy.FlushSender;
 import io.servicetalk.transport.netty.internal.FlushStrategy.WriteEventsListener;
 
+import java.time.Duration;
+
 import static io.servicetalk.transport.netty.internal.FlushOnEach.FLUSH_ON_EACH;
 import static io.servicetalk.transport.netty.internal.FlushOnEnd.FLUSH_ON_END;
 import static java.lang.Integer.MAX_VALUE;
@@ -28,6 +30,11 @@ import static java.lang.Integer.MAX_VALUE;
  */
 public final class FlushStrategies {
 
+    /**
+     * Default number of unflushed bytes which triggers a flush for {@link #adaptiveFlush(Duration)}.
+     */
+    public static final int DEFAULT_ADAPTIVE_FLUSH_MAX_PENDING_BYTES = 65_536;
+
     private FlushStrategies() {
         // No instances.
     }
@@ -82,6 +89,37 @@ public final class FlushStrategies {
         return batchFlush(MAX_VALUE, flushBoundaries);
     }
 
+    /**
+     * Creates a {@link FlushStrategy} that coalesces flushes while the connection keeps writing items and
+     * {@link FlushSender#flush() flushes writes} once a pass of its event loop completes without a new item.
+     * <p>
+     * Writes are flushed without waiting for the event loop if the connection becomes unwritable, if
+     * {@value #DEFAULT_ADAPTIVE_FLUSH_MAX_PENDING_BYTES} bytes are pending or if the oldest unflushed item has been
+     * waiting for {@code maxDelay}.
+     *
+     * @param maxDelay Maximum duration a written item is held back to be coalesced with subsequent writes.
+     * @return A {@link FlushStrategy} that coalesces flushes while the connection keeps writing items.
+     * @see #adaptiveFlush(Duration, int)
+     */
+    public static FlushStrategy adaptiveFlush(Duration maxDelay) {
+        return adaptiveFlush(maxDelay, DEFAULT_ADAPTIVE_FLUSH_MAX_PENDING_BYTES);
+    }
+
+    /**
+     * Creates a {@link FlushStrategy} that coalesces flushes while the connection keeps writing items and
+     * {@link FlushSender#flush() flushes writes} once a pass of its event loop completes without a new item.
+     * <p>
+     * Writes are flushed without waiting for the event loop if the connection becomes unwritable, if
+     * {@code maxPendingBytes} are pending or if the oldest unflushed item has been waiting for {@code maxDelay}.
+     *
+     * @param maxDelay Maximum duration a written item is held back to be coalesced with subsequent writes.
+     * @param maxPendingBytes Number of unflushed bytes which triggers a flush.
+     * @return A {@link FlushStrategy} that coalesces flushes while the connection keeps writing items.
+     */
+    public static FlushStrategy adaptiveFlush(Duration maxDelay, int maxPendingBytes) {
+        return new AdaptiveFlush(maxDelay.toNanos(), maxPendingBytes);
+    }
+
     /**
      * Creates a {@link FlushStrategy} that will {@link FlushSender#flush() flush writes} when
      * {@link WriteEventsListener#writeTerminated()} is called on the {@link WriteEventsListener} returned from
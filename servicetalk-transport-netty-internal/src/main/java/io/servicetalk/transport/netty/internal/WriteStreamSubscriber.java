@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018, 2020 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2020, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package io.servicetalk.transport.netty.internal;
 
+import io.servicetalk.buffer.api.Buffer;
 import io.servicetalk.concurrent.CompletableSource.Subscriber;
 import io.servicetalk.concurrent.PublisherSource;
 import io.servicetalk.concurrent.PublisherSource.Subscription;
@@ -41,6 +42,9 @@ import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import javax.annotation.Nullable;
 
+import static io.servicetalk.buffer.netty.BufferUtils.isLease;
+import static io.servicetalk.buffer.netty.BufferUtils.release;
+import static io.servicetalk.buffer.netty.BufferUtils.toByteBuf;
 import static io.servicetalk.concurrent.Cancellable.IGNORE_CANCEL;
 import static io.servicetalk.concurrent.internal.EmptySubscriptions.newEmptySubscription;
 import static io.servicetalk.transport.netty.internal.ByteMaskUtils.isAllSet;
@@ -169,23 +173,38 @@ final class WriteStreamSubscriber implements PublisherSource.Subscriber<Object>,
     }
 
     void doWrite(Object msg) {
-        // Ignore onNext if the channel is already closed.
-        if (promise.isWritable()) {
-            long capacityBefore = channel.bytesBeforeUnwritable();
-            promise.writeNext(msg);
-            long capacityAfter = channel.bytesBeforeUnwritable();
-            observer.itemWritten(msg);
-            demandEstimator.onItemWrite(msg, capacityBefore, capacityAfter);
-            // Client-side always starts a request with request(1) to probe a Channel with meta-data before continuing
-            // to write the payload body, see https://github.com/apple/servicetalk/pull/1644.
-            // Requests that await feedback from the remote peer should not request more data from the publisher until
-            // they receive continueWriting() signal.
-            if (!isClient || !(shouldWaitFlag = shouldWait.test(msg))) {
-                requestMoreIfRequired(subscription, capacityAfter);
+        try {
+            // Ignore onNext if the channel is already closed.
+            if (promise.isWritable()) {
+                long capacityBefore = channel.bytesBeforeUnwritable();
+                promise.writeNext(msg);
+                long capacityAfter = channel.bytesBeforeUnwritable();
+                observer.itemWritten(msg);
+                demandEstimator.onItemWrite(msg, capacityBefore, capacityAfter);
+                // Client-side always starts a request with request(1) to probe a Channel with meta-data before
+                // continuing to write the payload body, see https://github.com/apple/servicetalk/pull/1644.
+                // Requests that await feedback from the remote peer should not request more data from the publisher
+                // until they receive continueWriting() signal.
+                if (!isClient || !(shouldWaitFlag = shouldWait.test(msg))) {
+                    requestMoreIfRequired(subscription, capacityAfter);
+                }
+            }
+        } finally {
+            if (msg instanceof Buffer) {
+                releaseLease((Buffer) msg);
             }
         }
     }
 
+    private static void releaseLease(final Buffer buffer) {
+        // Encoders retain the memory they pass to the channel, so the lease of a pooled Buffer is returned once it has
+        // been written (or dropped). A lease must only be written once, but if an already returned lease is written
+        // again the failed write is reported instead of releasing the memory a second time.
+        if (isLease(buffer) && toByteBuf(buffer).refCnt() > 0) {
+            release(buffer);
+        }
+    }
+
     @Override
     public void onError(Throwable cause) {
         requireNonNull(cause);
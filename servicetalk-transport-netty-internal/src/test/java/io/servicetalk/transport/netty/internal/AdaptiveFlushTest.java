@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.transport.netty.internal.Flush.ChannelFlushSender;
+import io.servicetalk.transport.netty.internal.FlushStrategy.FlushSender;
+import io.servicetalk.transport.netty.internal.FlushStrategy.WriteEventsListener;
+
+import io.netty.channel.Channel;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.transport.netty.internal.FlushStrategies.adaptiveFlush;
+import static java.time.Duration.ofDays;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofNanos;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdaptiveFlushTest {
+
+    private final EventLoop eventLoop = new DefaultEventLoop();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        eventLoop.shutdownGracefully(0, 0, MILLISECONDS).sync();
+    }
+
+    @Test
+    void coalescesItemsWrittenInOneTask() throws Exception {
+        TestChannel channel = new TestChannel(adaptiveFlush(ofDays(1)));
+        runOnEventLoop(() -> {
+            channel.listener.itemWritten(1);
+            channel.listener.itemWritten(2);
+            channel.listener.itemWritten(3);
+        });
+        channel.flushed.await();
+        drainEventLoop();
+        assertThat(channel.flushes.get(), is(1));
+    }
+
+    @Test
+    void channelsOnSameEventLoopFlushIndependently() throws Exception {
+        TestChannel[] channels = new TestChannel[8];
+        for (int i = 0; i < channels.length; ++i) {
+            channels[i] = new TestChannel(adaptiveFlush(ofDays(1)));
+        }
+        runOnEventLoop(() -> {
+            for (TestChannel channel : channels) {
+                channel.listener.itemWritten(1);
+                channel.listener.itemWritten(2);
+            }
+        });
+        for (TestChannel channel : channels) {
+            channel.flushed.await();
+        }
+        drainEventLoop();
+        for (TestChannel channel : channels) {
+            assertThat(channel.flushes.get(), is(1));
+        }
+    }
+
+    @Test
+    void idleChannelFlushesWhileOtherChannelKeepsWriting() throws Exception {
+        TestChannel busy = new TestChannel(adaptiveFlush(ofDays(1)));
+        TestChannel idle = new TestChannel(adaptiveFlush(ofDays(1)));
+        AtomicBoolean stop = new AtomicBoolean();
+        // Writes an item to the busy channel on every pass of the event loop, so the event loop always has pending
+        // tasks and the flush task of the busy channel always observes a new item.
+        eventLoop.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (!stop.get()) {
+                    busy.listener.itemWritten(1);
+                    eventLoop.execute(this);
+                }
+            }
+        });
+        runOnEventLoop(() -> idle.listener.itemWritten(1));
+        idle.flushed.await();
+        assertThat("Busy channel flushed while writing", busy.flushes.get(), is(0));
+
+        stop.set(true);
+        busy.flushed.await();
+        drainEventLoop();
+        assertThat(idle.flushes.get(), is(1));
+        assertThat(busy.flushes.get(), is(1));
+    }
+
+    @Test
+    void flushesWhenMaxDelayExpires() throws Exception {
+        TestChannel channel = new TestChannel(adaptiveFlush(ofMillis(10)));
+        AtomicBoolean stop = new AtomicBoolean();
+        eventLoop.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (!stop.get()) {
+                    channel.listener.itemWritten(1);
+                    eventLoop.execute(this);
+                }
+            }
+        });
+        // The channel keeps writing, only the maximum delay triggers the flush.
+        channel.flushed.await();
+        stop.set(true);
+    }
+
+    @Test
+    void flushesWhenUnwritable() throws Exception {
+        TestChannel channel = new TestChannel(adaptiveFlush(ofDays(1)));
+        when(channel.channel.isWritable()).thenReturn(false);
+        runOnEventLoop(() -> {
+            channel.listener.itemWritten(1);
+            assertThat(channel.flushes.get(), is(1));
+        });
+        drainEventLoop();
+        assertThat(channel.flushes.get(), is(1));
+    }
+
+    @Test
+    void flushesWhenMaxPendingBytesReached() throws Exception {
+        TestChannel channel = new TestChannel(adaptiveFlush(ofDays(1), 8));
+        runOnEventLoop(() -> {
+            channel.listener.itemWritten(DEFAULT_ALLOCATOR.fromAscii("1234"));
+            assertThat(channel.flushes.get(), is(0));
+            channel.listener.itemWritten(DEFAULT_ALLOCATOR.fromAscii("5678"));
+            assertThat(channel.flushes.get(), is(1));
+            channel.listener.itemWritten(DEFAULT_ALLOCATOR.fromAscii("1234"));
+            assertThat("Pending bytes not reset by flush", channel.flushes.get(), is(1));
+        });
+    }
+
+    @Test
+    void flushesOnTerminate() throws Exception {
+        TestChannel channel = new TestChannel(adaptiveFlush(ofDays(1)));
+        runOnEventLoop(() -> {
+            channel.listener.itemWritten(1);
+            channel.listener.writeTerminated();
+            assertThat(channel.flushes.get(), is(1));
+        });
+    }
+
+    @Test
+    void flushesOnEachWithoutChannel() {
+        FlushSender sender = mock(FlushSender.class);
+        WriteEventsListener listener = adaptiveFlush(ofDays(1)).apply(sender);
+        listener.writeStarted();
+        listener.itemWritten(1);
+        listener.itemWritten(2);
+        verify(sender, times(2)).flush();
+    }
+
+    @Test
+    void rejectsZeroDelay() {
+        assertThrows(IllegalArgumentException.class, () -> adaptiveFlush(ofNanos(0)));
+    }
+
+    private void runOnEventLoop(Runnable task) throws Exception {
+        eventLoop.submit(task).sync();
+    }
+
+    private void drainEventLoop() throws Exception {
+        // A flush task yields at most once when no new item is written, a few passes let it run to completion.
+        for (int i = 0; i < 4; ++i) {
+            runOnEventLoop(() -> { });
+        }
+    }
+
+    private final class TestChannel {
+        final Channel channel = mock(Channel.class);
+        final AtomicInteger flushes = new AtomicInteger();
+        final CountDownLatch flushed = new CountDownLatch(1);
+        final WriteEventsListener listener;
+
+        TestChannel(FlushStrategy strategy) {
+            when(channel.isWritable()).thenReturn(true);
+            listener = strategy.apply(new ChannelFlushSender(channel, eventLoop) {
+                @Override
+                public void flush() {
+                    flushes.incrementAndGet();
+                    flushed.countDown();
+                }
+            });
+            listener.writeStarted();
+        }
+    }
+}
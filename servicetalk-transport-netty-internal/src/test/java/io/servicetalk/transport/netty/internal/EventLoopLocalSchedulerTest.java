@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.concurrent.Cancellable;
+
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+class EventLoopLocalSchedulerTest {
+
+    private final EventLoop eventLoop = new DefaultEventLoop();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        eventLoop.shutdownGracefully(0, 0, MILLISECONDS).sync();
+    }
+
+    @Test
+    void executesOnEventLoopAfterDelay() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean inEventLoop = new AtomicBoolean();
+        long startNanos = System.nanoTime();
+        long[] elapsedNanos = new long[1];
+        eventLoop.execute(() -> EventLoopLocalScheduler.schedule(eventLoop, () -> {
+            elapsedNanos[0] = System.nanoTime() - startNanos;
+            inEventLoop.set(eventLoop.inEventLoop());
+            latch.countDown();
+        }, 20, MILLISECONDS));
+        assertThat(latch.await(10, SECONDS), is(true));
+        assertThat(inEventLoop.get(), is(true));
+        assertThat(elapsedNanos[0], greaterThanOrEqualTo(MILLISECONDS.toNanos(20)));
+    }
+
+    @Test
+    void executesInDeadlineOrder() throws Exception {
+        CountDownLatch latch = new CountDownLatch(3);
+        List<Integer> order = new ArrayList<>();
+        eventLoop.execute(() -> {
+            EventLoopLocalScheduler.schedule(eventLoop, () -> {
+                order.add(3);
+                latch.countDown();
+            }, 30, MILLISECONDS);
+            EventLoopLocalScheduler.schedule(eventLoop, () -> {
+                order.add(1);
+                latch.countDown();
+            }, 10, MILLISECONDS);
+            EventLoopLocalScheduler.schedule(eventLoop, () -> {
+                order.add(2);
+                latch.countDown();
+            }, 20, MILLISECONDS);
+        });
+        assertThat(latch.await(10, SECONDS), is(true));
+        assertThat(eventLoop.submit(() -> order).get(), is(asList(1, 2, 3)));
+    }
+
+    @Test
+    void earlierDeadlineIsNotDelayedByLaterDeadline() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        eventLoop.execute(() -> {
+            EventLoopLocalScheduler.schedule(eventLoop, () -> { }, 1, SECONDS);
+            EventLoopLocalScheduler.schedule(eventLoop, latch::countDown, 10, MILLISECONDS);
+        });
+        assertThat(latch.await(500, MILLISECONDS), is(true));
+    }
+
+    @Test
+    void cancelPreventsExecution() throws Exception {
+        AtomicInteger executed = new AtomicInteger();
+        List<Cancellable> cancelledOffLoop = eventLoop.submit(() -> {
+            List<Cancellable> cancellables = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                Cancellable cancellable = EventLoopLocalScheduler.schedule(eventLoop, executed::incrementAndGet,
+                        10 + i % 20, MILLISECONDS);
+                if (i % 2 == 0) {
+                    cancellable.cancel();
+                } else {
+                    cancellables.add(cancellable);
+                }
+            }
+            return cancellables;
+        }).get();
+        cancelledOffLoop.forEach(Cancellable::cancel);
+        CountDownLatch latch = new CountDownLatch(1);
+        eventLoop.execute(() -> EventLoopLocalScheduler.schedule(eventLoop, latch::countDown, 50, MILLISECONDS));
+        assertThat(latch.await(10, SECONDS), is(true));
+        assertThat(executed.get(), is(0));
+    }
+
+    @Test
+    void failingTaskDoesNotPreventOtherTasks() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        eventLoop.execute(() -> {
+            EventLoopLocalScheduler.schedule(eventLoop, () -> {
+                throw new IllegalStateException("deliberate");
+            }, 10, MILLISECONDS);
+            EventLoopLocalScheduler.schedule(eventLoop, latch::countDown, 10, MILLISECONDS);
+        });
+        assertThat(latch.await(10, SECONDS), is(true));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2018, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package io.servicetalk.transport.netty.internal;
 
+import io.servicetalk.buffer.api.Buffer;
 import io.servicetalk.concurrent.PublisherSource.Subscription;
 import io.servicetalk.concurrent.api.TestSubscription;
 import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopWriteObserver;
@@ -32,6 +33,8 @@ import org.mockito.ArgumentCaptor;
 
 import java.nio.channels.ClosedChannelException;
 
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_DIRECT_POOLED_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferUtils.toByteBuf;
 import static io.servicetalk.concurrent.internal.DeliberateException.DELIBERATE_EXCEPTION;
 import static java.lang.Long.MAX_VALUE;
 import static java.nio.charset.StandardCharsets.US_ASCII;
@@ -280,6 +283,52 @@ class WriteStreamSubscriberTest extends AbstractWriteTest {
         verifyNoMoreInteractions(completableSubscriber);
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    void pooledBufferIsReleasedOnceWritten() {
+        channel.pipeline().addLast(BufferHandler.INSTANCE);
+        setUp(false, false);
+        Buffer buffer = PREFER_DIRECT_POOLED_ALLOCATOR.fromAscii("Hello");
+        ByteBuf byteBuf = toByteBuf(buffer);
+        subscriber.onNext(buffer);
+        // The lease is returned, the channel holds its own reference until the write completes.
+        assertThat(byteBuf.refCnt(), is(1));
+        channel.flushOutbound();
+        ByteBuf written = channel.readOutbound();
+        assertThat(written.toString(US_ASCII), equalTo("Hello"));
+        written.release();
+        assertThat(byteBuf.refCnt(), is(0));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void pooledBufferWrittenTwiceIsNotReleasedTwice() {
+        channel.pipeline().addLast(BufferHandler.INSTANCE);
+        setUp(false, false);
+        Buffer buffer = PREFER_DIRECT_POOLED_ALLOCATOR.fromAscii("Hello");
+        ByteBuf byteBuf = toByteBuf(buffer);
+        subscriber.onNext(buffer);
+        channel.flushOutbound();
+        ByteBuf written = channel.readOutbound();
+        written.release();
+        assertThat(byteBuf.refCnt(), is(0));
+
+        // The lease has already been returned, the second write fails instead of releasing it again.
+        subscriber.onNext(buffer);
+        assertThat(byteBuf.refCnt(), is(0));
+        assertThat("Unexpected message(s) written.", channel.outboundMessages(), is(empty()));
+    }
+
+    @Test
+    void pooledBufferIsReleasedWhenDropped() {
+        setUp(false, false);
+        subscriber.channelClosed(DELIBERATE_EXCEPTION);
+        Buffer buffer = PREFER_DIRECT_POOLED_ALLOCATOR.fromAscii("Hello");
+        subscriber.onNext(buffer);
+        assertThat(toByteBuf(buffer).refCnt(), is(0));
+        assertThat("Unexpected message(s) written.", channel.outboundMessages(), is(empty()));
+    }
+
     @Test
     void clientRequestsOne() {
         when(demandEstimator.estimateRequestN(anyLong())).thenReturn(10L);